@@ -0,0 +1,81 @@
+#!/usr/bin/env python3
+"""
+Compares two JMH json result files, e.g. a run of the base branch against a run of a change:
+
+    mvn -Pbenchmark test-compile exec:exec -Djmh.args="... -rf json -rff target/jmh-baseline.json"
+    python3 src/jmh/compare-results.py target/jmh-baseline.json target/jmh-result.json
+
+Prints the throughput and the allocated bytes per operation (gc profiler) of every benchmark present in both files and
+exits with status 1 when a benchmark lost more throughput, or allocates more per operation, than the threshold.
+"""
+import argparse
+import json
+import sys
+
+ALLOCATION_METRIC = "gc.alloc.rate.norm"
+
+
+def load(path):
+    with open(path) as result_file:
+        results = {}
+        for result in json.load(result_file):
+            params = ",".join("%s=%s" % (key, value) for key, value in sorted(result.get("params", {}).items()))
+            name = result["benchmark"] + ("(" + params + ")" if params else "")
+            allocation = result.get("secondaryMetrics", {}).get(ALLOCATION_METRIC, {}).get("score")
+            results[name] = (result["primaryMetric"]["score"], result["primaryMetric"]["scoreUnit"], allocation)
+        return results
+
+
+def change(baseline, current):
+    if baseline is None or current is None or baseline == 0:
+        return None
+    return (current - baseline) * 100.0 / baseline
+
+
+def format_change(value):
+    return "n/a" if value is None else "%+.1f%%" % value
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Compare two JMH json result files")
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="regression threshold in percent (default: %(default)s)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+
+    regressions = []
+    row = "%-105s %16s %16s %9s %14s %14s %9s"
+    print(row % ("Benchmark", "Baseline", "Current", "Change", "Base B/op", "Current B/op", "Change"))
+    for name in sorted(set(baseline) & set(current)):
+        base_score, unit, base_allocation = baseline[name]
+        current_score, _, current_allocation = current[name]
+        score_change = change(base_score, current_score)
+        allocation_change = change(base_allocation, current_allocation)
+        print(row % (name, "%.1f %s" % (base_score, unit), "%.1f %s" % (current_score, unit), format_change(score_change),
+                     "-" if base_allocation is None else "%.0f" % base_allocation,
+                     "-" if current_allocation is None else "%.0f" % current_allocation,
+                     format_change(allocation_change)))
+        # Throughput modes report ops per time unit, the other modes report time per op where higher is worse
+        lower_is_better = not unit.startswith("ops/")
+        if score_change is not None and (score_change > args.threshold if lower_is_better else -score_change > args.threshold):
+            regressions.append(name)
+        elif allocation_change is not None and allocation_change > args.threshold:
+            regressions.append(name)
+
+    for name in sorted(set(baseline) ^ set(current)):
+        print("Only in %s: %s" % ("baseline" if name in baseline else "current", name))
+
+    if regressions:
+        print("\n%d benchmark(s) regressed by more than %.1f%%:" % (len(regressions), args.threshold))
+        for name in regressions:
+            print("  " + name)
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,325 @@
+package com.vibrent.drc.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.vibrent.acadia.domain.enumeration.FormComponentFieldType;
+import com.vibrent.acadia.domain.enumeration.SecondaryContactType;
+import com.vibrent.acadia.web.rest.dto.form.*;
+import com.vibrent.drc.constants.DrcConstant;
+import com.vibrent.drc.constants.KafkaConstants;
+import com.vibrent.drc.util.FHIRConverterUtility;
+import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.drc.vo.AddressElementVo;
+import com.vibrent.drc.vo.ParticipantVo;
+import com.vibrent.drc.vo.SecondaryContactVo;
+import com.vibrent.vxp.push.*;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.hl7.fhir.r4.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Realistically sized payloads for the benchmarks
+ */
+public final class BenchmarkFixtures {
+
+    public static final String FORM_VERSION_RESOURCE = "testData/form-version-dto.json";
+    public static final String FORM_ENTRY_RESOURCE = "testData/form-entry-dto.json";
+    public static final String EXTERNAL_ID_PREFIX = "P";
+
+    private static final long FIRST_VIBRENT_ID = 100_000_000L;
+    private static final String[][] GENOMIC_MODULE_TYPES = {
+            {"gem", "informingLoop"}, {"hdr", "appointment"}, {"pgx", "result"}, {"hdr", "informingLoop"}};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static SupplyRequest supplyRequest() {
+        SupplyRequest supplyRequest = new SupplyRequest();
+        supplyRequest.setId("SR-1234567");
+        supplyRequest.setStatus(SupplyRequest.SupplyRequestStatus.ACTIVE);
+        supplyRequest.setAuthoredOn(new Date(1_600_000_000_000L));
+        supplyRequest.setRequester(new Reference("Patient/P123456789"));
+        supplyRequest.addIdentifier().setSystem("http://joinallofus.org/fhir/orderId").setValue("ORDER-1234567");
+        supplyRequest.addIdentifier().setSystem("http://joinallofus.org/fhir/fulfillmentId").setValue("FULFILLMENT-1234567");
+        supplyRequest.getItemCodeableConcept().addCoding().setSystem("http://joinallofus.org/fhir/Device").setCode("4081").setDisplay("Salivary Kit");
+        supplyRequest.getQuantity().setValue(1);
+        supplyRequest.addSupplier(new Reference("#supplier-1"));
+        supplyRequest.getDeliverTo().setReference("#patient-1");
+        supplyRequest.addExtension().setUrl("http://joinallofus.org/fhir/order-type").setValue(new StringType("Salivary Pilot"));
+        supplyRequest.addExtension().setUrl("http://joinallofus.org/fhir/fulfillment-status").setValue(new StringType("shipped"));
+
+        Organization supplier = new Organization();
+        supplier.setId("supplier-1");
+        supplier.setName("Genotek");
+        supplyRequest.addContained(supplier);
+
+        Patient patient = new Patient();
+        patient.setId("patient-1");
+        patient.addName().setFamily("Doe").addGiven("Jane");
+        patient.addAddress().addLine("1 Main Street").addLine("Apt 2").setCity("Boston").setState("MA").setPostalCode("02115");
+        supplyRequest.addContained(patient);
+        return supplyRequest;
+    }
+
+    /**
+     * The 64 page form version used by the converter tests
+     */
+    public static FormVersionDTO largeFormVersion() {
+        return readResource(FORM_VERSION_RESOURCE, FormVersionDTO.class);
+    }
+
+    /**
+     * The recorded entry of {@link #largeFormVersion()}, it answers 12 fields and carries no navigation state
+     */
+    public static FormEntryDTO sampleFormEntry() {
+        return readResource(FORM_ENTRY_RESOURCE, FormEntryDTO.class);
+    }
+
+    /**
+     * An entry that visited every page of the form and answered every other input field, so that half of the questions
+     * are converted from answers and the other half go through the skipped question lookup. Videos are only watched, so
+     * they are never answered.
+     */
+    public static FormEntryDTO fullFormEntry(FormVersionDTO formVersionDTO) {
+        List<FormComponentFieldDTO> inputFields = FHIRConverterUtility.findAllInputFields(formVersionDTO.getEditMode());
+        List<FormFieldEntryDTO> formFieldEntries = new ArrayList<>();
+        List<Long> visibleFieldIds = new ArrayList<>();
+        for (int i = 0; i < inputFields.size(); i++) {
+            Long fieldId = inputFields.get(i).getFormField().getId();
+            visibleFieldIds.add(fieldId);
+            if (i % 2 == 0 && inputFields.get(i).getType() != FormComponentFieldType.VIDEO_PLAYER) {
+                formFieldEntries.add(formFieldEntry(fieldId, inputFields.get(i).getType(), i));
+            }
+        }
+
+        Set<Long> pageLocalIds = new HashSet<>();
+        formVersionDTO.getEditMode().getPages().forEach(page -> pageLocalIds.add(page.getLocalId()));
+        List<Long> pageNavigationSequence = new ArrayList<>();
+        for (FormNavigationNodeDTO node : formVersionDTO.getEditMode().getNavigationNodes()) {
+            if (node.getPageLocalId() != null && pageLocalIds.contains(node.getPageLocalId())) {
+                pageNavigationSequence.add(node.getLocalId());
+            }
+        }
+
+        FormStateMetaDataDTO formStateMetaData = new FormStateMetaDataDTO();
+        formStateMetaData.setVisibleFieldIds(visibleFieldIds);
+        formStateMetaData.setPageNavigationSequence(pageNavigationSequence);
+
+        FormEntryDTO formEntryDTO = sampleFormEntry();
+        formEntryDTO.setFormFieldEntries(formFieldEntries);
+        formEntryDTO.setFormStateMetaData(formStateMetaData);
+        return formEntryDTO;
+    }
+
+    private static FormFieldEntryDTO formFieldEntry(Long fieldId, FormComponentFieldType fieldType, int index) {
+        FormFieldEntryValueDTO value = new FormFieldEntryValueDTO();
+        if (fieldType == FormComponentFieldType.DAY_SELECTOR) {
+            value.setValueAsNumber((double) (1_600_000_000_000L + index));
+        } else {
+            // Matches none of the options of a selection field, so the whole option list is scanned for its display
+            value.setValueAsString("answer " + index);
+        }
+
+        FormFieldEntryDTO formFieldEntryDTO = new FormFieldEntryDTO();
+        formFieldEntryDTO.setFormFieldId(fieldId);
+        formFieldEntryDTO.setFormFieldEntryValues(Collections.singletonList(value));
+        return formFieldEntryDTO;
+    }
+
+    /**
+     * A participant with verified and unverified contacts, an account address and the given number of secondary
+     * contacts. The two preferred secondary contacts come last, after contacts that carry no preference.
+     */
+    public static ParticipantDto participant(int secondaryContacts) {
+        ParticipantDto participantDto = new ParticipantDto();
+        participantDto.setVibrentID(FIRST_VIBRENT_ID);
+        participantDto.setExternalID(EXTERNAL_ID_PREFIX + FIRST_VIBRENT_ID);
+        participantDto.setFirstName("Jane");
+        participantDto.setMiddleInitial("Q");
+        participantDto.setLastName("Doe");
+        participantDto.setDateOfBirth("1980-01-31");
+        participantDto.setTestUser(Boolean.FALSE);
+        participantDto.setHasSSN(Boolean.TRUE);
+        participantDto.setContacts(Arrays.asList(
+                contact(TypeEnum.EMAIL, "jane.doe@example.com", Boolean.TRUE),
+                contact(TypeEnum.PHONE, "6175550100", Boolean.FALSE),
+                contact(TypeEnum.PHONE, "6175550101", Boolean.TRUE)));
+        participantDto.setAddresses(Collections.singletonList(address(AddressTypeEnum.ACCOUNT_ADDRESS, "1 Main Street")));
+
+        List<SecondaryContactDto> secondaryContactDtos = new ArrayList<>(secondaryContacts);
+        for (int i = 0; i < secondaryContacts; i++) {
+            String preference = null;
+            if (i == secondaryContacts - 2) {
+                preference = SecondaryContactType.CONTACT_ONE.toString();
+            } else if (i == secondaryContacts - 1) {
+                preference = SecondaryContactType.CONTACT_TWO.toString();
+            }
+            secondaryContactDtos.add(secondaryContact(i, preference));
+        }
+        participantDto.setSecondaryContacts(secondaryContactDtos);
+        return participantDto;
+    }
+
+    /**
+     * The synced state of a participant that has not changed since it was last sent, so every field is compared
+     */
+    public static ParticipantVo syncedParticipant(ParticipantDto participantDto) {
+        ParticipantVo participantVo = new ParticipantVo();
+        participantVo.setVibrentID(participantDto.getVibrentID());
+        participantVo.setEmailAddress("jane.doe@example.com");
+        participantVo.setPhoneNumber("6175550100");
+        participantVo.setVerifiedPhoneNumber("6175550101");
+        participantVo.setAccountAddress(addressVo(participantDto.getAddresses().get(0)));
+        participantVo.setFirstName(participantDto.getFirstName());
+        participantVo.setMiddleInitial(participantDto.getMiddleInitial());
+        participantVo.setLastName(participantDto.getLastName());
+        participantVo.setDateOfBirth(participantDto.getDateOfBirth());
+        participantVo.setTestUser(participantDto.getTestUser());
+        participantVo.setSsn("123456789");
+
+        Map<String, SecondaryContactVo> secondaryContacts = new HashMap<>();
+        for (SecondaryContactDto secondaryContactDto : participantDto.getSecondaryContacts()) {
+            if (secondaryContactDto.getPreference() != null) {
+                secondaryContacts.put(secondaryContactDto.getPreference(), secondaryContactVo(secondaryContactDto));
+            }
+        }
+        participantVo.setSecondaryContacts(secondaryContacts);
+        return participantVo;
+    }
+
+    private static SecondaryContactDto secondaryContact(int index, String preference) {
+        SecondaryContactDto secondaryContactDto = new SecondaryContactDto();
+        secondaryContactDto.setFirstName("Contact" + index);
+        secondaryContactDto.setMiddleInitial("M");
+        secondaryContactDto.setLastName("Doe");
+        secondaryContactDto.setRelationship("SIBLING");
+        secondaryContactDto.setPreference(preference);
+        secondaryContactDto.setContacts(Arrays.asList(
+                contact(TypeEnum.EMAIL, "contact" + index + "@example.com", Boolean.FALSE),
+                contact(TypeEnum.PHONE, "61755502" + (index % 100), Boolean.FALSE)));
+        secondaryContactDto.setAddresses(Collections.singletonList(address(AddressTypeEnum.ACCOUNT_ADDRESS, index + " Side Street")));
+        return secondaryContactDto;
+    }
+
+    private static SecondaryContactVo secondaryContactVo(SecondaryContactDto secondaryContactDto) {
+        SecondaryContactVo secondaryContactVo = new SecondaryContactVo();
+        secondaryContactVo.setFirstName(secondaryContactDto.getFirstName());
+        secondaryContactVo.setMiddleInitial(secondaryContactDto.getMiddleInitial());
+        secondaryContactVo.setLastName(secondaryContactDto.getLastName());
+        secondaryContactVo.setRelationship(secondaryContactDto.getRelationship());
+        secondaryContactVo.setPreference(secondaryContactDto.getPreference());
+        secondaryContactVo.setEmailAddress(secondaryContactDto.getContacts().get(0).getContact());
+        secondaryContactVo.setPhoneNumber(secondaryContactDto.getContacts().get(1).getContact());
+        secondaryContactVo.setAddress(addressVo(secondaryContactDto.getAddresses().get(0)));
+        return secondaryContactVo;
+    }
+
+    private static ContactElementDto contact(TypeEnum type, String value, Boolean verified) {
+        ContactElementDto contactElementDto = new ContactElementDto();
+        contactElementDto.setContactType(type);
+        contactElementDto.setContact(value);
+        contactElementDto.setVerified(verified);
+        return contactElementDto;
+    }
+
+    private static AddressElementDto address(AddressTypeEnum type, String line1) {
+        AddressElementDto addressElementDto = new AddressElementDto();
+        addressElementDto.setAddressType(type);
+        addressElementDto.setLine1(line1);
+        addressElementDto.setLine2("Apt 2");
+        addressElementDto.setCity("Boston");
+        addressElementDto.setState("MA");
+        addressElementDto.setPostalCode("02115");
+        addressElementDto.setCountry("US");
+        addressElementDto.setValidated(Boolean.TRUE);
+        return addressElementDto;
+    }
+
+    private static AddressElementVo addressVo(AddressElementDto addressElementDto) {
+        AddressElementVo addressElementVo = new AddressElementVo();
+        addressElementVo.setLine1(addressElementDto.getLine1());
+        addressElementVo.setLine2(addressElementDto.getLine2());
+        addressElementVo.setCity(addressElementDto.getCity());
+        addressElementVo.setState(addressElementDto.getState());
+        addressElementVo.setPostalCode(addressElementDto.getPostalCode());
+        addressElementVo.setCountry(addressElementDto.getCountry());
+        addressElementVo.setValidated(addressElementDto.getValidated());
+        return addressElementVo;
+    }
+
+    /**
+     * A genomic status batch payload as returned by the DRC, with one status per participant
+     */
+    public static String genomicStatusPayload(int entries) {
+        List<Map<String, Object>> statuses = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            String[] moduleType = GENOMIC_MODULE_TYPES[i % GENOMIC_MODULE_TYPES.length];
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put(DrcConstant.PARTICIPANT_ID, EXTERNAL_ID_PREFIX + (FIRST_VIBRENT_ID + i));
+            status.put("module", moduleType[0]);
+            status.put(DrcConstant.TYPE, moduleType[1]);
+            status.put("status", i % 3 == 0 ? "completed" : "ready");
+            if ("appointment".equals(moduleType[1])) {
+                status.put("appointment_id", String.valueOf(i));
+            }
+            statuses.add(status);
+        }
+
+        try {
+            return JacksonUtil.getMapper().writeValueAsString(statuses);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Vibrent ids of the participants of {@link #genomicStatusPayload(int)} keyed by their external id
+     */
+    public static Map<String, Long> genomicStatusVibrentIds(int entries) {
+        Map<String, Long> vibrentIds = new HashMap<>(entries * 2);
+        for (int i = 0; i < entries; i++) {
+            vibrentIds.put(EXTERNAL_ID_PREFIX + (FIRST_VIBRENT_ID + i), FIRST_VIBRENT_ID + i);
+        }
+        return vibrentIds;
+    }
+
+    /**
+     * The headers of a VXP message, string values are JSON quoted as written by the producers' header mapper
+     */
+    public static Headers vxpHeaders(String messageSpecification) {
+        Headers headers = new RecordHeaders();
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_VERSION, "\"2.1.4\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_ORIGINATOR, "\"VXPMS\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_PATTERN, "\"PUSH\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_TENANT_ID, "1");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_PROGRAM_ID, "2");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_USER_ID, String.valueOf(FIRST_VIBRENT_ID));
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_TRIGGER, "\"EVENT\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_WORKFLOWNAME, "\"ACCOUNT_INFORMATION_UPDATE\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_WORKFLOW_INSTANCE_ID, "\"" + UUID.nameUUIDFromBytes(new byte[]{1}) + "\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_MESSAGE_ID, "\"" + UUID.nameUUIDFromBytes(new byte[]{2}) + "\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_MESSAGE_TIMESTAMP, "1600000000000");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC_VERSION, "\"1.0.0\"");
+        addHeader(headers, KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC, "\"" + messageSpecification + "\"");
+        return headers;
+    }
+
+    private static void addHeader(Headers headers, String key, String value) {
+        headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <T> T readResource(String resourcePath, Class<T> type) {
+        try (InputStream inputStream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Missing benchmark resource " + resourcePath);
+            }
+            return JacksonUtil.getMapper().readValue(inputStream, type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read benchmark resource " + resourcePath, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.vibrent.drc.benchmark;
+
+import ca.uhn.fhir.context.FhirContext;
+import com.vibrent.drc.service.impl.FhirEncodingServiceImpl;
+import org.hl7.fhir.r4.model.SupplyRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode throughput of a SupplyRequest with a new parser per message, as the services did before, against the
+ * per-thread parsers of {@link FhirEncodingServiceImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FhirEncodingBenchmark {
+
+    private FhirContext fhirContext;
+    private FhirEncodingServiceImpl fhirEncodingService;
+    private SupplyRequest supplyRequest;
+
+    @Setup
+    public void setUp() {
+        fhirContext = FhirContext.forR4();
+        fhirEncodingService = new FhirEncodingServiceImpl();
+        fhirEncodingService.warmUp();
+        supplyRequest = BenchmarkFixtures.supplyRequest();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String newParserPerMessage() {
+        return fhirContext.newJsonParser().setPrettyPrint(false).setSuppressNarratives(false).setSummaryMode(false)
+                .encodeResourceToString(supplyRequest);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String reusedParser() {
+        return fhirEncodingService.encodeR4(supplyRequest);
+    }
+}
@@ -0,0 +1,86 @@
+package com.vibrent.drc.benchmark;
+
+import com.vibrent.drc.dto.UserSearchResponseDTO;
+import com.vibrent.drc.service.ParticipantService;
+import com.vibrent.drc.service.impl.DataSharingMetricsServiceImpl;
+import com.vibrent.drc.service.impl.ParticipantGenomicsStatusPayloadMapperImpl;
+import com.vibrent.vxp.push.DRCExternalEventDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of a genomic status batch payload to DRC external events. Vibrent ids are served from memory, so only the
+ * parsing and re-serialization of the statuses is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GenomicsStatusPayloadMapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int entries;
+
+    private ParticipantGenomicsStatusPayloadMapperImpl payloadMapper;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DataSharingMetricsServiceImpl dataSharingMetricsService = new DataSharingMetricsServiceImpl(
+                meterRegistry.counter("real_time_api_initiated"), meterRegistry.counter("real_time_api_invoked_successfully"),
+                meterRegistry.counter("participant_lookup_api_initiated"), meterRegistry.counter("participant_lookup_api_invoked_successfully"),
+                meterRegistry.counter("genomics_status_fetch_initiated"), meterRegistry.counter("genomics_status_messages_sent"),
+                meterRegistry.counter("genomics_status_processing_failure"));
+        payloadMapper = new ParticipantGenomicsStatusPayloadMapperImpl(
+                new InMemoryParticipantService(BenchmarkFixtures.genomicStatusVibrentIds(entries)), dataSharingMetricsService);
+        payload = BenchmarkFixtures.genomicStatusPayload(entries);
+    }
+
+    @Benchmark
+    public List<DRCExternalEventDto> mapJsonStringToDrcExternalEventDto() throws IOException {
+        return payloadMapper.mapJsonStringToDrcExternalEventDto(payload);
+    }
+
+    private static final class InMemoryParticipantService implements ParticipantService {
+
+        private final Map<String, Long> vibrentIds;
+
+        private InMemoryParticipantService(Map<String, Long> vibrentIds) {
+            this.vibrentIds = vibrentIds;
+        }
+
+        @Override
+        public Long getVibrentId(String externalId) {
+            return vibrentIds.get(externalId);
+        }
+
+        @Override
+        public void fetchAndCacheVibrentIds(Set<String> externalIds) {
+            // all ids are in memory already
+        }
+
+        @Override
+        public UserSearchResponseDTO getParticipantsByVibrentIds(List<String> vibrentIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserSearchResponseDTO getParticipantsByDrcIds(List<String> drcIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserSearchResponseDTO getParticipants(List<String> vibrentIds, List<String> drcIds, Optional<String> startDate,
+                                                     Optional<String> endDate, Optional<Integer> page, Optional<Integer> pageSize) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
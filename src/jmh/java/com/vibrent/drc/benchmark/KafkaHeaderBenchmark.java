@@ -0,0 +1,36 @@
+package com.vibrent.drc.benchmark;
+
+import com.vibrent.drc.configuration.KafkaConsumerConfig;
+import com.vibrent.drc.constants.KafkaConstants;
+import com.vibrent.vxp.push.MessageSpecificationEnum;
+import org.apache.kafka.common.header.Headers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Header lookup done by the record filters for every consumed record. The message spec header is the last of the
+ * VXP headers, so the whole header list is scanned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KafkaHeaderBenchmark {
+
+    private Headers headers;
+
+    @Setup
+    public void setUp() {
+        headers = BenchmarkFixtures.vxpHeaders(MessageSpecificationEnum.ACCOUNT_INFORMATION_UPDATE.toString());
+    }
+
+    @Benchmark
+    public String extractMessageSpec() {
+        return KafkaConsumerConfig.extractHeader(headers, KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC);
+    }
+
+    @Benchmark
+    public String extractMissingHeader() {
+        return KafkaConsumerConfig.extractHeader(headers, KafkaConstants.KAFKA_HEADER_REPLY_TO_ID);
+    }
+}
@@ -0,0 +1,41 @@
+package com.vibrent.drc.benchmark;
+
+import com.vibrent.drc.util.ParticipantDataUtil;
+import com.vibrent.drc.vo.ParticipantVo;
+import com.vibrent.vxp.push.ParticipantDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Change detection of an account update event against the synced state of a participant that did not change, which
+ * is the common case and compares every field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParticipantDataUtilBenchmark {
+
+    @Param({"2", "50"})
+    private int secondaryContacts;
+
+    private ParticipantDto participantDto;
+    private ParticipantVo participantVo;
+
+    @Setup
+    public void setUp() {
+        participantDto = BenchmarkFixtures.participant(secondaryContacts);
+        participantVo = BenchmarkFixtures.syncedParticipant(participantDto);
+    }
+
+    @Benchmark
+    public boolean isUserAccountUpdated() {
+        return ParticipantDataUtil.isUserAccountUpdated(participantDto, participantVo);
+    }
+
+    @Benchmark
+    public Set<String> findSecondaryContactAndSsnChanges() {
+        return ParticipantDataUtil.findSecondaryContactAndSsnChanges(participantVo, participantDto, participantVo.getSsn());
+    }
+}
@@ -0,0 +1,36 @@
+package com.vibrent.drc.benchmark;
+
+import com.vibrent.drc.constants.SecondaryContactStateRelationshipMaps;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State and relationship lookups done by the form field entry converter for every secondary contact. The maps are
+ * built once, so with the gc profiler a lookup reports no allocation (gc.alloc.rate.norm of about 0 B/op).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SecondaryContactLookupBenchmark {
+
+    private static final String[] KEYS = {"PIIState_AL", "PIIState_NY", "PIIState_WY", "PIIState_PR", "partner", "friend",
+            "parent", "child", "relative", "unknown"};
+
+    private int next;
+
+    @Benchmark
+    public String contactOneLookup() {
+        return SecondaryContactStateRelationshipMaps.getContactOneStateRelationshipDRCMap().get(nextKey());
+    }
+
+    @Benchmark
+    public String contactTwoLookup() {
+        return SecondaryContactStateRelationshipMaps.getContactTwoStateRelationshipDRCMap().get(nextKey());
+    }
+
+    private String nextKey() {
+        next = next == KEYS.length - 1 ? 0 : next + 1;
+        return KEYS[next];
+    }
+}
@@ -0,0 +1,53 @@
+package com.vibrent.drc.util;
+
+import ca.uhn.fhir.model.dstu2.resource.QuestionnaireResponse;
+import com.vibrent.acadia.web.rest.dto.form.FormEntryDTO;
+import com.vibrent.acadia.web.rest.dto.form.FormVersionDTO;
+import com.vibrent.drc.benchmark.BenchmarkFixtures;
+import com.vibrent.drc.exception.FHIRConverterException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a form entry of the 64 page form to a QuestionnaireResponse. The sample entry is the recorded one of
+ * the converter tests, the full entry visited every page and answered every other input field. The form version
+ * overload builds a {@link FormIndex} per conversion, the index overload reuses one as the service does through the
+ * form index cache. Kept in the converter's package to reach {@link FHIRQuestionnaireResponseConverter#addGroupQuestions}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FormConversionBenchmark {
+
+    @Param({"sample", "full"})
+    private String entry;
+
+    private FormVersionDTO formVersionDTO;
+    private FormEntryDTO formEntryDTO;
+    private FormIndex formIndex;
+
+    @Setup
+    public void setUp() {
+        formVersionDTO = BenchmarkFixtures.largeFormVersion();
+        formEntryDTO = "full".equals(entry) ? BenchmarkFixtures.fullFormEntry(formVersionDTO) : BenchmarkFixtures.sampleFormEntry();
+        formIndex = FormIndex.of(formVersionDTO);
+    }
+
+    @Benchmark
+    public QuestionnaireResponse convertFormEntryToQuestionnaireResponse() throws FHIRConverterException {
+        return FHIRConverterUtility.convertFormEntryToQuestionnaireResponse(formEntryDTO, formVersionDTO, "P123456789", "en", false);
+    }
+
+    @Benchmark
+    public QuestionnaireResponse convertFormEntryToQuestionnaireResponseWithIndex() throws FHIRConverterException {
+        return FHIRConverterUtility.convertFormEntryToQuestionnaireResponse(formEntryDTO, formIndex, "P123456789", "en", false);
+    }
+
+    @Benchmark
+    public QuestionnaireResponse.Group addGroupQuestions() throws FHIRConverterException {
+        QuestionnaireResponse.Group rootGroup = FHIRQuestionnaireResponseConverter.createRootGroup(formVersionDTO);
+        FHIRQuestionnaireResponseConverter.addGroupQuestions(rootGroup, formEntryDTO, formIndex);
+        return rootGroup;
+    }
+}
@@ -0,0 +1,169 @@
+package com.vibrent.drc.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RTopic;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring cache with a local Caffeine near-cache in front of a shared Redis map.
+ * Reads check the local cache first and fall back to Redis, writes go through to both tiers so that a value resolved by
+ * one pod is available to every other pod. Redis errors are logged and treated as a miss so that lookups keep working
+ * from the local cache and the upstream API when Redis is unavailable.
+ * When an invalidation topic is configured, evictions are published to it and every pod drops the key from its near-cache.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final String CLEAR_ALL = "*";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache;
+    private final RMapCache<Object, Object> remoteCache;
+    private final long remoteTtlMillis;
+    private final RTopic invalidationTopic;
+
+    /**
+     * @param name              cache name
+     * @param nearCache         local cache
+     * @param remoteCache       shared Redis map
+     * @param remoteTtlMillis   time to live of the entries written to Redis, 0 to keep them until evicted
+     * @param invalidationTopic topic used to propagate evictions to the other pods, null to disable
+     */
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache,
+                        RMapCache<Object, Object> remoteCache, long remoteTtlMillis, RTopic invalidationTopic) {
+        super(false);
+        this.name = name;
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.remoteTtlMillis = remoteTtlMillis;
+        this.invalidationTopic = invalidationTopic;
+        if (invalidationTopic != null) {
+            invalidationTopic.addListener(String.class, (channel, key) -> evictLocal(key));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return nearCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = nearCache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = getRemote(key);
+        if (value != null) {
+            nearCache.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(nearCache.get(key, k -> {
+            Object value = getRemote(k);
+            if (value == null) {
+                try {
+                    value = toStoreValue(valueLoader.call());
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(k, valueLoader, e);
+                }
+                putRemote(k, value);
+            }
+            return value;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        nearCache.put(key, storeValue);
+        putRemote(key, storeValue);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object existing = lookup(key);
+        if (existing != null) {
+            return new SimpleValueWrapper(fromStoreValue(existing));
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        nearCache.invalidate(key);
+        try {
+            remoteCache.fastRemove(key);
+        } catch (Exception e) {
+            log.warn("DRC Service: Unable to evict key {} from redis cache {}", key, name, e);
+        }
+        publishInvalidation(String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        nearCache.invalidateAll();
+        try {
+            remoteCache.clear();
+        } catch (Exception e) {
+            log.warn("DRC Service: Unable to clear redis cache {}", name, e);
+        }
+        publishInvalidation(CLEAR_ALL);
+    }
+
+    private void evictLocal(String key) {
+        if (CLEAR_ALL.equals(key)) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private Object getRemote(Object key) {
+        try {
+            return remoteCache.get(key);
+        } catch (Exception e) {
+            log.warn("DRC Service: Unable to read key {} from redis cache {}", key, name, e);
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object value) {
+        try {
+            if (remoteTtlMillis > 0) {
+                remoteCache.fastPut(key, value, remoteTtlMillis, TimeUnit.MILLISECONDS);
+            } else {
+                remoteCache.fastPut(key, value);
+            }
+        } catch (Exception e) {
+            log.warn("DRC Service: Unable to write key {} to redis cache {}", key, name, e);
+        }
+    }
+
+    private void publishInvalidation(String key) {
+        if (invalidationTopic == null) {
+            return;
+        }
+        try {
+            invalidationTopic.publish(key);
+        } catch (Exception e) {
+            log.warn("DRC Service: Unable to publish invalidation of key {} for cache {}", key, name, e);
+        }
+    }
+}
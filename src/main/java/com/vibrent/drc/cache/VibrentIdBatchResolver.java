@@ -0,0 +1,156 @@
+package com.vibrent.drc.cache;
+
+import com.vibrent.drc.exception.BusinessValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Resolves VibrentIds for externalIds that missed the cache.
+ * Concurrent lookups of the same externalId share a single in-flight request, and lookups of different externalIds
+ * are sent to the API as one bulk request of at most {@code maxBatchSize} ids. The first caller of a batch performs the
+ * lookup on its own thread. It loads right away when it is the only caller, and otherwise holds the batch open for at
+ * most {@code maxWaitMillis} while other callers are still waiting, so that a lone lookup never pays the wait.
+ */
+@Slf4j
+public class VibrentIdBatchResolver {
+
+    private final Function<List<String>, Map<String, Long>> loader;
+    private final int maxBatchSize;
+    private final long maxWaitMillis;
+
+    private final Map<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private List<String> pending = new ArrayList<>();
+    // Callers inside resolve, guarded by lock
+    private int activeCallers;
+
+    /**
+     * @param loader        bulk lookup returning the VibrentId for every externalId it could resolve
+     * @param maxBatchSize  maximum number of externalIds sent in a single lookup
+     * @param maxWaitMillis maximum time the first caller of a batch waits for the other callers to join it
+     */
+    public VibrentIdBatchResolver(Function<List<String>, Map<String, Long>> loader, int maxBatchSize, long maxWaitMillis) {
+        this.loader = loader;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitMillis = Math.max(0, maxWaitMillis);
+    }
+
+    public Long resolve(String externalId) {
+        synchronized (lock) {
+            activeCallers++;
+        }
+        try {
+            CompletableFuture<Long> future = new CompletableFuture<>();
+            CompletableFuture<Long> existing = inFlight.putIfAbsent(externalId, future);
+            if (existing != null) {
+                return await(existing);
+            }
+
+            List<String> batch = enqueue(externalId);
+            if (batch != null) {
+                load(batch);
+            }
+            return await(future);
+        } finally {
+            synchronized (lock) {
+                activeCallers--;
+                // The first caller of the pending batch stops holding it once no other caller is left to join
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Adds the externalId to the pending batch and returns the batch this thread is responsible for loading, if any.
+     */
+    private List<String> enqueue(String externalId) {
+        synchronized (lock) {
+            List<String> batch = pending;
+            batch.add(externalId);
+            if (batch.size() >= maxBatchSize) {
+                return takePending();
+            }
+            if (batch.size() > 1) {
+                // The first caller of this batch is waiting and will load it
+                lock.notifyAll();
+                return null;
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+            long remaining = maxWaitMillis;
+            while (pending == batch && batch.size() < maxBatchSize && activeCallers > batch.size() && remaining > 0) {
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            }
+            // Another caller may have filled and taken the batch in the meantime
+            return pending == batch ? takePending() : null;
+        }
+    }
+
+    private List<String> takePending() {
+        List<String> batch = pending;
+        pending = new ArrayList<>();
+        lock.notifyAll();
+        return batch;
+    }
+
+    private void load(List<String> batch) {
+        Map<String, Long> vibrentIds;
+        try {
+            vibrentIds = loader.apply(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(externalId -> complete(externalId, null, e));
+            return;
+        }
+
+        if (vibrentIds == null) {
+            vibrentIds = Collections.emptyMap();
+        }
+        for (String externalId : batch) {
+            Long vibrentId = vibrentIds.get(externalId);
+            if (vibrentId == null) {
+                log.error("DRC Service: Couldn't fetch VibrentID from API for given externalID: {}", externalId);
+                complete(externalId, null, new BusinessValidationException("DRC Service: Unable to resolve VibrentID for the given externalId: " + externalId));
+            } else {
+                complete(externalId, vibrentId, null);
+            }
+        }
+    }
+
+    private void complete(String externalId, Long vibrentId, RuntimeException e) {
+        CompletableFuture<Long> future = inFlight.remove(externalId);
+        if (future == null) {
+            return;
+        }
+        if (e != null) {
+            future.completeExceptionally(e);
+        } else {
+            future.complete(vibrentId);
+        }
+    }
+
+    private static Long await(CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.vibrent.drc.configuration;
 
+import com.vibrent.drc.service.AccessTokenService;
+import com.vibrent.drc.util.BearerTokenInterceptor;
 import com.vibrent.fulfillment.api.OrdersApi;
 import com.vibrent.genotek.api.OrderInfoApi;
 import com.vibrent.genotek.roi.support.ApiClient;
@@ -10,12 +12,17 @@ import com.vibrenthealth.drcutils.service.impl.DRCConfigServiceImpl;
 import com.vibrenthealth.drcutils.service.impl.DRCRetryServiceImpl;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Scope;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class BeanConfiguration {
@@ -107,22 +114,59 @@ public class BeanConfiguration {
                 .register(meterRegistry);
     }
 
+    /**
+     * OkHttp client shared by the Retrofit clients, the bearer token is added to each request from the access token service
+     */
     @Bean
-    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-    public OrderInfoApi orderInfoApiBean(String token, String genotekUrl) {
-        ApiClient defaultClient = new ApiClient("bearerAuth");
+    public OkHttpClient drcApiOkHttpClient(AccessTokenService accessTokenService,
+                                           @Value("${vibrent.drc-service.httpClient.maxConnectionsPerRoute:50}") int maxIdleConnections,
+                                           @Value("${vibrent.drc-service.httpClient.idleEvictionSeconds:30}") long keepAliveSeconds,
+                                           @Value("${vibrent.drc-service.httpClient.connectTimeoutMillis:5000}") long connectTimeoutMillis,
+                                           @Value("${vibrent.drc-service.httpClient.readTimeoutMillis:30000}") long readTimeoutMillis) {
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                .addInterceptor(new BearerTokenInterceptor(accessTokenService::getAccessToken))
+                .build();
+    }
+
+    /**
+     * Worker pool of the genomic status batch processing job, shared by all its firings
+     */
+    @Bean(name = "genomicStatusBatchExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService genomicStatusBatchExecutor(@Value("${vibrent.drc.genomics.participantBatch.workers:4}") int workers) {
+        return newWorkerPool("genomic-status-batch-", workers);
+    }
+
+    /**
+     * Worker pool of the update info sync retry job, shared by all its firings
+     */
+    @Bean(name = "updateInfoSyncRetryExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService updateInfoSyncRetryExecutor(@Value("${vibrent.drc.sync.retry.workers:4}") int workers) {
+        return newWorkerPool("update-info-sync-retry-", workers);
+    }
+
+    @Bean
+    public OrderInfoApi orderInfoApi(OkHttpClient drcApiOkHttpClient, @Value("${vibrent.drc-service.genotekUrl}") String genotekUrl) {
+        ApiClient defaultClient = new ApiClient(drcApiOkHttpClient);
         defaultClient.getAdapterBuilder().baseUrl(genotekUrl);
-        defaultClient.setBearerToken(token);
         return defaultClient.createService(OrderInfoApi.class);
     }
 
     @Bean
-    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-    public OrdersApi ordersApiBean(String token, String fulfillmentUrl) {
-        ApiClient defaultClient = new ApiClient("bearerAuth");
+    public OrdersApi ordersApi(OkHttpClient drcApiOkHttpClient, @Value("${vibrent.drc-service.fulfillmentUrl}") String fulfillmentUrl) {
+        ApiClient defaultClient = new ApiClient(drcApiOkHttpClient);
         defaultClient.getAdapterBuilder().baseUrl(fulfillmentUrl);
-        defaultClient.setBearerToken(token);
         return defaultClient.createService(OrdersApi.class);
     }
 
+    private static ExecutorService newWorkerPool(String threadNamePrefix, int workers) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 }
@@ -1,19 +1,27 @@
 package com.vibrent.drc.configuration;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vibrent.acadia.web.rest.dto.form.*;
+import com.vibrent.drc.cache.TwoTierCache;
 import com.vibrent.drc.constants.DrcConstant;
 import org.redisson.Redisson;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.redisson.spring.cache.RedissonSpringCacheManager;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CacheConfigration {
@@ -22,6 +30,7 @@ public class CacheConfigration {
     private static final String REDIS_PROTOCOL_PREFIX = "redis://";
     private static final String REDIS_SECURE_PROTOCOL_PREFIX = "rediss://";
     private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final int FORM_FIELD_WEIGHT_KB = 1;
 
     @Value("${redis.properties.redisson-ssl-enaled:false}")
     private boolean isSecureProtocolEnabled;
@@ -47,6 +56,29 @@ public class CacheConfigration {
     @Value("${vibrent.drc-service.caffeineSpec}")
     String caffeineSpec;
 
+    @Value("${vibrent.drc-service.vibrentIdCache.redisEnabled:true}")
+    private boolean vibrentIdRedisCacheEnabled;
+
+    @Value("${vibrent.drc-service.vibrentIdCache.redisTtlMinutes:1440}")
+    private long vibrentIdRedisCacheTtlMinutes;
+
+    @Value("${vibrent.drc-service.vibrentIdCache.invalidationEnabled:false}")
+    private boolean vibrentIdCacheInvalidationEnabled;
+
+    @Value("${vibrent.drc-service.formCache.maxWeightKb:51200}")
+    private long formCacheMaxWeightKb;
+
+    @Value("${vibrent.drc-service.formCache.formVersionTtlMinutes:1440}")
+    private long formVersionCacheTtlMinutes;
+
+    @Value("${vibrent.drc-service.formCache.activeFormVersionTtlMinutes:5}")
+    private long activeFormVersionCacheTtlMinutes;
+
+    @Value("${vibrent.drc-service.formCache.activeFormVersionMaxSize:1000}")
+    private long activeFormVersionCacheMaxSize;
+
+    @Value("${vibrent.drc-service.formCache.formIndexMaxSize:100}")
+    private long formIndexCacheMaxSize;
 
     @Bean(destroyMethod = "shutdown")
     public RedissonClient redisson() throws IOException {
@@ -98,12 +130,101 @@ public class CacheConfigration {
         return new RedissonSpringCacheManager(redisson);
     }
 
+    /**
+     * Local caches backed by Caffeine. The VibrentId cache is additionally backed by a shared Redis map, unless disabled,
+     * so that pods started after a deploy or scale-out do not have to warm it from the API.
+     */
     @Primary
     @Bean(name = "caffeineCacheManager")
-    public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DrcConstant.VIBRENTID_CACHE,
-                DrcConstant.SALIVERY_BIOBANK_ADDRESS_CACHE, DrcConstant.SALIVERY_ORDER_DEVICE_CACHE);
-        cacheManager.setCacheSpecification(caffeineSpec);
+    public CacheManager caffeineCacheManager(RedissonClient redisson) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(Arrays.asList(vibrentIdCache(redisson),
+                caffeineCache(DrcConstant.SALIVERY_BIOBANK_ADDRESS_CACHE),
+                caffeineCache(DrcConstant.SALIVERY_ORDER_DEVICE_CACHE),
+                formVersionCache(),
+                activeFormVersionCache(),
+                formIndexCache()));
         return cacheManager;
     }
+
+    /**
+     * Form definitions keyed by form version id. A version never changes once published, so entries are only bounded by
+     * their approximate size and a TTL. Entries can be evicted explicitly through the actuator caches endpoint.
+     */
+    private CaffeineCache formVersionCache() {
+        return new CaffeineCache(DrcConstant.FORM_VERSION_CACHE, Caffeine.newBuilder()
+                .maximumWeight(formCacheMaxWeightKb)
+                .weigher(CacheConfigration::weightInKb)
+                .expireAfterWrite(formVersionCacheTtlMinutes, TimeUnit.MINUTES)
+                .build());
+    }
+
+    /**
+     * Active form version id per form id. A new form version can be activated at any time, so entries expire quickly.
+     */
+    private CaffeineCache activeFormVersionCache() {
+        return new CaffeineCache(DrcConstant.ACTIVE_FORM_VERSION_CACHE, Caffeine.newBuilder()
+                .maximumSize(activeFormVersionCacheMaxSize)
+                .expireAfterWrite(activeFormVersionCacheTtlMinutes, TimeUnit.MINUTES)
+                .build());
+    }
+
+    /**
+     * Lookup indexes of form versions keyed by form version id. An index references the cached form definition it was
+     * built from, so it expires with the same TTL.
+     */
+    private CaffeineCache formIndexCache() {
+        return new CaffeineCache(DrcConstant.FORM_INDEX_CACHE, Caffeine.newBuilder()
+                .maximumSize(formIndexCacheMaxSize)
+                .expireAfterWrite(formVersionCacheTtlMinutes, TimeUnit.MINUTES)
+                .build());
+    }
+
+    /**
+     * Estimate the size of a form definition from its number of component fields, which carry most of its content, at
+     * about one KB per field. Serializing the definition to measure it would cost as much as the conversion it is cached for.
+     */
+    static int weightInKb(Object key, Object value) {
+        if (!(value instanceof FormVersionDTO)) {
+            return 1;
+        }
+        FormVersionDTO formVersionDTO = (FormVersionDTO) value;
+        int fieldCount = countFields(formVersionDTO.getEditMode()) + countFields(formVersionDTO.getViewMode())
+                + countFields(formVersionDTO.getPromptMode());
+        return Math.max(1, fieldCount * FORM_FIELD_WEIGHT_KB);
+    }
+
+    private static int countFields(FormModeDTO formModeDTO) {
+        if (formModeDTO == null || formModeDTO.getPages() == null) {
+            return 0;
+        }
+        int fieldCount = 0;
+        for (FormPageDTO formPageDTO : formModeDTO.getPages()) {
+            if (formPageDTO.getSections() == null) {
+                continue;
+            }
+            for (FormSectionDTO formSectionDTO : formPageDTO.getSections()) {
+                if (formSectionDTO.getFormComponents() == null) {
+                    continue;
+                }
+                for (FormComponentDTO formComponentDTO : formSectionDTO.getFormComponents()) {
+                    fieldCount += formComponentDTO.getFormComponentFields() == null ? 0 : formComponentDTO.getFormComponentFields().size();
+                }
+            }
+        }
+        return fieldCount;
+    }
+
+    private Cache vibrentIdCache(RedissonClient redisson) {
+        if (!vibrentIdRedisCacheEnabled) {
+            return caffeineCache(DrcConstant.VIBRENTID_CACHE);
+        }
+        RTopic invalidationTopic = vibrentIdCacheInvalidationEnabled ? redisson.getTopic(DrcConstant.VIBRENTID_CACHE_INVALIDATION_TOPIC) : null;
+        return new TwoTierCache(DrcConstant.VIBRENTID_CACHE, Caffeine.from(caffeineSpec).build(),
+                redisson.getMapCache(DrcConstant.VIBRENTID_CACHE), TimeUnit.MINUTES.toMillis(vibrentIdRedisCacheTtlMinutes), invalidationTopic);
+    }
+
+    private CaffeineCache caffeineCache(String name) {
+        return new CaffeineCache(name, Caffeine.from(caffeineSpec).build());
+    }
 }
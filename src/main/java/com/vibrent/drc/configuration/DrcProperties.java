@@ -19,6 +19,12 @@ public class DrcProperties {
     @Value("${vibrent.drc.sync.retry.cron}")
     private String drcSyncRetryCron;
 
+    @Value("${vibrent.drc.externalEventOutbox.cron}")
+    private String externalEventOutboxRelayCron;
+
+    @Value("${vibrent.drc.genomics.retention.cron}")
+    private String genomicStatusRetentionCron;
+
     @Value("${vibrent.drc.apiUrl}")
     private String drcApiBaseUrl;
 
@@ -0,0 +1,96 @@
+package com.vibrent.drc.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled HTTP client shared by the REST templates calling Acadia and Keycloak, so that connections are kept alive and
+ * reused between calls instead of paying a TCP and TLS handshake per request.
+ */
+@Configuration
+public class HttpClientConfiguration {
+
+    private static final String POOL_METRICS_NAME = "drc-http-client";
+
+    @Value("${vibrent.drc-service.httpClient.maxTotalConnections:200}")
+    private int maxTotalConnections;
+
+    @Value("${vibrent.drc-service.httpClient.maxConnectionsPerRoute:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${vibrent.drc-service.httpClient.connectTimeoutMillis:5000}")
+    private int connectTimeoutMillis;
+
+    @Value("${vibrent.drc-service.httpClient.readTimeoutMillis:30000}")
+    private int readTimeoutMillis;
+
+    @Value("${vibrent.drc-service.httpClient.connectionRequestTimeoutMillis:5000}")
+    private int connectionRequestTimeoutMillis;
+
+    @Value("${vibrent.drc-service.httpClient.idleEvictionSeconds:30}")
+    private long idleEvictionSeconds;
+
+    @Value("${vibrent.drc-service.httpClient.validateAfterInactivityMillis:2000}")
+    private int validateAfterInactivityMillis;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotalConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        // Re-validate connections that have been idle for a while before leasing them, the server may have closed them
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+
+        // Publishes the leased, pending, available and max connection counts of the pool
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_METRICS_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * Content compression is enabled by default in the builder, gzip and deflate responses are decoded transparently.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setSocketTimeout(readTimeoutMillis)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(httpClientConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictionSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory pooledClientHttpRequestFactory(CloseableHttpClient pooledHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+    }
+
+    /**
+     * RestTemplate used by RestClientUtil, the bearer token is set explicitly on each request from the access token service
+     */
+    @Primary
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory pooledClientHttpRequestFactory) {
+        return new RestTemplate(pooledClientHttpRequestFactory);
+    }
+}
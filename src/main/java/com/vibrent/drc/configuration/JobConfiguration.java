@@ -1,6 +1,8 @@
 package com.vibrent.drc.configuration;
 
 import com.vibrent.drc.scheduling.DRCUpdateInfoSyncRetryJob;
+import com.vibrent.drc.scheduling.DrcExternalEventOutboxRelayJob;
+import com.vibrent.drc.scheduling.GenomicStatusRetentionJob;
 import com.vibrent.drc.scheduling.ParticipantGenomicStatusBatchProcessingJob;
 import com.vibrent.drc.scheduling.DRCParticipantGenomicsStatusFetchJob;
 import org.quartz.*;
@@ -92,6 +94,54 @@ public class JobConfiguration {
         return rescheduleCronJob(schedulerFactoryBean, "DRC_Update_Info_Sync_Retry_Trigger", drcProperties.getDrcSyncRetryCron());
     }
 
+    @Bean
+    public JobDetail drcExternalEventOutboxRelayJobDetails() {
+        return JobBuilder.newJob().ofType(DrcExternalEventOutboxRelayJob.class)
+                .storeDurably()
+                .withIdentity("DRC_External_Event_Outbox_Relay_Job")
+                .withDescription("Invoke DRC External Event Outbox Relay Job")
+                .build();
+    }
+
+    @Bean
+    public Trigger drcExternalEventOutboxRelayJobTrigger(JobDetail drcExternalEventOutboxRelayJobDetails) {
+        return TriggerBuilder.newTrigger().forJob(drcExternalEventOutboxRelayJobDetails)
+                .withIdentity("DRC_External_Event_Outbox_Relay_Trigger")
+                .withDescription("Invoke DRC External Event Outbox Relay Trigger")
+                .withSchedule(CronScheduleBuilder.cronSchedule(drcProperties.getExternalEventOutboxRelayCron())
+                        .withMisfireHandlingInstructionDoNothing())
+                .build();
+    }
+
+    @Bean
+    public Scheduler rescheduleExternalEventOutboxRelayCronJob(SchedulerFactoryBean schedulerFactoryBean) throws SchedulerException, ParseException {
+        return rescheduleCronJob(schedulerFactoryBean, "DRC_External_Event_Outbox_Relay_Trigger", drcProperties.getExternalEventOutboxRelayCron());
+    }
+
+    @Bean
+    public JobDetail drcGenomicStatusRetentionJobDetails() {
+        return JobBuilder.newJob().ofType(GenomicStatusRetentionJob.class)
+                .storeDurably()
+                .withIdentity("DRC_Genomic_Status_Retention_Job")
+                .withDescription("Invoke DRC Genomic Status Retention Job")
+                .build();
+    }
+
+    @Bean
+    public Trigger drcGenomicStatusRetentionJobTrigger(JobDetail drcGenomicStatusRetentionJobDetails) {
+        return TriggerBuilder.newTrigger().forJob(drcGenomicStatusRetentionJobDetails)
+                .withIdentity("DRC_Genomic_Status_Retention_Trigger")
+                .withDescription("Invoke DRC Genomic Status Retention Trigger")
+                .withSchedule(CronScheduleBuilder.cronSchedule(drcProperties.getGenomicStatusRetentionCron())
+                        .withMisfireHandlingInstructionDoNothing())
+                .build();
+    }
+
+    @Bean
+    public Scheduler rescheduleGenomicStatusRetentionCronJob(SchedulerFactoryBean schedulerFactoryBean) throws SchedulerException, ParseException {
+        return rescheduleCronJob(schedulerFactoryBean, "DRC_Genomic_Status_Retention_Trigger", drcProperties.getGenomicStatusRetentionCron());
+    }
+
     private Scheduler rescheduleCronJob(SchedulerFactoryBean schedulerFactoryBean,
                                         String triggerName,
                                         String cronExpression) throws SchedulerException, ParseException {
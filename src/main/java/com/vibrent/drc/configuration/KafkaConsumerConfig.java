@@ -15,6 +15,7 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import javax.inject.Inject;
@@ -23,6 +24,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import static com.vibrent.drc.constants.KafkaConstants.ACCOUNT_INFO_UPDATES_BATCH_ENABLED;
+import static com.vibrent.drc.constants.KafkaConstants.ACCOUNT_INFO_UPDATES_BATCH_MAX_POLL_RECORDS;
 import static com.vibrent.drc.constants.KafkaConstants.DEFAULT_CONCURRENCY;
 
 @Slf4j
@@ -30,7 +33,6 @@ import static com.vibrent.drc.constants.KafkaConstants.DEFAULT_CONCURRENCY;
 @EnableKafka
 public class KafkaConsumerConfig {
 
-    private static final String DRC_TRACK_ORDER_RESPONSE_LISTENER_GROUP_ID = "drcCreateTrackOrderResponseListener";
     private static final String DRC_ACCOUNT_INFO_UPDATE_LISTENER_GROUP_ID = "drcAccountInfoUpdateEventListener";
     private static final String FULFILLMENT_ORDER_RESPONSE_LISTENER_GROUP_ID = "fulfillmentOrderResponseListener";
 
@@ -50,62 +52,23 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConsumerFactory<String, byte[]> consumerFactoryTrackDeliveryResponse() {
+    public ConsumerFactory<String, byte[]> consumerFactoryVxpResponseListener() {
         Map<String, Object> configProps = this.getConfigProps(KafkaConstants.VXP_TRACK_DELIVERY_RESPONSE_GROUP_ID);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, KafkaConstants.EARLIEST);
         return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new ByteArrayDeserializer());
     }
 
+    /**
+     * Track delivery and create track order responses share the VXP response topic and are consumed once, the
+     * VxpResponseListener routes each record on its message spec header
+     */
     @Bean
-    ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactoryTrackDeliveryResponseEvent() {
+    ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactoryVxpResponseListener() {
         ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactoryTrackDeliveryResponse());
+        factory.setConsumerFactory(consumerFactoryVxpResponseListener());
         factory.setConcurrency(Integer.valueOf(Objects.requireNonNull(environment.getProperty(DEFAULT_CONCURRENCY))));
         factory.getContainerProperties().setPollTimeout(KafkaConstants.POLL_TIMEOUT);
-        factory.setRecordFilterStrategy(consumerRecord -> {
-            String messageSpec = extractHeader(consumerRecord.headers(), KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC);
-
-            //discard the Record if MessageSpecification is not equal to TRACK_DELIVERY_RESPONSE
-            final boolean canDiscardRecord = null == messageSpec
-                    || !MessageSpecificationEnum.TRACK_DELIVERY_RESPONSE.toString().equals(messageSpec);
-
-            if (canDiscardRecord) {
-                log.debug("Drc-Service: Discarding the Non TRACK_DELIVERY_RESPONSE. Request Type: {}", messageSpec);
-            }
-
-            return canDiscardRecord;
-        });
-        return factory;
-    }
-
-    @Bean
-    public ConsumerFactory<String, byte[]> consumerFactoryCreateTrackOrderListener() {
-        Map<String, Object> configProps = this.getConfigProps(DRC_TRACK_ORDER_RESPONSE_LISTENER_GROUP_ID);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
-        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, KafkaConstants.EARLIEST);
-        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new ByteArrayDeserializer());
-    }
-
-    @Bean
-    ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactoryTrackOrderResponseListener() {
-        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactoryCreateTrackOrderListener());
-        factory.setConcurrency(Integer.valueOf(Objects.requireNonNull(environment.getProperty(DEFAULT_CONCURRENCY))));
-        factory.getContainerProperties().setPollTimeout(KafkaConstants.POLL_TIMEOUT);
-        factory.setRecordFilterStrategy(consumerRecord -> {
-            String messageSpec = extractHeader(consumerRecord.headers(), KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC);
-
-            //discard the Record if MessageSpecification is not equal to CREATE_TRACK_ORDER_RESPONSE
-            final boolean canDiscardRecord = null == messageSpec
-                    || !MessageSpecificationEnum.CREATE_TRACK_ORDER_RESPONSE.toString().equals(messageSpec);
-
-            if (canDiscardRecord) {
-                log.debug("Drc-Service: Discarding the Non CREATE_TRACK_ORDER_RESPONSE. Request Type: {}", messageSpec);
-            }
-
-            return canDiscardRecord;
-        });
         return factory;
     }
 
@@ -114,6 +77,9 @@ public class KafkaConsumerConfig {
         Map<String, Object> configProps = this.getConfigProps(DRC_ACCOUNT_INFO_UPDATE_LISTENER_GROUP_ID);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, KafkaConstants.LATEST);
+        if (isAccountInfoUpdateBatchEnabled()) {
+            configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, environment.getProperty(ACCOUNT_INFO_UPDATES_BATCH_MAX_POLL_RECORDS, Integer.class, 500));
+        }
         return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new ByteArrayDeserializer());
     }
 
@@ -123,6 +89,12 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactoryAccountInfoUpdateEventListener());
         factory.setConcurrency(Integer.valueOf(Objects.requireNonNull(environment.getProperty(DEFAULT_CONCURRENCY))));
         factory.getContainerProperties().setPollTimeout(KafkaConstants.POLL_TIMEOUT);
+        if (isAccountInfoUpdateBatchEnabled()) {
+            //Whole poll is handed to AccountInfoUpdateEventBatchListener, offsets are committed once it acknowledges the poll,
+            //which with a quiet period happens after the listener returned
+            factory.setBatchListener(true);
+            factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        }
         factory.setRecordFilterStrategy(consumerRecord -> {
             String messageSpec = extractHeader(consumerRecord.headers(), KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC);
 
@@ -169,6 +141,10 @@ public class KafkaConsumerConfig {
         return factory;
     }
 
+    private boolean isAccountInfoUpdateBatchEnabled() {
+        return Boolean.TRUE.equals(environment.getProperty(ACCOUNT_INFO_UPDATES_BATCH_ENABLED, Boolean.class, false));
+    }
+
     public static String extractHeader(Headers headers, String headerKey) {
         String headerValue = null;
 
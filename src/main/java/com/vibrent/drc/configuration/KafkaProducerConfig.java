@@ -2,7 +2,10 @@ package com.vibrent.drc.configuration;
 
 import com.vibrent.drc.constants.KafkaConstants;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
+import com.vibrent.drc.enumeration.KafkaProducerProfile;
 import com.vibrent.vxp.push.DRCExternalEventDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,15 +14,20 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.StringUtils;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class KafkaProducerConfig {
 
+    static final String DRC_EXTERNAL_EVENT_PRODUCER = "drcExternalEvent";
+    static final String EXTERNAL_LOG_PRODUCER = "externalLog";
 
     private Environment environment;
 
@@ -36,26 +44,63 @@ public class KafkaProducerConfig {
         return configProps;
     }
 
+    /**
+     * Producer properties of the named producer, tuned by its profile (spring.kafka.producers.[name].profile) and
+     * optionally overriding the compression of the profile (spring.kafka.producers.[name].compressionType)
+     */
+    Map<String, Object> getConfigProps(String producerName) {
+        Map<String, Object> configProps = getConfigProps();
+        KafkaProducerProfile profile = environment.getProperty(String.format(KafkaConstants.PRODUCER_PROFILE_PROPERTY, producerName),
+                KafkaProducerProfile.class, KafkaProducerProfile.THROUGHPUT);
+
+        // Both profiles are idempotent, so that producer retries never write duplicates or reorder a partition
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        if (profile == KafkaProducerProfile.THROUGHPUT) {
+            configProps.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+            configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024);
+            configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        } else {
+            configProps.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+            configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16 * 1024);
+            configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "none");
+        }
+
+        String compressionType = environment.getProperty(String.format(KafkaConstants.PRODUCER_COMPRESSION_TYPE_PROPERTY, producerName));
+        if (StringUtils.hasText(compressionType)) {
+            configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType.trim());
+        }
+        return configProps;
+    }
+
+    /**
+     * The consumers of these topics deserialize to a fixed type, so the type info headers are not written with every record
+     */
+    private <T> DefaultKafkaProducerFactory<String, T> createProducerFactory(String producerName, MeterRegistry meterRegistry) {
+        DefaultKafkaProducerFactory<String, T> producerFactory = new DefaultKafkaProducerFactory<>(getConfigProps(producerName),
+                new StringSerializer(), new JsonSerializer<T>().noTypeInfo());
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry, Collections.singletonList(Tag.of("type", producerName))));
+        return producerFactory;
+    }
+
     @Bean
-    public ProducerFactory<String, DRCExternalEventDto> drcExternalEventDtoProducerFactory() {
-        return new DefaultKafkaProducerFactory<>(getConfigProps());
+    public ProducerFactory<String, DRCExternalEventDto> drcExternalEventDtoProducerFactory(MeterRegistry meterRegistry) {
+        return createProducerFactory(DRC_EXTERNAL_EVENT_PRODUCER, meterRegistry);
     }
 
     @Bean
-    public KafkaTemplate<String, DRCExternalEventDto> drcExternalEventDtoKafkaTemplate() {
-        return new KafkaTemplate<>(drcExternalEventDtoProducerFactory());
+    public KafkaTemplate<String, DRCExternalEventDto> drcExternalEventDtoKafkaTemplate(ProducerFactory<String, DRCExternalEventDto> drcExternalEventDtoProducerFactory) {
+        return new KafkaTemplate<>(drcExternalEventDtoProducerFactory);
     }
 
 
     @Bean
-    public ProducerFactory<String, ExternalApiRequestLog> externalLogProducerFactory() {
-        return new DefaultKafkaProducerFactory<>(getConfigProps());
+    public ProducerFactory<String, ExternalApiRequestLog> externalLogProducerFactory(MeterRegistry meterRegistry) {
+        return createProducerFactory(EXTERNAL_LOG_PRODUCER, meterRegistry);
     }
 
     @Bean
-    public KafkaTemplate<String, ExternalApiRequestLog> externalLogKafkaTemplate() {
-        return new KafkaTemplate<>(externalLogProducerFactory());
+    public KafkaTemplate<String, ExternalApiRequestLog> externalLogKafkaTemplate(ProducerFactory<String, ExternalApiRequestLog> externalLogProducerFactory) {
+        return new KafkaTemplate<>(externalLogProducerFactory);
     }
 }
-
-
@@ -3,7 +3,6 @@ package com.vibrent.drc.configuration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
 import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
 import org.springframework.security.oauth2.client.token.grant.client.ClientCredentialsResourceDetails;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableOAuth2Client;
@@ -42,9 +41,4 @@ public class OAuth2Configuration {
         details.setGrantType("client_credentials");
         return details;
     }
-
-    @Bean(name = "keycloakDrcInternalCredentialsRestTemplate")
-    public OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate() {
-        return new OAuth2RestTemplate(keycloakDrcInternalCredentials());
-    }
 }
@@ -18,8 +18,12 @@ public final class DrcConstant {
 
     public static final String USER_INFO_SEARCH_API = "/api/userInfo/search";
     public static final String VIBRENTID_CACHE = "DRC_VIBRENTID_CACHE";
+    public static final String VIBRENTID_CACHE_INVALIDATION_TOPIC = "DRC_VIBRENTID_CACHE_INVALIDATION";
     public static final String SALIVERY_ORDER_DEVICE_CACHE = "SALIVERY_ORDER_DEVICE_CACHE";
     public static final String SALIVERY_BIOBANK_ADDRESS_CACHE = "SALIVERY_BIOBANK_ADDRESS_CACHE";
+    public static final String FORM_VERSION_CACHE = "FORM_VERSION_CACHE";
+    public static final String ACTIVE_FORM_VERSION_CACHE = "ACTIVE_FORM_VERSION_CACHE";
+    public static final String FORM_INDEX_CACHE = "FORM_INDEX_CACHE";
 
     public static final String TYPE = "type";
     public static final String PARTICIPANT_ID = "participant_id";
@@ -30,6 +30,10 @@ public class KafkaConstants {
     public static final String EARLIEST = "earliest";
     public static final String VXP_TRACK_DELIVERY_RESPONSE_GROUP_ID = "drcTrackDeliveryResponseGroupId";
     public static final String DEFAULT_CONCURRENCY = "spring.kafka.defaultConcurrency";
+    public static final String ACCOUNT_INFO_UPDATES_BATCH_ENABLED = "vibrent.drc.accountInfoUpdates.batch.enabled";
+    public static final String ACCOUNT_INFO_UPDATES_BATCH_MAX_POLL_RECORDS = "vibrent.drc.accountInfoUpdates.batch.maxPollRecords";
+    public static final String PRODUCER_PROFILE_PROPERTY = "spring.kafka.producers.%s.profile";
+    public static final String PRODUCER_COMPRESSION_TYPE_PROPERTY = "spring.kafka.producers.%s.compressionType";
 
     private KafkaConstants() {
     }
@@ -1,5 +1,6 @@
 package com.vibrent.drc.constants;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -199,10 +200,37 @@ public class SecondaryContactStateRelationshipMaps {
     private static final String CHILD = "child";
     private static final String RELATIVE = "relative";
 
+    // Built once and wrapped rather than copied with Map.copyOf, whose tables throw on get(null) while a missing
+    // state or relationship of a contact is looked up as null
+    private static final Map<String, String> SECONDARY_CONTACT_STATE_RELATIONSHIP_MAP = Collections.unmodifiableMap(buildSecondaryContactStateRelationshipMap());
+    private static final Map<String, String> CONTACT_ONE_STATE_RELATIONSHIP_DRC_MAP = Collections.unmodifiableMap(buildContactOneStateRelationshipDRCMap());
+    private static final Map<String, String> CONTACT_TWO_STATE_RELATIONSHIP_DRC_MAP = Collections.unmodifiableMap(buildContactTwoStateRelationshipDRCMap());
+
     private SecondaryContactStateRelationshipMaps() {
     }
 
+    /**
+     * @return the immutable map of the Vibrent secondary contact state and relationship values to the PII values
+     */
     public static Map<String, String> getSecondaryContactStateRelationshipMap() {
+        return SECONDARY_CONTACT_STATE_RELATIONSHIP_MAP;
+    }
+
+    /**
+     * @return the immutable map of the PII state and relationship values to the contact one answers
+     */
+    public static Map<String, String> getContactOneStateRelationshipDRCMap() {
+        return CONTACT_ONE_STATE_RELATIONSHIP_DRC_MAP;
+    }
+
+    /**
+     * @return the immutable map of the PII state and relationship values to the contact two answers
+     */
+    public static Map<String, String> getContactTwoStateRelationshipDRCMap() {
+        return CONTACT_TWO_STATE_RELATIONSHIP_DRC_MAP;
+    }
+
+    private static Map<String, String> buildSecondaryContactStateRelationshipMap() {
 
         Map<String, String> map = new HashMap<>();
         map.put(PERSON_ONE_ADDRESS_STATE_AL, PIISTATE_AL);
@@ -338,7 +366,7 @@ public class SecondaryContactStateRelationshipMaps {
         return map;
     }
 
-    public static Map<String, String> getContactOneStateRelationshipDRCMap() {
+    private static Map<String, String> buildContactOneStateRelationshipDRCMap() {
         Map<String, String> map = new HashMap<>();
         map.put(PIISTATE_AL, PERSON_ONE_ADDRESS_STATE_AL);
         map.put(PIISTATE_AK, PERSON_ONE_ADDRESS_STATE_AK);
@@ -408,7 +436,7 @@ public class SecondaryContactStateRelationshipMaps {
         return map;
     }
 
-    public static Map<String, String> getContactTwoStateRelationshipDRCMap() {
+    private static Map<String, String> buildContactTwoStateRelationshipDRCMap() {
 
         Map<String, String> map = new HashMap<>();
         map.put(PIISTATE_AL, SECOND_CONTACT_STATE_ALABAMA);
@@ -39,4 +39,10 @@ public class DRCUpdateInfoSyncRetry extends AbstractEntity {
 
     @Column(name = "error_details")
     private String errorDetails;
+
+    /**
+     * Epoch millis before which the entry is not retried, new entries are due immediately
+     */
+    @Column(name = "next_attempt_at")
+    private Long nextAttemptAt = 0L;
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.vibrent.drc.domain;
+
+import com.vibrent.drc.domain.common.AbstractEntity;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+
+/**
+ * DRC external event waiting to be published to Kafka, the payload is the serialized DRCExternalEventDto
+ */
+@Entity
+@Table(name = "drc_external_event_outbox")
+@Getter
+@Setter
+@ToString
+public class DrcExternalEventOutbox extends AbstractEntity {
+
+    private static final long serialVersionUID = 4120948735560937215L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY, generator = "IdOrGenerated")
+    @GenericGenerator(name = "IdOrGenerated", strategy = "com.vibrent.drc.domain.UseIdOrGenerate")
+    private Long id;
+
+    @Column(name = "vibrent_id")
+    private Long vibrentId;
+
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "retry_count")
+    private Integer retryCount = 0;
+
+    /**
+     * Epoch millis before which the row is not published again, new rows are due immediately
+     */
+    @Column(name = "next_attempt_at")
+    private Long nextAttemptAt = 0L;
+}
@@ -33,4 +33,17 @@ public class DrcSyncedStatus extends AbstractEntity {
     @Column(name = "data")
     private String data;
 
+    // SHA-256 hashes of the sections of data, see ParticipantSectionHashUtil, null for rows written before they existed
+    @Column(name = "account_hash")
+    private String accountHash;
+
+    @Column(name = "secondary_contacts_hash")
+    private String secondaryContactsHash;
+
+    @Column(name = "ssn_hash")
+    private String ssnHash;
+
+    @Column(name = "test_user_hash")
+    private String testUserHash;
+
 }
\ No newline at end of file
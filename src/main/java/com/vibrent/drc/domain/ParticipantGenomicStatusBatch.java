@@ -4,8 +4,13 @@ package com.vibrent.drc.domain;
 
 import com.vibrent.drc.domain.common.IdGeneratorAbstract;
 import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.drc.enumeration.PayloadCodec;
 import com.vibrent.drc.util.DateTimeUtil;
+import com.vibrent.drc.util.PayloadCompressionUtil;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.GenericGenerator;
 import org.springframework.context.annotation.Lazy;
 
@@ -15,6 +20,7 @@ import javax.validation.constraints.NotNull;
 @Entity
 @Table(name = "participant_genomic_status_batch")
 @Data
+@DynamicUpdate
 public class ParticipantGenomicStatusBatch extends IdGeneratorAbstract {
 
     private static final long serialVersionUID = 5640737975537993933L;
@@ -28,10 +34,21 @@ public class ParticipantGenomicStatusBatch extends IdGeneratorAbstract {
     @Column(name = "batch_size", nullable = false)
     private Integer batchSize;
 
-    @Column(name = "batch_payload", columnDefinition = "TEXT", nullable = false)
-    @NotNull
+    // Uncompressed payload of rows written before payload compression, see getBatchPayload. Excluded from toString, equals
+    // and hashCode, which would otherwise call the decompressing getter
+    @Column(name = "batch_payload", columnDefinition = "TEXT")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String batchPayload;
 
+    @Column(name = "batch_payload_compressed")
+    @ToString.Exclude
+    private byte[] compressedBatchPayload;
+
+    @Column(name = "payload_codec")
+    @Enumerated(value = EnumType.STRING)
+    private PayloadCodec payloadCodec;
+
     @Column(name = "status", nullable = false)
     @NotNull
     @Enumerated(value = EnumType.STRING)
@@ -45,6 +62,12 @@ public class ParticipantGenomicStatusBatch extends IdGeneratorAbstract {
     @Column(name = "retry_count")
     protected Integer retryCount;
 
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private Long claimedUntil;
+
     @Column(name = "created_on")
     protected Long createdOn;
 
@@ -69,13 +92,33 @@ public class ParticipantGenomicStatusBatch extends IdGeneratorAbstract {
         this.id = participantGenomicStatusBatch.id;
         this.status = participantGenomicStatusBatch.status;
         this.batchPayload = participantGenomicStatusBatch.batchPayload;
+        this.compressedBatchPayload = participantGenomicStatusBatch.compressedBatchPayload;
+        this.payloadCodec = participantGenomicStatusBatch.payloadCodec;
         this.batchSize = participantGenomicStatusBatch.batchSize;
         this.retryCount = participantGenomicStatusBatch.retryCount;
+        this.claimedBy = participantGenomicStatusBatch.claimedBy;
+        this.claimedUntil = participantGenomicStatusBatch.claimedUntil;
         this.updatedOn = participantGenomicStatusBatch.updatedOn;
         this.createdOn = participantGenomicStatusBatch.createdOn;
         this.participantGenomicStatusPayload = participantGenomicStatusBatch.participantGenomicStatusPayload;
     }
 
+    /**
+     * JSON payload of the batch, decompressed on every call for compressed rows
+     */
+    public String getBatchPayload() {
+        return PayloadCompressionUtil.read(payloadCodec, compressedBatchPayload, batchPayload);
+    }
+
+    /**
+     * Stores the JSON payload compressed
+     */
+    public void setBatchPayload(String batchPayload) {
+        this.payloadCodec = PayloadCodec.GZIP;
+        this.compressedBatchPayload = PayloadCompressionUtil.compress(batchPayload, payloadCodec);
+        this.batchPayload = null;
+    }
+
     public static ParticipantGenomicStatusBatch newInstance(ParticipantGenomicStatusBatch participantGenomicStatusBatch) {
         return new ParticipantGenomicStatusBatch(participantGenomicStatusBatch);
     }
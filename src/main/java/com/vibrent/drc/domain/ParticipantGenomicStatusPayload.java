@@ -3,12 +3,15 @@ package com.vibrent.drc.domain;
 
 import com.vibrent.drc.domain.common.IdGeneratorAbstract;
 import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.drc.enumeration.PayloadCodec;
 import com.vibrent.drc.util.DateTimeUtil;
+import com.vibrent.drc.util.PayloadCompressionUtil;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
-import javax.validation.constraints.NotNull;
 
 @Entity
 @Table(name = "participant_genomic_status_payload")
@@ -29,10 +32,21 @@ public class ParticipantGenomicStatusPayload extends IdGeneratorAbstract {
     @Column(name = "next_timestamp", nullable = false)
     private String nextTimestamp;
 
-    @Column(name = "raw_payload", columnDefinition = "TEXT", nullable = false)
-    @NotNull
+    // Uncompressed payload of rows written before payload compression, see getRawPayload. Excluded from toString, equals
+    // and hashCode, which would otherwise call the decompressing getter
+    @Column(name = "raw_payload", columnDefinition = "TEXT")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String rawPayload;
 
+    @Column(name = "raw_payload_compressed")
+    @ToString.Exclude
+    private byte[] compressedRawPayload;
+
+    @Column(name = "payload_codec")
+    @Enumerated(value = EnumType.STRING)
+    private PayloadCodec payloadCodec;
+
     @Column(name = "status", nullable = false)
     @Enumerated(value = EnumType.STRING)
     private ExternalGenomicPayloadProcessingStatus status;
@@ -43,6 +57,22 @@ public class ParticipantGenomicStatusPayload extends IdGeneratorAbstract {
     @Column(name = "updated_on")
     protected Long updatedOn;
 
+    /**
+     * Raw DRC response, decompressed on every call for compressed rows
+     */
+    public String getRawPayload() {
+        return PayloadCompressionUtil.read(payloadCodec, compressedRawPayload, rawPayload);
+    }
+
+    /**
+     * Stores the raw DRC response compressed
+     */
+    public void setRawPayload(String rawPayload) {
+        this.payloadCodec = PayloadCodec.GZIP;
+        this.compressedRawPayload = PayloadCompressionUtil.compress(rawPayload, payloadCodec);
+        this.rawPayload = null;
+    }
+
     @PrePersist
     public void setTime() {
         this.createdOn = DateTimeUtil.getCurrentTimestamp();
@@ -0,0 +1,7 @@
+package com.vibrent.drc.enumeration;
+
+public enum ExternalLogOverflowPolicy {
+    DROP_NEWEST,
+    DROP_OLDEST,
+    CALLER_RUNS;
+}
@@ -0,0 +1,6 @@
+package com.vibrent.drc.enumeration;
+
+public enum KafkaProducerProfile {
+    THROUGHPUT,
+    LATENCY;
+}
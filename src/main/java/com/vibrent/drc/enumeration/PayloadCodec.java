@@ -0,0 +1,5 @@
+package com.vibrent.drc.enumeration;
+
+public enum PayloadCodec {
+    GZIP;
+}
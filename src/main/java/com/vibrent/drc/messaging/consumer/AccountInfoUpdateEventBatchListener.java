@@ -0,0 +1,198 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.vibrent.drc.domain.DrcSyncedStatus;
+import com.vibrent.drc.service.AccountInfoUpdateEventHelperService;
+import com.vibrent.drc.service.SyncRetryHelperService;
+import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch mode of {@link AccountInfoUpdateEventListener}. Only the latest event of each participant in a poll is processed,
+ * the participants are processed in parallel on a bounded pool and the poll is acknowledged, so that its offsets are
+ * committed, once all of them are done. Events that fail are added to the sync retry queue before the poll is
+ * acknowledged. With a quiet period the events are handed to an
+ * {@link AccountInfoUpdateEventCoalescer} instead, which also merges the events of a participant across polls.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"vibrent.drc.accountInfoUpdates.enabled", "vibrent.drc.accountInfoUpdates.batch.enabled"}, havingValue = "true")
+public class AccountInfoUpdateEventBatchListener {
+
+    static final String LISTENER_ID = "drcAccountInfoUpdateEventListener";
+
+    private final AccountInfoUpdateEventProcessor accountInfoUpdateEventProcessor;
+    private final AccountInfoUpdateEventHelperService accountInfoUpdateEventHelperService;
+    private final SyncRetryHelperService syncRetryHelperService;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final ExecutorService workerPool;
+    private final AccountInfoUpdateEventCoalescer coalescer;
+
+    @Inject
+    public AccountInfoUpdateEventBatchListener(AccountInfoUpdateEventProcessor accountInfoUpdateEventProcessor,
+                                               AccountInfoUpdateEventHelperService accountInfoUpdateEventHelperService,
+                                               SyncRetryHelperService syncRetryHelperService,
+                                               KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                                               @Value("${vibrent.drc.accountInfoUpdates.batch.workers:4}") int workers,
+                                               @Value("${vibrent.drc.accountInfoUpdates.batch.quietPeriodMs:0}") long quietPeriodMs,
+                                               @Value("${vibrent.drc.accountInfoUpdates.batch.maxHoldMs:60000}") long maxHoldMs,
+                                               @Value("${vibrent.drc.accountInfoUpdates.batch.maxPendingPolls:100}") int maxPendingPolls) {
+        this.accountInfoUpdateEventProcessor = accountInfoUpdateEventProcessor;
+        this.accountInfoUpdateEventHelperService = accountInfoUpdateEventHelperService;
+        this.syncRetryHelperService = syncRetryHelperService;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "account-info-update-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.coalescer = quietPeriodMs > 0
+                ? new AccountInfoUpdateEventCoalescer(quietPeriodMs, maxHoldMs, maxPendingPolls, workerPool, this::processLatestEvent,
+                this::pauseConsumer, this::resumeConsumer)
+                : null;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (coalescer != null) {
+            coalescer.stop();
+        }
+        workerPool.shutdownNow();
+    }
+
+    @KafkaListener(topics = "${spring.kafka.topics.pushParticipant}", id = LISTENER_ID, containerFactory = "kafkaListenerContainerFactoryAccountInfoUpdateEventListener")
+    public void listen(List<Message<byte[]>> messages, Acknowledgment acknowledgment) {
+        Map<Long, AccountInfoUpdateEventDto> latestEvents = collectLatestEvents(messages);
+        if (coalescer != null) {
+            coalescer.add(latestEvents, acknowledgment);
+            return;
+        }
+
+        if (latestEvents.isEmpty()) {
+            acknowledge(acknowledgment);
+            return;
+        }
+
+        Map<Long, DrcSyncedStatus> syncedStatuses = accountInfoUpdateEventHelperService.findAccountUpdateSyncedStatuses(latestEvents.keySet());
+
+        // One task per participant, so the events of a participant never run concurrently
+        List<Callable<Void>> tasks = new ArrayList<>(latestEvents.size());
+        latestEvents.forEach((vibrentId, accountInfoUpdateEventDto) -> tasks.add(() -> {
+            processOrRetry(accountInfoUpdateEventDto, () ->
+                    accountInfoUpdateEventProcessor.processAccountInfoUpdateEvent(accountInfoUpdateEventDto, syncedStatuses.get(vibrentId)));
+            return null;
+        }));
+
+        try {
+            List<Future<Void>> futures = workerPool.invokeAll(tasks);
+            for (Future<Void> future : futures) {
+                waitForEvent(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("DRC: Interrupted while processing batch of {} accountInfoUpdateEvents", latestEvents.size());
+        }
+        acknowledge(acknowledgment);
+    }
+
+    /**
+     * Logs the receipt of every valid event and keeps the latest event of each participant in poll order
+     */
+    Map<Long, AccountInfoUpdateEventDto> collectLatestEvents(List<Message<byte[]>> messages) {
+        Map<Long, AccountInfoUpdateEventDto> latestEvents = new LinkedHashMap<>();
+        for (Message<byte[]> message : messages) {
+            AccountInfoUpdateEventDto accountInfoUpdateEventDto = accountInfoUpdateEventProcessor.readAccountInfoUpdateEvent(message.getPayload(), message.getHeaders());
+            if (accountInfoUpdateEventDto == null) {
+                continue;
+            }
+
+            try {
+                accountInfoUpdateEventProcessor.logReceivedEvent(accountInfoUpdateEventDto, message.getHeaders());
+            } catch (Exception e) {
+                log.error("DRC: Error while logging accountInfoUpdateEventDto: {} messageHeaders: {}", accountInfoUpdateEventDto, message.getHeaders(), e);
+            }
+
+            if (latestEvents.put(accountInfoUpdateEventDto.getVibrentID(), accountInfoUpdateEventDto) != null) {
+                log.debug("drc-service: Skipping superseded accountInfoUpdateEvent for participant {}", accountInfoUpdateEventDto.getVibrentID());
+            }
+        }
+        return latestEvents;
+    }
+
+    /**
+     * Processes the event held by the coalescer on a worker thread
+     */
+    void processLatestEvent(AccountInfoUpdateEventDto accountInfoUpdateEventDto) {
+        processOrRetry(accountInfoUpdateEventDto, () -> accountInfoUpdateEventProcessor.processAccountInfoUpdateEvent(accountInfoUpdateEventDto));
+    }
+
+    /**
+     * The poll is acknowledged even if the event fails, so a failed event is added to the sync retry queue instead
+     */
+    private void processOrRetry(AccountInfoUpdateEventDto accountInfoUpdateEventDto, Runnable processing) {
+        try {
+            processing.run();
+        } catch (Exception e) {
+            log.error("DRC: Error while processing accountInfoUpdateEvent of participant {}, adding it to the retry queue", accountInfoUpdateEventDto.getVibrentID(), e);
+            try {
+                syncRetryHelperService.addToRetryQueue(accountInfoUpdateEventDto, true, e.getMessage());
+            } catch (Exception retryException) {
+                log.error("DRC: Failed to add accountInfoUpdateEvent of participant {} to the retry queue", accountInfoUpdateEventDto.getVibrentID(), retryException);
+            }
+        }
+    }
+
+    /**
+     * The container keeps polling while paused, without fetching records, so the consumer stays in the group and the
+     * acknowledgments of the held polls are still committed
+     */
+    void pauseConsumer() {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+        if (container != null) {
+            container.pause();
+        }
+    }
+
+    void resumeConsumer() {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+        if (container != null) {
+            container.resume();
+        }
+    }
+
+    private static void acknowledge(Acknowledgment acknowledgment) {
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private static void waitForEvent(Future<Void> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            log.error("DRC: Error while processing accountInfoUpdateEvent", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Holds the account info update events of each participant until no newer event arrived for the quiet period, or the
+ * first held event waited for the maximum hold time, and then processes only the latest one. The acknowledgment of a
+ * poll is called, in poll order, once the work of all its participants is done, so that the offsets of held events are
+ * not committed before they are synced. While the maximum number of polls is waiting to be acknowledged the consumer is
+ * paused, so that a slow DRC slows down the consumer instead of piling up events, without blocking the consumer thread
+ * past the max poll interval.
+ */
+@Slf4j
+class AccountInfoUpdateEventCoalescer {
+
+    private final long quietPeriodNanos;
+    private final long maxHoldNanos;
+    private final int maxPendingPolls;
+    private final Executor workerPool;
+    private final Consumer<AccountInfoUpdateEventDto> processor;
+    private final Runnable pauseConsumer;
+    private final Runnable resumeConsumer;
+    private final ScheduledExecutorService scheduler;
+
+    // All guarded by this
+    private final Map<Long, PendingUpdate> pendingUpdates = new HashMap<>();
+    private final Set<Long> runningParticipants = new HashSet<>();
+    private final Deque<PendingPoll> pendingPolls = new ArrayDeque<>();
+    private boolean consumerPaused;
+
+    AccountInfoUpdateEventCoalescer(long quietPeriodMs, long maxHoldMs, int maxPendingPolls, Executor workerPool,
+                                    Consumer<AccountInfoUpdateEventDto> processor, Runnable pauseConsumer, Runnable resumeConsumer) {
+        this.quietPeriodNanos = TimeUnit.MILLISECONDS.toNanos(quietPeriodMs);
+        this.maxHoldNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxHoldMs, quietPeriodMs));
+        this.maxPendingPolls = maxPendingPolls;
+        this.workerPool = workerPool;
+        this.processor = processor;
+        this.pauseConsumer = pauseConsumer;
+        this.resumeConsumer = resumeConsumer;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "account-info-update-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Holds the latest events of a poll and pauses the consumer once the maximum number of polls is waiting to be
+     * acknowledged. Never blocks, the poll already fetched when the pause takes effect is still held.
+     */
+    synchronized void add(Map<Long, AccountInfoUpdateEventDto> latestEvents, Acknowledgment acknowledgment) {
+        PendingPoll poll = new PendingPoll(acknowledgment, latestEvents.size());
+        pendingPolls.add(poll);
+        long now = System.nanoTime();
+        latestEvents.forEach((vibrentId, accountInfoUpdateEventDto) -> hold(vibrentId, accountInfoUpdateEventDto, poll, now));
+        acknowledgeCompletedPolls();
+
+        if (!consumerPaused && pendingPolls.size() >= maxPendingPolls) {
+            consumerPaused = true;
+            log.warn("drc-service: Pausing accountInfoUpdateEvent consumer, {} polls are waiting for their held events", pendingPolls.size());
+            pauseConsumer.run();
+        }
+    }
+
+    synchronized int getPendingPollCount() {
+        return pendingPolls.size();
+    }
+
+    private void hold(Long vibrentId, AccountInfoUpdateEventDto accountInfoUpdateEventDto, PendingPoll poll, long now) {
+        PendingUpdate update = pendingUpdates.get(vibrentId);
+        if (update == null) {
+            update = new PendingUpdate(now);
+            pendingUpdates.put(vibrentId, update);
+        } else {
+            log.debug("drc-service: Coalescing held accountInfoUpdateEvent for participant {}", vibrentId);
+        }
+
+        update.event = accountInfoUpdateEventDto;
+        update.polls.add(poll);
+        if (update.due) {
+            // Already due and waiting for the running sync of the participant, which dispatches it when done
+            return;
+        }
+
+        if (update.timer != null) {
+            update.timer.cancel(false);
+        }
+        long version = ++update.version;
+        long delay = Math.max(0, Math.min(quietPeriodNanos, update.firstHeldAt + maxHoldNanos - now));
+        PendingUpdate heldUpdate = update;
+        update.timer = scheduler.schedule(() -> release(vibrentId, heldUpdate, version), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void release(Long vibrentId, PendingUpdate update, long version) {
+        if (pendingUpdates.get(vibrentId) != update || update.version != version) {
+            return;
+        }
+
+        if (runningParticipants.contains(vibrentId)) {
+            update.due = true;
+        } else {
+            dispatch(vibrentId, update);
+        }
+    }
+
+    private void dispatch(Long vibrentId, PendingUpdate update) {
+        pendingUpdates.remove(vibrentId);
+        runningParticipants.add(vibrentId);
+        try {
+            workerPool.execute(() -> process(vibrentId, update));
+        } catch (RejectedExecutionException e) {
+            // Shutting down, the polls of the participant stay unacknowledged and are consumed again
+            runningParticipants.remove(vibrentId);
+            log.warn("drc-service: Not processing accountInfoUpdateEvent for participant {} as the workers are stopped", vibrentId);
+        }
+    }
+
+    private void process(Long vibrentId, PendingUpdate update) {
+        try {
+            processor.accept(update.event);
+        } catch (Exception e) {
+            log.error("DRC: Error while processing accountInfoUpdateEvent of participant {}", vibrentId, e);
+        } finally {
+            complete(vibrentId, update);
+        }
+    }
+
+    private synchronized void complete(Long vibrentId, PendingUpdate update) {
+        runningParticipants.remove(vibrentId);
+        update.polls.forEach(poll -> poll.remaining--);
+        acknowledgeCompletedPolls();
+
+        PendingUpdate next = pendingUpdates.get(vibrentId);
+        if (next != null && next.due) {
+            dispatch(vibrentId, next);
+        }
+
+        if (consumerPaused && pendingPolls.size() < maxPendingPolls) {
+            consumerPaused = false;
+            log.info("drc-service: Resuming accountInfoUpdateEvent consumer");
+            resumeConsumer.run();
+        }
+    }
+
+    /**
+     * Acknowledges completed polls in poll order only, as the commit of a poll's offsets covers all earlier records
+     */
+    private void acknowledgeCompletedPolls() {
+        while (!pendingPolls.isEmpty() && pendingPolls.peek().remaining == 0) {
+            Acknowledgment acknowledgment = pendingPolls.poll().acknowledgment;
+            try {
+                if (acknowledgment != null) {
+                    acknowledgment.acknowledge();
+                }
+            } catch (Exception e) {
+                log.warn("drc-service: Failed to acknowledge accountInfoUpdateEvent poll", e);
+            }
+        }
+    }
+
+    private static final class PendingUpdate {
+        private final long firstHeldAt;
+        private final List<PendingPoll> polls = new ArrayList<>();
+        private AccountInfoUpdateEventDto event;
+        private ScheduledFuture<?> timer;
+        private long version;
+        private boolean due;
+
+        private PendingUpdate(long firstHeldAt) {
+            this.firstHeldAt = firstHeldAt;
+        }
+    }
+
+    private static final class PendingPoll {
+        private final Acknowledgment acknowledgment;
+        private int remaining;
+
+        private PendingPoll(Acknowledgment acknowledgment, int remaining) {
+            this.acknowledgment = acknowledgment;
+            this.remaining = remaining;
+        }
+    }
+}
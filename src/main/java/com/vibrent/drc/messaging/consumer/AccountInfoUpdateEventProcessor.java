@@ -0,0 +1,95 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.vibrent.drc.domain.DrcSyncedStatus;
+import com.vibrent.drc.dto.ExternalApiRequestLog;
+import com.vibrent.drc.service.AccountInfoUpdateEventHelperService;
+import com.vibrent.drc.service.AccountInfoUpdateEventService;
+import com.vibrent.drc.service.DRCParticipantService;
+import com.vibrent.drc.service.ExternalApiRequestLogsService;
+import com.vibrent.drc.util.ExternalApiRequestLogUtil;
+import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.drc.util.VxpPushMessageHeadersUtil;
+import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
+import com.vibrent.vxp.push.MessageHeaderDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+
+/**
+ * Reads, logs and processes a single account info update event. Shared by {@link AccountInfoUpdateEventListener} and
+ * {@link AccountInfoUpdateEventBatchListener}.
+ */
+@Slf4j
+@Component
+public class AccountInfoUpdateEventProcessor {
+
+    private final AccountInfoUpdateEventService accountInfoUpdateEventService;
+    private final ExternalApiRequestLogsService externalApiRequestLogsService;
+    private final String topicName;
+    private final DRCParticipantService participantService;
+    private final AccountInfoUpdateEventHelperService accountInfoUpdateEventHelperService;
+
+    @Inject
+    public AccountInfoUpdateEventProcessor(AccountInfoUpdateEventService accountInfoUpdateEventService,
+                                           ExternalApiRequestLogsService externalApiRequestLogsService,
+                                           @Value("${spring.kafka.topics.pushParticipant}") String topicName,
+                                           DRCParticipantService participantService,
+                                           AccountInfoUpdateEventHelperService accountInfoUpdateEventHelperService) {
+        this.accountInfoUpdateEventService = accountInfoUpdateEventService;
+        this.externalApiRequestLogsService = externalApiRequestLogsService;
+        this.topicName = topicName;
+        this.participantService = participantService;
+        this.accountInfoUpdateEventHelperService = accountInfoUpdateEventHelperService;
+    }
+
+    /**
+     * Converts the payload, returns null if it cannot be converted or the participant info is missing
+     */
+    AccountInfoUpdateEventDto readAccountInfoUpdateEvent(byte[] payloadByteArray, MessageHeaders messageHeaders) {
+        AccountInfoUpdateEventDto accountInfoUpdateEventDto = convertToAccountInfoUpdateEventDto(payloadByteArray, messageHeaders);
+
+        if (accountInfoUpdateEventDto != null && accountInfoUpdateEventDto.getParticipant() == null) {
+            log.warn("drc-service: Discarding accountInfoUpdateEvent as participant info is null ");
+            return null;
+        }
+        return accountInfoUpdateEventDto;
+    }
+
+    void logReceivedEvent(AccountInfoUpdateEventDto accountInfoUpdateEventDto, MessageHeaders messageHeaders) {
+        MessageHeaderDto messageHeaderDto = VxpPushMessageHeadersUtil.buildVxpPushMessageHeaderDto(messageHeaders);
+        ExternalApiRequestLog externalApiRequestLog = ExternalApiRequestLogUtil.createExternalApiRequestLogForAccountInfoReceived(
+                messageHeaderDto, accountInfoUpdateEventDto, topicName, "DRC Service received Account Info Update event from VRP", 200);
+        this.externalApiRequestLogsService.send(externalApiRequestLog);
+    }
+
+    void processAccountInfoUpdateEvent(AccountInfoUpdateEventDto accountInfoUpdateEventDto) {
+        processAccountInfoUpdateEvent(accountInfoUpdateEventDto,
+                accountInfoUpdateEventHelperService.findAccountUpdateSyncedStatus(accountInfoUpdateEventDto.getVibrentID()));
+    }
+
+    /**
+     * Both steps compare against the last synced status of the participant, which is loaded once by the caller and
+     * handed on as it is saved
+     */
+    void processAccountInfoUpdateEvent(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus) {
+        //Process accountInfoUpdateEvent
+        DrcSyncedStatus syncedStatus = this.accountInfoUpdateEventService.processAccountInfoUpdates(accountInfoUpdateEventDto, drcSyncedStatus);
+
+        //Patch participant
+        this.participantService.patchTestParticipant(accountInfoUpdateEventDto, syncedStatus);
+    }
+
+    AccountInfoUpdateEventDto convertToAccountInfoUpdateEventDto(byte[] payloadByteArray, MessageHeaders messageHeaders) {
+        AccountInfoUpdateEventDto accountInfoUpdateEventDto = null;
+        try {
+            accountInfoUpdateEventDto = JacksonUtil.getMapper().readValue(payloadByteArray, AccountInfoUpdateEventDto.class);
+        } catch (Exception e) {
+            log.warn("drc-service: Cannot convert Payload to accountInfoUpdateEventDto  headers {} payload: {}",  messageHeaders.toString(), Arrays.toString(payloadByteArray), e);
+        }
+        return accountInfoUpdateEventDto;
+    }
+}
@@ -12,10 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.MessageHeaders;
-import org.springframework.messaging.handler.annotation.Headers;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import javax.inject.Inject;
@@ -25,7 +22,7 @@ import java.util.List;
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "vibrent.drc.supplyStatus.enabled", havingValue = "true")
-public class CreateTrackOrderResponseListener {
+public class CreateTrackOrderResponseListener implements VxpResponseHandler {
 
     private final DRCSalivaryOrderService drcSalivaryOrderService;
     private final FHIRSalivaryConverterUtility fhirSalivaryConverterUtility;
@@ -46,9 +43,13 @@ public class CreateTrackOrderResponseListener {
         this.orderTrackingDetailsService = orderTrackingDetailsService;
     }
 
-    @KafkaListener(topics = "${spring.kafka.topics.vxpResponse}", id = "drcCreateTrackOrderResponseListener", containerFactory = "kafkaListenerContainerFactoryTrackOrderResponseListener")
-    public void listen(@Payload byte[] payloadByteArray,
-                       @Headers MessageHeaders messageHeaders) {
+    @Override
+    public MessageSpecificationEnum getMessageSpecification() {
+        return MessageSpecificationEnum.CREATE_TRACK_ORDER_RESPONSE;
+    }
+
+    @Override
+    public void listen(byte[] payloadByteArray, MessageHeaders messageHeaders) {
         MessageHeaderDto messageHeaderDto = MessageHeadersUtil.buildMessageHeaderDto(messageHeaders);
         CreateTrackOrderResponseDto createTrackOrderResponseDto = convertPayloadToCreateTrackOrderDto(payloadByteArray, messageHeaderDto);
         try {
@@ -13,10 +13,7 @@ import com.vibrent.vxp.workflow.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.MessageHeaders;
-import org.springframework.messaging.handler.annotation.Headers;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -24,7 +21,7 @@ import java.io.IOException;
 @ConditionalOnProperty(name = "vibrent.drc.supplyStatus.enabled", havingValue = "true")
 @Component
 @Slf4j
-public class TrackDeliveryResponseListener {
+public class TrackDeliveryResponseListener implements VxpResponseHandler {
 
     private final DRCSalivaryOrderService drcSalivaryOrderService;
     private final FHIRSalivaryConverterUtility fhirSalivaryConverterUtility;
@@ -42,9 +39,13 @@ public class TrackDeliveryResponseListener {
         this.orderTrackingDetailsService = orderTrackingDetailsService;
     }
 
-    @KafkaListener(topics = "${spring.kafka.topics.vxpResponse}", id = "drcTrackDeliveryResponseGroupId", containerFactory = "kafkaListenerContainerFactoryTrackDeliveryResponseEvent")
-    public void listen(@Payload byte[] payloadByteArray,
-                       @Headers MessageHeaders messageHeaders) {
+    @Override
+    public MessageSpecificationEnum getMessageSpecification() {
+        return MessageSpecificationEnum.TRACK_DELIVERY_RESPONSE;
+    }
+
+    @Override
+    public void listen(byte[] payloadByteArray, MessageHeaders messageHeaders) {
         MessageHeaderDto messageHeaderDto = MessageHeadersUtil.buildMessageHeaderDto(messageHeaders);
         TrackDeliveryResponseDto trackDeliveryResponseDto = convertPayloadToTrackDeliveryResponseDto(payloadByteArray, messageHeaderDto);
         try {
@@ -0,0 +1,14 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.vibrent.vxp.workflow.MessageSpecificationEnum;
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * Handles the messages of one message specification received on the VXP response topic, see {@link VxpResponseListener}
+ */
+public interface VxpResponseHandler {
+
+    MessageSpecificationEnum getMessageSpecification();
+
+    void listen(byte[] payloadByteArray, MessageHeaders messageHeaders);
+}
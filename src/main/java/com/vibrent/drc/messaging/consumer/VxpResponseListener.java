@@ -0,0 +1,105 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.vibrent.drc.constants.KafkaConstants;
+import com.vibrent.vxp.workflow.MessageSpecificationEnum;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.converter.MessagingMessageConverter;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Single consumer of the VXP response topic. Records are routed to the {@link VxpResponseHandler} of their message
+ * specification by comparing the raw bytes of the message spec header, records without a handler are skipped before
+ * their headers are mapped or their payload is read.
+ */
+@Component
+@ConditionalOnProperty(name = "vibrent.drc.supplyStatus.enabled", havingValue = "true")
+public class VxpResponseListener {
+
+    private final VxpResponseHandler[] handlers;
+    private final byte[][] handlerMessageSpecs;
+    private final MessagingMessageConverter messageConverter = new MessagingMessageConverter();
+
+    @Inject
+    public VxpResponseListener(List<VxpResponseHandler> vxpResponseHandlers) {
+        this.handlers = vxpResponseHandlers.toArray(new VxpResponseHandler[0]);
+        this.handlerMessageSpecs = new byte[handlers.length][];
+        for (int i = 0; i < handlers.length; i++) {
+            MessageSpecificationEnum messageSpecification = handlers[i].getMessageSpecification();
+            handlerMessageSpecs[i] = messageSpecification.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    // The listener id would otherwise be used as group id, the group of the former track delivery listener keeps its offsets
+    @KafkaListener(topics = "${spring.kafka.topics.vxpResponse}", id = "drcVxpResponseListener", groupId = KafkaConstants.VXP_TRACK_DELIVERY_RESPONSE_GROUP_ID,
+            containerFactory = "kafkaListenerContainerFactoryVxpResponseListener")
+    public void listen(ConsumerRecord<String, byte[]> consumerRecord) {
+        VxpResponseHandler handler = findHandler(consumerRecord.headers());
+        if (handler == null) {
+            return;
+        }
+
+        Message<?> message = messageConverter.toMessage(consumerRecord, null, null, byte[].class);
+        handler.listen((byte[]) message.getPayload(), message.getHeaders());
+    }
+
+    VxpResponseHandler findHandler(Headers headers) {
+        byte[] messageSpec = findHeaderValue(headers, KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC);
+        if (messageSpec == null) {
+            return null;
+        }
+
+        // Same trimming as KafkaConsumerConfig.extractHeader, done on indexes so that no String is created
+        int start = 0;
+        int end = messageSpec.length;
+        while (start < end && isQuoteOrWhitespace(messageSpec[start])) {
+            start++;
+        }
+        while (end > start && isQuoteOrWhitespace(messageSpec[end - 1])) {
+            end--;
+        }
+
+        for (int i = 0; i < handlers.length; i++) {
+            if (regionEquals(messageSpec, start, end, handlerMessageSpecs[i])) {
+                return handlers[i];
+            }
+        }
+        return null;
+    }
+
+    private static byte[] findHeaderValue(Headers headers, String headerKey) {
+        if (headers == null) {
+            return null;
+        }
+        for (Header header : headers) {
+            if (headerKey.equalsIgnoreCase(header.key()) && header.value() != null && header.value().length > 0) {
+                return header.value();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isQuoteOrWhitespace(byte value) {
+        return value == '"' || (value >= 0 && value <= ' ');
+    }
+
+    private static boolean regionEquals(byte[] value, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (value[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
+import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.util.UUID;
@@ -31,6 +32,10 @@ public class DrcExternalEventProducer implements MessageProducer<DRCExternalEven
         this.kafkaEnabled = newState;
     }
 
+    public boolean isKafkaEnabled() {
+        return kafkaEnabled;
+    }
+
     @Override
     public void send(DRCExternalEventDto msg) {
         if (!kafkaEnabled) {
@@ -40,9 +45,7 @@ public class DrcExternalEventProducer implements MessageProducer<DRCExternalEven
             log.warn("DRC-Service: Cannot publish external event as event dto is null");
             return;
         }
-        MessageHeaderDto messageHeaderDto = buildMessageHeaderDto(msg.getVibrentID());
-        Message<DRCExternalEventDto> message = KafkaMessageBuilder.buildMessage(msg, messageHeaderDto, topicName);
-        drcExternalEventDtoKafkaTemplate.send(message)
+        publish(msg)
                 .addCallback(new ListenableFutureCallback<SendResult<String, DRCExternalEventDto>>() {
                     @Override
                     public void onFailure(Throwable throwable) {
@@ -57,6 +60,15 @@ public class DrcExternalEventProducer implements MessageProducer<DRCExternalEven
 
     }
 
+    /**
+     * Send the event without logging its outcome, callers that need the broker ack wait on the returned future
+     */
+    public ListenableFuture<SendResult<String, DRCExternalEventDto>> publish(DRCExternalEventDto msg) {
+        MessageHeaderDto messageHeaderDto = buildMessageHeaderDto(msg.getVibrentID());
+        Message<DRCExternalEventDto> message = KafkaMessageBuilder.buildMessage(msg, messageHeaderDto, topicName);
+        return drcExternalEventDtoKafkaTemplate.send(message);
+    }
+
     public static MessageHeaderDto buildMessageHeaderDto(Long userId) {
         MessageHeaderDto messageHeaderDto = new MessageHeaderDto();
         messageHeaderDto.setVxpHeaderVersion(KafkaConstants.VXP_HEADER_VERSION);
@@ -0,0 +1,175 @@
+package com.vibrent.drc.messaging.producer;
+
+import com.vibrent.drc.dto.ExternalApiRequestLog;
+import com.vibrent.drc.enumeration.ExternalLogOverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ships external API request logs off the caller's thread. Logs are buffered in a bounded queue and drained in
+ * batches by a small worker pool into {@link ExternalApiRequestLogsProducer}. When the queue is full the configured
+ * {@link ExternalLogOverflowPolicy} decides whether the new log, the oldest log, or the caller pays for it.
+ */
+@Slf4j
+@Component
+public class ExternalApiRequestLogsDispatcher {
+
+    private static final long POLL_TIMEOUT_MS = 500L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final ExternalApiRequestLogsProducer externalApiRequestLogsProducer;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final ExternalLogOverflowPolicy overflowPolicy;
+    private final BlockingQueue<ExternalApiRequestLog> queue;
+    private final Counter droppedCounter;
+    private final Timer batchTimer;
+
+    private ExecutorService executorService;
+    private volatile boolean running;
+
+    public ExternalApiRequestLogsDispatcher(ExternalApiRequestLogsProducer externalApiRequestLogsProducer,
+                                            @Value("${externalLog.dispatcher.enabled:true}") boolean enabled,
+                                            @Value("${externalLog.dispatcher.queueCapacity:10000}") int queueCapacity,
+                                            @Value("${externalLog.dispatcher.workers:2}") int workers,
+                                            @Value("${externalLog.dispatcher.batchSize:100}") int batchSize,
+                                            @Value("${externalLog.dispatcher.overflowPolicy:DROP_NEWEST}") ExternalLogOverflowPolicy overflowPolicy,
+                                            MeterRegistry meterRegistry) {
+        this.externalApiRequestLogsProducer = externalApiRequestLogsProducer;
+        this.enabled = enabled;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        Gauge.builder("external_log_queue_depth", queue, BlockingQueue::size)
+                .description("Number of external API request logs waiting to be published")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("external_log_dropped")
+                .tag("policy", overflowPolicy.name())
+                .description("Number of external API request logs dropped because the queue was full")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("external_log_batch_latency")
+                .description("Time taken to hand a batch of external API request logs to Kafka")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "external-log-dispatcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executorService.submit(this::drain);
+        }
+        log.info("DRC-Service: External log dispatcher started with {} workers, batch size {} and overflow policy {}", workers, batchSize, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executorService == null) {
+            return;
+        }
+        running = false;
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("DRC-Service: External log dispatcher did not drain in time, {} logs discarded", queue.size());
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queue the log for publishing. Never blocks the caller unless the overflow policy is CALLER_RUNS.
+     *
+     * @param externalApiRequestLog log to publish
+     */
+    public void dispatch(ExternalApiRequestLog externalApiRequestLog) {
+        if (!enabled) {
+            externalApiRequestLogsProducer.send(externalApiRequestLog);
+            return;
+        }
+        if (queue.offer(externalApiRequestLog)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                externalApiRequestLogsProducer.send(externalApiRequestLog);
+                break;
+            case DROP_OLDEST:
+                if (queue.poll() != null) {
+                    droppedCounter.increment();
+                }
+                if (!queue.offer(externalApiRequestLog)) {
+                    droppedCounter.increment();
+                }
+                break;
+            case DROP_NEWEST:
+            default:
+                droppedCounter.increment();
+                log.debug("DRC-Service: External log queue is full, dropping log for externalId {}", externalApiRequestLog.getExternalId());
+                break;
+        }
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void drain() {
+        List<ExternalApiRequestLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ExternalApiRequestLog first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batchTimer.record(() -> sendBatch(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<ExternalApiRequestLog> batch) {
+        try {
+            externalApiRequestLogsProducer.sendAll(batch);
+        } catch (Exception e) {
+            log.warn("DRC-Service| Failed to send batch of {} external api request logs", batch.size(), e);
+        }
+    }
+}
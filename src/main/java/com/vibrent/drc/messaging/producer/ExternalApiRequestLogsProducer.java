@@ -1,10 +1,7 @@
 package com.vibrent.drc.messaging.producer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.vibrent.acadia.web.rest.dto.ExternalLogCacheDto;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
-import com.vibrent.drc.util.JacksonUtil;
-import com.vibrent.drc.util.RedisUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -12,18 +9,19 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
-import java.nio.charset.StandardCharsets;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 
 @Service
 @Slf4j
 public class ExternalApiRequestLogsProducer implements MessageProducer<ExternalApiRequestLog> {
-    public static final String EXTERNAL_LOG_CACHE_NAME = "externalLogCache";
+    public static final String EXTERNAL_LOG_KEY_HEADER = "Ext-Log-Key-Header";
+    public static final String EXTERNAL_LOG_ENCODING_HEADER = "Ext-Log-Body-Encoding";
     private boolean kafkaEnabled;
 
     private final KafkaTemplate<String, ExternalApiRequestLog> kafkaTemplate;
@@ -31,17 +29,17 @@ public class ExternalApiRequestLogsProducer implements MessageProducer<ExternalA
     private final String topicName;
 
     private  final Integer externalLogBodyMaxSize;
-    private final RedisUtil redisUtil;
+    private final ExternalLogBodyStore externalLogBodyStore;
     public ExternalApiRequestLogsProducer(@Value("${spring.kafka.enabled}") boolean kafkaEnabled,
                                           @Value("${externalLog.maxBodySize}") Integer externalLogBodyMaxSize,
                                           KafkaTemplate<String, ExternalApiRequestLog> kafkaTemplate,
                                           @Value("${spring.kafka.topics.externalApiRequestLogs}") String topicName,
-                                          RedisUtil redisUtil) {
+                                          ExternalLogBodyStore externalLogBodyStore) {
         this.kafkaEnabled = kafkaEnabled;
         this.kafkaTemplate = kafkaTemplate;
         this.topicName = topicName;
         this.externalLogBodyMaxSize = externalLogBodyMaxSize;
-        this.redisUtil = redisUtil;
+        this.externalLogBodyStore = externalLogBodyStore;
     }
 
     @Override
@@ -50,20 +48,52 @@ public class ExternalApiRequestLogsProducer implements MessageProducer<ExternalA
     }
 
     @Override
-    @Async
     public void send(ExternalApiRequestLog msg) {
-        if (!kafkaEnabled) {
+        sendAll(Collections.singletonList(msg));
+    }
+
+    /**
+     * Send the logs, the oversized bodies of all logs are saved into redis in a single pipeline before sending
+     *
+     * @param msgs logs to send
+     */
+    public void sendAll(List<ExternalApiRequestLog> msgs) {
+        if (!kafkaEnabled || msgs.isEmpty()) {
             return;
         }
-        String key = checkResponseBodySizeReturnKey(msg);
 
-        //Send empty payload and the cache key in header when payload is oversize
-        Message<ExternalApiRequestLog> message = MessageBuilder
+        List<ExternalApiRequestLog> offloadedMsgs = new ArrayList<>();
+        List<ExternalLogCacheDto> offloadedBodies = new ArrayList<>();
+        for (ExternalApiRequestLog msg : msgs) {
+            ExternalLogCacheDto bodyObj = removeOversizedBodies(msg);
+            if (bodyObj != null) {
+                offloadedMsgs.add(msg);
+                offloadedBodies.add(bodyObj);
+            }
+        }
+        List<String> keys = externalLogBodyStore.storeAll(offloadedBodies);
+
+        int offloadedIndex = 0;
+        for (ExternalApiRequestLog msg : msgs) {
+            String key = null;
+            if (offloadedIndex < offloadedMsgs.size() && offloadedMsgs.get(offloadedIndex) == msg) {
+                key = keys.get(offloadedIndex++);
+            }
+            send(msg, key);
+        }
+    }
+
+    //Send empty payload and the cache key in header when payload is oversize
+    private void send(ExternalApiRequestLog msg, String key) {
+        MessageBuilder<ExternalApiRequestLog> messageBuilder = MessageBuilder
                 .withPayload(msg)
                 .setHeader(KafkaHeaders.TOPIC, topicName)
-                .setHeader("Ext-Log-Key-Header", key)
-                .setHeader(KafkaHeaders.MESSAGE_KEY, String.valueOf(msg.getInternalId()))
-                .build();
+                .setHeader(EXTERNAL_LOG_KEY_HEADER, key)
+                .setHeader(KafkaHeaders.MESSAGE_KEY, String.valueOf(msg.getInternalId()));
+        if (key != null && externalLogBodyStore.getEncoding() != null) {
+            messageBuilder.setHeader(EXTERNAL_LOG_ENCODING_HEADER, externalLogBodyStore.getEncoding());
+        }
+        Message<ExternalApiRequestLog> message = messageBuilder.build();
 
         kafkaTemplate.send(message)
                 .addCallback(new ListenableFutureCallback<SendResult<String, ExternalApiRequestLog>>() {
@@ -81,66 +111,66 @@ public class ExternalApiRequestLogsProducer implements MessageProducer<ExternalA
     }
 
     /**
-     * Check the response/request body size, if one of them is bigger than configured max size then save the payload into redis cache and return a key. Otherwise return null.
+     * Check the response/request body size, if one of them is bigger than configured max size then move the oversized
+     * bodies from the log to the returned cache object. Otherwise return null.
      *
      * @param msg ExternalApiRequestLog
-     * @return key
+     * @return oversized bodies
      */
-    private String checkResponseBodySizeReturnKey(ExternalApiRequestLog msg) {
-        String responseBody = msg.getResponseBody();
-        String requestBody = msg.getRequestBody();
-        int responseLength = 0;
-        int requestLength = 0;
-        ExternalLogCacheDto bodyObj = new ExternalLogCacheDto();
-        if (responseBody != null) {
-            responseLength = responseBody.getBytes(StandardCharsets.UTF_8).length;
-        }
-        if (requestBody != null) {
-            requestLength = requestBody.getBytes(StandardCharsets.UTF_8).length;
+    private ExternalLogCacheDto removeOversizedBodies(ExternalApiRequestLog msg) {
+        boolean responseOversized = exceedsUtf8Length(msg.getResponseBody(), externalLogBodyMaxSize);
+        boolean requestOversized = exceedsUtf8Length(msg.getRequestBody(), externalLogBodyMaxSize);
+        if (!responseOversized && !requestOversized) {
+            return null;
         }
 
-        if (responseLength > externalLogBodyMaxSize && requestLength > externalLogBodyMaxSize) {
-            log.debug("Both requestBody and responseBody exceeding max response/request responseBody size {}", externalLogBodyMaxSize);
-            bodyObj.setResponseBody(msg.getResponseBody());
-            bodyObj.setRequestBody(msg.getRequestBody());
-            msg.setRequestBody(null);
-            msg.setResponseBody(null);
-            return saveToCache(bodyObj);
-        }
-        if (responseLength > externalLogBodyMaxSize) {
+        ExternalLogCacheDto bodyObj = new ExternalLogCacheDto();
+        if (responseOversized) {
             log.debug("responseBody is exceeding max response/request responseBody size {}", externalLogBodyMaxSize);
             bodyObj.setResponseBody(msg.getResponseBody());
             msg.setResponseBody(null);
-            return saveToCache(bodyObj);
         }
-        if (requestLength > externalLogBodyMaxSize) {
+        if (requestOversized) {
             log.debug("requestBody is exceeding max response/request responseBody size {}", externalLogBodyMaxSize);
             bodyObj.setRequestBody(msg.getRequestBody());
             msg.setRequestBody(null);
-            return saveToCache(bodyObj);
         }
-        return null;
+        return bodyObj;
     }
 
     /**
-     * Save the body in redis cache
-     *
-     * @param bodyObj ExternalLogCache
-     * @return key
+     * Whether the UTF-8 encoding of the value is longer than maxLength, computed from the chars without encoding the value
      */
-    private String saveToCache(ExternalLogCacheDto bodyObj) {
-        String msgString;
-        try {
-            msgString = JacksonUtil.getMapper().writeValueAsString(bodyObj);
-        } catch (JsonProcessingException e) {
-            log.warn("Unable to parse ExternalApiRequestLog into String");
-            return null;
+    static boolean exceedsUtf8Length(String value, int maxLength) {
+        if (value == null) {
+            return false;
+        }
+        // Every char takes 1 to 3 bytes, surrogate pairs take 4 bytes for 2 chars
+        int length = value.length();
+        if (length > maxLength) {
+            return true;
+        }
+        if ((long) length * 3 <= maxLength) {
+            return false;
         }
-        String keyStr = UUID.randomUUID().toString();
-
-        redisUtil.getMapCache(EXTERNAL_LOG_CACHE_NAME).put(keyStr, msgString);
 
-        log.debug("Saving body object into redis cache {} with key {}", msgString, keyStr);
-        return keyStr;
+        long utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length++;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else {
+                utf8Length += 3;
+            }
+            if (utf8Length > maxLength) {
+                return true;
+            }
+        }
+        return false;
     }
 }
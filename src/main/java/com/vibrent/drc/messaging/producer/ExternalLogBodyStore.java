@@ -0,0 +1,146 @@
+package com.vibrent.drc.messaging.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.vibrent.acadia.web.rest.dto.ExternalLogCacheDto;
+import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.drc.util.PayloadCompressionUtil;
+import com.vibrent.drc.util.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.api.map.event.EntryExpiredListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis store of the external API request log bodies that are too large to be sent to Kafka. Bodies are gzip compressed
+ * when enabled, which the readers of the externalLogCache have to support first, written with a TTL so that unread
+ * bodies do not pile up, and all bodies of a batch are written in a single Redis pipeline.
+ */
+@Slf4j
+@Component
+public class ExternalLogBodyStore {
+
+    public static final String EXTERNAL_LOG_CACHE_NAME = "externalLogCache";
+    public static final String GZIP_ENCODING = "gzip";
+    static final String EXPIRED_MARKER_CACHE_NAME = "externalLogCacheExpirations";
+    private static final long EXPIRED_MARKER_TTL_MINUTES = 10;
+
+    private final RedisUtil redisUtil;
+    private final long ttlMinutes;
+    private final boolean compressionEnabled;
+    private final DistributionSummary originalBytesSummary;
+    private final DistributionSummary storedBytesSummary;
+    private final Counter evictionCounter;
+    private final Counter failureCounter;
+
+    public ExternalLogBodyStore(RedisUtil redisUtil,
+                                @Value("${externalLog.bodyStore.ttlMinutes:1440}") long ttlMinutes,
+                                @Value("${externalLog.bodyStore.compressionEnabled:false}") boolean compressionEnabled,
+                                MeterRegistry meterRegistry) {
+        this.redisUtil = redisUtil;
+        this.ttlMinutes = Math.max(1, ttlMinutes);
+        this.compressionEnabled = compressionEnabled;
+
+        this.originalBytesSummary = DistributionSummary.builder("external_log_body_store_bytes")
+                .tag("type", "original")
+                .baseUnit("bytes")
+                .description("Size of the external API request log bodies offloaded to Redis before compression")
+                .register(meterRegistry);
+        this.storedBytesSummary = DistributionSummary.builder("external_log_body_store_bytes")
+                .tag("type", "stored")
+                .baseUnit("bytes")
+                .description("Size of the external API request log bodies offloaded to Redis as stored")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("external_log_body_store_evictions")
+                .description("Number of offloaded external API request log bodies expired from Redis before they were read")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("external_log_body_store_failures")
+                .description("Number of external API request log bodies that could not be written to Redis")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void registerEvictionListener() {
+        try {
+            RMapCache<String, Boolean> expiredMarkers = redisUtil.getMapCache(EXPIRED_MARKER_CACHE_NAME);
+            redisUtil.getMapCache(EXTERNAL_LOG_CACHE_NAME).addListener((EntryExpiredListener<String, Object>) event -> countEviction(expiredMarkers, event.getKey()));
+        } catch (Exception e) {
+            log.warn("DRC-Service: Unable to listen for expired external log bodies, evictions are not reported", e);
+        }
+    }
+
+    /**
+     * Every instance receives the expired event of a key, only the instance that marks the key first counts it
+     */
+    void countEviction(RMapCache<String, Boolean> expiredMarkers, String key) {
+        expiredMarkers.fastPutIfAbsentAsync(key, Boolean.TRUE, EXPIRED_MARKER_TTL_MINUTES, TimeUnit.MINUTES, 0, TimeUnit.MINUTES).onComplete((marked, e) -> {
+            if (Boolean.TRUE.equals(marked)) {
+                evictionCounter.increment();
+            }
+        });
+    }
+
+    /**
+     * @return encoding of the stored bodies that consumers have to reverse, null if they are stored as plain JSON
+     */
+    public String getEncoding() {
+        return compressionEnabled ? GZIP_ENCODING : null;
+    }
+
+    /**
+     * Store the bodies in one pipeline
+     *
+     * @param bodies bodies to store
+     * @return keys of the stored bodies in the order of the bodies, null for a body that could not be stored
+     */
+    public List<String> storeAll(List<ExternalLogCacheDto> bodies) {
+        if (bodies.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> keys = new ArrayList<>(bodies.size());
+        try {
+            RBatch batch = redisUtil.createBatch();
+            RMapCacheAsync<String, Object> mapCache = batch.getMapCache(EXTERNAL_LOG_CACHE_NAME);
+            for (ExternalLogCacheDto body : bodies) {
+                String key = UUID.randomUUID().toString();
+                mapCache.fastPutAsync(key, encode(body), ttlMinutes, TimeUnit.MINUTES);
+                keys.add(key);
+            }
+            batch.execute();
+            log.debug("Saved {} external log bodies into redis cache", keys.size());
+            return keys;
+        } catch (Exception e) {
+            failureCounter.increment(bodies.size());
+            log.warn("DRC-Service: Unable to save {} external log bodies into redis cache", bodies.size(), e);
+            return Collections.nCopies(bodies.size(), null);
+        }
+    }
+
+    private Object encode(ExternalLogCacheDto body) throws JsonProcessingException {
+        byte[] json = JacksonUtil.getMapper().writeValueAsBytes(body);
+        originalBytesSummary.record(json.length);
+        if (!compressionEnabled) {
+            String value = new String(json, StandardCharsets.UTF_8);
+            storedBytesSummary.record(json.length);
+            return value;
+        }
+
+        byte[] compressed = PayloadCompressionUtil.gzip(json);
+        storedBytesSummary.record(compressed.length);
+        return compressed;
+    }
+}
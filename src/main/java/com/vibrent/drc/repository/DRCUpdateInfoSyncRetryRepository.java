@@ -2,15 +2,48 @@ package com.vibrent.drc.repository;
 
 import com.vibrent.drc.domain.DRCUpdateInfoSyncRetry;
 import com.vibrent.drc.enumeration.DataTypeEnum;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 @Repository
 public interface DRCUpdateInfoSyncRetryRepository extends JpaRepository<DRCUpdateInfoSyncRetry, Long> {
 
-    Stream<DRCUpdateInfoSyncRetry> findByRetryCountLessThanOrderByUpdatedOnAsc(Long retryCount);
+    List<DRCUpdateInfoSyncRetry> findByNextAttemptAtLessThanEqualAndRetryCountLessThanOrderByNextAttemptAtAsc(Long nextAttemptAt, Long retryCount, Pageable pageable);
+
     DRCUpdateInfoSyncRetry findByVibrentIdAndType(long vibrentId, DataTypeEnum type);
+
+    /**
+     * Insert a retry entry, or update the entry of the same participant and type, with a single statement on the unique
+     * (vibrent_id, type) key. An existing entry gets the new payload and reason, its retry count is raised by the
+     * increment and its next attempt is pushed out by the backoff delay of the new count, times the jitter factor.
+     * MySQL applies the assignments in order, so next_attempt_at sees the updated retry_count.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO update_info_sync_retry_entry " +
+            "(vibrent_id, type, payload, retry_count, error_details, next_attempt_at, created_on, updated_on) " +
+            "VALUES (:vibrentId, :type, :payload, :retryIncrement, :errorDetails, :nextAttemptAt, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE payload = VALUES(payload), error_details = VALUES(error_details), " +
+            "retry_count = retry_count + IF(retry_count < 9223372036854775807, VALUES(retry_count), 0), " +
+            "next_attempt_at = VALUES(updated_on) + FLOOR(LEAST(:maxDelayMillis, :baseDelayMillis * POW(2, LEAST(retry_count, 30))) * :jitterFactor), " +
+            "updated_on = VALUES(updated_on)", nativeQuery = true)
+    int upsert(@Param("vibrentId") long vibrentId,
+               @Param("type") String type,
+               @Param("payload") String payload,
+               @Param("retryIncrement") long retryIncrement,
+               @Param("errorDetails") String errorDetails,
+               @Param("nextAttemptAt") long nextAttemptAt,
+               @Param("now") long now,
+               @Param("baseDelayMillis") long baseDelayMillis,
+               @Param("maxDelayMillis") long maxDelayMillis,
+               @Param("jitterFactor") double jitterFactor);
+
     void deleteByVibrentIdAndType(long vibrentId, DataTypeEnum updateEntryType);
 }
\ No newline at end of file
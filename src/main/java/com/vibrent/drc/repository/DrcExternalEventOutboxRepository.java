@@ -0,0 +1,40 @@
+package com.vibrent.drc.repository;
+
+import com.vibrent.drc.domain.DrcExternalEventOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DrcExternalEventOutboxRepository extends JpaRepository<DrcExternalEventOutbox, Long> {
+
+    /**
+     * Rows that are due and have not reached the max retry count, rows that failed are ordered after the new rows
+     */
+    List<DrcExternalEventOutbox> findByNextAttemptAtLessThanEqualAndRetryCountLessThanOrderByNextAttemptAtAscIdAsc(Long nextAttemptAt, Integer retryCount, Pageable pageable);
+
+    /**
+     * Set the retry count and next attempt time of the given rows with a single statement
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DrcExternalEventOutbox o SET o.retryCount = :retryCount, o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    int updateRetryCountAndNextAttemptAt(@Param("ids") Collection<Long> ids,
+                                         @Param("retryCount") Integer retryCount,
+                                         @Param("nextAttemptAt") Long nextAttemptAt);
+
+    /**
+     * Delete the given rows with a single statement, without loading them first
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DrcExternalEventOutbox o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
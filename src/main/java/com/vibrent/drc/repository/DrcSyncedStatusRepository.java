@@ -4,6 +4,11 @@ import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.drc.enumeration.DataTypeEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface DrcSyncedStatusRepository extends JpaRepository<DrcSyncedStatus, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface DrcSyncedStatusRepository extends JpaRepository<DrcSyncedStatus, Long>, DrcSyncedStatusRepositoryCustom {
     DrcSyncedStatus findByVibrentIdAndType(Long vibrentId, DataTypeEnum type);
+
+    List<DrcSyncedStatus> findByVibrentIdInAndType(Collection<Long> vibrentIds, DataTypeEnum type);
 }
@@ -0,0 +1,19 @@
+package com.vibrent.drc.repository;
+
+import com.vibrent.drc.domain.DrcSyncedStatus;
+
+import java.util.Collection;
+
+public interface DrcSyncedStatusRepositoryCustom {
+
+    /**
+     * Insert the synced status, or update the data and section hashes of the existing row of the same participant and
+     * type, with a single statement. The id of the given status is ignored.
+     */
+    void upsert(DrcSyncedStatus drcSyncedStatus);
+
+    /**
+     * Upsert all the given synced statuses with one JDBC batch
+     */
+    void upsertAll(Collection<DrcSyncedStatus> drcSyncedStatuses);
+}
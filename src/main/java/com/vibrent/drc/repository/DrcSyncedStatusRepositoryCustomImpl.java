@@ -0,0 +1,59 @@
+package com.vibrent.drc.repository;
+
+import com.vibrent.drc.domain.DrcSyncedStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Native upserts on the unique (vibrent_id, type) key of drc_synced_status, so concurrent consumers of a participant
+ * never insert a second row and a write needs no read of the existing one.
+ */
+public class DrcSyncedStatusRepositoryCustomImpl implements DrcSyncedStatusRepositoryCustom {
+
+    static final String UPSERT_SQL = "INSERT INTO drc_synced_status " +
+            "(vibrent_id, type, data, account_hash, secondary_contacts_hash, ssn_hash, test_user_hash, created_on, updated_on) " +
+            "VALUES (:vibrentId, :type, :data, :accountHash, :secondaryContactsHash, :ssnHash, :testUserHash, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE data = VALUES(data), account_hash = VALUES(account_hash), " +
+            "secondary_contacts_hash = VALUES(secondary_contacts_hash), ssn_hash = VALUES(ssn_hash), " +
+            "test_user_hash = VALUES(test_user_hash), updated_on = VALUES(updated_on)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public DrcSyncedStatusRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsert(DrcSyncedStatus drcSyncedStatus) {
+        jdbcTemplate.update(UPSERT_SQL, toParameters(drcSyncedStatus, Instant.now().toEpochMilli()));
+    }
+
+    @Override
+    public void upsertAll(Collection<DrcSyncedStatus> drcSyncedStatuses) {
+        if (CollectionUtils.isEmpty(drcSyncedStatuses)) {
+            return;
+        }
+
+        long now = Instant.now().toEpochMilli();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, drcSyncedStatuses.stream()
+                .map(drcSyncedStatus -> toParameters(drcSyncedStatus, now))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource toParameters(DrcSyncedStatus drcSyncedStatus, long now) {
+        return new MapSqlParameterSource()
+                .addValue("vibrentId", drcSyncedStatus.getVibrentId())
+                .addValue("type", drcSyncedStatus.getType().name())
+                .addValue("data", drcSyncedStatus.getData())
+                .addValue("accountHash", drcSyncedStatus.getAccountHash())
+                .addValue("secondaryContactsHash", drcSyncedStatus.getSecondaryContactsHash())
+                .addValue("ssnHash", drcSyncedStatus.getSsnHash())
+                .addValue("testUserHash", drcSyncedStatus.getTestUserHash())
+                .addValue("now", now);
+    }
+}
@@ -2,11 +2,58 @@ package com.vibrent.drc.repository;
 
 import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
 import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
-public interface ParticipantGenomicStatusBatchRepository extends JpaRepository<ParticipantGenomicStatusBatch, Long> {
+public interface ParticipantGenomicStatusBatchRepository extends JpaRepository<ParticipantGenomicStatusBatch, Long>, ParticipantGenomicStatusBatchRepositoryCustom {
     Stream<ParticipantGenomicStatusBatch> findByStatusIn(List<ExternalGenomicPayloadProcessingStatus> pendingRetryStatusList);
+
+    /**
+     * Lock a page of batches in the given statuses that are not claimed or whose lease has expired, and that were not
+     * updated after updatedBefore, so a claimer does not pick up again the batches it released itself. Batches that
+     * already failed maxRetries times are left in ERROR and no longer claimed.
+     * The lock timeout hint of -2 asks Hibernate for SKIP LOCKED, so concurrent claimers receive disjoint pages. Dialects
+     * that do not support it, such as the default MySQL5InnoDBDialect, fall back to FOR UPDATE and the claims wait for
+     * each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT b FROM ParticipantGenomicStatusBatch b WHERE b.status IN :statuses " +
+            "AND (b.claimedUntil IS NULL OR b.claimedUntil < :now) " +
+            "AND (b.updatedOn IS NULL OR b.updatedOn <= :updatedBefore) " +
+            "AND (b.retryCount IS NULL OR b.retryCount < :maxRetries) ORDER BY b.id")
+    List<ParticipantGenomicStatusBatch> findClaimableBatches(@Param("statuses") List<ExternalGenomicPayloadProcessingStatus> statuses,
+                                                             @Param("now") Long now,
+                                                             @Param("updatedBefore") Long updatedBefore,
+                                                             @Param("maxRetries") Integer maxRetries,
+                                                             Pageable pageable);
+
+    /**
+     * Ids of batches in the given statuses last updated before the cutoff. Unordered, so the range scan of the
+     * (status, updated_on) index stops at the page size.
+     */
+    @Query("SELECT b.id FROM ParticipantGenomicStatusBatch b WHERE b.status IN :statuses AND b.updatedOn < :cutoff")
+    List<Long> findIdsByStatusInAndUpdatedOnBefore(@Param("statuses") List<ExternalGenomicPayloadProcessingStatus> statuses,
+                                                   @Param("cutoff") Long cutoff,
+                                                   Pageable pageable);
+
+    /**
+     * Delete the given rows with a single statement, without loading them first
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ParticipantGenomicStatusBatch b WHERE b.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
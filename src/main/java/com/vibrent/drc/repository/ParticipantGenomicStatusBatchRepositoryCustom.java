@@ -0,0 +1,14 @@
+package com.vibrent.drc.repository;
+
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+
+import java.util.Collection;
+
+public interface ParticipantGenomicStatusBatchRepositoryCustom {
+
+    /**
+     * Insert the new batches with one JDBC batch, which the MySQL driver rewrites into multi-row INSERT statements.
+     * The batches are not managed by the persistence context afterwards and their ids stay unset.
+     */
+    void insertAll(Collection<ParticipantGenomicStatusBatch> participantGenomicStatusBatches);
+}
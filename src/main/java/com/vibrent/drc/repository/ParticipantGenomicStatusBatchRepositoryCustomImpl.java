@@ -0,0 +1,54 @@
+package com.vibrent.drc.repository;
+
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.util.DateTimeUtil;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Collection;
+
+/**
+ * Bulk insert of genomic status batches. The entity ids are generated by AUTO_INCREMENT, for which Hibernate disables
+ * JDBC batching of inserts, so a fetch that splits into many batches is written here with plain JDBC instead.
+ */
+public class ParticipantGenomicStatusBatchRepositoryCustomImpl implements ParticipantGenomicStatusBatchRepositoryCustom {
+
+    static final String INSERT_SQL = "INSERT INTO participant_genomic_status_batch " +
+            "(batch_size, batch_payload, batch_payload_compressed, payload_codec, status, participant_genomic_status_payload_id, " +
+            "retry_count, created_on, updated_on) " +
+            "VALUES (:batchSize, :batchPayload, :compressedBatchPayload, :payloadCodec, :status, :payloadId, :retryCount, :now, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ParticipantGenomicStatusBatchRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Collection<ParticipantGenomicStatusBatch> participantGenomicStatusBatches) {
+        if (CollectionUtils.isEmpty(participantGenomicStatusBatches)) {
+            return;
+        }
+
+        long now = DateTimeUtil.getCurrentTimestamp();
+        jdbcTemplate.batchUpdate(INSERT_SQL, participantGenomicStatusBatches.stream()
+                .map(participantGenomicStatusBatch -> toParameters(participantGenomicStatusBatch, now))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource toParameters(ParticipantGenomicStatusBatch participantGenomicStatusBatch, long now) {
+        return new MapSqlParameterSource()
+                .addValue("batchSize", participantGenomicStatusBatch.getBatchSize())
+                // The stored columns, so compressed payloads are written as they are
+                .addValue("batchPayload", participantGenomicStatusBatch.getPayloadCodec() == null ? participantGenomicStatusBatch.getBatchPayload() : null)
+                .addValue("compressedBatchPayload", participantGenomicStatusBatch.getCompressedBatchPayload())
+                .addValue("payloadCodec", participantGenomicStatusBatch.getPayloadCodec() == null ? null : participantGenomicStatusBatch.getPayloadCodec().name())
+                // A missing status is left to the NOT NULL constraint, as the entity insert does
+                .addValue("status", participantGenomicStatusBatch.getStatus() == null ? null : participantGenomicStatusBatch.getStatus().name())
+                .addValue("payloadId", participantGenomicStatusBatch.getParticipantGenomicStatusPayload().getId())
+                .addValue("retryCount", participantGenomicStatusBatch.getRetryCount())
+                .addValue("now", now);
+    }
+}
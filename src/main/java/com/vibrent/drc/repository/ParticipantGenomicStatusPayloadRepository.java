@@ -1,7 +1,31 @@
 package com.vibrent.drc.repository;
 
 import com.vibrent.drc.domain.ParticipantGenomicStatusPayload;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ParticipantGenomicStatusPayloadRepository extends JpaRepository<ParticipantGenomicStatusPayload, Long> {
+
+    /**
+     * Ids of the oldest payloads last updated before the cutoff that have no batch left, read from the updated_on index
+     */
+    @Query("SELECT p.id FROM ParticipantGenomicStatusPayload p WHERE p.updatedOn < :cutoff " +
+            "AND NOT EXISTS (SELECT b.id FROM ParticipantGenomicStatusBatch b WHERE b.participantGenomicStatusPayload = p) " +
+            "ORDER BY p.updatedOn")
+    List<Long> findIdsWithoutBatchesByUpdatedOnBefore(@Param("cutoff") Long cutoff, Pageable pageable);
+
+    /**
+     * Delete the given rows with a single statement, without loading them first
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ParticipantGenomicStatusPayload p WHERE p.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -3,43 +3,79 @@ package com.vibrent.drc.scheduling;
 import com.vibrent.drc.domain.DRCUpdateInfoSyncRetry;
 import com.vibrent.drc.service.DRCUpdateInfoSyncRetryService;
 import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.transaction.Transactional;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
+/**
+ * Retries the update info sync entries that are due. Entries are selected in pages by their next attempt time, which
+ * backs off exponentially with the retry count, and each entry is retried in its own transaction on the shared
+ * updateInfoSyncRetryExecutor pool.
+ */
 @Slf4j
 @Component
+@DisallowConcurrentExecution
 public class DRCUpdateInfoSyncRetryJob implements Job {
 
     private final DRCUpdateInfoSyncRetryService drcUpdateInfoSyncRetryService;
+    private final ExecutorService executorService;
+    private final int pageSize;
 
-    public DRCUpdateInfoSyncRetryJob(DRCUpdateInfoSyncRetryService drcUpdateInfoSyncRetryService) {
+    public DRCUpdateInfoSyncRetryJob(DRCUpdateInfoSyncRetryService drcUpdateInfoSyncRetryService,
+                                     @Qualifier("updateInfoSyncRetryExecutor") ExecutorService executorService,
+                                     @Value("${vibrent.drc.sync.retry.pageSize:100}") int pageSize) {
         this.drcUpdateInfoSyncRetryService = drcUpdateInfoSyncRetryService;
+        this.executorService = executorService;
+        this.pageSize = Math.max(1, pageSize);
     }
 
-    @Transactional
     @Override
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
         long startTime = System.currentTimeMillis();
         log.info("DRC: Started Executing retrying update info sync Start time: {}", startTime);
+
+        int retried = 0;
         try {
-            Stream<DRCUpdateInfoSyncRetry> entries = drcUpdateInfoSyncRetryService.getEligibleEntries();
-            entries.forEach(this::executeRetry);
+            List<DRCUpdateInfoSyncRetry> dueEntries;
+            // Claimed entries are rescheduled after startTime, so every page holds entries not seen before
+            while (!(dueEntries = drcUpdateInfoSyncRetryService.claimDueEntries(startTime, pageSize)).isEmpty()) {
+                executeRetries(dueEntries);
+                retried += dueEntries.size();
+            }
 
-            log.info("DRC: Started Executing retrying update info sync completion on: {}, time taken for job execution {} ms", System.currentTimeMillis(), System.currentTimeMillis() - startTime);
+            log.info("DRC: Started Executing retrying update info sync completion on: {}, time taken for job execution {} ms, entries retried: {}", System.currentTimeMillis(), System.currentTimeMillis() - startTime, retried);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("DRC: UpdateInfoSyncRetryJob interrupted", e);
         } catch (Exception e) {
             log.warn("DRC-Service: Exception while executing UpdateInfoSyncRetryJob", e);
         }
+    }
 
+    private void executeRetries(List<DRCUpdateInfoSyncRetry> dueEntries) throws InterruptedException {
+        List<Callable<Void>> tasks = new ArrayList<>(dueEntries.size());
+        for (DRCUpdateInfoSyncRetry entry : dueEntries) {
+            tasks.add(() -> {
+                executeRetry(entry);
+                return null;
+            });
+        }
+        executorService.invokeAll(tasks);
     }
 
     private void executeRetry(DRCUpdateInfoSyncRetry entry) {
         try {
-        drcUpdateInfoSyncRetryService.retryUpdateInfoSync(entry);} catch (Exception e) {
+            drcUpdateInfoSyncRetryService.retryUpdateInfoSync(entry);
+        } catch (Exception e) {
             log.warn("DRC-Service: Exception while retry to send the updateInfo to drc", e);
         }
     }
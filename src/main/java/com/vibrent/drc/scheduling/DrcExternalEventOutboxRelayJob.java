@@ -0,0 +1,57 @@
+package com.vibrent.drc.scheduling;
+
+import com.vibrent.drc.service.DataSharingMetricsService;
+import com.vibrent.drc.service.DrcExternalEventOutboxService;
+import com.vibrent.drc.service.DrcExternalEventOutboxService.RelayResult;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the external event outbox to Kafka page by page until it is drained or a page could not be fully published.
+ * The rows that failed are backed off, so the next execution starts with the rows behind them.
+ * Concurrent execution is disallowed across the Quartz cluster, so a row is only published twice when its ack was lost.
+ * The genomics status messages sent metric counts the acknowledged events.
+ */
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+public class DrcExternalEventOutboxRelayJob implements Job {
+
+    private final DrcExternalEventOutboxService drcExternalEventOutboxService;
+    private final DataSharingMetricsService dataSharingMetricsService;
+    private final int pageSize;
+
+    public DrcExternalEventOutboxRelayJob(DrcExternalEventOutboxService drcExternalEventOutboxService,
+                                         DataSharingMetricsService dataSharingMetricsService,
+                                         @Value("${vibrent.drc.externalEventOutbox.pageSize:500}") int pageSize) {
+        this.drcExternalEventOutboxService = drcExternalEventOutboxService;
+        this.dataSharingMetricsService = dataSharingMetricsService;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) {
+        long startTime = System.currentTimeMillis();
+        int relayed = 0;
+        try {
+            RelayResult relayResult;
+            do {
+                relayResult = drcExternalEventOutboxService.relayNextPage(pageSize);
+                if (relayResult.getPublished() > 0) {
+                    dataSharingMetricsService.incrementGenomicsStatusMessagesSentCounter(relayResult.getPublished());
+                }
+                relayed += relayResult.getRemoved();
+            } while (relayResult.getRemoved() == pageSize && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            log.warn("DRC-Service: Exception while executing DrcExternalEventOutboxRelayJob", e);
+        }
+
+        if (relayed > 0) {
+            log.info("DRC: DrcExternalEventOutboxRelayJob relayed {} events in {} ms", relayed, System.currentTimeMillis() - startTime);
+        }
+    }
+}
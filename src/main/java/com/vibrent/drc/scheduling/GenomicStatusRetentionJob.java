@@ -0,0 +1,47 @@
+package com.vibrent.drc.scheduling;
+
+import com.vibrent.drc.service.GenomicStatusRetentionService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes, and optionally archives, the processed genomic status batches and payloads older than the retention period.
+ * Concurrent execution is disallowed across the Quartz cluster, so only one node deletes at a time.
+ */
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+public class GenomicStatusRetentionJob implements Job {
+
+    private final GenomicStatusRetentionService genomicStatusRetentionService;
+    private final boolean enabled;
+
+    public GenomicStatusRetentionJob(GenomicStatusRetentionService genomicStatusRetentionService,
+                                     @Value("${vibrent.drc.genomics.retention.enabled:false}") boolean enabled) {
+        this.genomicStatusRetentionService = genomicStatusRetentionService;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        if (!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            int deleted = genomicStatusRetentionService.purgeExpired();
+            log.info("DRC: GenomicStatusRetentionJob deleted {} rows in {} ms", deleted, System.currentTimeMillis() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("DRC: GenomicStatusRetentionJob interrupted", e);
+        } catch (Exception e) {
+            log.warn("DRC-Service: Exception while executing GenomicStatusRetentionJob", e);
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package com.vibrent.drc.scheduling;
 
 import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
-import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
-import com.vibrent.drc.messaging.producer.DrcExternalEventProducer;
-import com.vibrent.drc.service.DataSharingMetricsService;
 import com.vibrent.drc.service.ParticipantGenomicStatusBatchProcessingService;
 import com.vibrent.drc.service.ParticipantGenomicsStatusPayloadMapper;
 import com.vibrent.vxp.push.DRCExternalEventDto;
@@ -11,53 +8,98 @@ import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Queues the events of the genomic status batches in the external event outbox, which is published to Kafka by
+ * {@link DrcExternalEventOutboxRelayJob}. Batches are claimed in pages with a lease (claimed_by/claimed_until), so
+ * every node of the Quartz cluster and every worker thread works on a disjoint set of batches, each in its own short
+ * transaction. The workers are the threads of the shared genomicStatusBatchExecutor pool.
+ */
 @Slf4j
 @Component
 public class ParticipantGenomicStatusBatchProcessingJob implements Job {
 
     private final ParticipantGenomicStatusBatchProcessingService participantGenomicStatusBatchProcessingService;
-    private final DrcExternalEventProducer drcExternalEventProducer;
     private final ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper;
-    private final DataSharingMetricsService dataSharingMetricsService;
+    private final ExecutorService executorService;
+    private final int claimPageSize;
+    private final long leaseMillis;
 
-    public ParticipantGenomicStatusBatchProcessingJob(ParticipantGenomicStatusBatchProcessingService participantGenomicStatusBatchProcessingService, DrcExternalEventProducer drcExternalEventProducer, ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper,
-                                                      DataSharingMetricsService dataSharingMetricsService) {
+    public ParticipantGenomicStatusBatchProcessingJob(ParticipantGenomicStatusBatchProcessingService participantGenomicStatusBatchProcessingService, ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper,
+                                                      @Qualifier("genomicStatusBatchExecutor") ExecutorService executorService,
+                                                      @Value("${vibrent.drc.genomics.participantBatch.claimPageSize:20}") int claimPageSize,
+                                                      @Value("${vibrent.drc.genomics.participantBatch.leaseSeconds:600}") long leaseSeconds) {
         this.participantGenomicStatusBatchProcessingService = participantGenomicStatusBatchProcessingService;
-        this.drcExternalEventProducer = drcExternalEventProducer;
         this.participantGenomicsStatusPayloadMapper = participantGenomicsStatusPayloadMapper;
-        this.dataSharingMetricsService = dataSharingMetricsService;
+        this.executorService = executorService;
+        this.claimPageSize = Math.max(1, claimPageSize);
+        this.leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
     }
 
     @Override
-    @Transactional
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
         Long startTime = System.currentTimeMillis();
         log.info("DRC: Executing ParticipantGenomicStatusBatchProcessingJob start time: {}", startTime);
-        Stream<ParticipantGenomicStatusBatch> eligibleGenomicStatusBatches = participantGenomicStatusBatchProcessingService.getEligibleGenomicStatusBatches();
-        eligibleGenomicStatusBatches
-                .forEach(
-                        genomicStatusBatch -> {
-                            try {
-                                List<DRCExternalEventDto> drcExternalEventDtoList = participantGenomicsStatusPayloadMapper.mapJsonStringToDrcExternalEventDto(genomicStatusBatch.getBatchPayload());
-                                for (DRCExternalEventDto dto : drcExternalEventDtoList) {
-                                    drcExternalEventProducer.send(dto);
-                                    dataSharingMetricsService.incrementGenomicsStatusMessagesSentCounter();
-                                }
-
-                                participantGenomicStatusBatchProcessingService.updateBatchStatus(ParticipantGenomicStatusBatch.newInstance(genomicStatusBatch), ExternalGenomicPayloadProcessingStatus.PROCESSING);
-                            } catch (IOException e) {
-                                log.error("DRC: Exception while converting DRC payload: {}", e);
-                            }
-                        }
-                );
-
-        log.info("DRC: Complete time taken to execute ParticipantGenomicStatusBatchProcessingJob : {} ms", System.currentTimeMillis() - startTime);
+
+        String claimOwner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+        int processed = 0;
+        try {
+            List<ParticipantGenomicStatusBatch> claimedBatches;
+            // Processed and released batches are updated after startTime, so every page holds batches not seen before
+            while (!(claimedBatches = participantGenomicStatusBatchProcessingService.claimEligibleGenomicStatusBatches(claimOwner, claimPageSize, leaseMillis, startTime)).isEmpty()) {
+                processClaimedBatches(claimedBatches);
+                processed += claimedBatches.size();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("DRC: ParticipantGenomicStatusBatchProcessingJob interrupted", e);
+        }
+
+        log.info("DRC: Complete time taken to execute ParticipantGenomicStatusBatchProcessingJob : {} ms, batches claimed: {}", System.currentTimeMillis() - startTime, processed);
+    }
+
+    private void processClaimedBatches(List<ParticipantGenomicStatusBatch> claimedBatches) throws InterruptedException {
+        List<Callable<Void>> tasks = new ArrayList<>(claimedBatches.size());
+        for (ParticipantGenomicStatusBatch genomicStatusBatch : claimedBatches) {
+            tasks.add(() -> {
+                processBatch(genomicStatusBatch);
+                return null;
+            });
+        }
+        executorService.invokeAll(tasks);
+    }
+
+    private void processBatch(ParticipantGenomicStatusBatch genomicStatusBatch) {
+        try {
+            List<DRCExternalEventDto> drcExternalEventDtoList = participantGenomicsStatusPayloadMapper.mapJsonStringToDrcExternalEventDto(genomicStatusBatch.getBatchPayload());
+            participantGenomicStatusBatchProcessingService.enqueueBatchEvents(ParticipantGenomicStatusBatch.newInstance(genomicStatusBatch), drcExternalEventDtoList);
+        } catch (IOException e) {
+            log.error("DRC: Exception while converting DRC payload: {}", e);
+            releaseFailedBatch(genomicStatusBatch);
+        } catch (Exception e) {
+            log.error("DRC: Exception while processing genomic status batch {}", genomicStatusBatch.getId(), e);
+            releaseFailedBatch(genomicStatusBatch);
+        }
+    }
+
+    private void releaseFailedBatch(ParticipantGenomicStatusBatch genomicStatusBatch) {
+        try {
+            participantGenomicStatusBatchProcessingService.releaseFailedBatch(ParticipantGenomicStatusBatch.newInstance(genomicStatusBatch));
+        } catch (Exception e) {
+            // The claim then expires with its lease
+            log.warn("DRC: Failed to release the claim of genomic status batch {}", genomicStatusBatch.getId(), e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.vibrent.drc.service;
+
+public interface AccessTokenService {
+
+    /**
+     * Returns the current DRC internal client access token.
+     * The token is refreshed in the background before it expires, callers only wait for Keycloak when no valid token is held.
+     *
+     * @return access token value
+     */
+    String getAccessToken();
+}
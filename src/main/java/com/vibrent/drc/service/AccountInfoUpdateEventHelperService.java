@@ -1,8 +1,11 @@
 package com.vibrent.drc.service;
 
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
 
 import javax.validation.constraints.NotNull;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
@@ -10,7 +13,40 @@ import java.util.function.BooleanSupplier;
 public interface AccountInfoUpdateEventHelperService {
     void processIfUserAccountUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, BooleanSupplier sendUserInfo);
 
+    /**
+     * Compare the account against the given, already loaded synced status of the participant
+     *
+     * @return the synced status after the check, the saved one if the account was sent
+     */
+    DrcSyncedStatus processIfUserAccountUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus, BooleanSupplier sendUserInfo);
+
     void processIfUserSecondaryContactOrSSNUpdated(@NotNull AccountInfoUpdateEventDto accountInfoUpdateEventDto, BiPredicate<String, Set<String>> sendSecondaryContactAndSSNInfo);
 
+    /**
+     * Compare the secondary contacts and SSN against the given, already loaded synced status of the participant
+     *
+     * @return the synced status after the check, the saved one if the changes were sent
+     */
+    DrcSyncedStatus processIfUserSecondaryContactOrSSNUpdated(@NotNull AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus,
+                                                              BiPredicate<String, Set<String>> sendSecondaryContactAndSSNInfo);
+
     void processIfTestParticipantUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, BooleanSupplier sendUserInfo);
+
+    /**
+     * Compare the test participant flag against the given, already loaded synced status of the participant
+     *
+     * @return the synced status after the check, the saved one if the flag was sent
+     */
+    DrcSyncedStatus processIfTestParticipantUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus, BooleanSupplier sendUserInfo);
+
+    /**
+     * Load the account update synced status of the participant, null if it has none
+     */
+    DrcSyncedStatus findAccountUpdateSyncedStatus(Long vibrentId);
+
+    /**
+     * Load the account update synced status of all the given participants in one query. Participants without a synced
+     * status are mapped to null.
+     */
+    Map<Long, DrcSyncedStatus> findAccountUpdateSyncedStatuses(Collection<Long> vibrentIds);
 }
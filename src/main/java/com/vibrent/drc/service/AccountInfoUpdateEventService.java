@@ -1,5 +1,6 @@
 package com.vibrent.drc.service;
 
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
 
 import java.util.Set;
@@ -13,6 +14,13 @@ public interface AccountInfoUpdateEventService {
 
     void processAccountInfoUpdates(AccountInfoUpdateEventDto accountInfoUpdateEventDto, boolean isNewMessage);
 
+    /**
+     * Process the Account Info updates of a new message against the already loaded synced status of the participant
+     *
+     * @return the synced status of the participant after the updates
+     */
+    DrcSyncedStatus processAccountInfoUpdates(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus);
+
     /**
      * Send Account Info updates to DRC
      */
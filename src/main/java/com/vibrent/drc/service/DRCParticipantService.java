@@ -1,5 +1,6 @@
 package com.vibrent.drc.service;
 
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.drc.dto.Participant;
 import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
 
@@ -13,5 +14,12 @@ public interface DRCParticipantService {
      */
     void patchTestParticipant(@NotNull AccountInfoUpdateEventDto accountInfoUpdateEventDto);
 
+    /**
+     * Patching the participant, comparing the test participant flag against the already loaded synced status
+     * @param accountInfoUpdateEventDto AccountInfoUpdateEventDto
+     * @param drcSyncedStatus account update synced status of the participant, null if it has none
+     */
+    void patchTestParticipant(@NotNull AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus);
+
     Participant getParticipantById(Long userId, String participantId);
 }
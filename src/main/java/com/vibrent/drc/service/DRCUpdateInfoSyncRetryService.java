@@ -3,10 +3,15 @@ package com.vibrent.drc.service;
 import com.vibrent.drc.domain.DRCUpdateInfoSyncRetry;
 import lombok.NonNull;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 public interface DRCUpdateInfoSyncRetryService {
-    Stream<DRCUpdateInfoSyncRetry> getEligibleEntries();
+
+    /**
+     * Returns up to pageSize entries due at the given time, earliest first. Their next attempt is pushed back by their
+     * backoff delay, so they are not returned again while they are retried.
+     */
+    List<DRCUpdateInfoSyncRetry> claimDueEntries(long now, int pageSize);
 
     void retryUpdateInfoSync(@NonNull DRCUpdateInfoSyncRetry entry);
 }
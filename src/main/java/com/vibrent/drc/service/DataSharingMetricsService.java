@@ -30,7 +30,7 @@ public interface DataSharingMetricsService {
     /**
      * Increment the counter when Genomics Status Messages Sent
      */
-     void incrementGenomicsStatusMessagesSentCounter();
+     void incrementGenomicsStatusMessagesSentCounter(int size);
 
     /**
      * Increment the counter when Genomics Status Processing Failed
@@ -0,0 +1,54 @@
+package com.vibrent.drc.service;
+
+import com.vibrent.vxp.push.DRCExternalEventDto;
+
+import java.util.List;
+
+public interface DrcExternalEventOutboxService {
+
+    /**
+     * Write the events to the outbox in the caller's transaction, they are published by the outbox relay once it commits.
+     * Nothing is written when kafka is disabled.
+     */
+    void enqueue(List<DRCExternalEventDto> drcExternalEventDtoList);
+
+    /**
+     * Publish the oldest due outbox rows to Kafka and delete the rows whose send the broker acknowledged. Rows that failed
+     * stay in the outbox and are published again by a later relay once their backoff delay has passed, until they reach
+     * the max retry count.
+     *
+     * @param pageSize max number of rows to publish
+     * @return rows published and removed, fewer than pageSize removed once the outbox is drained or a send failed
+     */
+    RelayResult relayNextPage(int pageSize);
+
+    /**
+     * Outcome of relaying one page of the outbox
+     */
+    final class RelayResult {
+
+        public static final RelayResult EMPTY = new RelayResult(0, 0);
+
+        private final int published;
+        private final int removed;
+
+        public RelayResult(int published, int removed) {
+            this.published = published;
+            this.removed = removed;
+        }
+
+        /**
+         * @return number of events whose send the broker acknowledged
+         */
+        public int getPublished() {
+            return published;
+        }
+
+        /**
+         * @return number of rows removed from the outbox, the published rows and the unreadable rows that were dropped
+         */
+        public int getRemoved() {
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.vibrent.drc.service;
+
+import org.hl7.fhir.instance.model.api.IBaseResource;
+
+public interface FhirEncodingService {
+
+    /**
+     * Encodes an R4 resource (SupplyRequest, SupplyDelivery) to compact JSON
+     *
+     * @param resource R4 resource
+     * @return JSON representation of the resource
+     */
+    String encodeR4(IBaseResource resource);
+
+    /**
+     * Encodes a DSTU2 resource (QuestionnaireResponse) to compact JSON
+     *
+     * @param resource DSTU2 resource
+     * @return JSON representation of the resource
+     */
+    String encodeDstu2(IBaseResource resource);
+}
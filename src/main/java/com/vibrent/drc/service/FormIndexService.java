@@ -0,0 +1,15 @@
+package com.vibrent.drc.service;
+
+import com.vibrent.acadia.web.rest.dto.form.FormVersionDTO;
+import com.vibrent.drc.util.FormIndex;
+
+public interface FormIndexService {
+
+    /**
+     * Returns the lookup index of a form version, built on first use and cached by form version id
+     *
+     * @param formVersionDTO form version
+     * @return index of the form version's fields, pages and navigation nodes
+     */
+    FormIndex getFormIndex(FormVersionDTO formVersionDTO);
+}
@@ -0,0 +1,15 @@
+package com.vibrent.drc.service;
+
+import java.io.IOException;
+
+public interface GenomicStatusRetentionService {
+
+    /**
+     * Delete the processed genomic status batches, and then the payloads left without batches, that were last updated
+     * longer than the retention period ago. Rows are deleted in chunks of their own transaction with a pause in between,
+     * and written to a gzip compressed NDJSON archive first when an archive directory is configured.
+     *
+     * @return number of rows deleted
+     */
+    int purgeExpired() throws IOException, InterruptedException;
+}
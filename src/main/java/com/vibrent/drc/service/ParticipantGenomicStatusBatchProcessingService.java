@@ -2,10 +2,38 @@ package com.vibrent.drc.service;
 
 import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
 import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.vxp.push.DRCExternalEventDto;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 public interface ParticipantGenomicStatusBatchProcessingService {
-    Stream<ParticipantGenomicStatusBatch> getEligibleGenomicStatusBatches();
+
+    /**
+     * Claim up to pageSize PENDING/ERROR batches that are unclaimed or whose lease has expired, skipping batches that
+     * reached the max retry count.
+     *
+     * @param claimOwner    identifier of the node/execution claiming the batches
+     * @param pageSize      max number of batches to claim
+     * @param leaseMillis   how long the claim is held before other nodes may pick the batches up again
+     * @param updatedBefore only batches last updated at or before this time are claimed
+     * @return claimed batches
+     */
+    List<ParticipantGenomicStatusBatch> claimEligibleGenomicStatusBatches(String claimOwner, int pageSize, long leaseMillis, long updatedBefore);
+
+    /**
+     * Update the batch status and release its claim.
+     */
     ParticipantGenomicStatusBatch updateBatchStatus(ParticipantGenomicStatusBatch participantGenomicStatusBatch, ExternalGenomicPayloadProcessingStatus status);
+
+    /**
+     * Mark a batch that could not be processed ERROR, increment its retry count and release its claim, so the next
+     * execution retries it until the max retry count is reached.
+     */
+    ParticipantGenomicStatusBatch releaseFailedBatch(ParticipantGenomicStatusBatch participantGenomicStatusBatch);
+
+    /**
+     * Write the events of the batch to the outbox and mark the batch PROCESSING in the same transaction, so that the
+     * batch is never marked without its events being queued for publishing.
+     */
+    ParticipantGenomicStatusBatch enqueueBatchEvents(ParticipantGenomicStatusBatch participantGenomicStatusBatch, List<DRCExternalEventDto> drcExternalEventDtoList);
 }
@@ -1,5 +1,6 @@
 package com.vibrent.drc.service;
 
+import com.vibrent.drc.domain.DRCUpdateInfoSyncRetry;
 import com.vibrent.drc.enumeration.DataTypeEnum;
 import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
 
@@ -10,4 +11,9 @@ public interface SyncRetryHelperService {
                          String reason);
 
     void deleteByVibrentIdAndType(long vibrentId, DataTypeEnum dataTypeEnum);
+
+    /**
+     * Sets the next attempt time of the entry using exponential backoff with jitter on its retry count, the entry is not saved
+     */
+    void scheduleNextAttempt(DRCUpdateInfoSyncRetry entry);
 }
\ No newline at end of file
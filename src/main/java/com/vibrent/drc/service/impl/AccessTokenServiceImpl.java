@@ -0,0 +1,195 @@
+package com.vibrent.drc.service.impl;
+
+import com.vibrent.drc.exception.BusinessProcessingException;
+import com.vibrent.drc.service.AccessTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
+import org.springframework.security.oauth2.client.token.AccessTokenProvider;
+import org.springframework.security.oauth2.client.token.DefaultAccessTokenRequest;
+import org.springframework.security.oauth2.client.token.grant.client.ClientCredentialsAccessTokenProvider;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the DRC internal client credentials token and refreshes it from Keycloak on a background thread before it expires.
+ * The first token is fetched on first use. Refreshes requested concurrently share a single call to Keycloak. A token is
+ * held for at least the minimum lifetime, so that a token issued without or with a very short expiry does not make
+ * every call go to Keycloak.
+ */
+@Slf4j
+@Service
+public class AccessTokenServiceImpl implements AccessTokenService {
+
+    private final OAuth2ProtectedResourceDetails resourceDetails;
+    private final AccessTokenProvider accessTokenProvider;
+    private final int refreshBeforeExpirySeconds;
+    private final long refreshCheckIntervalSeconds;
+    private final long minLifetimeMillis;
+
+    private final AtomicReference<CachedToken> currentToken = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<OAuth2AccessToken>> inFlightRefresh = new AtomicReference<>();
+    private final ScheduledExecutorService refreshExecutor;
+
+    private final Timer refreshTimer;
+    private final Counter refreshFailureCounter;
+
+    public AccessTokenServiceImpl(@Qualifier("keycloakDrcInternalCredentials") OAuth2ProtectedResourceDetails resourceDetails,
+                                  ClientHttpRequestFactory pooledClientHttpRequestFactory,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${vibrent.drc-service.accessToken.refreshBeforeExpirySeconds:60}") int refreshBeforeExpirySeconds,
+                                  @Value("${vibrent.drc-service.accessToken.refreshCheckIntervalSeconds:10}") long refreshCheckIntervalSeconds,
+                                  @Value("${vibrent.drc-service.accessToken.minLifetimeSeconds:30}") long minLifetimeSeconds) {
+        this(resourceDetails, clientCredentialsAccessTokenProvider(pooledClientHttpRequestFactory), meterRegistry,
+                refreshBeforeExpirySeconds, refreshCheckIntervalSeconds, minLifetimeSeconds);
+    }
+
+    AccessTokenServiceImpl(OAuth2ProtectedResourceDetails resourceDetails, AccessTokenProvider accessTokenProvider,
+                           MeterRegistry meterRegistry, int refreshBeforeExpirySeconds, long refreshCheckIntervalSeconds,
+                           long minLifetimeSeconds) {
+        this.resourceDetails = resourceDetails;
+        this.accessTokenProvider = accessTokenProvider;
+        this.refreshBeforeExpirySeconds = refreshBeforeExpirySeconds;
+        this.refreshCheckIntervalSeconds = refreshCheckIntervalSeconds;
+        this.minLifetimeMillis = TimeUnit.SECONDS.toMillis(Math.max(0, minLifetimeSeconds));
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "access-token-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.refreshTimer = Timer.builder("access_token_refresh_latency")
+                .tag("type", "access_token_refresh_latency")
+                .description("Time taken to obtain an access token from Keycloak")
+                .register(meterRegistry);
+        this.refreshFailureCounter = Counter.builder("access_token_refresh_failure")
+                .tag("type", "access_token_refresh_failure")
+                .description("Failures while obtaining an access token from Keycloak")
+                .register(meterRegistry);
+        Gauge.builder("access_token_expires_in_seconds", currentToken, token -> token.get() == null ? 0 : token.get().token.getExpiresIn())
+                .description("Seconds until the current access token expires")
+                .register(meterRegistry);
+    }
+
+    private static AccessTokenProvider clientCredentialsAccessTokenProvider(ClientHttpRequestFactory requestFactory) {
+        ClientCredentialsAccessTokenProvider accessTokenProvider = new ClientCredentialsAccessTokenProvider();
+        accessTokenProvider.setRequestFactory(requestFactory);
+        return accessTokenProvider;
+    }
+
+    @PostConstruct
+    public void start() {
+        refreshExecutor.scheduleWithFixedDelay(this::refreshIfExpiring, refreshCheckIntervalSeconds, refreshCheckIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public String getAccessToken() {
+        CachedToken cachedToken = currentToken.get();
+        long now = System.currentTimeMillis();
+        if (cachedToken != null && now < cachedToken.validUntil) {
+            if (now >= cachedToken.refreshAt) {
+                refresh();
+            }
+            return cachedToken.token.getValue();
+        }
+
+        // No valid token held, on first use or after Keycloak was unavailable, wait for the shared refresh
+        try {
+            return refresh().join().getValue();
+        } catch (CompletionException e) {
+            throw new BusinessProcessingException("DRC Service: Unable to obtain access token", e.getCause());
+        }
+    }
+
+    void refreshIfExpiring() {
+        CachedToken cachedToken = currentToken.get();
+        if (cachedToken != null && System.currentTimeMillis() >= cachedToken.refreshAt) {
+            refresh();
+        }
+    }
+
+    /**
+     * Starts a refresh unless one is already running and returns the future completed with the new token
+     */
+    CompletableFuture<OAuth2AccessToken> refresh() {
+        while (true) {
+            CompletableFuture<OAuth2AccessToken> existing = inFlightRefresh.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<OAuth2AccessToken> refresh = new CompletableFuture<>();
+            if (inFlightRefresh.compareAndSet(null, refresh)) {
+                try {
+                    refreshExecutor.execute(() -> fetchToken(refresh));
+                } catch (RejectedExecutionException e) {
+                    inFlightRefresh.set(null);
+                    refresh.completeExceptionally(e);
+                }
+                return refresh;
+            }
+        }
+    }
+
+    private void fetchToken(CompletableFuture<OAuth2AccessToken> refresh) {
+        try {
+            OAuth2AccessToken token = refreshTimer.recordCallable(() -> accessTokenProvider.obtainAccessToken(resourceDetails, new DefaultAccessTokenRequest()));
+            currentToken.set(cache(token));
+            inFlightRefresh.set(null);
+            refresh.complete(token);
+        } catch (Exception e) {
+            refreshFailureCounter.increment();
+            log.warn("DRC Service: Failed to refresh access token", e);
+            inFlightRefresh.set(null);
+            refresh.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * The token is used until it expires and refreshed before, but never for less than the minimum lifetime
+     */
+    private CachedToken cache(OAuth2AccessToken token) {
+        long now = System.currentTimeMillis();
+        long expiresAt = token.getExpiration() == null ? now : token.getExpiration().getTime();
+        long minValidUntil = now + minLifetimeMillis;
+        if (expiresAt - TimeUnit.SECONDS.toMillis(refreshBeforeExpirySeconds) < minValidUntil) {
+            log.warn("DRC Service: Access token expires in {} seconds, it is held for at least {} seconds", token.getExpiresIn(),
+                    TimeUnit.MILLISECONDS.toSeconds(minLifetimeMillis));
+        }
+        return new CachedToken(token, Math.max(expiresAt - TimeUnit.SECONDS.toMillis(refreshBeforeExpirySeconds), minValidUntil),
+                Math.max(expiresAt, minValidUntil));
+    }
+
+    private static final class CachedToken {
+        private final OAuth2AccessToken token;
+        private final long refreshAt;
+        private final long validUntil;
+
+        private CachedToken(OAuth2AccessToken token, long refreshAt, long validUntil) {
+            this.token = token;
+            this.refreshAt = refreshAt;
+            this.validUntil = validUntil;
+        }
+    }
+}
@@ -10,15 +10,20 @@ import com.vibrent.drc.service.AccountInfoUpdateEventHelperService;
 import com.vibrent.drc.service.ApiService;
 import com.vibrent.drc.util.JacksonUtil;
 import com.vibrent.drc.util.ParticipantDataUtil;
+import com.vibrent.drc.util.ParticipantSectionHashUtil;
 import com.vibrent.drc.vo.ParticipantVo;
 import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
+import com.vibrent.vxp.push.ParticipantDto;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
@@ -34,22 +39,41 @@ public class AccountInfoUpdateEventHelperServiceImpl implements AccountInfoUpdat
 
     @Override
     public void processIfUserAccountUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, BooleanSupplier sendUserInfo) {
+        processIfUserAccountUpdated(accountInfoUpdateEventDto, findAccountUpdateSyncedStatus(accountInfoUpdateEventDto.getVibrentID()), sendUserInfo);
+    }
 
-        DrcSyncedStatus drcSyncedStatus = drcSyncedStatusRepository.findByVibrentIdAndType(accountInfoUpdateEventDto.getVibrentID(), DataTypeEnum.ACCOUNT_UPDATE_DATA);
-        ParticipantVo participantVo = extractParticipantVo(drcSyncedStatus);
+    @Override
+    public DrcSyncedStatus processIfUserAccountUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus, BooleanSupplier sendUserInfo) {
 
-        if (accountInfoUpdateEventDto.getParticipant() != null
-                && ParticipantDataUtil.isUserAccountUpdated(accountInfoUpdateEventDto.getParticipant(), participantVo)
-                && sendUserInfo.getAsBoolean()) {
-            saveSyncedUserAccountFields(accountInfoUpdateEventDto);
+        ParticipantDto participantDto = accountInfoUpdateEventDto.getParticipant();
+        if (participantDto == null) {
+            return drcSyncedStatus;
+        }
+
+        boolean updated;
+        if (drcSyncedStatus != null && drcSyncedStatus.getAccountHash() != null) {
+            updated = !drcSyncedStatus.getAccountHash().equals(ParticipantSectionHashUtil.accountHash(participantDto));
+        } else {
+            updated = ParticipantDataUtil.isUserAccountUpdated(participantDto, extractParticipantVo(drcSyncedStatus));
         }
 
+        if (updated && sendUserInfo.getAsBoolean()) {
+            return saveSyncedUserAccountFields(accountInfoUpdateEventDto, drcSyncedStatus);
+        }
+        return drcSyncedStatus;
     }
 
     @Override
     public void processIfUserSecondaryContactOrSSNUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, BiPredicate<String, Set<String>> sendSecondaryContactAndSSNInfo) {
+        processIfUserSecondaryContactOrSSNUpdated(accountInfoUpdateEventDto, findAccountUpdateSyncedStatus(accountInfoUpdateEventDto.getVibrentID()),
+                sendSecondaryContactAndSSNInfo);
+    }
+
+    @Override
+    public DrcSyncedStatus processIfUserSecondaryContactOrSSNUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus,
+                                                                     BiPredicate<String, Set<String>> sendSecondaryContactAndSSNInfo) {
         Set<String> secondaryContactAndSSNChanges = Collections.emptySet();
-        ParticipantVo participantVo = null;
+        boolean synced = false;
         String ssn = null;
 
         if (accountInfoUpdateEventDto.getParticipant() != null
@@ -62,74 +86,127 @@ public class AccountInfoUpdateEventHelperServiceImpl implements AccountInfoUpdat
 
         if (accountInfoUpdateEventDto.getParticipant() != null &&
                 !CollectionUtils.isEmpty(accountInfoUpdateEventDto.getParticipant().getSecondaryContacts())) {
-            DrcSyncedStatus drcSyncedStatus = drcSyncedStatusRepository.findByVibrentIdAndType(accountInfoUpdateEventDto.getVibrentID(), DataTypeEnum.ACCOUNT_UPDATE_DATA);
-            participantVo = extractParticipantVo(drcSyncedStatus);
-            secondaryContactAndSSNChanges = ParticipantDataUtil.findSecondaryContactAndSsnChanges(participantVo, accountInfoUpdateEventDto.getParticipant(), ssn);
+            if (isSecondaryContactAndSsnUnchanged(drcSyncedStatus, accountInfoUpdateEventDto.getParticipant(), ssn)) {
+                synced = true;
+            } else {
+                // Parse the synced data only to tell which of the sections changed
+                ParticipantVo participantVo = extractParticipantVo(drcSyncedStatus);
+                synced = participantVo != null;
+                secondaryContactAndSSNChanges = ParticipantDataUtil.findSecondaryContactAndSsnChanges(participantVo, accountInfoUpdateEventDto.getParticipant(), ssn);
+            }
         }
 
-        if ((!CollectionUtils.isEmpty(secondaryContactAndSSNChanges) || participantVo == null) && sendSecondaryContactAndSSNInfo.test(ssn, secondaryContactAndSSNChanges)) {
-            saveSecondaryContactAndSSNFields(accountInfoUpdateEventDto, ssn);
+        if ((!CollectionUtils.isEmpty(secondaryContactAndSSNChanges) || !synced) && sendSecondaryContactAndSSNInfo.test(ssn, secondaryContactAndSSNChanges)) {
+            return saveSecondaryContactAndSSNFields(accountInfoUpdateEventDto, drcSyncedStatus, ssn);
         }
-
+        return drcSyncedStatus;
     }
 
     @Override
     public void processIfTestParticipantUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, BooleanSupplier sendUserInfo) {
-        DrcSyncedStatus drcSyncedStatus = drcSyncedStatusRepository.findByVibrentIdAndType(accountInfoUpdateEventDto.getVibrentID(), DataTypeEnum.ACCOUNT_UPDATE_DATA);
-        ParticipantVo participantVo = extractParticipantVo(drcSyncedStatus);
-        if (accountInfoUpdateEventDto.getParticipant() != null
-                && ParticipantDataUtil.isTestFlagUpdated(accountInfoUpdateEventDto.getParticipant(), participantVo)
-                && sendUserInfo.getAsBoolean()) {
-            saveSyncedUserTestParticipantFlag(accountInfoUpdateEventDto);
+        processIfTestParticipantUpdated(accountInfoUpdateEventDto, findAccountUpdateSyncedStatus(accountInfoUpdateEventDto.getVibrentID()), sendUserInfo);
+    }
+
+    @Override
+    public DrcSyncedStatus processIfTestParticipantUpdated(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus, BooleanSupplier sendUserInfo) {
+        ParticipantDto participantDto = accountInfoUpdateEventDto.getParticipant();
+        if (participantDto == null) {
+            return drcSyncedStatus;
+        }
+
+        boolean updated;
+        if (drcSyncedStatus != null && drcSyncedStatus.getTestUserHash() != null) {
+            updated = !drcSyncedStatus.getTestUserHash().equals(ParticipantSectionHashUtil.testUserHash(participantDto.getTestUser()));
+        } else {
+            updated = ParticipantDataUtil.isTestFlagUpdated(participantDto, extractParticipantVo(drcSyncedStatus));
         }
+
+        if (updated && sendUserInfo.getAsBoolean()) {
+            return saveSyncedUserTestParticipantFlag(accountInfoUpdateEventDto, drcSyncedStatus);
+        }
+        return drcSyncedStatus;
+    }
+
+    private static boolean isSecondaryContactAndSsnUnchanged(DrcSyncedStatus drcSyncedStatus, ParticipantDto participantDto, String ssn) {
+        return drcSyncedStatus != null
+                && drcSyncedStatus.getSecondaryContactsHash() != null
+                && drcSyncedStatus.getSsnHash() != null
+                && drcSyncedStatus.getSsnHash().equals(ParticipantSectionHashUtil.ssnHash(ssn))
+                && drcSyncedStatus.getSecondaryContactsHash().equals(ParticipantSectionHashUtil.secondaryContactsHash(participantDto));
     }
 
-    void saveSyncedUserAccountFields(AccountInfoUpdateEventDto accountInfoUpdateEventDto) {
-        saveDrcSyncedStatus(accountInfoUpdateEventDto, participantVo ->
+    DrcSyncedStatus saveSyncedUserAccountFields(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus existingSyncedStatus) {
+        return saveDrcSyncedStatus(accountInfoUpdateEventDto, existingSyncedStatus, participantVo ->
                 participantConverter.updateUserAccountFields(accountInfoUpdateEventDto.getParticipant(), participantVo));
     }
 
     public DrcSyncedStatus saveSecondaryContactAndSSNFields(AccountInfoUpdateEventDto accountInfoUpdateEventDto, String ssn) {
-        return saveDrcSyncedStatus(accountInfoUpdateEventDto, participantVo ->
+        return saveSecondaryContactAndSSNFields(accountInfoUpdateEventDto, findAccountUpdateSyncedStatus(accountInfoUpdateEventDto.getVibrentID()), ssn);
+    }
+
+    DrcSyncedStatus saveSecondaryContactAndSSNFields(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus existingSyncedStatus, String ssn) {
+        return saveDrcSyncedStatus(accountInfoUpdateEventDto, existingSyncedStatus, participantVo ->
                 participantConverter.updateSecondaryContactsAndSSNFields(accountInfoUpdateEventDto.getParticipant(), participantVo, ssn));
     }
 
     public DrcSyncedStatus saveSsnFields(AccountInfoUpdateEventDto accountInfoUpdateEventDto, String ssn) {
-        return saveDrcSyncedStatus(accountInfoUpdateEventDto, participantVo ->
+        return saveDrcSyncedStatus(accountInfoUpdateEventDto, findAccountUpdateSyncedStatus(accountInfoUpdateEventDto.getVibrentID()), participantVo ->
                 participantVo.setSsn(ssn));
     }
 
-    void saveSyncedUserTestParticipantFlag(AccountInfoUpdateEventDto accountInfoUpdateEventDto) {
-        saveDrcSyncedStatus(accountInfoUpdateEventDto, participantVo ->
+    DrcSyncedStatus saveSyncedUserTestParticipantFlag(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus existingSyncedStatus) {
+        return saveDrcSyncedStatus(accountInfoUpdateEventDto, existingSyncedStatus, participantVo ->
                 participantVo.setTestUser(accountInfoUpdateEventDto.getParticipant().getTestUser()));
     }
 
-    protected DrcSyncedStatus saveDrcSyncedStatus(AccountInfoUpdateEventDto accountInfoUpdateEventDto, Consumer<ParticipantVo> updateParticipant) {
-        DrcSyncedStatus drcSyncedStatus = drcSyncedStatusRepository.
-                findByVibrentIdAndType(accountInfoUpdateEventDto.getVibrentID(),
-                        DataTypeEnum.ACCOUNT_UPDATE_DATA);
-
-        if (drcSyncedStatus == null) {
-            drcSyncedStatus = new DrcSyncedStatus();
-            drcSyncedStatus.setType(DataTypeEnum.ACCOUNT_UPDATE_DATA);
-            drcSyncedStatus.setVibrentId(accountInfoUpdateEventDto.getVibrentID());
-        }
-
-        ParticipantVo participantVo = extractParticipantVo(drcSyncedStatus);
+    /**
+     * Save the updated participant data on top of the existing synced status
+     *
+     * @return the saved synced status, or the existing one if nothing was saved
+     */
+    protected DrcSyncedStatus saveDrcSyncedStatus(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus existingSyncedStatus,
+                                                  Consumer<ParticipantVo> updateParticipant) {
+        ParticipantVo participantVo = extractParticipantVo(existingSyncedStatus);
         if (participantVo == null) {
             participantVo = new ParticipantVo();
             participantVo.setVibrentID(accountInfoUpdateEventDto.getVibrentID());
         }
 
+        // Written as a new instance, so that a status loaded by JPA is not dirty checked and updated a second time
+        DrcSyncedStatus drcSyncedStatus = new DrcSyncedStatus();
+        drcSyncedStatus.setId(existingSyncedStatus == null ? null : existingSyncedStatus.getId());
+        drcSyncedStatus.setType(DataTypeEnum.ACCOUNT_UPDATE_DATA);
+        drcSyncedStatus.setVibrentId(accountInfoUpdateEventDto.getVibrentID());
+
         updateParticipant.accept(participantVo);
         try {
             drcSyncedStatus.setData(JacksonUtil.getMapper().writeValueAsString(participantVo));
+            ParticipantSectionHashUtil.updateSectionHashes(drcSyncedStatus, participantVo);
         } catch (JsonProcessingException e) {
             log.warn("Failed to convert ParticipantVo to String", e);
-            return null;
+            return existingSyncedStatus;
+        }
+
+        drcSyncedStatusRepository.upsert(drcSyncedStatus);
+        return drcSyncedStatus;
+    }
+
+    @Override
+    public DrcSyncedStatus findAccountUpdateSyncedStatus(Long vibrentId) {
+        return drcSyncedStatusRepository.findByVibrentIdAndType(vibrentId, DataTypeEnum.ACCOUNT_UPDATE_DATA);
+    }
+
+    @Override
+    public Map<Long, DrcSyncedStatus> findAccountUpdateSyncedStatuses(Collection<Long> vibrentIds) {
+        Map<Long, DrcSyncedStatus> syncedStatuses = new HashMap<>();
+        if (CollectionUtils.isEmpty(vibrentIds)) {
+            return syncedStatuses;
         }
 
-        return drcSyncedStatusRepository.save(drcSyncedStatus);
+        vibrentIds.forEach(vibrentId -> syncedStatuses.put(vibrentId, null));
+        drcSyncedStatusRepository.findByVibrentIdInAndType(vibrentIds, DataTypeEnum.ACCOUNT_UPDATE_DATA)
+                .forEach(drcSyncedStatus -> syncedStatuses.put(drcSyncedStatus.getVibrentId(), drcSyncedStatus));
+        return syncedStatuses;
     }
 
     private ParticipantVo extractParticipantVo(DrcSyncedStatus syncedData) {
@@ -1,11 +1,11 @@
 package com.vibrent.drc.service.impl;
 
-import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.model.dstu2.resource.QuestionnaireResponse;
 import com.vibrent.acadia.web.rest.dto.UserDTO;
 import com.vibrent.acadia.web.rest.dto.form.*;
 import com.vibrent.drc.configuration.DrcProperties;
 import com.vibrent.drc.converter.FormEntryConverter;
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
 import com.vibrent.drc.dto.Participant;
 import com.vibrent.drc.enumeration.ConsentWithdrawStatus;
@@ -28,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.vibrent.drc.constants.DrcConstant.ROLE_CATI;
 import static com.vibrent.drc.constants.DrcConstant.URL_PARTICIPANT;
@@ -39,7 +40,8 @@ import static com.vibrent.drc.util.FHIRConverterUtility.findAllInputFields;
 @RequiredArgsConstructor
 public class AccountInfoUpdateEventServiceImpl implements AccountInfoUpdateEventService {
 
-    private Map<String, Long> idMap;
+    // Built once from the consent form and read by concurrent Kafka and retry workers, so it is published fully built
+    private volatile Map<String, Long> idMap;
     private final ApiService apiService;
     private final DRCBackendProcessorWrapper drcBackendProcessorWrapper;
     private final DrcProperties drcProperties;
@@ -48,7 +50,8 @@ public class AccountInfoUpdateEventServiceImpl implements AccountInfoUpdateEvent
     private final DRCParticipantService participantService;
     private final DRCRetryService retryService;
     private final SyncRetryHelperService syncRetryHelperService;
-    private final FhirContext fhirContext = FhirContext.forDstu2();
+    private final FhirEncodingService fhirEncodingService;
+    private final FormIndexService formIndexService;
 
     @Transactional
     @Override
@@ -58,10 +61,28 @@ public class AccountInfoUpdateEventServiceImpl implements AccountInfoUpdateEvent
 
     @Override
     public void processAccountInfoUpdates(AccountInfoUpdateEventDto accountInfoUpdateEventDto, boolean isNewMessage) {
+        processAccountInfoUpdates(accountInfoUpdateEventDto, isNewMessage,
+                () -> accountInfoUpdateEventHelperService.findAccountUpdateSyncedStatus(accountInfoUpdateEventDto.getVibrentID()));
+    }
+
+    @Transactional
+    @Override
+    public DrcSyncedStatus processAccountInfoUpdates(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus) {
+        DrcSyncedStatus syncedStatus = processAccountInfoUpdates(accountInfoUpdateEventDto, true, () -> drcSyncedStatus);
+        return syncedStatus != null ? syncedStatus : drcSyncedStatus;
+    }
+
+    /**
+     * @param syncedStatusLoader supplies the synced status of the participant, which is read once for both checks
+     * @return the synced status after the checks, null if they were not run
+     */
+    private DrcSyncedStatus processAccountInfoUpdates(AccountInfoUpdateEventDto accountInfoUpdateEventDto, boolean isNewMessage,
+                                                      Supplier<DrcSyncedStatus> syncedStatusLoader) {
         if (accountInfoUpdateEventDto == null || accountInfoUpdateEventDto.getParticipant() == null) {
-            return;
+            return null;
         }
 
+        DrcSyncedStatus syncedStatus = null;
         try {
             if (isNewMessage) {
                 syncRetryHelperService.deleteByVibrentIdAndType(accountInfoUpdateEventDto.getVibrentID(), DataTypeEnum.ACCOUNT_UPDATE_DATA);
@@ -69,18 +90,22 @@ public class AccountInfoUpdateEventServiceImpl implements AccountInfoUpdateEvent
 
             if (isParticipantWithdrawn(accountInfoUpdateEventDto.getParticipant())) {
                 syncRetryHelperService.deleteByVibrentIdAndType(accountInfoUpdateEventDto.getVibrentID(), DataTypeEnum.ACCOUNT_UPDATE_DATA);
-                return;
+                return null;
             }
 
+            syncedStatus = syncedStatusLoader.get();
+
             //Check with last sync record, if there is change in user account info then sends user account info to DRC and save the successfully sent fields to DB.
-            accountInfoUpdateEventHelperService.processIfUserAccountUpdated(accountInfoUpdateEventDto, () -> sendAccountInfoUpdates(accountInfoUpdateEventDto));
+            syncedStatus = accountInfoUpdateEventHelperService.processIfUserAccountUpdated(accountInfoUpdateEventDto, syncedStatus,
+                    () -> sendAccountInfoUpdates(accountInfoUpdateEventDto));
 
-            accountInfoUpdateEventHelperService.processIfUserSecondaryContactOrSSNUpdated(accountInfoUpdateEventDto, (ssn, secondaryContactTypes) ->
+            syncedStatus = accountInfoUpdateEventHelperService.processIfUserSecondaryContactOrSSNUpdated(accountInfoUpdateEventDto, syncedStatus, (ssn, secondaryContactTypes) ->
                     sendSecondaryContactInfoAndSsnUpdates(accountInfoUpdateEventDto, ssn, secondaryContactTypes));
         } catch (Exception e) {
             log.warn("DRC: Error while processing account Info update event, therefore adding accountInfoUpdate event into Retry Queue. ",e);
             syncRetryHelperService.addToRetryQueue(accountInfoUpdateEventDto, true, e.getMessage());
         }
+        return syncedStatus;
     }
 
     @Override
@@ -178,7 +203,7 @@ public class AccountInfoUpdateEventServiceImpl implements AccountInfoUpdateEvent
         //Build QR
         QuestionnaireResponse questionnaireResponse = null;
         questionnaireResponse = FHIRConverterUtility
-                .convertFormEntryToQuestionnaireResponse(formEntryDTO, formVersionDTO, participantDto.getExternalID(), StringUtil.getLanguageKey(participantDto.getLanguage()), drcImpersonation);
+                .convertFormEntryToQuestionnaireResponse(formEntryDTO, formIndexService.getFormIndex(formVersionDTO), participantDto.getExternalID(), StringUtil.getLanguageKey(participantDto.getLanguage()), drcImpersonation);
         return sendToDRC(questionnaireResponse, formEntryDTO, participantDto);
     }
 
@@ -186,7 +211,7 @@ public class AccountInfoUpdateEventServiceImpl implements AccountInfoUpdateEvent
         HttpResponseWrapper httpResponseWrapper = null;
 
         String url = drcProperties.getDrcApiBaseUrl() + URL_PARTICIPANT + "/" + participantDto.getExternalID() + "/QuestionnaireResponse";
-        String questionnaireResponseString = fhirContext.newJsonParser().encodeResourceToString(questionnaireResponse);
+        String questionnaireResponseString = fhirEncodingService.encodeDstu2(questionnaireResponse);
         String description = formEntryDTO.getFormName() + "| fid: " + formEntryDTO.getFormId() + "| fvId: " + formEntryDTO.getFormVersionId() + "| feId: " + formEntryDTO.getId();
         ExternalApiRequestLog externalApiRequestLog = ExternalApiRequestLogUtil.createExternalApiRequestLog(ExternalEventType.DRC_FORM_ENTRY, participantDto.getVibrentID(), participantDto.getExternalID(), description);
 
@@ -306,25 +331,26 @@ public class AccountInfoUpdateEventServiceImpl implements AccountInfoUpdateEvent
 
 
     private void initIdMap(Long formId, Long formVersionId, FormModeDTO formModeDTO) {
-        idMap = new HashMap<>();
-        idMap.put(FORM_NAME_CONSENT, formId);
-        idMap.put(FORM_VERSION_CONSENT, formVersionId);
+        Map<String, Long> ids = new HashMap<>();
+        ids.put(FORM_NAME_CONSENT, formId);
+        ids.put(FORM_VERSION_CONSENT, formVersionId);
 
         // add field ids
         Map<String, Long> formFieldMap = getFormFieldMapFromFormMode(formModeDTO);
 
-        idMap.put(FIELD_NAME_FIRST_NAME, formFieldMap.get(FIELD_NAME_FIRST_NAME));
-        idMap.put(FIELD_NAME_MIDDLE_NAME, formFieldMap.get(FIELD_NAME_MIDDLE_NAME));
-        idMap.put(FIELD_NAME_LAST_NAME, formFieldMap.get(FIELD_NAME_LAST_NAME));
-        idMap.put(FIELD_NAME_STREET_ADDRESS, formFieldMap.get(FIELD_NAME_STREET_ADDRESS));
-        idMap.put(FIELD_NAME_STREET_ADDRESS_TWO, formFieldMap.get(FIELD_NAME_STREET_ADDRESS_TWO));
-        idMap.put(FIELD_NAME_CITY, formFieldMap.get(FIELD_NAME_CITY));
-        idMap.put(FIELD_NAME_STATE, formFieldMap.get(FIELD_NAME_STATE));
-        idMap.put(FIELD_NAME_ZIP, formFieldMap.get(FIELD_NAME_ZIP));
-        idMap.put(FIELD_NAME_EMAIL, formFieldMap.get(FIELD_NAME_EMAIL));
-        idMap.put(FIELD_NAME_VERIFIED_PHONE_NUMBER, formFieldMap.get(FIELD_NAME_VERIFIED_PHONE_NUMBER));
-        idMap.put(FIELD_NAME_PHONE, formFieldMap.get(FIELD_NAME_PHONE));
-        idMap.put(FIELD_NAME_DOB, formFieldMap.get(FIELD_NAME_DOB));
+        ids.put(FIELD_NAME_FIRST_NAME, formFieldMap.get(FIELD_NAME_FIRST_NAME));
+        ids.put(FIELD_NAME_MIDDLE_NAME, formFieldMap.get(FIELD_NAME_MIDDLE_NAME));
+        ids.put(FIELD_NAME_LAST_NAME, formFieldMap.get(FIELD_NAME_LAST_NAME));
+        ids.put(FIELD_NAME_STREET_ADDRESS, formFieldMap.get(FIELD_NAME_STREET_ADDRESS));
+        ids.put(FIELD_NAME_STREET_ADDRESS_TWO, formFieldMap.get(FIELD_NAME_STREET_ADDRESS_TWO));
+        ids.put(FIELD_NAME_CITY, formFieldMap.get(FIELD_NAME_CITY));
+        ids.put(FIELD_NAME_STATE, formFieldMap.get(FIELD_NAME_STATE));
+        ids.put(FIELD_NAME_ZIP, formFieldMap.get(FIELD_NAME_ZIP));
+        ids.put(FIELD_NAME_EMAIL, formFieldMap.get(FIELD_NAME_EMAIL));
+        ids.put(FIELD_NAME_VERIFIED_PHONE_NUMBER, formFieldMap.get(FIELD_NAME_VERIFIED_PHONE_NUMBER));
+        ids.put(FIELD_NAME_PHONE, formFieldMap.get(FIELD_NAME_PHONE));
+        ids.put(FIELD_NAME_DOB, formFieldMap.get(FIELD_NAME_DOB));
+        idMap = ids;
 
     }
 
@@ -6,15 +6,13 @@ import com.vibrent.acadia.web.rest.dto.form.ActiveFormVersionDTO;
 import com.vibrent.acadia.web.rest.dto.form.FormEntryDTO;
 import com.vibrent.acadia.web.rest.dto.form.FormVersionDTO;
 import com.vibrent.drc.exception.BusinessProcessingException;
+import com.vibrent.drc.service.AccessTokenService;
 import com.vibrent.drc.service.ApiService;
 import com.vibrent.drc.util.JacksonUtil;
 import com.vibrent.drc.util.RestClientUtil;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -29,15 +27,15 @@ import static com.vibrent.drc.constants.DrcConstant.*;
 public class ApiServiceImpl implements ApiService {
 
     private final String apiUrl;
-    private final OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
+    private final AccessTokenService accessTokenService;
     private final RestClientUtil restClientUtil;
 
 
     public ApiServiceImpl(@Value("${vibrent.drc-service.acadiaApiUrl}") String apiUrl,
-                          @Qualifier("keycloakDrcInternalCredentialsRestTemplate") OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate,
+                          AccessTokenService accessTokenService,
                           RestClientUtil restClientUtil) {
         this.apiUrl = apiUrl;
-        this.keycloakDrcInternalCredentialsRestTemplate = keycloakDrcInternalCredentialsRestTemplate;
+        this.accessTokenService = accessTokenService;
         this.restClientUtil = restClientUtil;
 
     }
@@ -48,8 +46,7 @@ public class ApiServiceImpl implements ApiService {
         try {
             String url = apiUrl + BIOBANK_ADDRESS_DETAILS_API;
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url);
-            OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-            return restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessToken.getValue()));
+            return restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
         } catch (Exception e) {
             throw new BusinessProcessingException("Failed to fetch biobank address details: " + e);
         }
@@ -63,8 +60,7 @@ public class ApiServiceImpl implements ApiService {
         try {
             String url = apiUrl + USER_DETAILS_API + "/" + vibrentId;
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url);
-            OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessToken.getValue()));
+            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             return JacksonUtil.getMapper().readValue(response, UserDTO.class);
         } catch (Exception e) {
             throw new BusinessProcessingException("Failed to fetch User Details for vibrentId: " + vibrentId, e);
@@ -79,8 +75,7 @@ public class ApiServiceImpl implements ApiService {
             builder.queryParam("userId", userId);
             builder.queryParam("formName", formName);
 
-            OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessToken.getValue()));
+            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             return JacksonUtil.getMapper().readValue(response, JacksonUtil.getMapper().getTypeFactory().constructCollectionType(List.class, FormEntryDTO.class));
         } catch (Exception e) {
             throw new BusinessProcessingException("Failed to fetch User FormEntryDTO for user: " + userId, e);
@@ -88,12 +83,12 @@ public class ApiServiceImpl implements ApiService {
     }
 
     @Override
+    @Cacheable(cacheNames = FORM_VERSION_CACHE, sync = true)
     public FormVersionDTO getFormVersionById(Long id) {
         try {
             String url = apiUrl + GET_FORM_VERSION_API + id;
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url);
-            OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessToken.getValue()));
+            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             return JacksonUtil.getMapper().readValue(response, FormVersionDTO.class);
         } catch (Exception e) {
             throw new BusinessProcessingException("Failed to fetch User FormVersion for id: " + id, e);
@@ -101,12 +96,12 @@ public class ApiServiceImpl implements ApiService {
     }
 
     @Override
+    @Cacheable(cacheNames = ACTIVE_FORM_VERSION_CACHE, sync = true)
     public ActiveFormVersionDTO getActiveFormVersionByFormId(Long formId) {
         try {
             String url = apiUrl + GET_ACTIVE_FORM_VERSION_API + formId;
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url);
-            OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessToken.getValue()));
+            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             return JacksonUtil.getMapper().readValue(response, ActiveFormVersionDTO.class);
         } catch (Exception e) {
             throw new BusinessProcessingException("Failed to fetch active form version for formId: " + formId, e);
@@ -118,8 +113,7 @@ public class ApiServiceImpl implements ApiService {
         try {
             String url = apiUrl + GET_SSN_INFO_API + userId;
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url);
-            OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessToken.getValue()));
+            String response = restClientUtil.getRequest(builder, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             return JacksonUtil.getMapper().readValue(response, UserSSNDTO.class);
         } catch (Exception e) {
             throw new BusinessProcessingException("Failed to fetch SSN for user id: " + userId, e);
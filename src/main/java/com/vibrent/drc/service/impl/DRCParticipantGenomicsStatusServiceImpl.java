@@ -6,7 +6,6 @@ import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
 import com.vibrent.drc.domain.ParticipantGenomicStatusPayload;
 import com.vibrent.drc.domain.SystemProperties;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
-import com.vibrent.drc.dto.GenomicGemResponseDTO;
 import com.vibrent.drc.enumeration.ExternalEventType;
 import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
 import com.vibrent.drc.enumeration.SystemPropertiesEnum;
@@ -16,9 +15,8 @@ import com.vibrent.drc.repository.SystemPropertiesRepository;
 import com.vibrent.drc.service.DRCBackendProcessorWrapper;
 import com.vibrent.drc.service.DRCParticipantGenomicsStatusService;
 import com.vibrent.drc.service.DataSharingMetricsService;
-import com.vibrent.drc.service.ParticipantGenomicsStatusPayloadMapper;
 import com.vibrent.drc.util.ExternalApiRequestLogUtil;
-import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.drc.util.GenomicGemResponseReader;
 import com.vibrenthealth.drcutils.connector.HttpResponseWrapper;
 import com.vibrenthealth.drcutils.exception.DrcConnectorException;
 import com.vibrenthealth.drcutils.service.DRCConfigService;
@@ -26,17 +24,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.transaction.Transactional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -45,26 +41,26 @@ public class DRCParticipantGenomicsStatusServiceImpl implements DRCParticipantGe
     @Value("${vibrent.drc.genomics.participantStatus.batchProcessingSize}")
     private int batchProcessingSize;
 
+    @Value("${vibrent.drc.genomics.participantStatus.insertBatchSize:50}")
+    private int insertBatchSize;
+
 
     private final SystemPropertiesRepository systemPropertiesRepository;
     private final DRCConfigService drcConfigService;
     private final ParticipantGenomicStatusPayloadRepository participantGenomicStatusPayloadRepository;
     private final ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository;
-    private final ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper;
     private final DataSharingMetricsService dataSharingMetricsService;
     private final DRCBackendProcessorWrapper drcBackendProcessorWrapper;
 
     public DRCParticipantGenomicsStatusServiceImpl(SystemPropertiesRepository systemPropertiesRepository,
                                                    DRCConfigService drcConfigService, ParticipantGenomicStatusPayloadRepository participantGenomicStatusPayloadRepository,
                                                    ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository,
-                                                   ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper,
                                                    DataSharingMetricsService dataSharingMetricsService,
                                                    DRCBackendProcessorWrapper drcBackendProcessorWrapper) {
         this.systemPropertiesRepository = systemPropertiesRepository;
         this.drcConfigService = drcConfigService;
         this.participantGenomicStatusPayloadRepository = participantGenomicStatusPayloadRepository;
         this.participantGenomicStatusBatchRepository = participantGenomicStatusBatchRepository;
-        this.participantGenomicsStatusPayloadMapper = participantGenomicsStatusPayloadMapper;
         this.dataSharingMetricsService = dataSharingMetricsService;
         this.drcBackendProcessorWrapper = drcBackendProcessorWrapper;
 
@@ -81,10 +77,14 @@ public class DRCParticipantGenomicsStatusServiceImpl implements DRCParticipantGe
             return;
         }
 
+        SystemProperties property;
+        String startDate;
+        String responseBody;
+        String nextTimestamp;
         try {
-            SystemProperties property = systemPropertiesRepository.findByName(systemPropertiesEnum);
+            property = systemPropertiesRepository.findByName(systemPropertiesEnum);
             String timeStampToFetchNextStatus = property != null ? property.getValue() : null;
-            String startDate = timeStampToFetchNextStatus != null ? timeStampToFetchNextStatus : DrcConstant.DEFAULT_START_DATE;
+            startDate = timeStampToFetchNextStatus != null ? timeStampToFetchNextStatus : DrcConstant.DEFAULT_START_DATE;
 
             String uriString = drcConfigService.getDrcApiBaseUrl() +
                     UriComponentsBuilder.fromUriString(url)
@@ -97,28 +97,36 @@ public class DRCParticipantGenomicsStatusServiceImpl implements DRCParticipantGe
             ExternalApiRequestLog externalApiRequestLog = ExternalApiRequestLogUtil.createExternalApiRequestLog(externalEventType);
 
             HttpResponseWrapper responseFromDrc = drcBackendProcessorWrapper.sendRequest(uriString, null, RequestMethod.GET, null, externalApiRequestLog);
-            if (responseFromDrc.getStatusCode() == HttpStatus.OK.value()) {
-
-                GenomicGemResponseDTO genomicGemResponseDTO = JacksonUtil.getMapper().readValue(responseFromDrc.getResponseBody(), GenomicGemResponseDTO.class);
-
-                if (genomicGemResponseDTO.getTimestamp() == null) {
-                    log.warn("Drc-Service: Returned Invalid response from DRC for {} api call with response as {}", url, responseFromDrc.getResponseBody());
-                    return;
-                }
-
-                ParticipantGenomicStatusPayload savedEntity = saveExternalParticipantStatusPayloads(startDate, genomicGemResponseDTO.getTimestamp(), responseFromDrc.getResponseBody());
-                saveExternalParticipantStatusBatches(genomicGemResponseDTO.getData(), batchProcessingSize, savedEntity);
-
-                // save the retrieved time stamp in the database.
-                saveSystemProperties(property, genomicGemResponseDTO.getTimestamp(), systemPropertiesEnum);
-                dataSharingMetricsService.incrementGenomicsStatusFetchInitiatedCounter(genomicGemResponseDTO.getData().size());
-                log.info("Drc-Service : Data saved successfully for requested timestamp {} while calling {}", startDate, url);
-            } else {
+            if (responseFromDrc.getStatusCode() != HttpStatus.OK.value()) {
                 log.warn("Drc-Service : Error response received from DRC with status code as {} while calling {}", responseFromDrc.getStatusCode(), url);
+                return;
+            }
+
+            responseBody = responseFromDrc.getResponseBody();
+            nextTimestamp = GenomicGemResponseReader.readTimestamp(responseBody);
+            if (nextTimestamp == null) {
+                log.warn("Drc-Service: Returned Invalid response from DRC for {} api call with response as {}", url, responseBody);
+                return;
             }
         } catch (Exception e) {
             log.error("DRC-Service: Exception while fetching {} from DRC ", externalEventType.toString(), e );
+            return;
         }
+
+        // Not caught above: batches are saved while the data array is read, so a failure part way through propagates
+        // and rolls them back with the payload, and the next fetch stores the response again from the same timestamp
+        ParticipantGenomicStatusPayload savedEntity = saveExternalParticipantStatusPayloads(startDate, nextTimestamp, responseBody);
+        int fetchedCount;
+        try {
+            fetchedCount = saveExternalParticipantStatusBatches(responseBody, batchProcessingSize, savedEntity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("DRC-Service: Malformed data array in the response of " + url, e);
+        }
+
+        // save the retrieved time stamp in the database.
+        saveSystemProperties(property, nextTimestamp, systemPropertiesEnum);
+        dataSharingMetricsService.incrementGenomicsStatusFetchInitiatedCounter(fetchedCount);
+        log.info("Drc-Service : Data saved successfully for requested timestamp {} while calling {}", startDate, url);
     }
 
     private SystemProperties saveSystemProperties(SystemProperties systemProperties, String timestamp, SystemPropertiesEnum systemPropertiesEnum) {
@@ -140,28 +148,36 @@ public class DRCParticipantGenomicsStatusServiceImpl implements DRCParticipantGe
         return participantGenomicStatusPayloadRepository.save(participantGenomicStatusPayload);
     }
 
-    private void saveExternalParticipantStatusBatches(List<Map<String, Object>> entireList, int partitionSize, ParticipantGenomicStatusPayload savedEntity) throws JsonProcessingException {
-        List<ParticipantGenomicStatusBatch> participantGenomicStatusBatchList = new ArrayList<>();
-
-        //divide the entire list into chucks
-        final AtomicInteger counter = new AtomicInteger();
-        final Collection<List<Map<String, Object>>> subLists = entireList.stream().collect(Collectors.groupingBy
-                (it -> counter.getAndIncrement() / partitionSize))
-                .values();
-
-        for(List<Map<String, Object>> collection : subLists){
-            participantGenomicStatusBatchList.add(buildExternalReportBatch(collection, partitionSize, savedEntity));
+    /**
+     * Stream the data array of the response into one batch per partitionSize entries and insert them insertBatchSize
+     * batches at a time, so a large response is written with a few batched statements while only the batches of one
+     * insert are held in memory.
+     *
+     * @return number of entries read from the response
+     */
+    private int saveExternalParticipantStatusBatches(String responseBody, int partitionSize, ParticipantGenomicStatusPayload savedEntity) throws IOException {
+        AtomicInteger batchCount = new AtomicInteger();
+        List<ParticipantGenomicStatusBatch> pendingBatches = new ArrayList<>();
+        int fetchedCount = GenomicGemResponseReader.readDataInBatches(responseBody, partitionSize, batchPayload -> {
+            pendingBatches.add(buildExternalReportBatch(batchPayload, partitionSize, savedEntity));
+            batchCount.incrementAndGet();
+            if (pendingBatches.size() >= insertBatchSize) {
+                participantGenomicStatusBatchRepository.insertAll(pendingBatches);
+                pendingBatches.clear();
+            }
+        });
+        if (!pendingBatches.isEmpty()) {
+            participantGenomicStatusBatchRepository.insertAll(pendingBatches);
         }
 
-        if(!CollectionUtils.isEmpty(participantGenomicStatusBatchList)){
-            participantGenomicStatusBatchRepository.saveAll(participantGenomicStatusBatchList);
-            log.info("DRC Genomics: Saved {} batches in the database", participantGenomicStatusBatchList.size());
+        if (batchCount.get() > 0) {
+            log.info("DRC Genomics: Saved {} batches in the database", batchCount.get());
         }
+        return fetchedCount;
     }
 
-    private ParticipantGenomicStatusBatch buildExternalReportBatch(List<Map<String, Object>> participantGenomicStatusDTOList, int partitionSize, ParticipantGenomicStatusPayload savedEntity) throws JsonProcessingException {
+    private ParticipantGenomicStatusBatch buildExternalReportBatch(String jsonPayload, int partitionSize, ParticipantGenomicStatusPayload savedEntity) {
         ParticipantGenomicStatusBatch participantGenomicStatusBatch = new ParticipantGenomicStatusBatch();
-        String jsonPayload = participantGenomicsStatusPayloadMapper.mapListOfParticipantGenomicsStatusToJsonString(participantGenomicStatusDTOList);
         participantGenomicStatusBatch.setBatchPayload(jsonPayload);
         participantGenomicStatusBatch.setBatchSize(partitionSize);
         participantGenomicStatusBatch.setStatus(ExternalGenomicPayloadProcessingStatus.PENDING);
@@ -2,6 +2,7 @@ package com.vibrent.drc.service.impl;
 
 import com.vibrent.drc.configuration.DrcProperties;
 import com.vibrent.drc.constants.DrcConstant;
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
 import com.vibrent.drc.dto.Participant;
 import com.vibrent.drc.enumeration.ExternalEventType;
@@ -57,6 +58,12 @@ public class DRCParticipantServiceImpl implements DRCParticipantService {
         accountInfoUpdateEventHelperService.processIfTestParticipantUpdated(accountInfoUpdateEventDto, () -> validateAndCallDrcEndpoint(accountInfoUpdateEventDto));
     }
 
+    @Override
+    public void patchTestParticipant(AccountInfoUpdateEventDto accountInfoUpdateEventDto, DrcSyncedStatus drcSyncedStatus) {
+        accountInfoUpdateEventHelperService.processIfTestParticipantUpdated(accountInfoUpdateEventDto, drcSyncedStatus,
+                () -> validateAndCallDrcEndpoint(accountInfoUpdateEventDto));
+    }
+
     boolean validateAndCallDrcEndpoint(AccountInfoUpdateEventDto accountInfoUpdateEventDto) {
         try {
             if (accountInfoUpdateEventDto == null || StringUtils.isEmpty(accountInfoUpdateEventDto.getExternalID()) ||
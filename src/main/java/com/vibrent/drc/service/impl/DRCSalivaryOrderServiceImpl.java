@@ -1,6 +1,5 @@
 package com.vibrent.drc.service.impl;
 
-import ca.uhn.fhir.context.FhirContext;
 import com.vibrent.drc.configuration.DrcProperties;
 import com.vibrent.drc.domain.OrderTrackingDetails;
 import com.vibrent.drc.enumeration.DRCSupplyMessageStatusType;
@@ -8,6 +7,7 @@ import com.vibrent.drc.exception.BusinessValidationException;
 import com.vibrent.drc.exception.DrcException;
 import com.vibrent.drc.service.DRCSalivaryOrderService;
 import com.vibrent.drc.service.DRCSupplyStatusService;
+import com.vibrent.drc.service.FhirEncodingService;
 import com.vibrent.drc.service.OrderTrackingDetailsService;
 import com.vibrent.fulfillment.dto.OrderDetailsDTO;
 import com.vibrent.fulfillment.dto.TrackingDetailsDTO;
@@ -45,7 +45,7 @@ public class DRCSalivaryOrderServiceImpl implements DRCSalivaryOrderService {
     private final FHIRSalivaryConverterUtility fhirSalivaryConverterUtility;
     private final DRCConfigService drcConfigService;
     private final DRCSupplyStatusService drcSupplyStatusService;
-    private final FhirContext fhirContext;
+    private final FhirEncodingService fhirEncodingService;
     private final DrcProperties drcProperties;
     private final OrderTrackingDetailsService orderTrackingDetailsService;
 
@@ -55,13 +55,14 @@ public class DRCSalivaryOrderServiceImpl implements DRCSalivaryOrderService {
 
     @Inject
     public DRCSalivaryOrderServiceImpl(FHIRSalivaryConverterUtility fhirSalivaryConverterUtility, DRCConfigService drcConfigService,
-                                       DRCSupplyStatusService drcSupplyStatusService, DrcProperties drcProperties, OrderTrackingDetailsService orderTrackingDetailsService) {
+                                       DRCSupplyStatusService drcSupplyStatusService, DrcProperties drcProperties, OrderTrackingDetailsService orderTrackingDetailsService,
+                                       FhirEncodingService fhirEncodingService) {
         this.fhirSalivaryConverterUtility = fhirSalivaryConverterUtility;
         this.drcSupplyStatusService = drcSupplyStatusService;
         this.drcConfigService = drcConfigService;
         this.drcProperties = drcProperties;
         this.orderTrackingDetailsService = orderTrackingDetailsService;
-        fhirContext = FhirContext.forR4();
+        this.fhirEncodingService = fhirEncodingService;
     }
 
     @Override
@@ -92,7 +93,7 @@ public class DRCSalivaryOrderServiceImpl implements DRCSalivaryOrderService {
                         supplyDeliveryStatus,
                         statusType, messageHeaderDto, orderIdentifierDto);
 
-        supplyFHIRMessage = fhirContext.newJsonParser().setPrettyPrint(false).setSuppressNarratives(false).setSummaryMode(false).encodeResourceToString(supplyDelivery);
+        supplyFHIRMessage = fhirEncodingService.encodeR4(supplyDelivery);
 
         try {
             String fullurl = appendLiteralIdToURLForTrackDelivery(url, statusType, requestMethod, orderDetails);
@@ -132,7 +133,7 @@ public class DRCSalivaryOrderServiceImpl implements DRCSalivaryOrderService {
         //convert objects to FHIR message
         SupplyRequest supplyRequest = fhirSalivaryConverterUtility.orderToSupplyRequestFHIRConverter(createTrackOrderResponseDto, messageHeaderDto, supplyRequestStatus,orderId);
         supplyRequest.setAuthoredOn(new Date(createTrackOrderResponseDto.getDateTime()));
-        supplyFHIRMessage = fhirContext.newJsonParser().setPrettyPrint(false).setSuppressNarratives(false).setSummaryMode(false).encodeResourceToString(supplyRequest);
+        supplyFHIRMessage = fhirEncodingService.encodeR4(supplyRequest);
 
         try {
             String fullUrl = appendLiteralIdToURL(url, statusType, createTrackOrderResponseDto, requestMethod);
@@ -210,7 +211,7 @@ public class DRCSalivaryOrderServiceImpl implements DRCSalivaryOrderService {
 
         //convert objects to FHIR message
         SupplyRequest supplyRequest = fhirSalivaryConverterUtility.fulfillmentOrderToSupplyRequestFHIRConverter(fulfillmentResponseDto, messageHeaderDto, supplyRequestStatus, orderId, participantDto);
-        supplyFHIRMessage = fhirContext.newJsonParser().setPrettyPrint(false).setSuppressNarratives(false).setSummaryMode(false).encodeResourceToString(supplyRequest);
+        supplyFHIRMessage = fhirEncodingService.encodeR4(supplyRequest);
 
         //Determine if call needs to be POST or PUT
         OrderTrackingDetails orderDetails = orderTrackingDetailsService.getOrderDetails(orderId, ORDER_ID);
@@ -249,7 +250,7 @@ public class DRCSalivaryOrderServiceImpl implements DRCSalivaryOrderService {
 
         String url = URL_SUPPLYDELIVERY;
         String supplyFHIRMessage;
-        supplyFHIRMessage = fhirContext.newJsonParser().setPrettyPrint(false).setSuppressNarratives(false).setSummaryMode(false).encodeResourceToString(supplyDelivery);
+        supplyFHIRMessage = fhirEncodingService.encodeR4(supplyDelivery);
 
         String fullUrl = appendLiteralIdToURLForTrackDelivery(url, statusType, requestMethod, orderDetails);
         HttpResponseWrapper response = drcSupplyStatusService.sendSupplyStatus(supplyFHIRMessage, participantDto.getVibrentID(),
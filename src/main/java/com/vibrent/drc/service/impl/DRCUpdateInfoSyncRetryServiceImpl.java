@@ -6,14 +6,17 @@ import com.vibrent.drc.enumeration.DataTypeEnum;
 import com.vibrent.drc.repository.DRCUpdateInfoSyncRetryRepository;
 import com.vibrent.drc.service.AccountInfoUpdateEventService;
 import com.vibrent.drc.service.DRCUpdateInfoSyncRetryService;
+import com.vibrent.drc.service.SyncRetryHelperService;
 import com.vibrent.drc.util.JacksonUtil;
 import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -22,20 +25,29 @@ public class DRCUpdateInfoSyncRetryServiceImpl implements DRCUpdateInfoSyncRetry
     private final long maxRetryCount;
     private final AccountInfoUpdateEventService accountInfoUpdateEventService;
     private final DRCUpdateInfoSyncRetryRepository drcUpdateInfoSyncRetryRepository;
+    private final SyncRetryHelperService syncRetryHelperService;
 
     public DRCUpdateInfoSyncRetryServiceImpl(AccountInfoUpdateEventService accountInfoUpdateEventService,
                                              DRCUpdateInfoSyncRetryRepository drcUpdateInfoSyncRetryRepository,
+                                             SyncRetryHelperService syncRetryHelperService,
                                              @Value("${vibrent.drc.sync.retry.maxRetryCount}") long maxRetryCount) {
         this.accountInfoUpdateEventService = accountInfoUpdateEventService;
         this.drcUpdateInfoSyncRetryRepository = drcUpdateInfoSyncRetryRepository;
+        this.syncRetryHelperService = syncRetryHelperService;
         this.maxRetryCount = maxRetryCount;
     }
 
+    @Transactional
     @Override
-    public Stream<DRCUpdateInfoSyncRetry> getEligibleEntries() {
-        return drcUpdateInfoSyncRetryRepository.findByRetryCountLessThanOrderByUpdatedOnAsc(maxRetryCount);
+    public List<DRCUpdateInfoSyncRetry> claimDueEntries(long now, int pageSize) {
+        List<DRCUpdateInfoSyncRetry> dueEntries = drcUpdateInfoSyncRetryRepository
+                .findByNextAttemptAtLessThanEqualAndRetryCountLessThanOrderByNextAttemptAtAsc(now, maxRetryCount, PageRequest.of(0, pageSize));
+
+        dueEntries.forEach(syncRetryHelperService::scheduleNextAttempt);
+        return drcUpdateInfoSyncRetryRepository.saveAll(dueEntries);
     }
 
+    @Transactional
     @Override
     public void retryUpdateInfoSync(@NonNull DRCUpdateInfoSyncRetry entry) {
         if (!drcUpdateInfoSyncRetryRepository.existsById(entry.getId())) {
@@ -62,8 +62,8 @@ public class DataSharingMetricsServiceImpl implements DataSharingMetricsService
     }
 
     @Override
-    public void incrementGenomicsStatusMessagesSentCounter() {
-        genomicsStatusMessagesSentCounter.increment();
+    public void incrementGenomicsStatusMessagesSentCounter(int size) {
+        genomicsStatusMessagesSentCounter.increment(size);
     }
 
     @Override
@@ -0,0 +1,179 @@
+package com.vibrent.drc.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.vibrent.drc.domain.DrcExternalEventOutbox;
+import com.vibrent.drc.messaging.producer.DrcExternalEventProducer;
+import com.vibrent.drc.repository.DrcExternalEventOutboxRepository;
+import com.vibrent.drc.service.DrcExternalEventOutboxService;
+import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.vxp.push.DRCExternalEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+public class DrcExternalEventOutboxServiceImpl implements DrcExternalEventOutboxService {
+
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+
+    private final DrcExternalEventOutboxRepository drcExternalEventOutboxRepository;
+    private final DrcExternalEventProducer drcExternalEventProducer;
+    private final long sendTimeoutMillis;
+    private final int maxRetryCount;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public DrcExternalEventOutboxServiceImpl(DrcExternalEventOutboxRepository drcExternalEventOutboxRepository,
+                                             DrcExternalEventProducer drcExternalEventProducer,
+                                             @Value("${vibrent.drc.externalEventOutbox.sendTimeoutSeconds:30}") long sendTimeoutSeconds,
+                                             @Value("${vibrent.drc.externalEventOutbox.maxRetryCount:20}") int maxRetryCount,
+                                             @Value("${vibrent.drc.externalEventOutbox.baseDelaySeconds:60}") long baseDelaySeconds,
+                                             @Value("${vibrent.drc.externalEventOutbox.maxDelaySeconds:3600}") long maxDelaySeconds) {
+        this.drcExternalEventOutboxRepository = drcExternalEventOutboxRepository;
+        this.drcExternalEventProducer = drcExternalEventProducer;
+        this.sendTimeoutMillis = TimeUnit.SECONDS.toMillis(sendTimeoutSeconds);
+        this.maxRetryCount = Math.max(1, maxRetryCount);
+        this.baseDelayMillis = TimeUnit.SECONDS.toMillis(Math.max(1, baseDelaySeconds));
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, TimeUnit.SECONDS.toMillis(maxDelaySeconds));
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(List<DRCExternalEventDto> drcExternalEventDtoList) {
+        if (!drcExternalEventProducer.isKafkaEnabled()) {
+            // Nothing would ever relay the rows, the events are dropped as the producer does when kafka is disabled
+            log.debug("DRC-Service: Kafka is disabled, not writing {} drc external events to the outbox", drcExternalEventDtoList.size());
+            return;
+        }
+        List<DrcExternalEventOutbox> outboxRows = new ArrayList<>(drcExternalEventDtoList.size());
+        for (DRCExternalEventDto drcExternalEventDto : drcExternalEventDtoList) {
+            DrcExternalEventOutbox outboxRow = new DrcExternalEventOutbox();
+            outboxRow.setVibrentId(drcExternalEventDto.getVibrentID());
+            outboxRow.setPayload(writePayload(drcExternalEventDto));
+            outboxRows.add(outboxRow);
+        }
+        drcExternalEventOutboxRepository.saveAll(outboxRows);
+    }
+
+    @Override
+    public RelayResult relayNextPage(int pageSize) {
+        if (!drcExternalEventProducer.isKafkaEnabled()) {
+            return RelayResult.EMPTY;
+        }
+
+        List<DrcExternalEventOutbox> outboxRows = drcExternalEventOutboxRepository
+                .findByNextAttemptAtLessThanEqualAndRetryCountLessThanOrderByNextAttemptAtAscIdAsc(System.currentTimeMillis(), maxRetryCount, PageRequest.of(0, pageSize));
+        if (outboxRows.isEmpty()) {
+            return RelayResult.EMPTY;
+        }
+
+        // Send the whole page before waiting, so that the producer groups the records into batches
+        List<Long> unreadableIds = new ArrayList<>();
+        List<DrcExternalEventOutbox> failedRows = new ArrayList<>();
+        List<DrcExternalEventOutbox> sentRows = new ArrayList<>(outboxRows.size());
+        List<Future<SendResult<String, DRCExternalEventDto>>> sendResults = new ArrayList<>(outboxRows.size());
+        for (DrcExternalEventOutbox outboxRow : outboxRows) {
+            DRCExternalEventDto drcExternalEventDto = readPayload(outboxRow);
+            if (drcExternalEventDto == null) {
+                unreadableIds.add(outboxRow.getId());
+                continue;
+            }
+            try {
+                sendResults.add(drcExternalEventProducer.publish(drcExternalEventDto));
+                sentRows.add(outboxRow);
+            } catch (Exception e) {
+                log.warn("DRC-Service: Failed to send the drc external event outbox row {} for user id:{}", outboxRow.getId(), outboxRow.getVibrentId(), e);
+                failedRows.add(outboxRow);
+            }
+        }
+
+        List<Long> ackedIds = new ArrayList<>(sentRows.size());
+        long deadline = System.currentTimeMillis() + sendTimeoutMillis;
+        for (int i = 0; i < sentRows.size(); i++) {
+            if (waitForAck(sentRows.get(i), sendResults.get(i), deadline)) {
+                ackedIds.add(sentRows.get(i).getId());
+            } else {
+                failedRows.add(sentRows.get(i));
+            }
+        }
+
+        if (!unreadableIds.isEmpty()) {
+            drcExternalEventOutboxRepository.deleteByIds(unreadableIds);
+        }
+        if (!ackedIds.isEmpty()) {
+            drcExternalEventOutboxRepository.deleteByIds(ackedIds);
+        }
+        if (!failedRows.isEmpty()) {
+            scheduleNextAttempt(failedRows);
+        }
+        log.info("DRC-Service: Published {} of {} drc external event outbox rows", ackedIds.size(), outboxRows.size());
+        return new RelayResult(ackedIds.size(), ackedIds.size() + unreadableIds.size());
+    }
+
+    /**
+     * Push the failed rows out by the backoff delay of their new retry count, so they do not hold the head of the outbox.
+     * Rows that reach the max retry count stay in the outbox for inspection but are no longer published.
+     */
+    private void scheduleNextAttempt(List<DrcExternalEventOutbox> failedRows) {
+        Map<Integer, List<Long>> idsByRetryCount = new HashMap<>();
+        for (DrcExternalEventOutbox failedRow : failedRows) {
+            int retryCount = (failedRow.getRetryCount() == null ? 0 : failedRow.getRetryCount()) + 1;
+            idsByRetryCount.computeIfAbsent(retryCount, k -> new ArrayList<>()).add(failedRow.getId());
+            if (retryCount >= maxRetryCount) {
+                log.error("DRC-Service: Drc external event outbox row {} for user id:{} failed {} times, it is no longer published",
+                        failedRow.getId(), failedRow.getVibrentId(), retryCount);
+            }
+        }
+        long now = System.currentTimeMillis();
+        idsByRetryCount.forEach((retryCount, ids) ->
+                drcExternalEventOutboxRepository.updateRetryCountAndNextAttemptAt(ids, retryCount, now + backoffDelay(retryCount)));
+    }
+
+    private long backoffDelay(int retryCount) {
+        return Math.min(maxDelayMillis, baseDelayMillis << Math.min(retryCount - 1, MAX_BACKOFF_EXPONENT));
+    }
+
+    private boolean waitForAck(DrcExternalEventOutbox outboxRow, Future<SendResult<String, DRCExternalEventDto>> sendResult, long deadline) {
+        try {
+            sendResult.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("DRC-Service: Interrupted while waiting for the ack of drc external event outbox row {}", outboxRow.getId());
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("DRC-Service: Failed to send the drc external event outbox row {} for user id:{}, error:{}", outboxRow.getId(), outboxRow.getVibrentId(), e.getMessage());
+        }
+        return false;
+    }
+
+    private static String writePayload(DRCExternalEventDto drcExternalEventDto) {
+        try {
+            return JacksonUtil.getMapper().writeValueAsString(drcExternalEventDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("DRC-Service: Cannot serialize drc external event for user id: " + drcExternalEventDto.getVibrentID(), e);
+        }
+    }
+
+    private static DRCExternalEventDto readPayload(DrcExternalEventOutbox outboxRow) {
+        try {
+            return JacksonUtil.getMapper().readValue(outboxRow.getPayload(), DRCExternalEventDto.class);
+        } catch (Exception e) {
+            // Such a row can never be published, it is logged and dropped instead of blocking the head of the outbox
+            log.error("DRC-Service: Dropping unreadable drc external event outbox row {} payload: {}", outboxRow.getId(), outboxRow.getPayload(), e);
+            return null;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.vibrent.drc.service.impl;
 
 import com.vibrent.drc.dto.ExternalApiRequestLog;
-import com.vibrent.drc.messaging.producer.ExternalApiRequestLogsProducer;
+import com.vibrent.drc.messaging.producer.ExternalApiRequestLogsDispatcher;
 import com.vibrent.drc.service.ExternalApiRequestLogsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.KafkaException;
@@ -13,16 +13,16 @@ import javax.validation.constraints.NotNull;
 @Slf4j
 public class ExternalApiRequestLogsServiceImpl implements ExternalApiRequestLogsService {
 
-    private ExternalApiRequestLogsProducer externalApiRequestLogsProducer;
+    private ExternalApiRequestLogsDispatcher externalApiRequestLogsDispatcher;
 
-    public ExternalApiRequestLogsServiceImpl(ExternalApiRequestLogsProducer externalApiRequestLogsListener) {
-        this.externalApiRequestLogsProducer = externalApiRequestLogsListener;
+    public ExternalApiRequestLogsServiceImpl(ExternalApiRequestLogsDispatcher externalApiRequestLogsDispatcher) {
+        this.externalApiRequestLogsDispatcher = externalApiRequestLogsDispatcher;
     }
 
     @Override
     public void send(@NotNull ExternalApiRequestLog externalApiRequestLog) {
         try {
-            this.externalApiRequestLogsProducer.send(externalApiRequestLog);
+            this.externalApiRequestLogsDispatcher.dispatch(externalApiRequestLog);
         } catch (KafkaException e) {
             log.warn("DRC-Service| Failed to send to external api request log", e);
         }
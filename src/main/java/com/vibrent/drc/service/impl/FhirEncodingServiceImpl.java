@@ -0,0 +1,79 @@
+package com.vibrent.drc.service.impl;
+
+import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.parser.IParser;
+import com.vibrent.drc.service.FhirEncodingService;
+import lombok.extern.slf4j.Slf4j;
+import org.hl7.fhir.instance.model.api.IBaseResource;
+import org.hl7.fhir.r4.model.SupplyDelivery;
+import org.hl7.fhir.r4.model.SupplyRequest;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * Encodes FHIR resources with one parser and one output buffer per thread and FHIR version, as HAPI parsers are not
+ * thread safe but are safe to reuse on the same thread. The contexts are built and their model scanned at startup
+ * instead of on the first message.
+ */
+@Slf4j
+@Service
+public class FhirEncodingServiceImpl implements FhirEncodingService {
+
+    private static final int INITIAL_BUFFER_CHARS = 8 * 1024;
+    // A buffer grown beyond this by an unusually large resource is not kept for the next encode
+    private static final int MAX_RETAINED_BUFFER_CHARS = 1024 * 1024;
+
+    private final FhirContext r4Context = FhirContext.forR4();
+    private final FhirContext dstu2Context = FhirContext.forDstu2();
+    private final ThreadLocal<Encoder> r4Encoder = ThreadLocal.withInitial(() -> new Encoder(r4Context,
+            context -> context.newJsonParser().setPrettyPrint(false).setSuppressNarratives(false).setSummaryMode(false)));
+    private final ThreadLocal<Encoder> dstu2Encoder = ThreadLocal.withInitial(() -> new Encoder(dstu2Context, FhirContext::newJsonParser));
+
+    @PostConstruct
+    public void warmUp() {
+        long startTime = System.currentTimeMillis();
+        encodeR4(new SupplyRequest());
+        encodeR4(new SupplyDelivery());
+        encodeDstu2(new ca.uhn.fhir.model.dstu2.resource.QuestionnaireResponse());
+        log.info("DRC-Service: FHIR contexts warmed up in {} ms", System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public String encodeR4(IBaseResource resource) {
+        return r4Encoder.get().encode(resource);
+    }
+
+    @Override
+    public String encodeDstu2(IBaseResource resource) {
+        return dstu2Encoder.get().encode(resource);
+    }
+
+    private static final class Encoder {
+        private final IParser parser;
+        private StringWriter buffer = new StringWriter(INITIAL_BUFFER_CHARS);
+
+        private Encoder(FhirContext context, Function<FhirContext, IParser> parserFactory) {
+            this.parser = parserFactory.apply(context);
+        }
+
+        private String encode(IBaseResource resource) {
+            buffer.getBuffer().setLength(0);
+            try {
+                parser.encodeResourceToWriter(resource, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            String encoded = buffer.toString();
+            if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_CHARS) {
+                buffer = new StringWriter(INITIAL_BUFFER_CHARS);
+            }
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.vibrent.drc.service.impl;
+
+import com.vibrent.acadia.web.rest.dto.form.FormVersionDTO;
+import com.vibrent.drc.service.FormIndexService;
+import com.vibrent.drc.util.FormIndex;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import static com.vibrent.drc.constants.DrcConstant.FORM_INDEX_CACHE;
+
+@Service
+public class FormIndexServiceImpl implements FormIndexService {
+
+    @Override
+    @Cacheable(cacheNames = FORM_INDEX_CACHE, key = "#formVersionDTO.id", condition = "#formVersionDTO.id != null", sync = true)
+    public FormIndex getFormIndex(FormVersionDTO formVersionDTO) {
+        return FormIndex.of(formVersionDTO);
+    }
+}
@@ -9,12 +9,8 @@ import com.vibrent.fulfillment.dto.OrderDetailsDTO;
 import com.vibrenthealth.drcutils.exception.RecoverableNetworkException;
 import com.vibrenthealth.drcutils.service.DRCRetryService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.BeanFactory;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.stereotype.Service;
 import retrofit2.Call;
 import retrofit2.Response;
@@ -26,21 +22,17 @@ import java.util.List;
 @Slf4j
 public class FulfillmentServiceImpl implements FulfillmentService {
 
-    private final String fulfillmentUrl;
-    private final BeanFactory beanFactory;
+    private final OrdersApi ordersApi;
     private final DRCRetryService retryService;
     private final List<Class<? extends Exception>> retryExceptionsList = List.of(RecoverableNetworkException.class);
 
     private final String retryForHttpStatusCodes;
-    private final OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
 
-    public FulfillmentServiceImpl(@Value("${vibrent.drc-service.fulfillmentUrl}") String fulfillmentUrl, BeanFactory beanFactory,
-                                  DRCRetryService retryService, @Value("${vibrent.drc-service.retryApiCall.retryForHttpStatusCode}") String retryForHttpStatusCodes, @Qualifier("keycloakDrcInternalCredentialsRestTemplate") OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate) {
-        this.fulfillmentUrl = fulfillmentUrl;
-        this.beanFactory = beanFactory;
+    public FulfillmentServiceImpl(OrdersApi ordersApi, DRCRetryService retryService,
+                                  @Value("${vibrent.drc-service.retryApiCall.retryForHttpStatusCode}") String retryForHttpStatusCodes) {
+        this.ordersApi = ordersApi;
         this.retryService = retryService;
         this.retryForHttpStatusCodes = retryForHttpStatusCodes;
-        this.keycloakDrcInternalCredentialsRestTemplate = keycloakDrcInternalCredentialsRestTemplate;
     }
 
     /**
@@ -72,9 +64,6 @@ public class FulfillmentServiceImpl implements FulfillmentService {
 
     private OrderDetailsDTO callGetOrderById(Long orderId) throws IOException, RecoverableNetworkException {
 
-        OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-        OrdersApi ordersApi = beanFactory.getBean(OrdersApi.class, accessToken.getValue(), fulfillmentUrl);
-
         Call<OrderDetailsDTO> orderResponseCall = ordersApi.getOrderById(orderId);
         Response<OrderDetailsDTO> response = orderResponseCall.execute();
         int code = response.code();
@@ -0,0 +1,180 @@
+package com.vibrent.drc.service.impl;
+
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.domain.ParticipantGenomicStatusPayload;
+import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.drc.repository.ParticipantGenomicStatusBatchRepository;
+import com.vibrent.drc.repository.ParticipantGenomicStatusPayloadRepository;
+import com.vibrent.drc.service.GenomicStatusRetentionService;
+import com.vibrent.drc.util.DateTimeUtil;
+import com.vibrent.drc.util.JacksonUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class GenomicStatusRetentionServiceImpl implements GenomicStatusRetentionService {
+
+    // Batches whose events were written to the external event outbox, see ParticipantGenomicStatusBatchProcessingServiceImpl
+    static final List<ExternalGenomicPayloadProcessingStatus> PROCESSED_STATUSES = Collections.unmodifiableList(
+            Arrays.asList(ExternalGenomicPayloadProcessingStatus.PROCESSING, ExternalGenomicPayloadProcessingStatus.COMPLETE));
+
+    private static final String BATCH_TABLE = "participant_genomic_status_batch";
+    private static final String PAYLOAD_TABLE = "participant_genomic_status_payload";
+
+    private final ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository;
+    private final ParticipantGenomicStatusPayloadRepository participantGenomicStatusPayloadRepository;
+    private final long retentionMillis;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private final String archiveDirectory;
+
+    public GenomicStatusRetentionServiceImpl(ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository,
+                                             ParticipantGenomicStatusPayloadRepository participantGenomicStatusPayloadRepository,
+                                             @Value("${vibrent.drc.genomics.retention.retentionDays:90}") int retentionDays,
+                                             @Value("${vibrent.drc.genomics.retention.chunkSize:500}") int chunkSize,
+                                             @Value("${vibrent.drc.genomics.retention.chunkPauseMillis:200}") long chunkPauseMillis,
+                                             @Value("${vibrent.drc.genomics.retention.archiveDirectory:}") String archiveDirectory) {
+        this.participantGenomicStatusBatchRepository = participantGenomicStatusBatchRepository;
+        this.participantGenomicStatusPayloadRepository = participantGenomicStatusPayloadRepository;
+        this.retentionMillis = TimeUnit.DAYS.toMillis(Math.max(1, retentionDays));
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkPauseMillis = Math.max(0, chunkPauseMillis);
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    @Override
+    public int purgeExpired() throws IOException, InterruptedException {
+        long now = DateTimeUtil.getCurrentTimestamp();
+        long cutoff = now - retentionMillis;
+
+        int deletedBatches = purge(BATCH_TABLE, now,
+                () -> participantGenomicStatusBatchRepository.findIdsByStatusInAndUpdatedOnBefore(PROCESSED_STATUSES, cutoff, PageRequest.of(0, chunkSize)),
+                participantGenomicStatusBatchRepository::findAllById,
+                GenomicStatusRetentionServiceImpl::toBatchArchiveRow,
+                participantGenomicStatusBatchRepository::deleteByIds);
+        int deletedPayloads = purge(PAYLOAD_TABLE, now,
+                () -> participantGenomicStatusPayloadRepository.findIdsWithoutBatchesByUpdatedOnBefore(cutoff, PageRequest.of(0, chunkSize)),
+                participantGenomicStatusPayloadRepository::findAllById,
+                GenomicStatusRetentionServiceImpl::toPayloadArchiveRow,
+                participantGenomicStatusPayloadRepository::deleteByIds);
+
+        if (deletedBatches > 0 || deletedPayloads > 0) {
+            log.info("DRC Genomics: Deleted {} batches and {} payloads last updated before {}", deletedBatches, deletedPayloads, cutoff);
+        }
+        return deletedBatches + deletedPayloads;
+    }
+
+    /**
+     * Delete the rows chunk by chunk, archiving each chunk before it is deleted, until a chunk is not full. A chunk
+     * whose archive write fails is not deleted.
+     */
+    private <T> int purge(String table, long now, Supplier<List<Long>> nextChunk, Function<List<Long>, List<T>> loader,
+                          Function<T, Map<String, Object>> archiveRow, ToIntFunction<List<Long>> delete) throws IOException, InterruptedException {
+        int deleted = 0;
+        ArchiveFile archiveFile = null;
+        try {
+            List<Long> ids;
+            while (!(ids = nextChunk.get()).isEmpty()) {
+                if (StringUtils.hasText(archiveDirectory)) {
+                    if (archiveFile == null) {
+                        archiveFile = new ArchiveFile(Paths.get(archiveDirectory, table + "-" + now + ".ndjson.gz"));
+                    }
+                    for (T row : loader.apply(ids)) {
+                        archiveFile.write(archiveRow.apply(row));
+                    }
+                    archiveFile.flush();
+                }
+
+                int deletedChunk = delete.applyAsInt(ids);
+                deleted += deletedChunk;
+                if (ids.size() < chunkSize || deletedChunk == 0) {
+                    break;
+                }
+                // Spread the deletes, so replicas keep up with them
+                Thread.sleep(chunkPauseMillis);
+            }
+        } finally {
+            if (archiveFile != null) {
+                archiveFile.close();
+            }
+        }
+        return deleted;
+    }
+
+    private static Map<String, Object> toBatchArchiveRow(ParticipantGenomicStatusBatch participantGenomicStatusBatch) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", participantGenomicStatusBatch.getId());
+        row.put("participantGenomicStatusPayloadId", participantGenomicStatusBatch.getParticipantGenomicStatusPayload() == null
+                ? null : participantGenomicStatusBatch.getParticipantGenomicStatusPayload().getId());
+        row.put("status", participantGenomicStatusBatch.getStatus());
+        row.put("batchSize", participantGenomicStatusBatch.getBatchSize());
+        row.put("retryCount", participantGenomicStatusBatch.getRetryCount());
+        row.put("createdOn", participantGenomicStatusBatch.getCreatedOn());
+        row.put("updatedOn", participantGenomicStatusBatch.getUpdatedOn());
+        row.put("batchPayload", participantGenomicStatusBatch.getBatchPayload());
+        return row;
+    }
+
+    private static Map<String, Object> toPayloadArchiveRow(ParticipantGenomicStatusPayload participantGenomicStatusPayload) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", participantGenomicStatusPayload.getId());
+        row.put("requestedTimestamp", participantGenomicStatusPayload.getRequestedTimestamp());
+        row.put("nextTimestamp", participantGenomicStatusPayload.getNextTimestamp());
+        row.put("status", participantGenomicStatusPayload.getStatus());
+        row.put("createdOn", participantGenomicStatusPayload.getCreatedOn());
+        row.put("updatedOn", participantGenomicStatusPayload.getUpdatedOn());
+        row.put("rawPayload", participantGenomicStatusPayload.getRawPayload());
+        return row;
+    }
+
+    /**
+     * Gzip compressed file of one JSON row per line. Flushing completes the compressed data written so far, so the
+     * archived chunks are readable even if the run stops before the file is closed.
+     */
+    private static final class ArchiveFile implements Closeable {
+
+        private final OutputStream outputStream;
+
+        private ArchiveFile(Path path) throws IOException {
+            Files.createDirectories(path.getParent());
+            this.outputStream = new GZIPOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE_NEW), true);
+        }
+
+        private void write(Map<String, Object> row) throws IOException {
+            outputStream.write(JacksonUtil.getMapper().writeValueAsBytes(row));
+            outputStream.write('\n');
+        }
+
+        private void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+        }
+    }
+}
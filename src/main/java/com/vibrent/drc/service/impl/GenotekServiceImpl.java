@@ -7,12 +7,7 @@ import com.vibrent.genotek.api.OrderInfoApi;
 import com.vibrent.genotek.vo.OrderInfoDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.BeanFactory;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.stereotype.Service;
 import retrofit2.Call;
 import retrofit2.Response;
@@ -24,15 +19,10 @@ public class GenotekServiceImpl implements GenotekService {
 
     private final Logger log = LoggerFactory.getLogger(GenotekServiceImpl.class);
 
-    private String genotekUrl;
-    private BeanFactory beanFactory;
-    private final OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
+    private final OrderInfoApi orderInfoApi;
 
-    public GenotekServiceImpl(@Value("${vibrent.drc-service.genotekUrl}") String genotekUrl, BeanFactory beanFactory,
-                              @Qualifier("keycloakDrcInternalCredentialsRestTemplate") OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate) {
-        this.genotekUrl = genotekUrl;
-        this.beanFactory = beanFactory;
-        this.keycloakDrcInternalCredentialsRestTemplate = keycloakDrcInternalCredentialsRestTemplate;
+    public GenotekServiceImpl(OrderInfoApi orderInfoApi) {
+        this.orderInfoApi = orderInfoApi;
     }
 
     /**
@@ -49,8 +39,6 @@ public class GenotekServiceImpl implements GenotekService {
             if (orderId == null) {
                 throw new BusinessValidationException("Order ID is missing");
             }
-            OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-            OrderInfoApi orderInfoApi = beanFactory.getBean(OrderInfoApi.class, accessToken.getValue(), genotekUrl);
 
             Call<OrderInfoDTO> orderResponseCall = orderInfoApi.getOrderInformationByOrderId(orderId);
             Response<OrderInfoDTO> response = orderResponseCall.execute();
@@ -3,33 +3,88 @@ package com.vibrent.drc.service.impl;
 import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
 import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
 import com.vibrent.drc.repository.ParticipantGenomicStatusBatchRepository;
+import com.vibrent.drc.service.DrcExternalEventOutboxService;
 import com.vibrent.drc.service.ParticipantGenomicStatusBatchProcessingService;
+import com.vibrent.drc.util.DateTimeUtil;
+import com.vibrent.vxp.push.DRCExternalEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
 
+@Slf4j
 @Service
 public class ParticipantGenomicStatusBatchProcessingServiceImpl implements ParticipantGenomicStatusBatchProcessingService {
 
+    private static final List<ExternalGenomicPayloadProcessingStatus> ELIGIBLE_STATUSES = Collections.unmodifiableList(
+            Arrays.asList(ExternalGenomicPayloadProcessingStatus.PENDING, ExternalGenomicPayloadProcessingStatus.ERROR));
+
     private final ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository;
+    private final DrcExternalEventOutboxService drcExternalEventOutboxService;
+    private final int maxRetries;
 
-    public ParticipantGenomicStatusBatchProcessingServiceImpl(ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository) {
+    public ParticipantGenomicStatusBatchProcessingServiceImpl(ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository,
+                                                              DrcExternalEventOutboxService drcExternalEventOutboxService,
+                                                              @Value("${spring.jpa.database-platform:}") String databasePlatform,
+                                                              @Value("${vibrent.drc.genomics.participantBatch.maxRetries:5}") int maxRetries) {
         this.participantGenomicStatusBatchRepository = participantGenomicStatusBatchRepository;
+        this.drcExternalEventOutboxService = drcExternalEventOutboxService;
+        this.maxRetries = maxRetries;
+        if (!supportsSkipLocked(databasePlatform)) {
+            log.warn("DRC: Dialect {} does not support SKIP LOCKED, concurrent claims of genomic status batches wait for each other. " +
+                    "Set DB_DIALECT=org.hibernate.dialect.MySQL8Dialect on MySQL 8", databasePlatform);
+        }
+    }
+
+    static boolean supportsSkipLocked(String databasePlatform) {
+        try {
+            return ((Dialect) Class.forName(databasePlatform).getDeclaredConstructor().newInstance()).supportsSkipLocked();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return false;
+        }
     }
 
     @Override
-    public Stream<ParticipantGenomicStatusBatch> getEligibleGenomicStatusBatches() {
-        List<ExternalGenomicPayloadProcessingStatus> pendingRetryStatusList = new ArrayList<>();
-        pendingRetryStatusList.add(ExternalGenomicPayloadProcessingStatus.PENDING);
-        pendingRetryStatusList.add(ExternalGenomicPayloadProcessingStatus.ERROR);
-        return participantGenomicStatusBatchRepository.findByStatusIn(pendingRetryStatusList);
+    @Transactional
+    public List<ParticipantGenomicStatusBatch> claimEligibleGenomicStatusBatches(String claimOwner, int pageSize, long leaseMillis, long updatedBefore) {
+        long now = DateTimeUtil.getCurrentTimestamp();
+        List<ParticipantGenomicStatusBatch> batches = participantGenomicStatusBatchRepository.findClaimableBatches(ELIGIBLE_STATUSES, now, updatedBefore, maxRetries, PageRequest.of(0, pageSize));
+        for (ParticipantGenomicStatusBatch batch : batches) {
+            batch.setClaimedBy(claimOwner);
+            batch.setClaimedUntil(now + leaseMillis);
+        }
+        return participantGenomicStatusBatchRepository.saveAll(batches);
     }
 
     @Override
     public ParticipantGenomicStatusBatch updateBatchStatus(ParticipantGenomicStatusBatch participantGenomicStatusBatch, ExternalGenomicPayloadProcessingStatus status) {
         participantGenomicStatusBatch.setStatus(status);
+        participantGenomicStatusBatch.setClaimedBy(null);
+        participantGenomicStatusBatch.setClaimedUntil(null);
         return participantGenomicStatusBatchRepository.save(participantGenomicStatusBatch);
     }
+
+    @Override
+    public ParticipantGenomicStatusBatch releaseFailedBatch(ParticipantGenomicStatusBatch participantGenomicStatusBatch) {
+        Integer retryCount = participantGenomicStatusBatch.getRetryCount();
+        int attempts = retryCount == null ? 1 : retryCount + 1;
+        participantGenomicStatusBatch.setRetryCount(attempts);
+        if (attempts >= maxRetries) {
+            log.error("DRC: Genomic status batch {} failed {} times, it is left in ERROR and not retried", participantGenomicStatusBatch.getId(), attempts);
+        }
+        return updateBatchStatus(participantGenomicStatusBatch, ExternalGenomicPayloadProcessingStatus.ERROR);
+    }
+
+    @Override
+    @Transactional
+    public ParticipantGenomicStatusBatch enqueueBatchEvents(ParticipantGenomicStatusBatch participantGenomicStatusBatch, List<DRCExternalEventDto> drcExternalEventDtoList) {
+        drcExternalEventOutboxService.enqueue(drcExternalEventDtoList);
+        return updateBatchStatus(participantGenomicStatusBatch, ExternalGenomicPayloadProcessingStatus.PROCESSING);
+    }
 }
@@ -1,6 +1,5 @@
 package com.vibrent.drc.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.vibrent.drc.constants.DrcConstant;
 import com.vibrent.drc.service.DataSharingMetricsService;
@@ -30,15 +29,6 @@ public class ParticipantGenomicsStatusPayloadMapperImpl implements ParticipantGe
     }
 
 
-    @Override
-    public String mapListOfParticipantGenomicsStatusToJsonString(List<Map<String, Object>> templateFields) throws JsonProcessingException {
-        if (templateFields != null) {
-            return JacksonUtil.getMapper().writeValueAsString(templateFields);
-        } else {
-            return null;
-        }
-    }
-
     @Override
     public List<DRCExternalEventDto> mapJsonStringToDrcExternalEventDto(String jsonString) throws IOException {
 
@@ -1,5 +1,6 @@
 package com.vibrent.drc.service.impl;
 
+import com.vibrent.drc.cache.VibrentIdBatchResolver;
 import com.vibrent.drc.cache.VibrentIdCacheManager;
 import com.vibrent.drc.constants.DrcConstant;
 import com.vibrent.drc.dto.UserSearchParamRequestDTO;
@@ -7,6 +8,7 @@ import com.vibrent.drc.dto.UserSearchRequestDTO;
 import com.vibrent.drc.dto.UserSearchResponseDTO;
 import com.vibrent.drc.enumeration.UserInfoType;
 import com.vibrent.drc.exception.*;
+import com.vibrent.drc.service.AccessTokenService;
 import com.vibrent.drc.service.ParticipantService;
 import com.vibrent.drc.util.JacksonUtil;
 import com.vibrent.drc.util.RestClientUtil;
@@ -17,8 +19,6 @@ import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -36,24 +36,27 @@ import static com.vibrent.drc.constants.DrcConstant.DEFAULT_PAGE;
 public class ParticipantServiceImpl implements ParticipantService {
 
     private final String apiUrl;
-    private final OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
+    private final AccessTokenService accessTokenService;
     private final RestClientUtil restClientUtil;
     private final VibrentIdCacheManager vibrentIdCacheManager;
     private final DRCRetryService retryService;
     private final Set<String> retryForHttpStatusCodes;
-
+    private final VibrentIdBatchResolver vibrentIdBatchResolver;
 
     public ParticipantServiceImpl(@Value("${vibrent.drc-service.acadiaApiUrl}") String apiUrl,
-                                  OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate, RestClientUtil restClientUtil,
+                                  AccessTokenService accessTokenService, RestClientUtil restClientUtil,
                                   VibrentIdCacheManager vibrentIdCacheManager,
                                   DRCRetryService retryService,
-                                  @Value("${vibrent.drc-service.retryApiCall.retryForHttpStatusCode}") String retryForHttpStatusCodes) {
+                                  @Value("${vibrent.drc-service.retryApiCall.retryForHttpStatusCode}") String retryForHttpStatusCodes,
+                                  @Value("${vibrent.drc-service.vibrentIdResolver.maxBatchSize:100}") int vibrentIdResolverMaxBatchSize,
+                                  @Value("${vibrent.drc-service.vibrentIdResolver.maxWaitMillis:10}") long vibrentIdResolverMaxWaitMillis) {
         this.apiUrl = apiUrl;
-        this.keycloakDrcInternalCredentialsRestTemplate = keycloakDrcInternalCredentialsRestTemplate;
+        this.accessTokenService = accessTokenService;
         this.restClientUtil = restClientUtil;
         this.vibrentIdCacheManager = vibrentIdCacheManager;
         this.retryService = retryService;
         this.retryForHttpStatusCodes = StringUtils.isEmpty(retryForHttpStatusCodes) ? new HashSet<>() : Arrays.stream(retryForHttpStatusCodes.split(",")).map(String::trim).collect(Collectors.toSet());
+        this.vibrentIdBatchResolver = new VibrentIdBatchResolver(this::getVibrentIdsByDrcIds, vibrentIdResolverMaxBatchSize, vibrentIdResolverMaxWaitMillis);
     }
 
     @Override
@@ -69,9 +72,8 @@ public class ParticipantServiceImpl implements ParticipantService {
     private UserSearchResponseDTO getParticipantsByVibrentIdsFromApi(List<String> vibrentIds) throws ApiRequestException {
         try {
             String url = apiUrl + DrcConstant.USER_INFO_SEARCH_API;
-            OAuth2AccessToken accessToken = getAccessToken();
             UserSearchRequestDTO userSearchRequestDTO = getUserSearchRequestDTO(vibrentIds, UserInfoType.VIBRENT_ID, DEFAULT_PAGE, Integer.MAX_VALUE);
-            HttpEntity<UserSearchRequestDTO> httpEntity = new HttpEntity<>(userSearchRequestDTO, restClientUtil.addAuthHeader(accessToken.getValue()));
+            HttpEntity<UserSearchRequestDTO> httpEntity = new HttpEntity<>(userSearchRequestDTO, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             String responseBody = restClientUtil.postRequest(url, httpEntity);
             return JacksonUtil.getMapper().readValue(responseBody, UserSearchResponseDTO.class);
         } catch (Exception e) {
@@ -96,9 +98,8 @@ public class ParticipantServiceImpl implements ParticipantService {
     private UserSearchResponseDTO getParticipantsByDrcIdsFromApi(List<String> drcIds) throws ApiRequestException {
         try {
             String url = apiUrl + DrcConstant.USER_INFO_SEARCH_API;
-            OAuth2AccessToken accessToken = getAccessToken();
             UserSearchRequestDTO userSearchRequestDTO = getUserSearchRequestDTO(drcIds, UserInfoType.EXTERNAL_ID, DEFAULT_PAGE, Integer.MAX_VALUE);
-            HttpEntity<UserSearchRequestDTO> httpEntity = new HttpEntity<>(userSearchRequestDTO, restClientUtil.addAuthHeader(accessToken.getValue()));
+            HttpEntity<UserSearchRequestDTO> httpEntity = new HttpEntity<>(userSearchRequestDTO, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             String responseBody = restClientUtil.postRequest(url, httpEntity);
             log.debug("DRC-Service: Calling API to fetch VibrentIds for externIds is successful");
             return JacksonUtil.getMapper().readValue(responseBody, UserSearchResponseDTO.class);
@@ -111,15 +112,29 @@ public class ParticipantServiceImpl implements ParticipantService {
     @Override
     @Cacheable(DrcConstant.VIBRENTID_CACHE)
     public Long getVibrentId(String externalId) {
-        UserSearchResponseDTO userSearchResponseDTO = this.getParticipantsByDrcIds(Collections.singletonList(externalId));
-        if (userSearchResponseDTO == null || CollectionUtils.isEmpty(userSearchResponseDTO.getResults())
-                || CollectionUtils.isEmpty(userSearchResponseDTO.getResults().get(0))
-                || StringUtils.isEmpty(userSearchResponseDTO.getResults().get(0).get(UserInfoType.VIBRENT_ID))) {
-            log.error("DRC Service: Couldn't fetch VibrentID from API for given externalID: {}", externalId);
-            throw new BusinessValidationException("DRC Service: Unable to resolve VibrentID for the given externalId: " + externalId);
+        return vibrentIdBatchResolver.resolve(externalId);
+    }
+
+    /**
+     * Bulk lookup used by the VibrentId resolver, returns the VibrentIds keyed by the externalIds found by the API
+     *
+     * @param externalIds
+     * @return
+     */
+    private Map<String, Long> getVibrentIdsByDrcIds(List<String> externalIds) {
+        UserSearchResponseDTO userSearchResponseDTO = this.getParticipantsByDrcIds(externalIds);
+        if (userSearchResponseDTO == null || CollectionUtils.isEmpty(userSearchResponseDTO.getResults())) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> vibrentIds = new HashMap<>();
+        for (Map<UserInfoType, Object> userInfo : userSearchResponseDTO.getResults()) {
+            if (!CollectionUtils.isEmpty(userInfo) && userInfo.get(UserInfoType.EXTERNAL_ID) != null
+                    && !StringUtils.isEmpty(userInfo.get(UserInfoType.VIBRENT_ID))) {
+                vibrentIds.put(userInfo.get(UserInfoType.EXTERNAL_ID).toString(), Long.valueOf(userInfo.get(UserInfoType.VIBRENT_ID).toString()));
+            }
         }
-        Map<UserInfoType, Object> userInfo = userSearchResponseDTO.getResults().get(0);
-        return Long.valueOf(userInfo.get(UserInfoType.VIBRENT_ID).toString());
+        return vibrentIds;
     }
 
     @Override
@@ -139,9 +154,8 @@ public class ParticipantServiceImpl implements ParticipantService {
     private UserSearchResponseDTO getParticipantsFromApi(List<String> vibrentIds, List<String> drcIds, Optional<String> startDate, Optional<String> endDate, Optional<Integer> page, Optional<Integer> pageSize) throws ApiRequestException {
         try {
             String url = apiUrl + DrcConstant.USER_INFO_SEARCH_API;
-            OAuth2AccessToken accessToken = getAccessToken();
             UserSearchRequestDTO userSearchRequestDTO = getUserSearchRequestDTO(vibrentIds, drcIds, startDate, endDate, page, pageSize);
-            HttpEntity<UserSearchRequestDTO> httpEntity = new HttpEntity<>(userSearchRequestDTO, restClientUtil.addAuthHeader(accessToken.getValue()));
+            HttpEntity<UserSearchRequestDTO> httpEntity = new HttpEntity<>(userSearchRequestDTO, restClientUtil.addAuthHeader(accessTokenService.getAccessToken()));
             String responseBody = restClientUtil.postRequest(url, httpEntity);
             return JacksonUtil.getMapper().readValue(responseBody, UserSearchResponseDTO.class);
         } catch (HttpStatusCodeException e) {
@@ -319,17 +333,4 @@ public class ParticipantServiceImpl implements ParticipantService {
             throw new NonRecoverableException(String.join(" ", errMsg, ":", String.valueOf(addParams)), e);
         }
     }
-
-
-    private OAuth2AccessToken getAccessToken() {
-
-        OAuth2AccessToken accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-
-        if(accessToken.getExpiresIn() < 30) {
-            keycloakDrcInternalCredentialsRestTemplate.getOAuth2ClientContext().setAccessToken(null);
-            accessToken = keycloakDrcInternalCredentialsRestTemplate.getAccessToken();
-        }
-
-        return accessToken;
-    }
 }
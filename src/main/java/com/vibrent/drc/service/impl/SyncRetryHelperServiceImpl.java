@@ -9,44 +9,49 @@ import com.vibrent.drc.service.SyncRetryHelperService;
 import com.vibrent.drc.util.JacksonUtil;
 import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
 public class SyncRetryHelperServiceImpl implements SyncRetryHelperService {
 
+    // Beyond this the doubling exceeds any sensible maximum delay
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+
     private final DRCUpdateInfoSyncRetryRepository drcUpdateInfoSyncRetryRepository;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
 
-    public SyncRetryHelperServiceImpl(DRCUpdateInfoSyncRetryRepository drcUpdateInfoSyncRetryRepository) {
+    public SyncRetryHelperServiceImpl(DRCUpdateInfoSyncRetryRepository drcUpdateInfoSyncRetryRepository,
+                                      @Value("${vibrent.drc.sync.retry.baseDelaySeconds:300}") long baseDelaySeconds,
+                                      @Value("${vibrent.drc.sync.retry.maxDelaySeconds:86400}") long maxDelaySeconds) {
         this.drcUpdateInfoSyncRetryRepository = drcUpdateInfoSyncRetryRepository;
+        this.baseDelayMillis = TimeUnit.SECONDS.toMillis(Math.max(1, baseDelaySeconds));
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, TimeUnit.SECONDS.toMillis(maxDelaySeconds));
     }
 
     @Override
     @Transactional
     public void addToRetryQueue(AccountInfoUpdateEventDto accountInfoUpdateEventDto, boolean incrementRetryCounter, String reason) {
-
-        DRCUpdateInfoSyncRetry entry = drcUpdateInfoSyncRetryRepository.findByVibrentIdAndType(accountInfoUpdateEventDto.getVibrentID(), DataTypeEnum.ACCOUNT_UPDATE_DATA);
-        if (entry == null) {
-            entry = new DRCUpdateInfoSyncRetry();
-            entry.setVibrentId(accountInfoUpdateEventDto.getVibrentID());
-            entry.setType(DataTypeEnum.ACCOUNT_UPDATE_DATA);
-            entry.setRetryCount(0L);
-            entry.setErrorDetails(reason);
-        }
-
-        if (incrementRetryCounter) {
-            entry.setRetryCount(entry.getRetryCount() == null ? 1L : entry.getRetryCount() + 1L);
-        }
-
-        entry.setErrorDetails(reason);
-
+        String payload;
         try {
-            entry.setPayload(JacksonUtil.getMapper().writeValueAsString(accountInfoUpdateEventDto));
-            drcUpdateInfoSyncRetryRepository.save(entry);
+            payload = JacksonUtil.getMapper().writeValueAsString(accountInfoUpdateEventDto);
         } catch (JsonProcessingException e) {
             throw new BusinessProcessingException("Failed to add entry to retry queue ");
         }
+
+        // A new entry starts with the increment as its retry count, an existing one is updated in the same statement
+        long retryIncrement = incrementRetryCounter ? 1L : 0L;
+        long now = System.currentTimeMillis();
+        double jitterFactor = jitterFactor();
+        drcUpdateInfoSyncRetryRepository.upsert(accountInfoUpdateEventDto.getVibrentID(), DataTypeEnum.ACCOUNT_UPDATE_DATA.name(),
+                payload, retryIncrement, reason, now + (long) (backoffDelay(retryIncrement) * jitterFactor), now,
+                baseDelayMillis, maxDelayMillis, jitterFactor);
     }
 
     @Override
@@ -54,4 +59,21 @@ public class SyncRetryHelperServiceImpl implements SyncRetryHelperService {
         drcUpdateInfoSyncRetryRepository.deleteByVibrentIdAndType(vibrentId, dataTypeEnum);
     }
 
+    @Override
+    public void scheduleNextAttempt(DRCUpdateInfoSyncRetry entry) {
+        long retryCount = entry.getRetryCount() == null ? 0 : Math.max(0, entry.getRetryCount());
+        entry.setNextAttemptAt(System.currentTimeMillis() + (long) (backoffDelay(retryCount) * jitterFactor()));
+    }
+
+    private long backoffDelay(long retryCount) {
+        return Math.min(maxDelayMillis, baseDelayMillis << Math.min(retryCount, MAX_BACKOFF_EXPONENT));
+    }
+
+    /**
+     * Half of the delay is random so that entries which failed together are not all retried at the same time
+     */
+    private static double jitterFactor() {
+        return 0.5 + ThreadLocalRandom.current().nextDouble(0.5);
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.vibrent.drc.util;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * OkHttp interceptor adding the current bearer token to every request, so that Retrofit clients can be built once and
+ * shared while the token keeps being refreshed by the supplier.
+ */
+public class BearerTokenInterceptor implements Interceptor {
+
+    private final Supplier<String> tokenSupplier;
+
+    public BearerTokenInterceptor(Supplier<String> tokenSupplier) {
+        this.tokenSupplier = tokenSupplier;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request().newBuilder()
+                .header(RestClientUtil.AUTHORIZATION_HEADER_KEY, RestClientUtil.BEARER + " " + tokenSupplier.get())
+                .build();
+        return chain.proceed(request);
+    }
+}
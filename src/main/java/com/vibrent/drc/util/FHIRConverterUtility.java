@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 
 @Slf4j
@@ -120,6 +121,19 @@ public class FHIRConverterUtility {
                                                                                 String participantId,
                                                                                 String langKey,
                                                                                 boolean setImpersonationInfo) throws FHIRConverterException {
+        return convertFormEntryToQuestionnaireResponse(formEntryDTO, FormIndex.of(formVersionDTO), participantId, langKey, setImpersonationInfo);
+    }
+
+    /**
+     * Same as {@link #convertFormEntryToQuestionnaireResponse(FormEntryDTO, FormVersionDTO, String, String, boolean)}
+     * with the form version's fields, pages and navigation nodes looked up from a prebuilt index
+     */
+    public static QuestionnaireResponse convertFormEntryToQuestionnaireResponse(FormEntryDTO formEntryDTO,
+                                                                                FormIndex formIndex,
+                                                                                String participantId,
+                                                                                String langKey,
+                                                                                boolean setImpersonationInfo) throws FHIRConverterException {
+        FormVersionDTO formVersionDTO = formIndex.getFormVersion();
         QuestionnaireResponse response = new QuestionnaireResponse();
         // set identifier using form entry id
         String id = formEntryDTO.getId() == null ? System.currentTimeMillis() + "" : formEntryDTO.getId().toString();
@@ -179,7 +193,7 @@ public class FHIRConverterUtility {
         response.setGroup(rootGroup);
 
         // create GroupQuestion under rootGroup
-        FHIRQuestionnaireResponseConverter.addGroupQuestions(rootGroup, formEntryDTO, formVersionDTO);
+        FHIRQuestionnaireResponseConverter.addGroupQuestions(rootGroup, formEntryDTO, formIndex);
 
 
         log.info("DRC-Service: QuestionnaireResponse is generated for Participant Id - {}, formEntryId - {}, formVersion(Id - {}, formId - {}, Version - {})", participantId, formEntryDTO.getId(), formVersionDTO.getId(), formEntryDTO.getFormId(), formVersionDTO.getVersionId());
@@ -194,9 +208,17 @@ public class FHIRConverterUtility {
 
     static List<FormComponentFieldDTO> findAllInputFields(List<FormPageDTO> formPageDTOS) {
         List<FormComponentFieldDTO> inputFields = new ArrayList<>();
+        forEachInputField(formPageDTOS, (formComponentDTO, formComponentFieldDTO) -> inputFields.add(formComponentFieldDTO));
+        return inputFields;
+    }
 
+    /**
+     * Visit the input fields of the pages in form order with the form component they belong to. The form DTOs are
+     * shared through the form version cache, so they are only read.
+     */
+    static void forEachInputField(List<FormPageDTO> formPageDTOS, BiConsumer<FormComponentDTO, FormComponentFieldDTO> consumer) {
         if (formPageDTOS == null || formPageDTOS.isEmpty()) {
-            return inputFields;
+            return;
         }
 
         // collecting the sections
@@ -214,12 +236,7 @@ public class FHIRConverterUtility {
                         .filter(formComponentDTO -> formComponentDTO.getFormComponentFields() != null && !formComponentDTO.getFormComponentFields().isEmpty())
                         .forEach(formComponentDTO -> formComponentDTO.getFormComponentFields().stream()
                                 .filter(FHIRConverterUtility::isInputFieldType)
-                                .forEach(formComponentFieldDTO -> {
-                                    formComponentFieldDTO.setFormComponentDto(formComponentDTO);
-                                    inputFields.add(formComponentFieldDTO);
-                                })));
-
-        return inputFields;
+                                .forEach(formComponentFieldDTO -> consumer.accept(formComponentDTO, formComponentFieldDTO))));
     }
 
     public static boolean isInputFieldType(FormComponentFieldDTO formComponentFieldDTO) {
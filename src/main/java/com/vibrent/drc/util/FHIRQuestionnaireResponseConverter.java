@@ -20,7 +20,6 @@ import javax.validation.constraints.NotNull;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 class FHIRQuestionnaireResponseConverter {
@@ -54,17 +53,14 @@ class FHIRQuestionnaireResponseConverter {
         return rootGroup;
     }
 
-    static void addGroupQuestions(QuestionnaireResponse.Group rootGroup, FormEntryDTO formEntryDTO, FormVersionDTO formVersionDTO) throws FHIRConverterException {
-        List<FormComponentFieldDTO> allInputFields = FHIRConverterUtility.findAllInputFields(formVersionDTO.getEditMode());
-        Map<Long, FormComponentFieldDTO> inputFieldMap = convertListToMap(allInputFields);
-
+    static void addGroupQuestions(QuestionnaireResponse.Group rootGroup, FormEntryDTO formEntryDTO, FormIndex formIndex) throws FHIRConverterException {
         List<FormFieldEntryDTO> formFieldEntries = formEntryDTO.getFormFieldEntries();
         if (formFieldEntries == null)
             return;
 
         for (FormFieldEntryDTO fieldEntryDTO : formFieldEntries) {
             if (fieldEntryDTO.getFormFieldId() != null) {
-                FormComponentFieldDTO formComponentFieldDTO = inputFieldMap.get(fieldEntryDTO.getFormFieldId());
+                FormComponentFieldDTO formComponentFieldDTO = formIndex.getInputField(fieldEntryDTO.getFormFieldId());
                 if (formComponentFieldDTO == null) {
                     throw new FHIRConverterException("Can't find matching field by form field id : " + fieldEntryDTO.getFormFieldId());
                 }
@@ -72,7 +68,8 @@ class FHIRQuestionnaireResponseConverter {
                         .startsWith(FHIRConverterUtility.IGNORE_QUESTION_IF_STARTS_WITH)) {
                     continue;
                 }
-                QuestionnaireResponse.GroupQuestion question = createQuestion(fieldEntryDTO, formComponentFieldDTO);
+                QuestionnaireResponse.GroupQuestion question = createQuestion(fieldEntryDTO, formComponentFieldDTO,
+                        formIndex.getFormComponent(fieldEntryDTO.getFormFieldId()));
 
                 if (question == null) {
                     throw new FHIRConverterException("Can't create QuestionnaireResponse.GroupQuestion from : " + formEntryDTO);
@@ -82,14 +79,14 @@ class FHIRQuestionnaireResponseConverter {
         }
 
         // process skipped question here
-        processSkippedQuestions(rootGroup, formEntryDTO, formVersionDTO, inputFieldMap);
+        processSkippedQuestions(rootGroup, formEntryDTO, formIndex);
     }
 
-    private static void processSkippedQuestions(QuestionnaireResponse.Group rootGroup, FormEntryDTO formEntryDTO, FormVersionDTO formVersionDTO, Map<Long, FormComponentFieldDTO> inputFieldMap) {
-        List<Long> skippedQuestionFieldIds = findSkippedQuestionIds(formEntryDTO, formVersionDTO);
+    private static void processSkippedQuestions(QuestionnaireResponse.Group rootGroup, FormEntryDTO formEntryDTO, FormIndex formIndex) {
+        List<Long> skippedQuestionFieldIds = findSkippedQuestionIds(formEntryDTO, formIndex);
 
         for (Long fieldId : skippedQuestionFieldIds) {
-            FormComponentFieldDTO formComponentFieldDTO = inputFieldMap.get(fieldId);
+            FormComponentFieldDTO formComponentFieldDTO = formIndex.getInputField(fieldId);
             if ((formComponentFieldDTO.getName().isBlank()) && formComponentFieldDTO.getName()
                     .startsWith(FHIRConverterUtility.IGNORE_QUESTION_IF_STARTS_WITH)) {
                 continue;
@@ -98,15 +95,6 @@ class FHIRQuestionnaireResponseConverter {
         }
     }
 
-    private static Map<Long, FormComponentFieldDTO> convertListToMap(List<FormComponentFieldDTO> allInputFields) {
-        Map<Long, FormComponentFieldDTO> map = new HashMap<>();
-        if (allInputFields != null) {
-            allInputFields.forEach(f -> map.put(f.getFormField().getId(), f));
-        }
-
-        return map;
-    }
-
     /**
      * create a question for skipped question
      *
@@ -133,33 +121,39 @@ class FHIRQuestionnaireResponseConverter {
     /**
      * find the field ids for skipped questions (questions that are on the navigation path and does not have a field entry)
      *
-     * @param formEntryDTO   - form entry dto
-     * @param formVersionDTO - form version dto
+     * @param formEntryDTO - form entry dto
+     * @param formIndex    - index of the form version of the entry
      * @return - list of fields ids that are skipped, if there are no question skipped, return empty list
      */
-    private static @NotNull List<Long> findSkippedQuestionIds(FormEntryDTO formEntryDTO, FormVersionDTO formVersionDTO) {
-        Set<Long> answeredFieldIds = getAnsweredFieldIds(formEntryDTO);
-
+    private static @NotNull List<Long> findSkippedQuestionIds(FormEntryDTO formEntryDTO, FormIndex formIndex) {
         FormStateMetaDataDTO formStateMetaData = formEntryDTO.getFormStateMetaData();
         if (formStateMetaData == null) {
             return new ArrayList<>();
         }
 
+        Set<Long> answeredFieldIds = getAnsweredFieldIds(formEntryDTO);
         Set<Long> allVisitedFieldIds = listToSet(formStateMetaData.getVisibleFieldIds());
 
         // old entry, doesn't have this value, then we assume all fields on all page in the navigation history
         // has been visible
         List<Long> nodeHistory = formStateMetaData.getPageNavigationSequence();
 
-        List<FormPageDTO> formPageDTOList = findVisitedPages(formVersionDTO, nodeHistory);
-
-        List<Long> allInputFields = getInputFieldIds(formPageDTOList);
-
-        // return the field ids that are visited and not in the form entry
-        return allInputFields.stream()
-                .filter(allVisitedFieldIds::contains)
-                .filter(fid -> !answeredFieldIds.contains(fid))
-                .collect(Collectors.toList());
+        // return the field ids on the visited pages that are visible and not in the form entry
+        List<Long> skippedFieldIds = new ArrayList<>();
+        if (nodeHistory != null) {
+            for (Long nodeId : nodeHistory) {
+                FormNavigationNodeDTO nodeDTO = formIndex.getNavigationNode(nodeId);
+                if (nodeDTO == null || nodeDTO.getPageLocalId() == null) {
+                    continue;
+                }
+                for (Long fieldId : formIndex.getInputFieldIds(nodeDTO.getPageLocalId())) {
+                    if (allVisitedFieldIds.contains(fieldId) && !answeredFieldIds.contains(fieldId)) {
+                        skippedFieldIds.add(fieldId);
+                    }
+                }
+            }
+        }
+        return skippedFieldIds;
     }
 
     private static Set<Long> listToSet(List<Long> list) {
@@ -172,68 +166,6 @@ class FHIRQuestionnaireResponseConverter {
         return outSet;
     }
 
-    /**
-     * getting all the field id from pages where the field is an input field
-     *
-     * @param pages - list of pages
-     * @return list of input field ids
-     */
-    private static @NotNull List<Long> getInputFieldIds(@NotNull List<FormPageDTO> pages) {
-        List<Long> fieldIds = new ArrayList<>();
-
-        List<FormComponentFieldDTO> allInputFields = FHIRConverterUtility.findAllInputFields(pages);
-        if (allInputFields != null) {
-            for (FormComponentFieldDTO field : allInputFields) {
-                fieldIds.add(field.getFormField().getId());
-            }
-        }
-
-        return fieldIds;
-    }
-
-    /**
-     * finding a list of pages that has been visited
-     *
-     * @param formVersionDTO - form version dto
-     * @param nodeHistory    - node history, a list of node ids
-     * @return - a list of pages that has been visited, never null
-     */
-    private static @NotNull List<FormPageDTO> findVisitedPages(FormVersionDTO formVersionDTO, List<Long> nodeHistory) {
-        List<FormPageDTO> visitedPages = new ArrayList<>();
-        List<FormNavigationNodeDTO> navigationNodes = formVersionDTO.getEditMode().getNavigationNodes();
-        List<FormPageDTO> allPages = formVersionDTO.getEditMode().getPages();
-        if (nodeHistory != null && !nodeHistory.isEmpty() && navigationNodes != null && !navigationNodes.isEmpty()) {
-            for (long nodeId : nodeHistory) {
-                FormNavigationNodeDTO nodeDTO = findNodeById(navigationNodes, nodeId);
-                if (nodeDTO != null && nodeDTO.getPageLocalId() != null) {
-                    visitedPages.add(findPageByLocalId(allPages, nodeDTO.getPageLocalId()));
-                }
-            }
-        }
-
-        return visitedPages;
-    }
-
-    private static FormPageDTO findPageByLocalId(@NotNull List<FormPageDTO> allPages, long pageLocalId) {
-        for (FormPageDTO page : allPages) {
-            if (page.getLocalId() == pageLocalId) {
-                return page;
-            }
-        }
-
-        return null;
-    }
-
-    private static FormNavigationNodeDTO findNodeById(@NotNull List<FormNavigationNodeDTO> navigationNodes, long nodeId) {
-        for (FormNavigationNodeDTO node : navigationNodes) {
-            if (node.getLocalId() == nodeId) {
-                return node;
-            }
-        }
-
-        return null;
-    }
-
     /**
      * getting the field ids for all the answers
      *
@@ -258,7 +190,8 @@ class FHIRQuestionnaireResponseConverter {
      * @param formComponentFieldDTO the original form component field
      * @return QuestionnaireResponse.GroupQuestion object based on field entry object
      */
-    private static QuestionnaireResponse.GroupQuestion createQuestion(FormFieldEntryDTO formFieldEntry, FormComponentFieldDTO formComponentFieldDTO) throws FHIRConverterException {
+    private static QuestionnaireResponse.GroupQuestion createQuestion(FormFieldEntryDTO formFieldEntry, FormComponentFieldDTO formComponentFieldDTO,
+                                                                      FormComponentDTO formComponentDTO) throws FHIRConverterException {
         AnswerFormatEnum type = FHIRConverterUtility.getAnswerFormatEnum(formComponentFieldDTO);
         if (type == null)
             return null; // not a valid type for creating questions
@@ -269,7 +202,7 @@ class FHIRQuestionnaireResponseConverter {
         for (FormFieldEntryValueDTO formFieldEntryValue : formFieldEntryValues) {
             QuestionnaireResponse.GroupQuestionAnswer answer = question.addAnswer();
 
-            IDatatype value = createAnswerValue(formComponentFieldDTO, formFieldEntryValue);
+            IDatatype value = createAnswerValue(formComponentFieldDTO, formComponentDTO, formFieldEntryValue);
 
             answer.setValue(value);
         }
@@ -284,10 +217,11 @@ class FHIRQuestionnaireResponseConverter {
      * create answer value for one form field entry value
      *
      * @param formComponentFieldDTO original form field dto
+     * @param formComponentDTO      form component of the field, holds the options of a matrix question
      * @param formFieldEntryValue   one entry value
      * @return an Answer Value object
      */
-    static IDatatype createAnswerValue(FormComponentFieldDTO formComponentFieldDTO, FormFieldEntryValueDTO formFieldEntryValue) throws FHIRConverterException {
+    static IDatatype createAnswerValue(FormComponentFieldDTO formComponentFieldDTO, FormComponentDTO formComponentDTO, FormFieldEntryValueDTO formFieldEntryValue) throws FHIRConverterException {
         IDatatype dataValue = null;
 
         FormComponentFieldType fieldType = formComponentFieldDTO.getType();
@@ -309,10 +243,10 @@ class FHIRQuestionnaireResponseConverter {
             case MULTI_SELECTOR:
             case IMAGE_CONTAINER:
             case MATRIX_QUESTION:
-                dataValue = valueToIDataType(formFieldEntryValue, findDisplayForValue(formComponentFieldDTO, formFieldEntryValue));
+                dataValue = valueToIDataType(formFieldEntryValue, findDisplayForValue(formComponentFieldDTO, formComponentDTO, formFieldEntryValue));
                 break;
             case SLIDER:
-                dataValue = valueToDataType(formFieldEntryValue, findDisplayForValue(formComponentFieldDTO, formFieldEntryValue));
+                dataValue = valueToDataType(formFieldEntryValue, findDisplayForValue(formComponentFieldDTO, formComponentDTO, formFieldEntryValue));
                 break;
             default:
                 // rest are normal values, we can determine it based on the value stored in entry value
@@ -327,17 +261,18 @@ class FHIRQuestionnaireResponseConverter {
      * find the display text for value in entry value
      *
      * @param formComponentFieldDTO component field dto that include the field definition
+     * @param formComponentDTO      form component of the field
      * @param formFieldEntryValue   value selected
      * @return display text for that value, if nothing is found, return null
      */
-    private static String findDisplayForValue(FormComponentFieldDTO formComponentFieldDTO, FormFieldEntryValueDTO formFieldEntryValue) {
+    private static String findDisplayForValue(FormComponentFieldDTO formComponentFieldDTO, FormComponentDTO formComponentDTO, FormFieldEntryValueDTO formFieldEntryValue) {
         if (formComponentFieldDTO == null || formFieldEntryValue == null) {
             return null;
         }
 
         ValueType valueType;
         if (formComponentFieldDTO.getType() == FormComponentFieldType.MATRIX_QUESTION) {
-            valueType = formComponentFieldDTO.getFormComponentDto().getFormComponentMetaDataDTO()
+            valueType = formComponentDTO.getFormComponentMetaDataDTO()
                     .getMatrixQuestionnaireMetadataDTO().getValueType();
         } else {
             FieldValueCommonSelectionFieldModel fieldValue = (FieldValueCommonSelectionFieldModel) formComponentFieldDTO.getFieldValue();
@@ -347,11 +282,11 @@ class FHIRQuestionnaireResponseConverter {
         switch (valueType) {
             case NUMBER:
                 return formComponentFieldDTO.getType() == FormComponentFieldType.MATRIX_QUESTION ?
-                        findDisplayForValueInMatrix(formComponentFieldDTO, formFieldEntryValue.getValueAsNumber()) :
+                        findDisplayForValueInMatrix(formComponentDTO, formFieldEntryValue.getValueAsNumber()) :
                         findDisplayForValue(formComponentFieldDTO.getSubFields(), formFieldEntryValue.getValueAsNumber());
             case STRING:
                 return formComponentFieldDTO.getType() == FormComponentFieldType.MATRIX_QUESTION ?
-                        findDisplayForValueInMatrix(formComponentFieldDTO, formFieldEntryValue.getValueAsString()) :
+                        findDisplayForValueInMatrix(formComponentDTO, formFieldEntryValue.getValueAsString()) :
                         findDisplayForValue(formComponentFieldDTO.getSubFields(),
                                 formFieldEntryValue.getValueAsString());
             default:
@@ -402,12 +337,12 @@ class FHIRQuestionnaireResponseConverter {
     /**
      * find display for value using a list of options and a string or double value
      *
-     * @param field         Matrix questionnaire field
+     * @param formComponentDTO matrix questionnaire component
      * @param valueSelected a string or a double value
      * @return display text in options that have the matching value, null if nothing is found
      */
-    private static String findDisplayForValueInMatrix(FormComponentFieldDTO field, Object valueSelected) {
-        List<OptionsValue> optionValues = field.getFormComponentDto().getFormComponentMetaDataDTO()
+    private static String findDisplayForValueInMatrix(FormComponentDTO formComponentDTO, Object valueSelected) {
+        List<OptionsValue> optionValues = formComponentDTO.getFormComponentMetaDataDTO()
                 .getMatrixQuestionnaireMetadataDTO().getValues();
         if (optionValues != null) {
             return findDisplayForValueFromOptionValues(optionValues, valueSelected);
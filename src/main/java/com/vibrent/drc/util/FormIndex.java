@@ -0,0 +1,112 @@
+package com.vibrent.drc.util;
+
+import com.vibrent.acadia.web.rest.dto.form.*;
+
+import java.util.*;
+
+/**
+ * Immutable lookup tables of the edit mode of a form version, built once so that converting an entry does not walk the
+ * form tree or scan the pages and navigation nodes again. A form version never changes once published, so an index can
+ * be shared by all conversions of that version.
+ */
+public final class FormIndex {
+
+    private final FormVersionDTO formVersion;
+    private final List<FormComponentFieldDTO> inputFields;
+    private final Map<Long, FormComponentFieldDTO> inputFieldsById;
+    private final Map<Long, FormComponentDTO> formComponentsByFieldId;
+    private final Map<Long, FormPageDTO> pagesByLocalId;
+    private final Map<Long, FormNavigationNodeDTO> navigationNodesByLocalId;
+    private final Map<Long, List<Long>> inputFieldIdsByPageLocalId;
+
+    private FormIndex(FormVersionDTO formVersion) {
+        this.formVersion = formVersion;
+
+        FormModeDTO editMode = formVersion.getEditMode();
+        List<FormPageDTO> pages = editMode == null || editMode.getPages() == null ? Collections.emptyList() : editMode.getPages();
+        List<FormNavigationNodeDTO> navigationNodes = editMode == null || editMode.getNavigationNodes() == null
+                ? Collections.emptyList() : editMode.getNavigationNodes();
+
+        List<FormComponentFieldDTO> allInputFields = new ArrayList<>();
+        Map<Long, FormComponentDTO> componentMap = new HashMap<>();
+        Map<Long, FormPageDTO> pageMap = new HashMap<>();
+        Map<Long, List<Long>> pageInputFieldIds = new HashMap<>();
+        for (FormPageDTO page : pages) {
+            List<FormComponentFieldDTO> pageInputFields = new ArrayList<>();
+            FHIRConverterUtility.forEachInputField(Collections.singletonList(page), (component, field) -> {
+                pageInputFields.add(field);
+                componentMap.put(field.getFormField().getId(), component);
+            });
+            allInputFields.addAll(pageInputFields);
+            // The first page wins when local ids repeat, as it did for the linear scans this replaces
+            if (page.getLocalId() != null && !pageMap.containsKey(page.getLocalId())) {
+                pageMap.put(page.getLocalId(), page);
+                pageInputFieldIds.put(page.getLocalId(), fieldIds(pageInputFields));
+            }
+        }
+
+        Map<Long, FormComponentFieldDTO> fieldMap = new HashMap<>();
+        allInputFields.forEach(f -> fieldMap.put(f.getFormField().getId(), f));
+
+        Map<Long, FormNavigationNodeDTO> nodeMap = new HashMap<>();
+        for (FormNavigationNodeDTO node : navigationNodes) {
+            if (node.getLocalId() != null) {
+                nodeMap.putIfAbsent(node.getLocalId(), node);
+            }
+        }
+
+        this.inputFields = Collections.unmodifiableList(allInputFields);
+        this.inputFieldsById = Collections.unmodifiableMap(fieldMap);
+        this.formComponentsByFieldId = Collections.unmodifiableMap(componentMap);
+        this.pagesByLocalId = Collections.unmodifiableMap(pageMap);
+        this.navigationNodesByLocalId = Collections.unmodifiableMap(nodeMap);
+        this.inputFieldIdsByPageLocalId = Collections.unmodifiableMap(pageInputFieldIds);
+    }
+
+    public static FormIndex of(FormVersionDTO formVersion) {
+        return new FormIndex(Objects.requireNonNull(formVersion, "formVersion"));
+    }
+
+    public FormVersionDTO getFormVersion() {
+        return formVersion;
+    }
+
+    /**
+     * @return the input fields of all pages in form order
+     */
+    public List<FormComponentFieldDTO> getInputFields() {
+        return inputFields;
+    }
+
+    public FormComponentFieldDTO getInputField(Long fieldId) {
+        return inputFieldsById.get(fieldId);
+    }
+
+    /**
+     * @return the form component the input field belongs to
+     */
+    public FormComponentDTO getFormComponent(Long fieldId) {
+        return formComponentsByFieldId.get(fieldId);
+    }
+
+    public FormPageDTO getPage(Long pageLocalId) {
+        return pagesByLocalId.get(pageLocalId);
+    }
+
+    public FormNavigationNodeDTO getNavigationNode(Long nodeLocalId) {
+        return navigationNodesByLocalId.get(nodeLocalId);
+    }
+
+    /**
+     * @return the ids of the input fields of the page in form order, empty if there is no such page
+     */
+    public List<Long> getInputFieldIds(Long pageLocalId) {
+        return inputFieldIdsByPageLocalId.getOrDefault(pageLocalId, Collections.emptyList());
+    }
+
+    private static List<Long> fieldIds(List<FormComponentFieldDTO> fields) {
+        List<Long> fieldIds = new ArrayList<>(fields.size());
+        fields.forEach(f -> fieldIds.add(f.getFormField().getId()));
+        return Collections.unmodifiableList(fieldIds);
+    }
+}
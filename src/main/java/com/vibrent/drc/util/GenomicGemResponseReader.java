@@ -0,0 +1,120 @@
+package com.vibrent.drc.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for the DRC Genomic Outreach response ({"data": [...], "timestamp": "..."}).
+ * The data array is walked token by token and copied into batch payloads, so the response is never materialized
+ * as a list of maps.
+ */
+public final class GenomicGemResponseReader {
+
+    private static final String DATA_FIELD = "data";
+    private static final String TIMESTAMP_FIELD = "timestamp";
+
+    private GenomicGemResponseReader() {
+    }
+
+    /**
+     * Read the top level timestamp of the response, skipping over the data array without parsing its entries.
+     *
+     * @param responseBody DRC response body
+     * @return timestamp or null if not present
+     */
+    public static String readTimestamp(String responseBody) throws IOException {
+        try (JsonParser parser = getFactory().createParser(responseBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (TIMESTAMP_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walk the data array and hand each group of up to batchSize entries to the consumer as a JSON array string.
+     *
+     * @param responseBody  DRC response body
+     * @param batchSize     max number of entries per batch
+     * @param batchConsumer receives the JSON payload of each batch as soon as it is complete
+     * @return total number of entries read
+     */
+    public static int readDataInBatches(String responseBody, int batchSize, Consumer<String> batchConsumer) throws IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        int total = 0;
+        try (JsonParser parser = getFactory().createParser(responseBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return total;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (DATA_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    total += readArrayInBatches(parser, batchSize, batchConsumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return total;
+    }
+
+    private static int readArrayInBatches(JsonParser parser, int batchSize, Consumer<String> batchConsumer) throws IOException {
+        int total = 0;
+        int inBatch = 0;
+        StringWriter writer = null;
+        JsonGenerator generator = null;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == null) {
+                throw JsonMappingException.from(parser, "Unexpected end of input while reading genomics data array");
+            }
+            if (generator == null) {
+                writer = new StringWriter();
+                generator = getFactory().createGenerator(writer);
+                generator.writeStartArray();
+            }
+            generator.copyCurrentStructure(parser);
+            total++;
+            inBatch++;
+
+            if (inBatch == batchSize) {
+                batchConsumer.accept(closeBatch(generator, writer));
+                generator = null;
+                inBatch = 0;
+            }
+        }
+
+        if (generator != null) {
+            batchConsumer.accept(closeBatch(generator, writer));
+        }
+        return total;
+    }
+
+    private static String closeBatch(JsonGenerator generator, StringWriter writer) throws IOException {
+        generator.writeEndArray();
+        generator.close();
+        return writer.toString();
+    }
+
+    private static JsonFactory getFactory() {
+        return JacksonUtil.getMapper().getFactory();
+    }
+}
@@ -0,0 +1,197 @@
+package com.vibrent.drc.util;
+
+import com.vibrent.acadia.domain.enumeration.SecondaryContactType;
+import com.vibrent.drc.domain.DrcSyncedStatus;
+import com.vibrent.drc.vo.AddressElementVo;
+import com.vibrent.drc.vo.ParticipantVo;
+import com.vibrent.drc.vo.SecondaryContactVo;
+import com.vibrent.vxp.push.AddressElementDto;
+import com.vibrent.vxp.push.ParticipantDto;
+import com.vibrent.vxp.push.SecondaryContactDto;
+import com.vibrent.vxp.push.TypeEnum;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SHA-256 hashes of the sections of a participant that are synced to DRC: the account fields, the secondary contacts,
+ * the SSN and the test flag. A section hashes the same fields {@link ParticipantDataUtil} compares, so an incoming
+ * {@link ParticipantDto} and the last synced {@link ParticipantVo} have equal hashes exactly when the diff finds no change.
+ */
+public final class ParticipantSectionHashUtil {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private ParticipantSectionHashUtil() {
+    }
+
+    public static String accountHash(ParticipantDto dto) {
+        SectionDigest digest = new SectionDigest()
+                .add(ParticipantDataUtil.getContactByTypeAndVerification(dto, TypeEnum.EMAIL, Boolean.TRUE))
+                .add(ParticipantDataUtil.getContactByTypeAndVerification(dto, TypeEnum.PHONE, Boolean.TRUE))
+                .add(ParticipantDataUtil.getContactByTypeAndVerification(dto, TypeEnum.PHONE, Boolean.FALSE));
+        addAddress(digest, ParticipantDataUtil.getAccountAddress(dto));
+        return digest.add(dto.getFirstName())
+                .add(dto.getMiddleInitial())
+                .add(dto.getLastName())
+                .add(dto.getDateOfBirth())
+                .hex();
+    }
+
+    public static String accountHash(ParticipantVo vo) {
+        SectionDigest digest = new SectionDigest()
+                .add(vo.getEmailAddress())
+                .add(vo.getVerifiedPhoneNumber())
+                .add(vo.getPhoneNumber());
+        addAddress(digest, vo.getAccountAddress());
+        return digest.add(vo.getFirstName())
+                .add(vo.getMiddleInitial())
+                .add(vo.getLastName())
+                .add(vo.getDateOfBirth())
+                .hex();
+    }
+
+    /**
+     * Hashes contact one and contact two, the only secondary contacts sent to DRC
+     */
+    public static String secondaryContactsHash(ParticipantDto dto) {
+        List<SecondaryContactDto> secondaryContacts = dto.getSecondaryContacts() == null ? Collections.emptyList() : dto.getSecondaryContacts();
+        SectionDigest digest = new SectionDigest();
+        addSecondaryContact(digest, findSecondaryContact(secondaryContacts, SecondaryContactType.CONTACT_ONE));
+        addSecondaryContact(digest, findSecondaryContact(secondaryContacts, SecondaryContactType.CONTACT_TWO));
+        return digest.hex();
+    }
+
+    public static String secondaryContactsHash(ParticipantVo vo) {
+        Map<String, SecondaryContactVo> secondaryContacts = vo.getSecondaryContacts() == null ? Collections.emptyMap() : vo.getSecondaryContacts();
+        SectionDigest digest = new SectionDigest();
+        addSecondaryContact(digest, secondaryContacts.get(SecondaryContactType.CONTACT_ONE.toString()));
+        addSecondaryContact(digest, secondaryContacts.get(SecondaryContactType.CONTACT_TWO.toString()));
+        return digest.hex();
+    }
+
+    public static String ssnHash(String ssn) {
+        return new SectionDigest().add(ssn).hex();
+    }
+
+    public static String testUserHash(Boolean testUser) {
+        return new SectionDigest().add(testUser).hex();
+    }
+
+    /**
+     * Sets the section hashes of the synced status to the ones of the participant data written to it
+     */
+    public static void updateSectionHashes(DrcSyncedStatus drcSyncedStatus, ParticipantVo vo) {
+        drcSyncedStatus.setAccountHash(accountHash(vo));
+        drcSyncedStatus.setSecondaryContactsHash(secondaryContactsHash(vo));
+        drcSyncedStatus.setSsnHash(ssnHash(vo.getSsn()));
+        drcSyncedStatus.setTestUserHash(testUserHash(vo.getTestUser()));
+    }
+
+    private static SecondaryContactDto findSecondaryContact(List<SecondaryContactDto> secondaryContacts, SecondaryContactType type) {
+        return secondaryContacts.stream()
+                .filter(secondaryContactDto -> type.toString().equals(secondaryContactDto.getPreference()))
+                .findFirst().orElse(null);
+    }
+
+    private static void addSecondaryContact(SectionDigest digest, SecondaryContactDto dto) {
+        if (digest.addPresence(dto)) {
+            addAddress(digest, CollectionUtils.firstElement(dto.getAddresses()));
+            digest.add(dto.getFirstName())
+                    .add(dto.getLastName())
+                    .add(dto.getMiddleInitial())
+                    .add(ParticipantDataUtil.getContact(dto, TypeEnum.EMAIL))
+                    .add(ParticipantDataUtil.getContact(dto, TypeEnum.PHONE))
+                    .add(dto.getPreference())
+                    .add(dto.getRelationship());
+        }
+    }
+
+    private static void addSecondaryContact(SectionDigest digest, SecondaryContactVo vo) {
+        if (digest.addPresence(vo)) {
+            addAddress(digest, vo.getAddress());
+            digest.add(vo.getFirstName())
+                    .add(vo.getLastName())
+                    .add(vo.getMiddleInitial())
+                    .add(vo.getEmailAddress())
+                    .add(vo.getPhoneNumber())
+                    .add(vo.getPreference())
+                    .add(vo.getRelationship());
+        }
+    }
+
+    private static void addAddress(SectionDigest digest, AddressElementDto dto) {
+        if (digest.addPresence(dto)) {
+            digest.add(dto.getCity())
+                    .add(dto.getCountry())
+                    .add(dto.getLine1())
+                    .add(dto.getLine2())
+                    .add(dto.getPostalCode())
+                    .add(dto.getState())
+                    .add(dto.getValidated());
+        }
+    }
+
+    private static void addAddress(SectionDigest digest, AddressElementVo vo) {
+        if (digest.addPresence(vo)) {
+            digest.add(vo.getCity())
+                    .add(vo.getCountry())
+                    .add(vo.getLine1())
+                    .add(vo.getLine2())
+                    .add(vo.getPostalCode())
+                    .add(vo.getState())
+                    .add(vo.getValidated());
+        }
+    }
+
+    /**
+     * Digest of a sequence of nullable values. Every value is written with a null marker and its length, so that
+     * different sequences never produce the same input.
+     */
+    private static final class SectionDigest {
+
+        private final MessageDigest messageDigest;
+
+        private SectionDigest() {
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        private boolean addPresence(Object value) {
+            messageDigest.update(value == null ? (byte) 0 : (byte) 1);
+            return value != null;
+        }
+
+        private SectionDigest add(String value) {
+            if (addPresence(value)) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                int length = bytes.length;
+                messageDigest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+                messageDigest.update(bytes);
+            }
+            return this;
+        }
+
+        private SectionDigest add(Boolean value) {
+            return add(value == null ? null : value.toString());
+        }
+
+        private String hex() {
+            byte[] hash = messageDigest.digest();
+            char[] hex = new char[hash.length * 2];
+            for (int i = 0; i < hash.length; i++) {
+                hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+            }
+            return new String(hex);
+        }
+    }
+}
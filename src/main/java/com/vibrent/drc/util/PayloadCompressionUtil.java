@@ -0,0 +1,71 @@
+package com.vibrent.drc.util;
+
+import com.vibrent.drc.enumeration.PayloadCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression of the JSON payloads stored in BLOB columns and in Redis. The codec is stored next to the payload, rows
+ * without a codec keep their payload uncompressed in the original JSON column.
+ */
+public final class PayloadCompressionUtil {
+
+    private PayloadCompressionUtil() {
+    }
+
+    public static byte[] compress(String payload, PayloadCodec codec) {
+        if (payload == null) {
+            return null;
+        }
+
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        if (codec == PayloadCodec.GZIP) {
+            return gzip(bytes);
+        }
+        throw new IllegalArgumentException("Unsupported payload codec " + codec);
+    }
+
+    public static String decompress(byte[] payload, PayloadCodec codec) {
+        if (payload == null) {
+            return null;
+        }
+
+        if (codec == PayloadCodec.GZIP) {
+            return new String(gunzip(payload), StandardCharsets.UTF_8);
+        }
+        throw new IllegalArgumentException("Unsupported payload codec " + codec);
+    }
+
+    /**
+     * Payload of a row, decompressed from the compressed column when it has a codec and read from the uncompressed
+     * column otherwise
+     */
+    public static String read(PayloadCodec codec, byte[] compressedPayload, String uncompressedPayload) {
+        return codec == null ? uncompressedPayload : decompress(compressedPayload, codec);
+    }
+
+    public static byte[] gzip(byte[] value) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(64, value.length / 4));
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] value) {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.vibrent.drc.util;
 
 import com.vibrent.drc.exception.BusinessValidationException;
 import org.redisson.RedissonShutdownException;
+import org.redisson.api.RBatch;
 import org.redisson.api.RMapCache;
 import org.redisson.api.RedissonClient;
 import org.slf4j.Logger;
@@ -116,4 +117,12 @@ public class RedisUtil {
         return this.redisClient.getMapCache(mapName);
     }
 
+    /**
+     * Utility method to create a batch, the commands added to it are sent to Redis in a single pipeline on execute
+     * @return new RBatch
+     */
+    public RBatch createBatch() {
+        return this.redisClient.createBatch();
+    }
+
 }
@@ -0,0 +1,14 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-013                 Comments  : Added outbox table for the DRC external events, rows are written
+--                                                      with the batch status change and deleted once Kafka acked them
+-- --------------------------------------------------------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS `drc_external_event_outbox` (
+    `id` BIGINT(20) NOT NULL AUTO_INCREMENT,
+    `vibrent_id` BIGINT(20) NULL DEFAULT NULL,
+    `payload` JSON NOT NULL,
+	`created_on` BIGINT(20) NULL DEFAULT NULL,
+	`updated_on` BIGINT(20) NULL DEFAULT NULL,
+  PRIMARY KEY (`id`)
+);
@@ -0,0 +1,12 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-021                 Comments  : Added hashes of the account, secondary contact, SSN and test flag
+--                                                      sections of the synced data, so unchanged sections are detected
+--                                                      without parsing the data column
+-- --------------------------------------------------------------------------------------------------------------------
+
+ALTER TABLE `drc_synced_status`
+    ADD COLUMN `account_hash` CHAR(64) NULL DEFAULT NULL,
+    ADD COLUMN `secondary_contacts_hash` CHAR(64) NULL DEFAULT NULL,
+    ADD COLUMN `ssn_hash` CHAR(64) NULL DEFAULT NULL,
+    ADD COLUMN `test_user_hash` CHAR(64) NULL DEFAULT NULL;
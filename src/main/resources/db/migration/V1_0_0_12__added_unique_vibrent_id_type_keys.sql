@@ -0,0 +1,22 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-022                 Comments  : Made (vibrent_id, type) unique on the synced status and the sync
+--                                                      retry tables so both are written with single statement upserts.
+--                                                      Duplicates left by concurrent inserts are removed first, keeping
+--                                                      the latest row.
+-- --------------------------------------------------------------------------------------------------------------------
+
+DELETE older FROM `drc_synced_status` older
+    JOIN `drc_synced_status` newer
+        ON older.`vibrent_id` = newer.`vibrent_id` AND older.`type` = newer.`type` AND older.`id` < newer.`id`;
+
+ALTER TABLE `drc_synced_status`
+    DROP INDEX `drc_synced_status_unique_vibrent_id_type`,
+    ADD UNIQUE KEY `uk_drc_synced_status_vibrent_id_type` (`vibrent_id`, `type`);
+
+DELETE older FROM `update_info_sync_retry_entry` older
+    JOIN `update_info_sync_retry_entry` newer
+        ON older.`vibrent_id` = newer.`vibrent_id` AND older.`type` = newer.`type` AND older.`id` < newer.`id`;
+
+ALTER TABLE `update_info_sync_retry_entry`
+    ADD UNIQUE KEY `uk_update_info_sync_retry_entry_vibrent_id_type` (`vibrent_id`, `type`);
@@ -0,0 +1,14 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-024                 Comments  : Added compressed payload columns and their codec to the genomic
+--                                                      status payload and batch tables. Rows without a codec keep their
+--                                                      payload in the JSON column.
+-- --------------------------------------------------------------------------------------------------------------------
+
+ALTER TABLE `participant_genomic_status_payload`
+    ADD COLUMN `raw_payload_compressed` LONGBLOB NULL DEFAULT NULL,
+    ADD COLUMN `payload_codec` VARCHAR(16) NULL DEFAULT NULL;
+
+ALTER TABLE `participant_genomic_status_batch`
+    ADD COLUMN `batch_payload_compressed` MEDIUMBLOB NULL DEFAULT NULL,
+    ADD COLUMN `payload_codec` VARCHAR(16) NULL DEFAULT NULL;
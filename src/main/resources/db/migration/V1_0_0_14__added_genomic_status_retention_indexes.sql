@@ -0,0 +1,11 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-025                 Comments  : Added the indexes the genomic status retention job selects its
+--                                                      expired batches and payloads with
+-- --------------------------------------------------------------------------------------------------------------------
+
+CREATE INDEX `idx_participant_genomic_status_batch_status_updated_on`
+    ON `participant_genomic_status_batch` (`status`, `updated_on`);
+
+CREATE INDEX `idx_participant_genomic_status_payload_updated_on`
+    ON `participant_genomic_status_payload` (`updated_on`);
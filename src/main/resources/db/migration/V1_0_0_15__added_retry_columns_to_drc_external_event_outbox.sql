@@ -0,0 +1,12 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-013                 Comments  : Added retry count and next attempt time so the outbox relay backs
+--                                                      off rows that fail and stops publishing them past the max retries
+-- --------------------------------------------------------------------------------------------------------------------
+
+ALTER TABLE `drc_external_event_outbox`
+    ADD COLUMN `retry_count` INT NOT NULL DEFAULT 0,
+    ADD COLUMN `next_attempt_at` BIGINT(20) NOT NULL DEFAULT 0;
+
+CREATE INDEX `idx_drc_external_event_outbox_next_attempt_at_retry_count`
+    ON `drc_external_event_outbox` (`next_attempt_at`, `retry_count`);
@@ -0,0 +1,12 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-003                 Comments  : Added lease columns so genomic status batches can be claimed by
+--                                                      multiple nodes and worker threads in parallel
+-- --------------------------------------------------------------------------------------------------------------------
+
+ALTER TABLE `participant_genomic_status_batch`
+    ADD COLUMN `claimed_by` VARCHAR(128) NULL DEFAULT NULL,
+    ADD COLUMN `claimed_until` BIGINT(20) NULL DEFAULT NULL;
+
+CREATE INDEX `idx_participant_genomic_status_batch_status_claimed_until`
+    ON `participant_genomic_status_batch` (`status`, `claimed_until`);
@@ -0,0 +1,11 @@
+-- --------------------------------------------------------------------------------------------------------------------
+-- Date          : Oct 18, 2026             Added By  : agent
+-- JIRA ID       : user-012                 Comments  : Added next attempt time so retry entries back off exponentially
+--                                                      and the retry job only selects the entries that are due
+-- --------------------------------------------------------------------------------------------------------------------
+
+ALTER TABLE `update_info_sync_retry_entry`
+    ADD COLUMN `next_attempt_at` BIGINT(20) NOT NULL DEFAULT 0;
+
+CREATE INDEX `idx_update_info_sync_retry_entry_next_attempt_at_retry_count`
+    ON `update_info_sync_retry_entry` (`next_attempt_at`, `retry_count`);
@@ -0,0 +1,92 @@
+package com.vibrent.drc.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.RedisException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "TEST_CACHE";
+    private static final long TTL_MILLIS = 60000L;
+
+    @Mock
+    private RMapCache<Object, Object> remoteCache;
+
+    @Mock
+    private RTopic invalidationTopic;
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache;
+
+    private TwoTierCache twoTierCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = Caffeine.newBuilder().maximumSize(100).build();
+        twoTierCache = new TwoTierCache(CACHE_NAME, nearCache, remoteCache, TTL_MILLIS, null);
+    }
+
+    @Test
+    void whenPutThenValueIsWrittenToBothTiers() {
+        twoTierCache.put("p1", 1L);
+
+        assertEquals(1L, nearCache.getIfPresent("p1"));
+        verify(remoteCache).fastPut("p1", 1L, TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void whenNearCacheHitThenRedisIsNotQueried() {
+        nearCache.put("p1", 1L);
+
+        assertEquals(1L, twoTierCache.get("p1").get());
+        verifyNoInteractions(remoteCache);
+    }
+
+    @Test
+    void whenNearCacheMissThenValueIsReadFromRedisAndCachedLocally() {
+        when(remoteCache.get("p1")).thenReturn(1L);
+
+        assertEquals(1L, twoTierCache.get("p1").get());
+        assertEquals(1L, nearCache.getIfPresent("p1"));
+    }
+
+    @Test
+    void whenRedisUnavailableThenLookupIsTreatedAsMiss() {
+        when(remoteCache.get("p1")).thenThrow(new RedisException("unavailable"));
+
+        assertNull(twoTierCache.get("p1"));
+    }
+
+    @Test
+    void whenMissInBothTiersThenValueLoaderResultIsWrittenThrough() {
+        assertEquals(1L, twoTierCache.get("p1", () -> 1L));
+
+        assertEquals(1L, nearCache.getIfPresent("p1"));
+        verify(remoteCache).fastPut("p1", 1L, TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenInvalidationEnabledThenEvictionIsPublishedAndAppliedLocally() {
+        twoTierCache = new TwoTierCache(CACHE_NAME, nearCache, remoteCache, TTL_MILLIS, invalidationTopic);
+        verify(invalidationTopic).addListener(eq(String.class), any(MessageListener.class));
+
+        twoTierCache.evict("p1");
+        verify(remoteCache).fastRemove("p1");
+        verify(invalidationTopic).publish("p1");
+    }
+}
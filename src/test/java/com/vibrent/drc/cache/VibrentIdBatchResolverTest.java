@@ -0,0 +1,138 @@
+package com.vibrent.drc.cache;
+
+import com.vibrent.drc.exception.BusinessProcessingException;
+import com.vibrent.drc.exception.BusinessValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VibrentIdBatchResolverTest {
+
+    @Test
+    void whenSingleLookupThenVibrentIdIsResolved() {
+        List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+        VibrentIdBatchResolver resolver = new VibrentIdBatchResolver(ids -> {
+            requests.add(new ArrayList<>(ids));
+            return Map.of("p1", 1L);
+        }, 100, 0);
+
+        assertEquals(1L, resolver.resolve("p1"));
+        assertEquals(1, requests.size());
+        assertEquals(List.of("p1"), requests.get(0));
+    }
+
+    @Test
+    void whenVibrentIdNotFoundThenBusinessValidationExceptionIsThrown() {
+        VibrentIdBatchResolver resolver = new VibrentIdBatchResolver(ids -> Collections.emptyMap(), 100, 0);
+
+        assertThrows(BusinessValidationException.class, () -> resolver.resolve("p1"));
+    }
+
+    @Test
+    void whenLoaderFailsThenExceptionIsPropagated() {
+        VibrentIdBatchResolver resolver = new VibrentIdBatchResolver(ids -> {
+            throw new BusinessProcessingException("failed");
+        }, 100, 0);
+
+        assertThrows(BusinessProcessingException.class, () -> resolver.resolve("p1"));
+    }
+
+    @Test
+    void whenLoneLookupThenItIsNotHeldForOtherCallers() {
+        VibrentIdBatchResolver resolver = new VibrentIdBatchResolver(ids -> Map.of("p1", 1L), 100, 5000);
+
+        long start = System.nanoTime();
+        assertEquals(1L, resolver.resolve("p1"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+
+    @Test
+    void whenLookupsArriveWhileOthersAreWaitingThenTheyAreCoalescedIntoBatches() throws Exception {
+        int callers = 10;
+        CountDownLatch firstLoadEntered = new CountDownLatch(1);
+        CountDownLatch releaseFirstLoad = new CountDownLatch(1);
+        List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+        VibrentIdBatchResolver resolver = new VibrentIdBatchResolver(ids -> {
+            requests.add(new ArrayList<>(ids));
+            if (ids.contains("p0")) {
+                firstLoadEntered.countDown();
+                try {
+                    releaseFirstLoad.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Map<String, Long> result = new HashMap<>();
+            ids.forEach(id -> result.put(id, Long.valueOf(id.substring(1))));
+            return result;
+        }, 5, 5000);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(callers + 1);
+        try {
+            // The lone first lookup is loaded right away and keeps waiting, the next lookups are held until their batch is full
+            Future<Long> first = executorService.submit(() -> resolver.resolve("p0"));
+            assertTrue(firstLoadEntered.await(5, TimeUnit.SECONDS));
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 1; i <= callers; i++) {
+                String externalId = "p" + i;
+                futures.add(executorService.submit(() -> resolver.resolve(externalId)));
+            }
+
+            for (int i = 1; i <= callers; i++) {
+                assertEquals(Long.valueOf(i), futures.get(i - 1).get(10, TimeUnit.SECONDS));
+            }
+            releaseFirstLoad.countDown();
+            assertEquals(0L, first.get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(3, requests.size());
+        assertTrue(requests.contains(List.of("p0")));
+        assertTrue(requests.stream().filter(ids -> !ids.contains("p0")).allMatch(ids -> ids.size() == 5));
+    }
+
+    @Test
+    void whenSameExternalIdRequestedConcurrentlyThenSingleLookupIsMade() throws Exception {
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger requestCount = new AtomicInteger();
+        VibrentIdBatchResolver resolver = new VibrentIdBatchResolver(ids -> {
+            requestCount.incrementAndGet();
+            loaderEntered.countDown();
+            try {
+                releaseLoader.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of("p1", 1L);
+        }, 100, 0);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> first = executorService.submit(() -> resolver.resolve("p1"));
+            assertTrue(loaderEntered.await(5, TimeUnit.SECONDS));
+            Future<Long> second = executorService.submit(() -> resolver.resolve("p1"));
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            assertEquals(1L, first.get(5, TimeUnit.SECONDS));
+            assertEquals(1L, second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(1, requestCount.get());
+    }
+}
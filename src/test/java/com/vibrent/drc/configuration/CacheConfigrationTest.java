@@ -0,0 +1,105 @@
+package com.vibrent.drc.configuration;
+
+import com.vibrent.acadia.web.rest.dto.form.*;
+import com.vibrent.drc.cache.TwoTierCache;
+import com.vibrent.drc.constants.DrcConstant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheConfigrationTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    private CacheConfigration cacheConfigration;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfigration = new CacheConfigration();
+        ReflectionTestUtils.setField(cacheConfigration, "caffeineSpec", "maximumSize=100");
+        ReflectionTestUtils.setField(cacheConfigration, "vibrentIdRedisCacheEnabled", false);
+        ReflectionTestUtils.setField(cacheConfigration, "formCacheMaxWeightKb", 1024L);
+        ReflectionTestUtils.setField(cacheConfigration, "formVersionCacheTtlMinutes", 60L);
+        ReflectionTestUtils.setField(cacheConfigration, "activeFormVersionCacheTtlMinutes", 5L);
+        ReflectionTestUtils.setField(cacheConfigration, "activeFormVersionCacheMaxSize", 1000L);
+        ReflectionTestUtils.setField(cacheConfigration, "formIndexCacheMaxSize", 100L);
+    }
+
+    @Test
+    void whenCacheManagerCreatedThenAllCachesAreAvailable() throws Exception {
+        CacheManager cacheManager = createCacheManager();
+
+        assertTrue(cacheManager.getCache(DrcConstant.VIBRENTID_CACHE) instanceof CaffeineCache);
+        assertNotNull(cacheManager.getCache(DrcConstant.SALIVERY_BIOBANK_ADDRESS_CACHE));
+        assertNotNull(cacheManager.getCache(DrcConstant.SALIVERY_ORDER_DEVICE_CACHE));
+        assertNotNull(cacheManager.getCache(DrcConstant.FORM_VERSION_CACHE));
+        assertNotNull(cacheManager.getCache(DrcConstant.ACTIVE_FORM_VERSION_CACHE));
+        assertNotNull(cacheManager.getCache(DrcConstant.FORM_INDEX_CACHE));
+    }
+
+    @Test
+    void whenRedisEnabledThenVibrentIdCacheIsTwoTier() throws Exception {
+        ReflectionTestUtils.setField(cacheConfigration, "vibrentIdRedisCacheEnabled", true);
+
+        CacheManager cacheManager = createCacheManager();
+
+        assertTrue(cacheManager.getCache(DrcConstant.VIBRENTID_CACHE) instanceof TwoTierCache);
+    }
+
+    @Test
+    void whenFormVersionCachedThenItIsReturnedFromCache() throws Exception {
+        Cache formVersionCache = createCacheManager().getCache(DrcConstant.FORM_VERSION_CACHE);
+        FormVersionDTO formVersionDTO = new FormVersionDTO();
+        formVersionDTO.setId(25097L);
+
+        formVersionCache.put(25097L, formVersionDTO);
+
+        assertSame(formVersionDTO, formVersionCache.get(25097L, FormVersionDTO.class));
+    }
+
+    @Test
+    void whenFormVersionWeighedThenItsComponentFieldsAreCounted() {
+        List<FormComponentFieldDTO> fields = new ArrayList<>();
+        for (int displayOrder = 0; displayOrder < 3; displayOrder++) {
+            FormComponentFieldDTO formComponentFieldDTO = new FormComponentFieldDTO();
+            formComponentFieldDTO.setDisplayOrder(displayOrder);
+            fields.add(formComponentFieldDTO);
+        }
+        FormComponentDTO formComponentDTO = new FormComponentDTO();
+        formComponentDTO.setFormComponentFields(fields);
+        FormSectionDTO formSectionDTO = new FormSectionDTO();
+        formSectionDTO.setFormComponents(Collections.singletonList(formComponentDTO));
+        FormPageDTO formPageDTO = new FormPageDTO();
+        formPageDTO.setSections(Collections.singletonList(formSectionDTO));
+        FormModeDTO editMode = new FormModeDTO();
+        editMode.setPages(Collections.singletonList(formPageDTO));
+        FormVersionDTO formVersionDTO = new FormVersionDTO();
+
+        assertEquals(1, CacheConfigration.weightInKb(1L, formVersionDTO));
+        formVersionDTO.setEditMode(editMode);
+        assertEquals(3, CacheConfigration.weightInKb(1L, formVersionDTO));
+        assertEquals(1, CacheConfigration.weightInKb(1L, 25097L));
+    }
+
+    private CacheManager createCacheManager() throws Exception {
+        CacheManager cacheManager = cacheConfigration.caffeineCacheManager(redissonClient);
+        ((InitializingBean) cacheManager).afterPropertiesSet();
+        return cacheManager;
+    }
+}
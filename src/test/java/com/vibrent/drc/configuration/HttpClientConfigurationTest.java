@@ -0,0 +1,76 @@
+package com.vibrent.drc.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigurationTest {
+
+    private HttpClientConfiguration httpClientConfiguration;
+    private MeterRegistry meterRegistry;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        httpClientConfiguration = new HttpClientConfiguration();
+        ReflectionTestUtils.setField(httpClientConfiguration, "maxTotalConnections", 20);
+        ReflectionTestUtils.setField(httpClientConfiguration, "maxConnectionsPerRoute", 5);
+        ReflectionTestUtils.setField(httpClientConfiguration, "connectTimeoutMillis", 1000);
+        ReflectionTestUtils.setField(httpClientConfiguration, "readTimeoutMillis", 3000);
+        ReflectionTestUtils.setField(httpClientConfiguration, "connectionRequestTimeoutMillis", 500);
+        ReflectionTestUtils.setField(httpClientConfiguration, "idleEvictionSeconds", 30L);
+        ReflectionTestUtils.setField(httpClientConfiguration, "validateAfterInactivityMillis", 1500);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (connectionManager != null) {
+            connectionManager.close();
+        }
+    }
+
+    @Test
+    void whenConnectionManagerCreatedThenPoolIsSizedFromPropertiesAndItsMetricsAreBound() {
+        connectionManager = httpClientConfiguration.httpClientConnectionManager(meterRegistry);
+
+        assertEquals(20, connectionManager.getMaxTotal());
+        assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+        assertEquals(1500, connectionManager.getValidateAfterInactivity());
+        assertEquals(20.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "drc-http-client").gauge().value());
+    }
+
+    @Test
+    void whenRestTemplateCreatedThenItUsesThePooledClientWithTheConfiguredTimeouts() {
+        connectionManager = httpClientConfiguration.httpClientConnectionManager(meterRegistry);
+        httpClient = httpClientConfiguration.pooledHttpClient(connectionManager);
+        ClientHttpRequestFactory requestFactory = httpClientConfiguration.pooledClientHttpRequestFactory(httpClient);
+
+        RestTemplate restTemplate = httpClientConfiguration.restTemplate(requestFactory);
+
+        assertSame(requestFactory, restTemplate.getRequestFactory());
+        assertSame(httpClient, ((HttpComponentsClientHttpRequestFactory) requestFactory).getHttpClient());
+        RequestConfig requestConfig = ((Configurable) httpClient).getConfig();
+        assertEquals(1000, requestConfig.getConnectTimeout());
+        assertEquals(3000, requestConfig.getSocketTimeout());
+        assertEquals(500, requestConfig.getConnectionRequestTimeout());
+    }
+}
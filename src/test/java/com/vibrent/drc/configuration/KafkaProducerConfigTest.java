@@ -0,0 +1,73 @@
+package com.vibrent.drc.configuration;
+
+import com.vibrent.drc.dto.ExternalApiRequestLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KafkaProducerConfigTest {
+
+    private MockEnvironment environment;
+    private KafkaProducerConfig kafkaProducerConfig;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment().withProperty("spring.kafka.server", "localhost:9092");
+        kafkaProducerConfig = new KafkaProducerConfig();
+        kafkaProducerConfig.setEnvironment(environment);
+    }
+
+    @Test
+    void whenNoProfileConfiguredThenThroughputProfileIsUsed() {
+        Map<String, Object> configProps = kafkaProducerConfig.getConfigProps(KafkaProducerConfig.DRC_EXTERNAL_EVENT_PRODUCER);
+
+        assertEquals(true, configProps.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals("all", configProps.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(20, configProps.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(256 * 1024, configProps.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals("lz4", configProps.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+    }
+
+    @Test
+    void whenLatencyProfileConfiguredThenRecordsAreNotLingered() {
+        environment.setProperty("spring.kafka.producers.externalLog.profile", "LATENCY");
+
+        Map<String, Object> configProps = kafkaProducerConfig.getConfigProps(KafkaProducerConfig.EXTERNAL_LOG_PRODUCER);
+
+        assertEquals(true, configProps.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals(0, configProps.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals("none", configProps.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+    }
+
+    @Test
+    void whenCompressionTypeConfiguredThenItOverridesTheProfile() {
+        environment.setProperty("spring.kafka.producers.externalLog.compressionType", " zstd ");
+        environment.setProperty("spring.kafka.producers.drcExternalEvent.compressionType", "");
+
+        assertEquals("zstd", kafkaProducerConfig.getConfigProps(KafkaProducerConfig.EXTERNAL_LOG_PRODUCER).get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals("lz4", kafkaProducerConfig.getConfigProps(KafkaProducerConfig.DRC_EXTERNAL_EVENT_PRODUCER).get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+    }
+
+    @Test
+    void whenProducerFactoryCreatedThenMetricsAreBoundAndTypeInfoHeadersAreNotAdded() {
+        ProducerFactory<String, ExternalApiRequestLog> producerFactory = kafkaProducerConfig.externalLogProducerFactory(new SimpleMeterRegistry());
+
+        DefaultKafkaProducerFactory<String, ExternalApiRequestLog> defaultProducerFactory = (DefaultKafkaProducerFactory<String, ExternalApiRequestLog>) producerFactory;
+        assertFalse(defaultProducerFactory.getListeners().isEmpty());
+        RecordHeaders headers = new RecordHeaders();
+        byte[] serialized = defaultProducerFactory.getValueSerializerSupplier().get().serialize("topic", headers, new ExternalApiRequestLog());
+        assertTrue(serialized.length > 0);
+        assertFalse(headers.iterator().hasNext());
+    }
+}
@@ -0,0 +1,38 @@
+package com.vibrent.drc.constants;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecondaryContactStateRelationshipMapsTest {
+
+    @Test
+    void whenMapsRequestedThenSameImmutableInstancesAreReturned() {
+        Map<String, String> contactOne = SecondaryContactStateRelationshipMaps.getContactOneStateRelationshipDRCMap();
+        Map<String, String> contactTwo = SecondaryContactStateRelationshipMaps.getContactTwoStateRelationshipDRCMap();
+        Map<String, String> secondaryContact = SecondaryContactStateRelationshipMaps.getSecondaryContactStateRelationshipMap();
+
+        assertSame(contactOne, SecondaryContactStateRelationshipMaps.getContactOneStateRelationshipDRCMap());
+        assertSame(contactTwo, SecondaryContactStateRelationshipMaps.getContactTwoStateRelationshipDRCMap());
+        assertSame(secondaryContact, SecondaryContactStateRelationshipMaps.getSecondaryContactStateRelationshipMap());
+        assertThrows(UnsupportedOperationException.class, () -> contactOne.put("PIIState_XX", "PersonOneAddressState_XX"));
+    }
+
+    @Test
+    void whenValueLookedUpThenDrcAnswerIsReturned() {
+        assertEquals("PersonOneAddressState_NY", SecondaryContactStateRelationshipMaps.getContactOneStateRelationshipDRCMap().get("PIIState_NY"));
+        assertEquals("SecondContactState_Alabama", SecondaryContactStateRelationshipMaps.getContactTwoStateRelationshipDRCMap().get("PIIState_AL"));
+        assertEquals("partner", SecondaryContactStateRelationshipMaps.getSecondaryContactStateRelationshipMap().get("SecondContactsRelationship_SpousePartner"));
+        assertEquals(64, SecondaryContactStateRelationshipMaps.getContactOneStateRelationshipDRCMap().size());
+        assertNull(SecondaryContactStateRelationshipMaps.getContactTwoStateRelationshipDRCMap().get("unknown"));
+    }
+
+    @Test
+    void whenNullKeyLookedUpThenNullIsReturned() {
+        assertNull(SecondaryContactStateRelationshipMaps.getContactOneStateRelationshipDRCMap().get(null));
+        assertNull(SecondaryContactStateRelationshipMaps.getContactTwoStateRelationshipDRCMap().get(null));
+        assertNull(SecondaryContactStateRelationshipMaps.getSecondaryContactStateRelationshipMap().get(null));
+    }
+}
@@ -0,0 +1,31 @@
+package com.vibrent.drc.domain;
+
+import com.vibrent.drc.enumeration.PayloadCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantGenomicStatusBatchTest {
+
+    // Not a valid gzip stream, so any call to the decompressing getters fails
+    private static final byte[] UNREADABLE_PAYLOAD = {1, 2, 3};
+
+    @Test
+    void whenBatchIsPrintedOrComparedThenPayloadIsNotDecompressed() {
+        ParticipantGenomicStatusPayload payload = new ParticipantGenomicStatusPayload();
+        payload.setId(1L);
+        payload.setPayloadCodec(PayloadCodec.GZIP);
+        payload.setCompressedRawPayload(UNREADABLE_PAYLOAD);
+        ParticipantGenomicStatusBatch batch = new ParticipantGenomicStatusBatch();
+        batch.setId(2L);
+        batch.setPayloadCodec(PayloadCodec.GZIP);
+        batch.setCompressedBatchPayload(UNREADABLE_PAYLOAD);
+        batch.setParticipantGenomicStatusPayload(payload);
+        ParticipantGenomicStatusBatch copy = ParticipantGenomicStatusBatch.newInstance(batch);
+
+        assertThrows(RuntimeException.class, batch::getBatchPayload);
+        assertTrue(batch.toString().contains("id=2"));
+        assertEquals(batch, copy);
+        assertEquals(batch.hashCode(), copy.hashCode());
+    }
+}
@@ -125,7 +125,7 @@ public class DRCParticipantGenomicsStatusFetchJobTest extends IntegrationTest {
     @Before
     public void setUp() throws Exception {
         drcBackendProcessorWrapper = new DRCBackendProcessorWrapperImpl(externalApiRequestLogsService, drcBackendProcessorService);
-        drcParticipantGenomicsStatusService = new DRCParticipantGenomicsStatusServiceImpl(systemPropertiesRepository, drcConfigService, participantGenomicStatusPayloadRepository, participantGenomicStatusBatchRepository, participantGenomicsStatusPayloadMapper, dataSharingMetricsService, drcBackendProcessorWrapper);
+        drcParticipantGenomicsStatusService = new DRCParticipantGenomicsStatusServiceImpl(systemPropertiesRepository, drcConfigService, participantGenomicStatusPayloadRepository, participantGenomicStatusBatchRepository, dataSharingMetricsService, drcBackendProcessorWrapper);
         ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "batchProcessingSize", 10);
         drcParticipantGenomicsStatusFetchJob = new DRCParticipantGenomicsStatusFetchJob(drcParticipantGenomicsStatusService, genomicSchedulingWorkflow);
     }
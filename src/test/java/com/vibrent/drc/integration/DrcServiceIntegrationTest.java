@@ -2,6 +2,7 @@ package com.vibrent.drc.integration;
 
 import com.vibrent.drc.exception.DrcExceptionHandler;
 import com.vibrent.drc.messaging.producer.DrcExternalEventProducer;
+import com.vibrent.drc.service.AccessTokenService;
 import com.vibrent.drc.service.DataSharingMetricsService;
 import com.vibrent.drc.service.DrcNotificationRequestService;
 import com.vibrent.drc.service.ParticipantService;
@@ -16,8 +17,6 @@ import com.vibrenthealth.drcutils.service.impl.DRCConfigServiceImpl;
 import com.vibrenthealth.drcutils.service.impl.DRCRetryServiceImpl;
 import io.micrometer.core.instrument.Counter;
 import lombok.SneakyThrows;
-import org.joda.time.Duration;
-import org.joda.time.Instant;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.jupiter.api.BeforeAll;
@@ -32,9 +31,6 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
@@ -72,7 +68,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     private RestClientUtil restClientUtil;
 
     @Mock
-    private OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
+    private AccessTokenService accessTokenService;
 
     @MockBean
     private DrcExternalEventProducer drcExternalEventProducer;
@@ -84,8 +80,6 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Autowired
     private ParticipantService participantService;
 
-    private OAuth2AccessToken oAuth2AccessToken;
-
     @MockBean
     @Qualifier("realTimeApiInitiatedCounter")
     private  Counter realTimeApiInitiatedCounter;
@@ -133,12 +127,10 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
 
     @Before
     public void setUp() {
-        oAuth2AccessToken = new DefaultOAuth2AccessToken("access_token");
-        ((DefaultOAuth2AccessToken)oAuth2AccessToken).setExpiration(Instant.now().plus(Duration.standardSeconds(300)).toDate());
         mockMvc = MockMvcBuilders.standaloneSetup(drcApiController).setControllerAdvice(DrcExceptionHandler.class).build();
         drcNotificationRequestDTO = buildDrcNotificationRequestDTO();
 
-        ReflectionTestUtils.setField(participantService, "keycloakDrcInternalCredentialsRestTemplate", keycloakDrcInternalCredentialsRestTemplate);
+        ReflectionTestUtils.setField(participantService, "accessTokenService", accessTokenService);
         ReflectionTestUtils.setField(participantService, "retryService", new DRCRetryServiceImpl(new DRCConfigServiceImpl(false, "")));
         ReflectionTestUtils.setField(participantService, "restClientUtil", restClientUtil);
         ReflectionTestUtils.setField(drcServiceApiDelegate, "dataSharingMetricsService", dataSharingMetricsService);
@@ -150,7 +142,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @DisplayName("When DRCService request Endpoint invoked  with INFORMING_LOOP_STARTED request object" +
             "Then verify success received")
     public void whenDrcApiIsInvokedForInformingLoopStartedThenGetSuccessHttpStatus() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"P10100\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         mockMvc.perform(post(POST_EVENT_NOTIFICATION_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -184,7 +176,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
             "Then verify success received")
     public void whenDrcApiIsInvokedForInformingLoopDecisionThenGetSuccessHttpStatus() throws Exception {
         drcNotificationRequestDTO.setEvent(EventTypes.INFORMING_LOOP_DECISION);
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"P10100\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         mockMvc.perform(post(POST_EVENT_NOTIFICATION_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -206,7 +198,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
             "Then verify success received")
     public void whenDrcApiIsInvokedForResultsViewedThenGetSuccessHttpStatus() throws Exception {
         drcNotificationRequestDTO.setEvent(EventTypes.RESULT_VIEWED);
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"P10100\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         mockMvc.perform(post(POST_EVENT_NOTIFICATION_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -237,7 +229,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @DisplayName("When DRCService request Endpoint invoked  and request object is null" +
             "Then verify Bad request received And Kafka message is not sent")
     public void whenDrcApiIsInvokedAndRequestObjectIsNullGetBadRequest() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         drcNotificationRequestDTO = null;
@@ -254,7 +246,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
             "Then verify UnProcessable Entity is received and VXP Event is not generated")
     public void whenDrcNotificationApiIsInvokedWithInvalidExternalIdThenVerifyUnProcessableEntity() throws Exception {
         drcNotificationRequestDTO.setParticipantId("P2");
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[],\"link\":{},\"total\":0}");
 
         mockMvc.perform(post(POST_EVENT_NOTIFICATION_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -280,7 +272,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked Then verify success received")
     public void whenDrcGetParticipantLookupIsInvokedThenVerifySuccess() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
         mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
                 .param("vibrentId", "67787412")
@@ -295,7 +287,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked Without link object Then verify success received")
     public void whenDrcGetParticipantLookupIsInvokedWithoutLinkResponseThenVerifySuccess() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":\"v1\",\"EXTERNAL_ID\": \"p1\"}]}");
         mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
                 .param("vibrentId", "67787412")
@@ -306,7 +298,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked with Start Date Then verify Success response is received")
     public void whenDrcGetParticipantLookupIsInvokedWithStartDateThenVerifySuccess() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
         mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
                 .param("startDate", "2021-07-01T00:00:00-00:00")
@@ -317,7 +309,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked with End Date Then verify Success response is received")
     public void whenDrcGetParticipantLookupIsInvokedWithEndDateThenVerifySuccess() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -329,7 +321,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked with page Then verify Success response is received")
     public void whenDrcGetParticipantLookupIsInvokedWithPageThenVerifySuccess() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -341,7 +333,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked with page size Then verify Success response is received")
     public void whenDrcGetParticipantLookupIsInvokedWithPageSizeThenVerifySuccess() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -353,7 +345,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked with both VibrentId and DrcID Then verify Success response is received")
     public void whenDrcGetParticipantLookupIsInvokedWithBothVibrentIdAndDrcIdThenVerifySuccess() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
@@ -366,7 +358,7 @@ public class DrcServiceIntegrationTest extends IntegrationTest {
     @Test
     @DisplayName("When DRC GET Participant Lookup Endpoint invoked with both VibrentId and DrcID Then verify Success response is received")
     public void whenDrcGetParticipantLookupIsInvokedThenVerifySuccessResponseWithLinks() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access_token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":67701409,\"EXTERNAL_ID\": \"p1\",\"TEST_PARTICIPANT\":true}],\"link\":{\"previousPageQuery\":\"/api/userInfo/search?page=1&pageSize=1\",\"nextPageQuery\":\"/api/userInfo/search?page=3&pageSize=1\"},\"total\":1}");
 
         MvcResult result = mockMvc.perform(get(GET_PARTICIPANT_LOOKUP_REQUEST_ENDPOINT).contentType(APPLICATION_JSON_UTF8)
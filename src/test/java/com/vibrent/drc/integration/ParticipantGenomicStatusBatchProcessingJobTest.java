@@ -1,9 +1,10 @@
 package com.vibrent.drc.integration;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
 import com.vibrent.drc.domain.ParticipantGenomicStatusPayload;
 import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
-import com.vibrent.drc.messaging.producer.DrcExternalEventProducer;
+import com.vibrent.drc.repository.DrcExternalEventOutboxRepository;
 import com.vibrent.drc.repository.ParticipantGenomicStatusBatchRepository;
 import com.vibrent.drc.repository.ParticipantGenomicStatusPayloadRepository;
 import com.vibrent.drc.scheduling.ParticipantGenomicStatusBatchProcessingJob;
@@ -12,8 +13,8 @@ import com.vibrent.drc.service.ParticipantGenomicStatusBatchProcessingService;
 import com.vibrent.drc.service.ParticipantGenomicsStatusPayloadMapper;
 import com.vibrent.drc.service.ParticipantService;
 import com.vibrent.drc.service.impl.ParticipantGenomicsStatusPayloadMapperImpl;
-import com.vibrent.vxp.push.DRCExternalEventDto;
 import io.micrometer.core.instrument.Counter;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,6 +31,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static org.mockito.Mockito.*;
 
@@ -45,8 +47,8 @@ public class ParticipantGenomicStatusBatchProcessingJobTest extends IntegrationT
     @Autowired
     private ParticipantGenomicStatusBatchProcessingService participantGenomicStatusBatchProcessingService;
 
-    @Mock
-    private DrcExternalEventProducer drcExternalEventProducer;
+    @Autowired
+    private DrcExternalEventOutboxRepository drcExternalEventOutboxRepository;
 
     @Autowired
     private ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper;
@@ -95,16 +97,25 @@ public class ParticipantGenomicStatusBatchProcessingJobTest extends IntegrationT
     @Mock
     DataSharingMetricsService dataSharingMetricsService;
 
+    private ExecutorService executorService;
+
     @Before
     public void setUp() {
        // dataSharingMetricsService = new DataSharingMetricsServiceImpl(realTimeApiInitiatedCounter, realTimeApiInvokedSuccessfullyCounter, participantLookupApiInitiatedCounter, participantLookupApiInvokedSuccessfullyCounter, genomicsStatusFetchInitiatedCounter, genomicsStatusMessagesSentCounter, genomicsStatusProcessingFailureCounter);
         participantGenomicsStatusPayloadMapper = new ParticipantGenomicsStatusPayloadMapperImpl(participantService, dataSharingMetricsService);
-        participantGenomicStatusBatchProcessingJob = new ParticipantGenomicStatusBatchProcessingJob(participantGenomicStatusBatchProcessingService, drcExternalEventProducer, participantGenomicsStatusPayloadMapper, dataSharingMetricsService);
+        // Batches run on the test thread, inside the test transaction
+        executorService = MoreExecutors.newDirectExecutorService();
+        participantGenomicStatusBatchProcessingJob = new ParticipantGenomicStatusBatchProcessingJob(participantGenomicStatusBatchProcessingService, participantGenomicsStatusPayloadMapper, executorService, 20, 600);
+
+    }
 
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
     }
 
     @DisplayName("When Participant Genomic Status Batch Processing Job executed, " +
-            "Then verify kafka message sent for each payload." +
+            "Then verify kafka message queued in the outbox for each payload." +
             "And batch status updated PENDING to PROGRESSING")
     @Test
     public void whenJobExecutesThenVerifyEligibleBatchesGetProcessed() throws JobExecutionException {
@@ -117,18 +128,16 @@ public class ParticipantGenomicStatusBatchProcessingJobTest extends IntegrationT
         //Execute Job
         participantGenomicStatusBatchProcessingJob.execute(context);
 
-        //Verify kafka message sent
-        verify(drcExternalEventProducer, times(3)).send(any(DRCExternalEventDto.class));
+        //Verify kafka message queued in the outbox
+        Assert.assertEquals(3, drcExternalEventOutboxRepository.count());
 
         //Verify Status updated to PROCESSING
         List<ParticipantGenomicStatusBatch> statusBatches = participantGenomicStatusBatchRepository.findAll();
         Assert.assertEquals(ExternalGenomicPayloadProcessingStatus.PROCESSING, statusBatches.get(0).getStatus());
-
-        verify(dataSharingMetricsService, times(3)).incrementGenomicsStatusMessagesSentCounter();
     }
 
     @DisplayName("When Participant Genomic Status Batch Processing Job executed, " +
-            "Then verify kafka message sent for each payload." +
+            "Then verify kafka message queued in the outbox for each payload." +
             "And batch status updated from ERROR to PROGRESSING")
     @Test
     public void whenJobExecutesThenVerifyEligibleBatchesGetWithStatusErrorGetProcessed() throws JobExecutionException {
@@ -141,8 +150,8 @@ public class ParticipantGenomicStatusBatchProcessingJobTest extends IntegrationT
         //Execute Job
         participantGenomicStatusBatchProcessingJob.execute(context);
 
-        //Verify kafka message sent
-        verify(drcExternalEventProducer, times(3)).send(any(DRCExternalEventDto.class));
+        //Verify kafka message queued in the outbox
+        Assert.assertEquals(3, drcExternalEventOutboxRepository.count());
 
         //Verify Status updated to PROCESSING
         List<ParticipantGenomicStatusBatch> statusBatches = participantGenomicStatusBatchRepository.findAll();
@@ -159,8 +168,8 @@ public class ParticipantGenomicStatusBatchProcessingJobTest extends IntegrationT
         //Execute Job
         participantGenomicStatusBatchProcessingJob.execute(context);
 
-        //Verify kafka message not sent
-        verify(drcExternalEventProducer, times(0)).send(any(DRCExternalEventDto.class));
+        //Verify kafka message not queued
+        Assert.assertEquals(0, drcExternalEventOutboxRepository.count());
         List<ParticipantGenomicStatusBatch> statusBatches = participantGenomicStatusBatchRepository.findAll();
         //Verify Status not updated
         Assert.assertEquals(ExternalGenomicPayloadProcessingStatus.PROCESSING, statusBatches.get(0).getStatus());
@@ -168,8 +177,30 @@ public class ParticipantGenomicStatusBatchProcessingJobTest extends IntegrationT
     }
 
 
+    @DisplayName("When a batch payload cannot be converted, " +
+            "Then verify the batch is marked ERROR and its claim is released")
+    @Test
+    public void whenBatchFailsThenVerifyItsClaimIsReleased() throws JobExecutionException {
+        addParticipantBatch(ExternalGenomicPayloadProcessingStatus.PENDING, "invalid");
+
+        //Execute Job
+        participantGenomicStatusBatchProcessingJob.execute(context);
+
+        Assert.assertEquals(0, drcExternalEventOutboxRepository.count());
+        ParticipantGenomicStatusBatch statusBatch = participantGenomicStatusBatchRepository.findAll().get(0);
+        Assert.assertEquals(ExternalGenomicPayloadProcessingStatus.ERROR, statusBatch.getStatus());
+        Assert.assertEquals(Integer.valueOf(2), statusBatch.getRetryCount());
+        Assert.assertNull(statusBatch.getClaimedBy());
+        Assert.assertNull(statusBatch.getClaimedUntil());
+    }
+
+
     // Helper methods
     public void addParticipantBatch(ExternalGenomicPayloadProcessingStatus status) {
+        addParticipantBatch(status, BATCH_PAYLOAD);
+    }
+
+    public void addParticipantBatch(ExternalGenomicPayloadProcessingStatus status, String batchPayload) {
         ParticipantGenomicStatusPayload participantGenomicStatusPayload = new ParticipantGenomicStatusPayload();
         participantGenomicStatusPayload.setRawPayload(VALID_RESPONSE);
         participantGenomicStatusPayload.setStatus(ExternalGenomicPayloadProcessingStatus.PENDING);
@@ -181,7 +212,7 @@ public class ParticipantGenomicStatusBatchProcessingJobTest extends IntegrationT
         participantGenomicStatusBatch.setStatus(status);
         participantGenomicStatusBatch.setBatchSize(100);
         participantGenomicStatusBatch.setRetryCount(1);
-        participantGenomicStatusBatch.setBatchPayload(BATCH_PAYLOAD);
+        participantGenomicStatusBatch.setBatchPayload(batchPayload);
         participantGenomicStatusBatch.setParticipantGenomicStatusPayload(participantGenomicStatusPayload);
         participantGenomicStatusBatchRepository.save(participantGenomicStatusBatch);
     }
@@ -0,0 +1,241 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.vibrent.drc.domain.DrcSyncedStatus;
+import com.vibrent.drc.dto.ExternalApiRequestLog;
+import com.vibrent.drc.service.AccountInfoUpdateEventHelperService;
+import com.vibrent.drc.service.AccountInfoUpdateEventService;
+import com.vibrent.drc.service.DRCParticipantService;
+import com.vibrent.drc.service.ExternalApiRequestLogsService;
+import com.vibrent.drc.service.SyncRetryHelperService;
+import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.vxp.push.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.*;
+
+import static com.vibrent.drc.constants.KafkaConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountInfoUpdateEventBatchListenerTest {
+
+    @Mock
+    private AccountInfoUpdateEventService accountInfoUpdateEventService;
+
+    @Mock
+    private DRCParticipantService participantService;
+
+    @Mock
+    private ExternalApiRequestLogsService externalApiRequestLogsService;
+
+    @Mock
+    private AccountInfoUpdateEventHelperService accountInfoUpdateEventHelperService;
+
+    @Mock
+    private SyncRetryHelperService syncRetryHelperService;
+
+    @Mock
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private AccountInfoUpdateEventBatchListener accountInfoUpdateEventBatchListener;
+
+    private AccountInfoUpdateEventProcessor accountInfoUpdateEventProcessor;
+
+    @BeforeEach
+    void setUp() {
+        accountInfoUpdateEventProcessor = new AccountInfoUpdateEventProcessor(accountInfoUpdateEventService,
+                externalApiRequestLogsService, "event.vxp.push.participant", participantService, accountInfoUpdateEventHelperService);
+        accountInfoUpdateEventBatchListener = new AccountInfoUpdateEventBatchListener(accountInfoUpdateEventProcessor,
+                accountInfoUpdateEventHelperService, syncRetryHelperService, kafkaListenerEndpointRegistry, 2, 0, 60000, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountInfoUpdateEventBatchListener.stop();
+    }
+
+    @Test
+    @DisplayName("When a batch has several events of a participant then only the latest one is processed")
+    void whenBatchHasSeveralEventsOfParticipantThenOnlyLatestIsProcessed() throws Exception {
+        DrcSyncedStatus syncedStatus = new DrcSyncedStatus();
+        DrcSyncedStatus savedSyncedStatus = new DrcSyncedStatus();
+        when(accountInfoUpdateEventHelperService.findAccountUpdateSyncedStatuses(anyCollection()))
+                .thenReturn(Collections.singletonMap(1000L, syncedStatus));
+        // The participants run in parallel, so the stub answers both instead of matching one of them
+        when(accountInfoUpdateEventService.processAccountInfoUpdates(any(AccountInfoUpdateEventDto.class), nullable(DrcSyncedStatus.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, AccountInfoUpdateEventDto.class).getVibrentID() == 1000L
+                        && invocation.getArgument(1) == syncedStatus ? savedSyncedStatus : null);
+
+        accountInfoUpdateEventBatchListener.listen(Arrays.asList(
+                buildMessage(buildEvent(1000L, "first")),
+                buildMessage(buildEvent(2000L, "other")),
+                buildMessage(buildEvent(1000L, "latest"))), acknowledgment);
+
+        verify(externalApiRequestLogsService, times(3)).send(any(ExternalApiRequestLog.class));
+
+        ArgumentCaptor<Collection<Long>> vibrentIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(accountInfoUpdateEventHelperService, times(1)).findAccountUpdateSyncedStatuses(vibrentIdsCaptor.capture());
+        assertEquals(new HashSet<>(Arrays.asList(1000L, 2000L)), new HashSet<>(vibrentIdsCaptor.getValue()));
+        verify(accountInfoUpdateEventHelperService, never()).findAccountUpdateSyncedStatus(anyLong());
+
+        ArgumentCaptor<AccountInfoUpdateEventDto> eventCaptor = ArgumentCaptor.forClass(AccountInfoUpdateEventDto.class);
+        verify(accountInfoUpdateEventService, times(2)).processAccountInfoUpdates(eventCaptor.capture(), nullable(DrcSyncedStatus.class));
+        verify(participantService).patchTestParticipant(argThat(e -> e.getVibrentID() == 1000L), eq(savedSyncedStatus));
+        verify(participantService).patchTestParticipant(argThat(e -> e.getVibrentID() == 2000L), isNull());
+        AccountInfoUpdateEventDto processedEvent = eventCaptor.getAllValues().stream()
+                .filter(e -> e.getVibrentID() == 1000L).findFirst().orElseThrow();
+        assertEquals("latest", processedEvent.getParticipant().getFirstName());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("When a quiet period is set then the events of a participant are coalesced across polls")
+    void whenQuietPeriodSetThenEventsAreCoalescedAcrossPolls() throws Exception {
+        accountInfoUpdateEventBatchListener.stop();
+        accountInfoUpdateEventBatchListener = new AccountInfoUpdateEventBatchListener(accountInfoUpdateEventProcessor,
+                accountInfoUpdateEventHelperService, syncRetryHelperService, kafkaListenerEndpointRegistry, 2, 200, 60000, 100);
+        Acknowledgment secondAcknowledgment = mock(Acknowledgment.class);
+
+        accountInfoUpdateEventBatchListener.listen(Collections.singletonList(buildMessage(buildEvent(1000L, "first"))), acknowledgment);
+        accountInfoUpdateEventBatchListener.listen(Collections.singletonList(buildMessage(buildEvent(1000L, "latest"))), secondAcknowledgment);
+
+        verify(acknowledgment, never()).acknowledge();
+        ArgumentCaptor<AccountInfoUpdateEventDto> eventCaptor = ArgumentCaptor.forClass(AccountInfoUpdateEventDto.class);
+        verify(accountInfoUpdateEventService, timeout(5000)).processAccountInfoUpdates(eventCaptor.capture(), nullable(DrcSyncedStatus.class));
+        assertEquals("latest", eventCaptor.getValue().getParticipant().getFirstName());
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(secondAcknowledgment, timeout(5000)).acknowledge();
+        verify(accountInfoUpdateEventService, times(1)).processAccountInfoUpdates(any(AccountInfoUpdateEventDto.class), nullable(DrcSyncedStatus.class));
+        verify(accountInfoUpdateEventHelperService).findAccountUpdateSyncedStatus(1000L);
+    }
+
+    @Test
+    @DisplayName("When the coalescer holds the max number of polls then the consumer is paused until they are acknowledged")
+    void whenMaxPendingPollsHeldThenConsumerIsPausedAndResumed() throws Exception {
+        accountInfoUpdateEventBatchListener.stop();
+        accountInfoUpdateEventBatchListener = new AccountInfoUpdateEventBatchListener(accountInfoUpdateEventProcessor,
+                accountInfoUpdateEventHelperService, syncRetryHelperService, kafkaListenerEndpointRegistry, 2, 200, 60000, 1);
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        when(kafkaListenerEndpointRegistry.getListenerContainer(AccountInfoUpdateEventBatchListener.LISTENER_ID)).thenReturn(container);
+
+        accountInfoUpdateEventBatchListener.listen(Collections.singletonList(buildMessage(buildEvent(1000L, "first"))), acknowledgment);
+
+        verify(container).pause();
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(container, timeout(5000)).resume();
+    }
+
+    @Test
+    @DisplayName("When a batch has only invalid events then nothing is processed")
+    void whenBatchHasOnlyInvalidEventsThenNothingIsProcessed() throws Exception {
+        AccountInfoUpdateEventDto withoutParticipant = new AccountInfoUpdateEventDto();
+        withoutParticipant.setVibrentID(1000L);
+
+        accountInfoUpdateEventBatchListener.listen(Arrays.asList(
+                MessageBuilder.withPayload(new byte[]{1, 2}).build(),
+                buildMessage(withoutParticipant)), acknowledgment);
+
+        verifyNoInteractions(accountInfoUpdateEventHelperService, accountInfoUpdateEventService, participantService, externalApiRequestLogsService);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("When processing of a participant fails then it is added to the retry queue and the other participants are still processed")
+    void whenProcessingOfParticipantFailsThenOthersAreProcessed() throws Exception {
+        when(accountInfoUpdateEventHelperService.findAccountUpdateSyncedStatuses(anyCollection())).thenReturn(new HashMap<>());
+        AccountInfoUpdateEventDto failingEvent = buildEvent(1000L, "failing");
+        AccountInfoUpdateEventDto otherEvent = buildEvent(2000L, "other");
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0, AccountInfoUpdateEventDto.class).getVibrentID() == 1000L) {
+                throw new RuntimeException("failure");
+            }
+            return null;
+        }).when(accountInfoUpdateEventService).processAccountInfoUpdates(any(AccountInfoUpdateEventDto.class), nullable(DrcSyncedStatus.class));
+
+        accountInfoUpdateEventBatchListener.listen(Arrays.asList(buildMessage(failingEvent), buildMessage(otherEvent)), acknowledgment);
+
+        verify(accountInfoUpdateEventService, times(2)).processAccountInfoUpdates(any(AccountInfoUpdateEventDto.class), nullable(DrcSyncedStatus.class));
+        verify(participantService, times(1)).patchTestParticipant(argThat(e -> e.getVibrentID() == 2000L), nullable(DrcSyncedStatus.class));
+        verify(participantService, never()).patchTestParticipant(argThat(e -> e.getVibrentID() == 1000L), nullable(DrcSyncedStatus.class));
+        verify(syncRetryHelperService).addToRetryQueue(argThat(e -> e.getVibrentID() == 1000L), eq(true), eq("failure"));
+        verify(syncRetryHelperService, never()).addToRetryQueue(argThat(e -> e.getVibrentID() == 2000L), anyBoolean(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("When processing of a coalesced event fails then it is added to the retry queue before the poll is acknowledged")
+    void whenCoalescedEventFailsThenItIsRetried() throws Exception {
+        accountInfoUpdateEventBatchListener.stop();
+        accountInfoUpdateEventBatchListener = new AccountInfoUpdateEventBatchListener(accountInfoUpdateEventProcessor,
+                accountInfoUpdateEventHelperService, syncRetryHelperService, kafkaListenerEndpointRegistry, 2, 50, 60000, 100);
+        when(accountInfoUpdateEventService.processAccountInfoUpdates(any(AccountInfoUpdateEventDto.class), nullable(DrcSyncedStatus.class)))
+                .thenThrow(new RuntimeException("failure"));
+
+        accountInfoUpdateEventBatchListener.listen(Collections.singletonList(buildMessage(buildEvent(1000L, "failing"))), acknowledgment);
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(syncRetryHelperService).addToRetryQueue(argThat(e -> e.getVibrentID() == 1000L), eq(true), eq("failure"));
+    }
+
+    @Test
+    void whenEventsCollectedThenPollOrderIsKept() throws Exception {
+        Map<Long, AccountInfoUpdateEventDto> latestEvents = accountInfoUpdateEventBatchListener.collectLatestEvents(Arrays.asList(
+                buildMessage(buildEvent(3000L, "a")),
+                buildMessage(buildEvent(1000L, "b")),
+                buildMessage(buildEvent(2000L, "c"))));
+
+        assertEquals(Arrays.asList(3000L, 1000L, 2000L), new ArrayList<>(latestEvents.keySet()));
+    }
+
+    private static AccountInfoUpdateEventDto buildEvent(long vibrentId, String firstName) {
+        AccountInfoUpdateEventDto accountInfoUpdateEventDto = new AccountInfoUpdateEventDto();
+        accountInfoUpdateEventDto.setExternalID("P" + vibrentId);
+        accountInfoUpdateEventDto.setVibrentID(vibrentId);
+
+        ParticipantDto participantDto = new ParticipantDto();
+        participantDto.setExternalID("P" + vibrentId);
+        participantDto.setVibrentID(vibrentId);
+        participantDto.setFirstName(firstName);
+        accountInfoUpdateEventDto.setParticipant(participantDto);
+        return accountInfoUpdateEventDto;
+    }
+
+    private static Message<byte[]> buildMessage(AccountInfoUpdateEventDto accountInfoUpdateEventDto) throws JsonProcessingException {
+        return MessageBuilder.withPayload(JacksonUtil.getMapper().writeValueAsBytes(accountInfoUpdateEventDto))
+                .setHeader(KAFKA_HEADER_MESSAGE_SPEC, MessageSpecificationEnum.ACCOUNT_INFORMATION_UPDATE.toValue())
+                .setHeader(KAFKA_HEADER_MESSAGE_ID, "messageId")
+                .setHeader(KAFKA_HEADER_VERSION, "2.1.4")
+                .setHeader(KAFKA_HEADER_PATTERN, IntegrationPatternEnum.PUSH.toValue())
+                .setHeader(KAFKA_HEADER_ORIGINATOR, RequestOriginatorEnum.VXPMS.toValue())
+                .setHeader(KAFKA_HEADER_TRIGGER, ContextTypeEnum.EVENT.toValue())
+                .setHeader(KAFKA_HEADER_WORKFLOWNAME, WorkflowNameEnum.ACCOUNT_INFORMATION_UPDATE.toValue())
+                .setHeader(KAFKA_HEADER_TENANT_ID, 1L)
+                .setHeader(KAFKA_HEADER_PROGRAM_ID, 2L)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.vibrent.vxp.push.AccountInfoUpdateEventDto;
+import com.vibrent.vxp.push.ParticipantDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountInfoUpdateEventCoalescerTest {
+
+    private final ExecutorService workerPool = Executors.newFixedThreadPool(2);
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private final Runnable pauseConsumer = mock(Runnable.class);
+    private final Runnable resumeConsumer = mock(Runnable.class);
+    private AccountInfoUpdateEventCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        coalescer.stop();
+        workerPool.shutdownNow();
+    }
+
+    @Test
+    void whenEventsArriveWithinQuietPeriodThenOnlyLatestIsProcessed() throws Exception {
+        coalescer = new AccountInfoUpdateEventCoalescer(300, 60000, 100, workerPool, e -> processed.add(e.getParticipant().getFirstName()), pauseConsumer, resumeConsumer);
+        Acknowledgment first = mock(Acknowledgment.class);
+        Acknowledgment second = mock(Acknowledgment.class);
+
+        coalescer.add(events(event(1000L, "a"), event(2000L, "b")), first);
+        coalescer.add(events(event(1000L, "c")), second);
+
+        verify(first, timeout(5000)).acknowledge();
+        verify(second, timeout(5000)).acknowledge();
+        assertEquals(new HashSet<>(Arrays.asList("b", "c")), new HashSet<>(processed));
+        assertEquals(2, processed.size());
+        assertEquals(0, coalescer.getPendingPollCount());
+    }
+
+    @Test
+    void whenEventsKeepArrivingThenEventIsProcessedAfterMaxHold() throws Exception {
+        coalescer = new AccountInfoUpdateEventCoalescer(200, 400, 100, workerPool, e -> processed.add(e.getParticipant().getFirstName()), pauseConsumer, resumeConsumer);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10 && processed.isEmpty(); i++) {
+            coalescer.add(events(event(1000L, "v" + i)), acknowledgment);
+            Thread.sleep(100);
+        }
+
+        verify(acknowledgment, timeout(5000).atLeastOnce()).acknowledge();
+        assertFalse(processed.isEmpty());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+
+    @Test
+    void whenLaterPollCompletesFirstThenPollsAreAcknowledgedInOrder() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        coalescer = new AccountInfoUpdateEventCoalescer(50, 60000, 100, workerPool, e -> {
+            if (e.getVibrentID() == 1000L) {
+                awaitQuietly(release);
+            }
+            processed.add(e.getParticipant().getFirstName());
+        }, pauseConsumer, resumeConsumer);
+        Acknowledgment first = mock(Acknowledgment.class);
+        Acknowledgment second = mock(Acknowledgment.class);
+
+        coalescer.add(events(event(1000L, "slow")), first);
+        coalescer.add(events(event(2000L, "fast")), second);
+
+        verify(second, after(500).never()).acknowledge();
+        assertEquals(Collections.singletonList("fast"), processed);
+
+        release.countDown();
+        verify(first, timeout(5000)).acknowledge();
+        verify(second, timeout(5000)).acknowledge();
+    }
+
+    @Test
+    void whenMaxPendingPollsReachedThenConsumerIsPausedUntilOneIsAcknowledged() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        coalescer = new AccountInfoUpdateEventCoalescer(50, 60000, 2, workerPool, e -> {
+            awaitQuietly(release);
+            processed.add(e.getParticipant().getFirstName());
+        }, pauseConsumer, resumeConsumer);
+        Acknowledgment first = mock(Acknowledgment.class);
+        Acknowledgment second = mock(Acknowledgment.class);
+
+        coalescer.add(events(event(1000L, "a")), first);
+        verify(pauseConsumer, never()).run();
+        coalescer.add(events(event(2000L, "b")), second);
+        verify(pauseConsumer).run();
+        verify(resumeConsumer, after(200).never()).run();
+
+        release.countDown();
+        verify(first, timeout(5000)).acknowledge();
+        verify(resumeConsumer, timeout(5000)).run();
+        verify(second, timeout(5000)).acknowledge();
+        verify(pauseConsumer, times(1)).run();
+        verify(resumeConsumer, times(1)).run();
+    }
+
+    @Test
+    void whenPollHasNoEventsThenItIsAcknowledgedRightAway() throws Exception {
+        coalescer = new AccountInfoUpdateEventCoalescer(50, 60000, 100, workerPool, e -> processed.add(e.getParticipant().getFirstName()), pauseConsumer, resumeConsumer);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        coalescer.add(Collections.emptyMap(), acknowledgment);
+
+        verify(acknowledgment).acknowledge();
+        assertTrue(processed.isEmpty());
+    }
+
+    private static Map<Long, AccountInfoUpdateEventDto> events(AccountInfoUpdateEventDto... accountInfoUpdateEventDtos) {
+        Map<Long, AccountInfoUpdateEventDto> events = new LinkedHashMap<>();
+        for (AccountInfoUpdateEventDto accountInfoUpdateEventDto : accountInfoUpdateEventDtos) {
+            events.put(accountInfoUpdateEventDto.getVibrentID(), accountInfoUpdateEventDto);
+        }
+        return events;
+    }
+
+    private static AccountInfoUpdateEventDto event(long vibrentId, String firstName) {
+        ParticipantDto participantDto = new ParticipantDto();
+        participantDto.setVibrentID(vibrentId);
+        participantDto.setFirstName(firstName);
+        AccountInfoUpdateEventDto accountInfoUpdateEventDto = new AccountInfoUpdateEventDto();
+        accountInfoUpdateEventDto.setVibrentID(vibrentId);
+        accountInfoUpdateEventDto.setParticipant(participantDto);
+        return accountInfoUpdateEventDto;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
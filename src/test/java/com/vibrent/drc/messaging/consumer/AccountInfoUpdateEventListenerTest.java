@@ -1,7 +1,9 @@
 package com.vibrent.drc.messaging.consumer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
+import com.vibrent.drc.service.AccountInfoUpdateEventHelperService;
 import com.vibrent.drc.service.AccountInfoUpdateEventService;
 import com.vibrent.drc.service.DRCParticipantService;
 import com.vibrent.drc.service.ExternalApiRequestLogsService;
@@ -36,6 +38,9 @@ class AccountInfoUpdateEventListenerTest {
     @Mock
     private ExternalApiRequestLogsService externalApiRequestLogsService;
 
+    @Mock
+    private AccountInfoUpdateEventHelperService accountInfoUpdateEventHelperService;
+
     private AccountInfoUpdateEventListener accountInfoUpdateEventListener;
 
     private AccountInfoUpdateEventDto accountInfoUpdateEventDto;
@@ -43,18 +48,24 @@ class AccountInfoUpdateEventListenerTest {
     @BeforeEach
     void setUp() {
         String topicName = "event.vxp.push.participant";
-        accountInfoUpdateEventListener = new AccountInfoUpdateEventListener(accountInfoUpdateEventService, externalApiRequestLogsService, topicName, participantService);
+        accountInfoUpdateEventListener = new AccountInfoUpdateEventListener(new AccountInfoUpdateEventProcessor(accountInfoUpdateEventService,
+                externalApiRequestLogsService, topicName, participantService, accountInfoUpdateEventHelperService));
         initializeAccountInfoUpdateEvent();
     }
 
     @Test
     @DisplayName("When accountInfoUpdateEventDto is received then the event is processed and external event is sent")
     void listen() throws Exception {
+        DrcSyncedStatus syncedStatus = new DrcSyncedStatus();
+        DrcSyncedStatus savedSyncedStatus = new DrcSyncedStatus();
+        when(accountInfoUpdateEventHelperService.findAccountUpdateSyncedStatus(VIBRENT_ID)).thenReturn(syncedStatus);
+        when(accountInfoUpdateEventService.processAccountInfoUpdates(accountInfoUpdateEventDto, syncedStatus)).thenReturn(savedSyncedStatus);
+
         var accountInfoUpdateEventPayload = buildPayload(accountInfoUpdateEventDto);
         accountInfoUpdateEventListener.listen(accountInfoUpdateEventPayload, buildMessageHeaders());
         verify(externalApiRequestLogsService, times(1)).send(any(ExternalApiRequestLog.class));
-        verify(accountInfoUpdateEventService, times(1)).processAccountInfoUpdates(accountInfoUpdateEventDto);
-        verify(participantService, times(1)).patchTestParticipant(accountInfoUpdateEventDto);
+        verify(accountInfoUpdateEventService, times(1)).processAccountInfoUpdates(accountInfoUpdateEventDto, syncedStatus);
+        verify(participantService, times(1)).patchTestParticipant(accountInfoUpdateEventDto, savedSyncedStatus);
     }
 
     @Test
@@ -63,13 +74,11 @@ class AccountInfoUpdateEventListenerTest {
         var accountInfoUpdateEventPayload = buildInvalidPayload(getUserAccountAddress());
         accountInfoUpdateEventListener.listen(accountInfoUpdateEventPayload, buildMessageHeaders());
         verify(externalApiRequestLogsService, times(0)).send(any(ExternalApiRequestLog.class));
-        verify(accountInfoUpdateEventService, times(0)).processAccountInfoUpdates(accountInfoUpdateEventDto);
-        verify(participantService, times(0)).patchTestParticipant(accountInfoUpdateEventDto);
+        verifyNoInteractions(accountInfoUpdateEventService, participantService);
 
         accountInfoUpdateEventListener.listen(null, buildMessageHeaders());
         verify(externalApiRequestLogsService, times(0)).send(any(ExternalApiRequestLog.class));
-        verify(accountInfoUpdateEventService, times(0)).processAccountInfoUpdates(accountInfoUpdateEventDto);
-        verify(participantService, times(0)).patchTestParticipant(accountInfoUpdateEventDto);
+        verifyNoInteractions(accountInfoUpdateEventService, participantService);
     }
 
     private AddressElementDto getUserAccountAddress() {
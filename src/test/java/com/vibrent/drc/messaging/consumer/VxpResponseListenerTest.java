@@ -0,0 +1,87 @@
+package com.vibrent.drc.messaging.consumer;
+
+import com.vibrent.vxp.workflow.MessageSpecificationEnum;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.MessageHeaders;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.vibrent.drc.constants.KafkaConstants.KAFKA_HEADER_MESSAGE_SPEC;
+import static com.vibrent.drc.constants.KafkaConstants.VXP_TRACK_DELIVERY_RESPONSE_GROUP_ID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VxpResponseListenerTest {
+
+    @Mock
+    private VxpResponseHandler trackDeliveryResponseHandler;
+
+    @Mock
+    private VxpResponseHandler createTrackOrderResponseHandler;
+
+    private VxpResponseListener vxpResponseListener;
+
+    @BeforeEach
+    void setUp() {
+        when(trackDeliveryResponseHandler.getMessageSpecification()).thenReturn(MessageSpecificationEnum.TRACK_DELIVERY_RESPONSE);
+        when(createTrackOrderResponseHandler.getMessageSpecification()).thenReturn(MessageSpecificationEnum.CREATE_TRACK_ORDER_RESPONSE);
+        vxpResponseListener = new VxpResponseListener(Arrays.asList(trackDeliveryResponseHandler, createTrackOrderResponseHandler));
+    }
+
+    @Test
+    void whenRecordHasHandledMessageSpecThenItIsRoutedToItsHandler() {
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        vxpResponseListener.listen(buildRecord("CREATE_TRACK_ORDER_RESPONSE", payload));
+
+        ArgumentCaptor<MessageHeaders> headersCaptor = ArgumentCaptor.forClass(MessageHeaders.class);
+        verify(createTrackOrderResponseHandler).listen(eq(payload), headersCaptor.capture());
+        assertNotNull(headersCaptor.getValue().get(KAFKA_HEADER_MESSAGE_SPEC));
+        verify(trackDeliveryResponseHandler, never()).listen(any(), any());
+    }
+
+    @Test
+    void whenMessageSpecIsQuotedOrPaddedThenItIsStillMatched() {
+        assertSame(trackDeliveryResponseHandler, vxpResponseListener.findHandler(buildRecord("\"TRACK_DELIVERY_RESPONSE\"", null).headers()));
+        assertSame(trackDeliveryResponseHandler, vxpResponseListener.findHandler(buildRecord(" TRACK_DELIVERY_RESPONSE ", null).headers()));
+    }
+
+    @Test
+    void whenRecordHasOtherOrNoMessageSpecThenItIsSkipped() {
+        ConsumerRecord<String, byte[]> fulfillmentRecord = spy(buildRecord("FULFILLMENT_RESPONSE", new byte[]{1}));
+        vxpResponseListener.listen(fulfillmentRecord);
+        vxpResponseListener.listen(new ConsumerRecord<>("event.vxp.workflow.outbound", 0, 1L, null, new byte[]{1}));
+
+        verify(fulfillmentRecord, never()).value();
+        assertNull(vxpResponseListener.findHandler(buildRecord("TRACK_DELIVERY_RESPONSE_V2", null).headers()));
+        verify(trackDeliveryResponseHandler, never()).listen(any(), any());
+        verify(createTrackOrderResponseHandler, never()).listen(any(), any());
+    }
+
+    private static ConsumerRecord<String, byte[]> buildRecord(String messageSpec, byte[] payload) {
+        ConsumerRecord<String, byte[]> consumerRecord = new ConsumerRecord<>("event.vxp.workflow.outbound", 0, 1L, null, payload);
+        consumerRecord.headers().add(new RecordHeader(KAFKA_HEADER_MESSAGE_SPEC, messageSpec.getBytes(StandardCharsets.UTF_8)));
+        return consumerRecord;
+    }
+
+    @Test
+    void whenListenerIsRegisteredThenItConsumesWithTrackDeliveryResponseGroup() throws NoSuchMethodException {
+        Method listen = VxpResponseListener.class.getMethod("listen", ConsumerRecord.class);
+        KafkaListener kafkaListener = listen.getAnnotation(KafkaListener.class);
+
+        assertEquals(VXP_TRACK_DELIVERY_RESPONSE_GROUP_ID, kafkaListener.groupId());
+    }
+}
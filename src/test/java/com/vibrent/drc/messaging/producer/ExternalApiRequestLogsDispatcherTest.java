@@ -0,0 +1,121 @@
+package com.vibrent.drc.messaging.producer;
+
+import com.vibrent.drc.dto.ExternalApiRequestLog;
+import com.vibrent.drc.enumeration.ExternalLogOverflowPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalApiRequestLogsDispatcherTest {
+
+    @Mock
+    private ExternalApiRequestLogsProducer externalApiRequestLogsProducer;
+
+    private MeterRegistry meterRegistry;
+
+    private ExternalApiRequestLogsDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @DisplayName("When dispatcher is disabled then the log is sent on the caller thread")
+    @Test
+    void dispatchWhenDisabled() {
+        dispatcher = buildDispatcher(false, 10, ExternalLogOverflowPolicy.DROP_NEWEST);
+        ExternalApiRequestLog externalApiRequestLog = new ExternalApiRequestLog();
+
+        dispatcher.dispatch(externalApiRequestLog);
+
+        verify(externalApiRequestLogsProducer).send(externalApiRequestLog);
+    }
+
+    @DisplayName("When dispatcher is started then queued logs are drained to the producer")
+    @Test
+    void dispatchDrainsQueue() throws InterruptedException {
+        dispatcher = buildDispatcher(true, 10, ExternalLogOverflowPolicy.DROP_NEWEST);
+        // The batch list is reused by the worker, so its size is recorded when the producer is called
+        AtomicInteger sent = new AtomicInteger();
+        doAnswer(invocation -> sent.addAndGet(invocation.getArgument(0, List.class).size()))
+                .when(externalApiRequestLogsProducer).sendAll(anyList());
+        dispatcher.start();
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch(new ExternalApiRequestLog());
+        }
+
+        verify(externalApiRequestLogsProducer, timeout(2000).atLeastOnce()).sendAll(anyList());
+        long deadline = System.currentTimeMillis() + 2000;
+        while (sent.get() < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(5, sent.get());
+    }
+
+    @DisplayName("When queue is full and policy is DROP_NEWEST then the new log is dropped and counted")
+    @Test
+    void dispatchDropNewest() {
+        dispatcher = buildDispatcher(true, 1, ExternalLogOverflowPolicy.DROP_NEWEST);
+
+        dispatcher.dispatch(new ExternalApiRequestLog());
+        dispatcher.dispatch(new ExternalApiRequestLog());
+
+        assertEquals(1, dispatcher.getQueueDepth());
+        assertEquals(1.0, meterRegistry.get("external_log_dropped").counter().count());
+        verify(externalApiRequestLogsProducer, never()).send(any(ExternalApiRequestLog.class));
+        verify(externalApiRequestLogsProducer, never()).sendAll(anyList());
+    }
+
+    @DisplayName("When queue is full and policy is DROP_OLDEST then the oldest log is replaced")
+    @Test
+    void dispatchDropOldest() {
+        dispatcher = buildDispatcher(true, 1, ExternalLogOverflowPolicy.DROP_OLDEST);
+
+        dispatcher.dispatch(new ExternalApiRequestLog());
+        dispatcher.dispatch(new ExternalApiRequestLog());
+
+        assertEquals(1, dispatcher.getQueueDepth());
+        assertEquals(1.0, meterRegistry.get("external_log_dropped").counter().count());
+    }
+
+    @DisplayName("When queue is full and policy is CALLER_RUNS then the caller sends the log")
+    @Test
+    void dispatchCallerRuns() {
+        dispatcher = buildDispatcher(true, 1, ExternalLogOverflowPolicy.CALLER_RUNS);
+        ExternalApiRequestLog overflow = new ExternalApiRequestLog();
+
+        dispatcher.dispatch(new ExternalApiRequestLog());
+        dispatcher.dispatch(overflow);
+
+        verify(externalApiRequestLogsProducer).send(overflow);
+        assertEquals(0.0, meterRegistry.get("external_log_dropped").counter().count());
+        assertEquals(1.0, meterRegistry.get("external_log_queue_depth").gauge().value());
+    }
+
+    private ExternalApiRequestLogsDispatcher buildDispatcher(boolean enabled, int capacity, ExternalLogOverflowPolicy policy) {
+        return new ExternalApiRequestLogsDispatcher(externalApiRequestLogsProducer, enabled, capacity, 1, 10, policy, meterRegistry);
+    }
+}
@@ -1,23 +1,28 @@
 package com.vibrent.drc.messaging.producer;
 
 
+import com.vibrent.acadia.web.rest.dto.ExternalLogCacheDto;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
 import com.vibrent.drc.enumeration.ExternalEventType;
 import com.vibrent.drc.enumeration.ExternalServiceType;
-import com.vibrent.drc.util.RedisUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RMapCache;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.Message;
 import org.springframework.util.concurrent.ListenableFuture;
 
-import static org.mockito.ArgumentMatchers.any;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,12 +37,10 @@ public class ExternalApiRequestLogsProducerTest {
     private KafkaTemplate<String, ExternalApiRequestLog> kafkaTemplate;
 
     @Mock
-    private RedisUtil redisUtil;
+    private ExternalLogBodyStore externalLogBodyStore;
 
     @Mock
     private ListenableFuture<SendResult<String, ExternalApiRequestLog>> future;
-    @Mock
-    private RMapCache rMapCache;
 
 
     @BeforeEach
@@ -47,45 +50,100 @@ public class ExternalApiRequestLogsProducerTest {
 
     @Test
     public void sendPayloadLessThanMax() {
-        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 6400, kafkaTemplate, TOPIC_NAME, redisUtil);
+        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 6400, kafkaTemplate, TOPIC_NAME, externalLogBodyStore);
         when(kafkaTemplate.send(ArgumentMatchers.<Message<ExternalApiRequestLog>> any())).thenReturn(future);
         externalLogProducer.send(externalApiRequestLog);
-        verify(redisUtil, times(0)).getMapCache(any());
+        verify(externalLogBodyStore, times(1)).storeAll(Collections.emptyList());
+        assertEquals("responseBody", externalApiRequestLog.getResponseBody());
     }
 
     @Test
     public void sendPayloadExceedMax() {
-        when(redisUtil.getMapCache(any())).thenReturn(rMapCache);
-        when(rMapCache.put(any(), any())).thenReturn(null);
+        when(externalLogBodyStore.storeAll(anyList())).thenReturn(Collections.singletonList("key"));
+        when(externalLogBodyStore.getEncoding()).thenReturn(ExternalLogBodyStore.GZIP_ENCODING);
 
-        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 10, kafkaTemplate, TOPIC_NAME, redisUtil);
+        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 10, kafkaTemplate, TOPIC_NAME, externalLogBodyStore);
         when(kafkaTemplate.send(ArgumentMatchers.<Message<ExternalApiRequestLog>> any())).thenReturn(future);
         externalLogProducer.send(externalApiRequestLog);
-        verify(redisUtil, times(1)).getMapCache(any());
+
+        ExternalLogCacheDto body = captureStoredBodies().get(0);
+        assertEquals("responseBody", body.getResponseBody());
+        assertEquals("requestBody", body.getRequestBody());
+        Message<ExternalApiRequestLog> message = captureSentMessage();
+        assertEquals("key", message.getHeaders().get(ExternalApiRequestLogsProducer.EXTERNAL_LOG_KEY_HEADER));
+        assertEquals("gzip", message.getHeaders().get(ExternalApiRequestLogsProducer.EXTERNAL_LOG_ENCODING_HEADER));
+        assertNull(message.getPayload().getResponseBody());
+        assertNull(message.getPayload().getRequestBody());
     }
 
     @Test
     public void sendResponseBodyExceedMax() {
-        when(redisUtil.getMapCache(any())).thenReturn(rMapCache);
-        when(rMapCache.put(any(), any())).thenReturn(null);
+        when(externalLogBodyStore.storeAll(anyList())).thenReturn(Collections.singletonList("key"));
 
-        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 10, kafkaTemplate, TOPIC_NAME, redisUtil);
+        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 10, kafkaTemplate, TOPIC_NAME, externalLogBodyStore);
         externalApiRequestLog.setRequestBody("1");
         when(kafkaTemplate.send(ArgumentMatchers.<Message<ExternalApiRequestLog>> any())).thenReturn(future);
         externalLogProducer.send(externalApiRequestLog);
-        verify(redisUtil, times(1)).getMapCache(any());
+
+        ExternalLogCacheDto body = captureStoredBodies().get(0);
+        assertEquals("responseBody", body.getResponseBody());
+        assertNull(body.getRequestBody());
+        assertEquals("1", externalApiRequestLog.getRequestBody());
     }
 
     @Test
     public void sendRequestBodyExceedMax() {
-        when(redisUtil.getMapCache(any())).thenReturn(rMapCache);
-        when(rMapCache.put(any(), any())).thenReturn(null);
-        
-        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 10, kafkaTemplate, TOPIC_NAME, redisUtil);
+        when(externalLogBodyStore.storeAll(anyList())).thenReturn(Collections.singletonList("key"));
+
+        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 10, kafkaTemplate, TOPIC_NAME, externalLogBodyStore);
         externalApiRequestLog.setResponseBody("1");
         when(kafkaTemplate.send(ArgumentMatchers.<Message<ExternalApiRequestLog>> any())).thenReturn(future);
         externalLogProducer.send(externalApiRequestLog);
-        verify(redisUtil, times(1)).getMapCache(any());
+
+        ExternalLogCacheDto body = captureStoredBodies().get(0);
+        assertEquals("requestBody", body.getRequestBody());
+        assertNull(body.getResponseBody());
+    }
+
+    @Test
+    public void sendAllStoresOversizedBodiesOfTheBatchTogether() {
+        when(externalLogBodyStore.storeAll(anyList())).thenReturn(Collections.singletonList("key"));
+        externalLogProducer =  new ExternalApiRequestLogsProducer(true, 10, kafkaTemplate, TOPIC_NAME, externalLogBodyStore);
+        ExternalApiRequestLog smallLog = generateMessage();
+        smallLog.setRequestBody("1");
+        smallLog.setResponseBody("2");
+        when(kafkaTemplate.send(ArgumentMatchers.<Message<ExternalApiRequestLog>> any())).thenReturn(future);
+
+        externalLogProducer.sendAll(Arrays.asList(smallLog, externalApiRequestLog));
+
+        assertEquals(1, captureStoredBodies().size());
+        ArgumentCaptor<Message<ExternalApiRequestLog>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(kafkaTemplate, times(2)).send(messageCaptor.capture());
+        assertNull(messageCaptor.getAllValues().get(0).getHeaders().get(ExternalApiRequestLogsProducer.EXTERNAL_LOG_KEY_HEADER));
+        assertEquals("key", messageCaptor.getAllValues().get(1).getHeaders().get(ExternalApiRequestLogsProducer.EXTERNAL_LOG_KEY_HEADER));
+    }
+
+    @Test
+    public void exceedsUtf8LengthCountsMultiByteChars() {
+        assertFalse(ExternalApiRequestLogsProducer.exceedsUtf8Length(null, 0));
+        assertFalse(ExternalApiRequestLogsProducer.exceedsUtf8Length("abc", 3));
+        assertTrue(ExternalApiRequestLogsProducer.exceedsUtf8Length("abcd", 3));
+        assertFalse(ExternalApiRequestLogsProducer.exceedsUtf8Length("éé", 4));
+        assertTrue(ExternalApiRequestLogsProducer.exceedsUtf8Length("ééé", 5));
+        assertFalse(ExternalApiRequestLogsProducer.exceedsUtf8Length("😀", 4));
+        assertTrue(ExternalApiRequestLogsProducer.exceedsUtf8Length("😀a", 4));
+    }
+
+    private List<ExternalLogCacheDto> captureStoredBodies() {
+        ArgumentCaptor<List<ExternalLogCacheDto>> bodiesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(externalLogBodyStore).storeAll(bodiesCaptor.capture());
+        return bodiesCaptor.getValue();
+    }
+
+    private Message<ExternalApiRequestLog> captureSentMessage() {
+        ArgumentCaptor<Message<ExternalApiRequestLog>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(kafkaTemplate).send(messageCaptor.capture());
+        return messageCaptor.getValue();
     }
 
     private ExternalApiRequestLog generateMessage() {
@@ -0,0 +1,113 @@
+package com.vibrent.drc.messaging.producer;
+
+import com.vibrent.acadia.web.rest.dto.ExternalLogCacheDto;
+import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.drc.util.RedisUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.misc.RedissonPromise;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalLogBodyStoreTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    @Mock
+    private RBatch batch;
+
+    @Mock
+    private RMapCacheAsync<Object, Object> mapCache;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void whenBodiesStoredThenTheyAreCompressedAndWrittenWithTtlInOneBatch() throws Exception {
+        when(redisUtil.createBatch()).thenReturn(batch);
+        when(batch.getMapCache(ExternalLogBodyStore.EXTERNAL_LOG_CACHE_NAME)).thenReturn(mapCache);
+        ExternalLogBodyStore externalLogBodyStore = new ExternalLogBodyStore(redisUtil, 60, true, meterRegistry);
+
+        List<String> keys = externalLogBodyStore.storeAll(Arrays.asList(body("first"), body("second")));
+
+        assertEquals(2, keys.size());
+        ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(mapCache).fastPutAsync(eq(keys.get(0)), valueCaptor.capture(), eq(60L), eq(TimeUnit.MINUTES));
+        verify(mapCache).fastPutAsync(eq(keys.get(1)), any(), eq(60L), eq(TimeUnit.MINUTES));
+        verify(batch, times(1)).execute();
+
+        byte[] json = new GZIPInputStream(new ByteArrayInputStream((byte[]) valueCaptor.getValue())).readAllBytes();
+        assertEquals("first", JacksonUtil.getMapper().readValue(json, ExternalLogCacheDto.class).getResponseBody());
+        assertEquals(2, meterRegistry.get("external_log_body_store_bytes").tag("type", "stored").summary().count());
+        assertEquals("gzip", externalLogBodyStore.getEncoding());
+    }
+
+    @Test
+    void whenCompressionDisabledThenBodiesAreStoredAsJson() {
+        when(redisUtil.createBatch()).thenReturn(batch);
+        when(batch.getMapCache(ExternalLogBodyStore.EXTERNAL_LOG_CACHE_NAME)).thenReturn(mapCache);
+        ExternalLogBodyStore externalLogBodyStore = new ExternalLogBodyStore(redisUtil, 60, false, meterRegistry);
+
+        externalLogBodyStore.storeAll(Arrays.asList(body("first")));
+
+        verify(mapCache).fastPutAsync(anyString(), eq("{\"responseBody\":\"first\"}"), eq(60L), eq(TimeUnit.MINUTES));
+        assertNull(externalLogBodyStore.getEncoding());
+    }
+
+    @Test
+    void whenBatchFailsThenNoKeysAreReturnedAndFailuresAreCounted() {
+        when(redisUtil.createBatch()).thenReturn(batch);
+        when(batch.getMapCache(ExternalLogBodyStore.EXTERNAL_LOG_CACHE_NAME)).thenReturn(mapCache);
+        when(batch.execute()).thenThrow(new RuntimeException("redis unavailable"));
+        ExternalLogBodyStore externalLogBodyStore = new ExternalLogBodyStore(redisUtil, 60, true, meterRegistry);
+
+        List<String> keys = externalLogBodyStore.storeAll(Arrays.asList(body("first"), body("second")));
+
+        assertEquals(Arrays.asList(null, null), keys);
+        assertEquals(2.0, meterRegistry.get("external_log_body_store_failures").counter().count());
+    }
+
+    @Test
+    void whenBodyExpiresThenOnlyTheInstanceThatMarksItFirstCountsTheEviction() {
+        RMapCache<String, Boolean> expiredMarkers = mock(RMapCache.class);
+        when(expiredMarkers.fastPutIfAbsentAsync("key", Boolean.TRUE, 10, TimeUnit.MINUTES, 0, TimeUnit.MINUTES))
+                .thenReturn(RedissonPromise.newSucceededFuture(true), RedissonPromise.newSucceededFuture(false));
+        ExternalLogBodyStore externalLogBodyStore = new ExternalLogBodyStore(redisUtil, 60, false, meterRegistry);
+
+        externalLogBodyStore.countEviction(expiredMarkers, "key");
+        externalLogBodyStore.countEviction(expiredMarkers, "key");
+
+        assertEquals(1.0, meterRegistry.get("external_log_body_store_evictions").counter().count());
+    }
+
+    private static ExternalLogCacheDto body(String responseBody) {
+        ExternalLogCacheDto body = new ExternalLogCacheDto();
+        body.setResponseBody(responseBody);
+        return body;
+    }
+}
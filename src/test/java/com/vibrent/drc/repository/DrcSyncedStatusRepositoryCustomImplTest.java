@@ -0,0 +1,76 @@
+package com.vibrent.drc.repository;
+
+import com.vibrent.drc.domain.DrcSyncedStatus;
+import com.vibrent.drc.enumeration.DataTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DrcSyncedStatusRepositoryCustomImplTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private DrcSyncedStatusRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DrcSyncedStatusRepositoryCustomImpl(jdbcTemplate);
+    }
+
+    @DisplayName("When a synced status is upserted then its values are written with one statement")
+    @Test
+    void upsert() {
+        repository.upsert(drcSyncedStatus(1000L));
+
+        ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(eq(DrcSyncedStatusRepositoryCustomImpl.UPSERT_SQL), captor.capture());
+        SqlParameterSource parameters = captor.getValue();
+        assertEquals(1000L, parameters.getValue("vibrentId"));
+        assertEquals("ACCOUNT_UPDATE_DATA", parameters.getValue("type"));
+        assertEquals("{}", parameters.getValue("data"));
+        assertEquals("accountHash", parameters.getValue("accountHash"));
+    }
+
+    @DisplayName("When synced statuses are upserted then they are written in one batch and an empty batch is skipped")
+    @Test
+    void upsertAll() {
+        repository.upsertAll(Collections.emptyList());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+
+        repository.upsertAll(List.of(drcSyncedStatus(1000L), drcSyncedStatus(2000L)));
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(eq(DrcSyncedStatusRepositoryCustomImpl.UPSERT_SQL), captor.capture());
+        SqlParameterSource[] batch = captor.getValue();
+        assertEquals(2, batch.length);
+        assertEquals(2000L, batch[1].getValue("vibrentId"));
+        assertEquals(batch[0].getValue("now"), batch[1].getValue("now"));
+    }
+
+    private static DrcSyncedStatus drcSyncedStatus(Long vibrentId) {
+        DrcSyncedStatus drcSyncedStatus = new DrcSyncedStatus();
+        drcSyncedStatus.setVibrentId(vibrentId);
+        drcSyncedStatus.setType(DataTypeEnum.ACCOUNT_UPDATE_DATA);
+        drcSyncedStatus.setData("{}");
+        drcSyncedStatus.setAccountHash("accountHash");
+        return drcSyncedStatus;
+    }
+}
@@ -0,0 +1,120 @@
+package com.vibrent.drc.repository;
+
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.domain.ParticipantGenomicStatusPayload;
+import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.drc.util.PayloadCompressionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantGenomicStatusBatchRepositoryCustomImplTest {
+
+    private static final String PAYLOAD = "[{\"module\":\"gem\",\"participant_id\":\"P12345\"}]";
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private ParticipantGenomicStatusBatchRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ParticipantGenomicStatusBatchRepositoryCustomImpl(jdbcTemplate);
+    }
+
+    @DisplayName("When batches are inserted then their fields are mapped to the columns of one JDBC batch")
+    @Test
+    void insertAll() {
+        ParticipantGenomicStatusBatch compressed = batch(ExternalGenomicPayloadProcessingStatus.PENDING);
+        compressed.setBatchPayload(PAYLOAD);
+        ParticipantGenomicStatusBatch legacy = batch(ExternalGenomicPayloadProcessingStatus.ERROR);
+        ReflectionTestUtils.setField(legacy, "batchPayload", PAYLOAD);
+
+        repository.insertAll(List.of(compressed, legacy));
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(eq(ParticipantGenomicStatusBatchRepositoryCustomImpl.INSERT_SQL), captor.capture());
+        SqlParameterSource[] rows = captor.getValue();
+        assertEquals(2, rows.length);
+
+        assertEquals(3, rows[0].getValue("batchSize"));
+        assertNull(rows[0].getValue("batchPayload"));
+        assertEquals(PAYLOAD, PayloadCompressionUtil.decompress((byte[]) rows[0].getValue("compressedBatchPayload"), compressed.getPayloadCodec()));
+        assertEquals("GZIP", rows[0].getValue("payloadCodec"));
+        assertEquals("PENDING", rows[0].getValue("status"));
+        assertEquals(10L, rows[0].getValue("payloadId"));
+        assertEquals(0, rows[0].getValue("retryCount"));
+
+        assertEquals(PAYLOAD, rows[1].getValue("batchPayload"));
+        assertNull(rows[1].getValue("compressedBatchPayload"));
+        assertNull(rows[1].getValue("payloadCodec"));
+        assertEquals("ERROR", rows[1].getValue("status"));
+        assertEquals(rows[0].getValue("now"), rows[1].getValue("now"));
+    }
+
+    @DisplayName("When a batch has no payload then both payload columns are null")
+    @Test
+    void insertAllWithoutPayload() {
+        ParticipantGenomicStatusBatch batch = batch(ExternalGenomicPayloadProcessingStatus.PENDING);
+        batch.setBatchPayload(null);
+
+        repository.insertAll(List.of(batch));
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(eq(ParticipantGenomicStatusBatchRepositoryCustomImpl.INSERT_SQL), captor.capture());
+        SqlParameterSource row = captor.getValue()[0];
+        assertNull(row.getValue("batchPayload"));
+        assertNull(row.getValue("compressedBatchPayload"));
+        assertEquals("PENDING", row.getValue("status"));
+    }
+
+    @DisplayName("When a batch has no status then its status column is null")
+    @Test
+    void insertAllWithoutStatus() {
+        ParticipantGenomicStatusBatch batch = batch(null);
+        batch.setBatchPayload(PAYLOAD);
+
+        repository.insertAll(List.of(batch));
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(eq(ParticipantGenomicStatusBatchRepositoryCustomImpl.INSERT_SQL), captor.capture());
+        assertNull(captor.getValue()[0].getValue("status"));
+    }
+
+    @DisplayName("When there are no batches then nothing is written")
+    @Test
+    void insertAllEmpty() {
+        repository.insertAll(Collections.emptyList());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    private static ParticipantGenomicStatusBatch batch(ExternalGenomicPayloadProcessingStatus status) {
+        ParticipantGenomicStatusPayload payload = new ParticipantGenomicStatusPayload();
+        payload.setId(10L);
+        ParticipantGenomicStatusBatch batch = new ParticipantGenomicStatusBatch();
+        batch.setBatchSize(3);
+        batch.setStatus(status);
+        batch.setRetryCount(0);
+        batch.setParticipantGenomicStatusPayload(payload);
+        return batch;
+    }
+}
@@ -0,0 +1,88 @@
+package com.vibrent.drc.scheduling;
+
+import com.vibrent.drc.domain.DRCUpdateInfoSyncRetry;
+import com.vibrent.drc.service.DRCUpdateInfoSyncRetryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DRCUpdateInfoSyncRetryJobUnitTest {
+
+    @Mock
+    private DRCUpdateInfoSyncRetryService drcUpdateInfoSyncRetryService;
+
+    @Mock
+    private JobExecutionContext context;
+
+    private ExecutorService executorService;
+
+    @AfterEach
+    void tearDown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @DisplayName("When due entries are claimed in pages, Then verify every claimed entry is retried by the worker pool")
+    @Test
+    void executeRetriesClaimedPagesUntilNoneLeft() throws JobExecutionException {
+        DRCUpdateInfoSyncRetryJob job = buildJob(3);
+        when(drcUpdateInfoSyncRetryService.claimDueEntries(anyLong(), eq(2)))
+                .thenReturn(Arrays.asList(entry(1L), entry(2L)), Collections.singletonList(entry(3L)), Collections.emptyList());
+
+        job.execute(context);
+
+        verify(drcUpdateInfoSyncRetryService, times(3)).claimDueEntries(anyLong(), eq(2));
+        verify(drcUpdateInfoSyncRetryService, times(3)).retryUpdateInfoSync(any(DRCUpdateInfoSyncRetry.class));
+    }
+
+    @DisplayName("When retrying an entry fails, Then verify the other entries are still retried")
+    @Test
+    void executeContinuesWhenRetryFails() throws JobExecutionException {
+        DRCUpdateInfoSyncRetryJob job = buildJob(1);
+        DRCUpdateInfoSyncRetry failing = entry(1L);
+        DRCUpdateInfoSyncRetry other = entry(2L);
+        when(drcUpdateInfoSyncRetryService.claimDueEntries(anyLong(), anyInt()))
+                .thenReturn(Arrays.asList(failing, other), Collections.emptyList());
+        doThrow(new RuntimeException("failure")).when(drcUpdateInfoSyncRetryService).retryUpdateInfoSync(failing);
+
+        job.execute(context);
+
+        verify(drcUpdateInfoSyncRetryService, times(1)).retryUpdateInfoSync(other);
+    }
+
+    @DisplayName("When the job is fired while a previous firing is still running, Then verify Quartz does not run them concurrently")
+    @Test
+    void disallowsConcurrentExecution() {
+        assertTrue(DRCUpdateInfoSyncRetryJob.class.isAnnotationPresent(DisallowConcurrentExecution.class));
+    }
+
+    private DRCUpdateInfoSyncRetryJob buildJob(int workers) {
+        executorService = Executors.newFixedThreadPool(workers);
+        return new DRCUpdateInfoSyncRetryJob(drcUpdateInfoSyncRetryService, executorService, 2);
+    }
+
+    private DRCUpdateInfoSyncRetry entry(Long id) {
+        DRCUpdateInfoSyncRetry entry = new DRCUpdateInfoSyncRetry();
+        entry.setId(id);
+        entry.setVibrentId(id);
+        entry.setRetryCount(0L);
+        return entry;
+    }
+}
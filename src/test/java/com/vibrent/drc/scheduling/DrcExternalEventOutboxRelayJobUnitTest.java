@@ -0,0 +1,51 @@
+package com.vibrent.drc.scheduling;
+
+import com.vibrent.drc.service.DataSharingMetricsService;
+import com.vibrent.drc.service.DrcExternalEventOutboxService;
+import com.vibrent.drc.service.DrcExternalEventOutboxService.RelayResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DrcExternalEventOutboxRelayJobUnitTest {
+
+    @Mock
+    private DrcExternalEventOutboxService drcExternalEventOutboxService;
+
+    @Mock
+    private DataSharingMetricsService dataSharingMetricsService;
+
+    @Mock
+    private JobExecutionContext context;
+
+    @DisplayName("When pages are relayed until one is not full, Then verify only the acknowledged events are counted as sent")
+    @Test
+    void executeCountsPublishedEvents() {
+        DrcExternalEventOutboxRelayJob job = new DrcExternalEventOutboxRelayJob(drcExternalEventOutboxService, dataSharingMetricsService, 2);
+        when(drcExternalEventOutboxService.relayNextPage(2)).thenReturn(new RelayResult(2, 2), new RelayResult(0, 1));
+
+        job.execute(context);
+
+        verify(drcExternalEventOutboxService, times(2)).relayNextPage(2);
+        verify(dataSharingMetricsService, times(1)).incrementGenomicsStatusMessagesSentCounter(2);
+        verifyNoMoreInteractions(dataSharingMetricsService);
+    }
+
+    @DisplayName("When relaying fails, Then verify nothing is counted as sent")
+    @Test
+    void executeDoesNotCountFailedRelay() {
+        DrcExternalEventOutboxRelayJob job = new DrcExternalEventOutboxRelayJob(drcExternalEventOutboxService, dataSharingMetricsService, 2);
+        when(drcExternalEventOutboxService.relayNextPage(anyInt())).thenThrow(new RuntimeException("database unavailable"));
+
+        job.execute(context);
+
+        verifyNoInteractions(dataSharingMetricsService);
+    }
+}
@@ -0,0 +1,92 @@
+package com.vibrent.drc.scheduling;
+
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.drc.service.ParticipantGenomicStatusBatchProcessingService;
+import com.vibrent.drc.service.ParticipantGenomicsStatusPayloadMapper;
+import com.vibrent.vxp.push.DRCExternalEventDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantGenomicStatusBatchProcessingJobUnitTest {
+
+    @Mock
+    private ParticipantGenomicStatusBatchProcessingService participantGenomicStatusBatchProcessingService;
+
+    @Mock
+    private ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper;
+
+    @Mock
+    private JobExecutionContext context;
+
+    private ExecutorService executorService;
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @DisplayName("When batches are claimed in pages, Then verify the events of every claimed batch are queued with its status change by the worker pool")
+    @Test
+    void executeProcessesClaimedPagesUntilNoneLeft() throws JobExecutionException, IOException {
+        ParticipantGenomicStatusBatchProcessingJob job = buildJob(3);
+        when(participantGenomicStatusBatchProcessingService.claimEligibleGenomicStatusBatches(anyString(), eq(2), eq(600000L), anyLong()))
+                .thenReturn(Arrays.asList(batch(1L), batch(2L)), Collections.singletonList(batch(3L)), Collections.emptyList());
+        when(participantGenomicsStatusPayloadMapper.mapJsonStringToDrcExternalEventDto(anyString()))
+                .thenReturn(Collections.singletonList(new DRCExternalEventDto()));
+
+        long startTime = System.currentTimeMillis();
+        job.execute(context);
+
+        verify(participantGenomicStatusBatchProcessingService, times(3)).claimEligibleGenomicStatusBatches(anyString(), eq(2), eq(600000L), longThat(updatedBefore -> updatedBefore >= startTime));
+        verify(participantGenomicStatusBatchProcessingService, never()).releaseFailedBatch(any());
+        verify(participantGenomicStatusBatchProcessingService, times(3)).enqueueBatchEvents(any(ParticipantGenomicStatusBatch.class), argThat(events -> events.size() == 1));
+    }
+
+    @DisplayName("When a batch fails to convert, Then verify nothing is queued for it, its claim is released and the other batches are processed")
+    @Test
+    void executeReleasesFailedBatch() throws JobExecutionException, IOException {
+        ParticipantGenomicStatusBatchProcessingJob job = buildJob(1);
+        ParticipantGenomicStatusBatch failing = batch(1L);
+        failing.setBatchPayload("invalid");
+        when(participantGenomicStatusBatchProcessingService.claimEligibleGenomicStatusBatches(anyString(), anyInt(), anyLong(), anyLong()))
+                .thenReturn(Arrays.asList(failing, batch(2L)), Collections.emptyList());
+        when(participantGenomicsStatusPayloadMapper.mapJsonStringToDrcExternalEventDto("invalid")).thenThrow(new IOException("invalid"));
+        when(participantGenomicsStatusPayloadMapper.mapJsonStringToDrcExternalEventDto("[]"))
+                .thenReturn(Collections.singletonList(new DRCExternalEventDto()));
+
+        job.execute(context);
+
+        verify(participantGenomicStatusBatchProcessingService, times(1)).enqueueBatchEvents(argThat(batch -> batch.getId() == 2L), anyList());
+        verify(participantGenomicStatusBatchProcessingService, times(1)).releaseFailedBatch(argThat(batch -> batch.getId() == 1L));
+    }
+
+    private ParticipantGenomicStatusBatchProcessingJob buildJob(int workers) {
+        executorService = Executors.newFixedThreadPool(workers);
+        return new ParticipantGenomicStatusBatchProcessingJob(participantGenomicStatusBatchProcessingService, participantGenomicsStatusPayloadMapper, executorService, 2, 600);
+    }
+
+    private ParticipantGenomicStatusBatch batch(Long id) {
+        ParticipantGenomicStatusBatch batch = new ParticipantGenomicStatusBatch();
+        batch.setId(id);
+        batch.setBatchPayload("[]");
+        batch.setStatus(ExternalGenomicPayloadProcessingStatus.PENDING);
+        return batch;
+    }
+}
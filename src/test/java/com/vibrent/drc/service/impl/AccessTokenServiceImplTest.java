@@ -0,0 +1,151 @@
+package com.vibrent.drc.service.impl;
+
+import com.vibrent.drc.exception.BusinessProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.resource.OAuth2AccessDeniedException;
+import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
+import org.springframework.security.oauth2.client.token.AccessTokenProvider;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenServiceImplTest {
+
+    @Mock
+    private OAuth2ProtectedResourceDetails resourceDetails;
+
+    @Mock
+    private AccessTokenProvider accessTokenProvider;
+
+    private MeterRegistry meterRegistry;
+
+    private AccessTokenServiceImpl accessTokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accessTokenService = new AccessTokenServiceImpl(resourceDetails, accessTokenProvider, meterRegistry, 60, 10, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessTokenService.stop();
+    }
+
+    @Test
+    void whenTokenIsValidThenItIsReusedWithoutCallingKeycloak() {
+        when(accessTokenProvider.obtainAccessToken(any(), any())).thenReturn(token("token-1", 300));
+
+        assertEquals("token-1", accessTokenService.getAccessToken());
+        assertEquals("token-1", accessTokenService.getAccessToken());
+        verify(accessTokenProvider, times(1)).obtainAccessToken(any(), any());
+        assertEquals(1, meterRegistry.get("access_token_refresh_latency").timer().count());
+    }
+
+    @Test
+    void whenTokenIsAboutToExpireThenCurrentTokenIsReturnedAndRefreshedInBackground() throws Exception {
+        when(accessTokenProvider.obtainAccessToken(any(), any())).thenReturn(token("token-1", 30)).thenReturn(token("token-2", 300));
+
+        assertEquals("token-1", accessTokenService.getAccessToken());
+        // Still valid, so it is returned while the refresh runs
+        assertEquals("token-1", accessTokenService.getAccessToken());
+
+        accessTokenService.refresh().get(5, TimeUnit.SECONDS);
+        assertEquals("token-2", accessTokenService.getAccessToken());
+    }
+
+    @Test
+    void whenTokenIsAboutToExpireThenScheduledCheckRefreshesIt() throws Exception {
+        when(accessTokenProvider.obtainAccessToken(any(), any())).thenReturn(token("token-1", 30)).thenReturn(token("token-2", 300));
+        accessTokenService.getAccessToken();
+
+        accessTokenService.refreshIfExpiring();
+        accessTokenService.refresh().get(5, TimeUnit.SECONDS);
+
+        assertEquals("token-2", accessTokenService.getAccessToken());
+    }
+
+    @Test
+    void whenConcurrentCallersNeedATokenThenKeycloakIsCalledOnce() throws Exception {
+        CountDownLatch releaseKeycloak = new CountDownLatch(1);
+        when(accessTokenProvider.obtainAccessToken(any(), any())).thenAnswer(invocation -> {
+            releaseKeycloak.await(5, TimeUnit.SECONDS);
+            return token("token-1", 300);
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(executorService.submit(accessTokenService::getAccessToken));
+            }
+            Thread.sleep(100);
+            releaseKeycloak.countDown();
+            for (Future<String> future : futures) {
+                assertEquals("token-1", future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(accessTokenProvider, times(1)).obtainAccessToken(any(), any());
+    }
+
+    @Test
+    void whenTokenHasZeroOrNegativeExpiryThenItIsHeldForTheMinimumLifetime() {
+        accessTokenService.stop();
+        accessTokenService = new AccessTokenServiceImpl(resourceDetails, accessTokenProvider, meterRegistry, 60, 10, 30);
+        when(accessTokenProvider.obtainAccessToken(any(), any())).thenReturn(token("token-1", 0)).thenReturn(token("token-2", -10));
+
+        assertEquals("token-1", accessTokenService.getAccessToken());
+        assertEquals("token-1", accessTokenService.getAccessToken());
+        accessTokenService.refreshIfExpiring();
+        assertEquals("token-1", accessTokenService.getAccessToken());
+        verify(accessTokenProvider, times(1)).obtainAccessToken(any(), any());
+    }
+
+    @Test
+    void whenTokenExpiresWithinRefreshSkewThenItIsNotRefreshedOnEveryCall() {
+        accessTokenService.stop();
+        accessTokenService = new AccessTokenServiceImpl(resourceDetails, accessTokenProvider, meterRegistry, 60, 10, 30);
+        when(accessTokenProvider.obtainAccessToken(any(), any())).thenReturn(token("token-1", 45));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("token-1", accessTokenService.getAccessToken());
+        }
+        verify(accessTokenProvider, after(200).times(1)).obtainAccessToken(any(), any());
+    }
+
+    @Test
+    void whenKeycloakFailsThenExceptionIsThrownAndFailureCounted() {
+        when(accessTokenProvider.obtainAccessToken(any(), any())).thenThrow(new OAuth2AccessDeniedException("denied"));
+
+        assertThrows(BusinessProcessingException.class, () -> accessTokenService.getAccessToken());
+        assertEquals(1.0, meterRegistry.get("access_token_refresh_failure").counter().count());
+    }
+
+    private static OAuth2AccessToken token(String value, int expiresInSeconds) {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(value);
+        token.setExpiration(new Date(System.currentTimeMillis() + expiresInSeconds * 1000L));
+        return token;
+    }
+}
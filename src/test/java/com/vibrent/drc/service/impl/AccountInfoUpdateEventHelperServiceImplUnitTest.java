@@ -10,6 +10,7 @@ import com.vibrent.drc.repository.DrcSyncedStatusRepository;
 import com.vibrent.drc.service.AccountInfoUpdateEventHelperService;
 import com.vibrent.drc.service.ApiService;
 import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.drc.util.ParticipantSectionHashUtil;
 import com.vibrent.drc.vo.ParticipantVo;
 import com.vibrent.drc.vo.SecondaryContactVo;
 import com.vibrent.vxp.push.*;
@@ -26,9 +27,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,7 +68,7 @@ class AccountInfoUpdateEventHelperServiceImplUnitTest {
         when(apiService.getUserSsnByUserId(VIBRENT_ID2)).thenReturn(getUserSSNDTO());
         AccountInfoUpdateEventDto secondaryContactUpdatedDto = getSecondaryContactUpdatedDto("someName1", "SomeLastName1", "CONTACT_ONE");
         accountInfoUpdateEventHelperService.processIfUserSecondaryContactOrSSNUpdated(secondaryContactUpdatedDto, (ssn, secondaryContactChanges) -> true);
-        verify(drcSyncedStatusRepository, Mockito.times(1)).save(ArgumentMatchers.any(DrcSyncedStatus.class));
+        verify(drcSyncedStatusRepository, Mockito.times(1)).upsert(ArgumentMatchers.any(DrcSyncedStatus.class));
 
     }
 
@@ -76,7 +82,7 @@ class AccountInfoUpdateEventHelperServiceImplUnitTest {
         accountInfoUpdateEventHelperService.processIfUserSecondaryContactOrSSNUpdated(secondaryContactUpdatedDto, (ssn, secondaryContactChanges) -> true);
 
         ArgumentCaptor<DrcSyncedStatus> argumentCaptor = ArgumentCaptor.forClass(DrcSyncedStatus.class);
-        verify(drcSyncedStatusRepository, Mockito.times(1)).save(argumentCaptor.capture());
+        verify(drcSyncedStatusRepository, Mockito.times(1)).upsert(argumentCaptor.capture());
         DrcSyncedStatus entry = argumentCaptor.getValue();
         assertNotNull(entry);
         ParticipantVo participantVo = JacksonUtil.getMapper().readValue(entry.getData(), ParticipantVo.class);
@@ -98,7 +104,7 @@ class AccountInfoUpdateEventHelperServiceImplUnitTest {
         accountInfoUpdateEventHelperService.processIfUserSecondaryContactOrSSNUpdated(secondaryContactUpdatedDto, (ssn, secondaryContactChanges) -> true);
 
         ArgumentCaptor<DrcSyncedStatus> argumentCaptor = ArgumentCaptor.forClass(DrcSyncedStatus.class);
-        verify(drcSyncedStatusRepository, Mockito.times(1)).save(argumentCaptor.capture());
+        verify(drcSyncedStatusRepository, Mockito.times(1)).upsert(argumentCaptor.capture());
         DrcSyncedStatus entry = argumentCaptor.getValue();
 
         assertNotNull(entry);
@@ -111,6 +117,80 @@ class AccountInfoUpdateEventHelperServiceImplUnitTest {
 
     }
 
+    @DisplayName("When Secondary Contact is Updated with an already loaded synced status " +
+            "Then the synced status is not read again from DB")
+    @Test
+    void processIfUserSecondaryContactUpdatedWithLoadedSyncedStatus() throws JsonProcessingException {
+        when(apiService.getUserSsnByUserId(VIBRENT_ID2)).thenReturn(null);
+        AccountInfoUpdateEventDto secondaryContactUpdatedDto = getSecondaryContactUpdatedDto("changedFirstName", "changedLastName", "CONTACT_ONE");
+
+        DrcSyncedStatus syncedStatus = accountInfoUpdateEventHelperService.processIfUserSecondaryContactOrSSNUpdated(secondaryContactUpdatedDto,
+                getFirstEntry(), (ssn, secondaryContactChanges) -> true);
+
+        verify(drcSyncedStatusRepository, Mockito.never()).findByVibrentIdAndType(ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+        ArgumentCaptor<DrcSyncedStatus> argumentCaptor = ArgumentCaptor.forClass(DrcSyncedStatus.class);
+        verify(drcSyncedStatusRepository, Mockito.times(1)).upsert(argumentCaptor.capture());
+        assertSame(argumentCaptor.getValue(), syncedStatus);
+        ParticipantVo participantVo = JacksonUtil.getMapper().readValue(argumentCaptor.getValue().getData(), ParticipantVo.class);
+        assertEquals("changedFirstName", participantVo.getSecondaryContacts().get("CONTACT_ONE").getFirstName());
+    }
+
+    @DisplayName("When the section hashes of the synced status match the event " +
+            "Then nothing is sent and the synced data is not parsed")
+    @Test
+    void processIfUnchangedWithSectionHashes() {
+        when(apiService.getUserSsnByUserId(VIBRENT_ID2)).thenReturn(getUserSSNDTO());
+        AccountInfoUpdateEventDto accountInfoUpdateEventDto = getSecondaryContactUpdatedDto("someName1", "SomeLastName1", "CONTACT_ONE");
+        DrcSyncedStatus drcSyncedStatus = new DrcSyncedStatus();
+        drcSyncedStatus.setVibrentId(VIBRENT_ID2);
+        // Not parseable, so any fallback to the field diff would report a change
+        drcSyncedStatus.setData("{");
+        drcSyncedStatus.setAccountHash(ParticipantSectionHashUtil.accountHash(accountInfoUpdateEventDto.getParticipant()));
+        drcSyncedStatus.setSecondaryContactsHash(ParticipantSectionHashUtil.secondaryContactsHash(accountInfoUpdateEventDto.getParticipant()));
+        drcSyncedStatus.setSsnHash(ParticipantSectionHashUtil.ssnHash("222222222"));
+        drcSyncedStatus.setTestUserHash(ParticipantSectionHashUtil.testUserHash(false));
+
+        assertSame(drcSyncedStatus, accountInfoUpdateEventHelperService.processIfUserAccountUpdated(accountInfoUpdateEventDto, drcSyncedStatus,
+                () -> fail("account sent")));
+        assertSame(drcSyncedStatus, accountInfoUpdateEventHelperService.processIfUserSecondaryContactOrSSNUpdated(accountInfoUpdateEventDto, drcSyncedStatus,
+                (ssn, changes) -> fail("secondary contacts sent")));
+        assertSame(drcSyncedStatus, accountInfoUpdateEventHelperService.processIfTestParticipantUpdated(accountInfoUpdateEventDto, drcSyncedStatus,
+                () -> fail("test flag sent")));
+
+        verify(drcSyncedStatusRepository, Mockito.never()).findByVibrentIdAndType(ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+        verify(drcSyncedStatusRepository, Mockito.never()).upsert(ArgumentMatchers.any(DrcSyncedStatus.class));
+    }
+
+    @DisplayName("When the synced data is saved then its section hashes are saved with it")
+    @Test
+    void processIfUserAccountUpdatedSavesSectionHashes() throws JsonProcessingException {
+        when(drcSyncedStatusRepository.findByVibrentIdAndType(VIBRENT_ID2, DataTypeEnum.ACCOUNT_UPDATE_DATA)).thenReturn(getFirstEntry());
+        AccountInfoUpdateEventDto accountInfoUpdateEventDto = getSecondaryContactUpdatedDto("someName1", "SomeLastName1", "CONTACT_ONE");
+
+        accountInfoUpdateEventHelperService.processIfUserAccountUpdated(accountInfoUpdateEventDto, () -> true);
+
+        ArgumentCaptor<DrcSyncedStatus> argumentCaptor = ArgumentCaptor.forClass(DrcSyncedStatus.class);
+        verify(drcSyncedStatusRepository, Mockito.times(1)).upsert(argumentCaptor.capture());
+        DrcSyncedStatus entry = argumentCaptor.getValue();
+        ParticipantVo participantVo = JacksonUtil.getMapper().readValue(entry.getData(), ParticipantVo.class);
+        assertEquals(ParticipantSectionHashUtil.accountHash(accountInfoUpdateEventDto.getParticipant()), entry.getAccountHash());
+        assertEquals(ParticipantSectionHashUtil.secondaryContactsHash(participantVo), entry.getSecondaryContactsHash());
+        assertEquals(ParticipantSectionHashUtil.ssnHash(null), entry.getSsnHash());
+    }
+
+    @Test
+    void findAccountUpdateSyncedStatusesMapsParticipantsWithoutSyncedStatusToNull() {
+        when(drcSyncedStatusRepository.findByVibrentIdInAndType(List.of(VIBRENT_ID2, 3000L), DataTypeEnum.ACCOUNT_UPDATE_DATA))
+                .thenReturn(List.of(getFirstEntry()));
+
+        Map<Long, DrcSyncedStatus> syncedStatuses = accountInfoUpdateEventHelperService.findAccountUpdateSyncedStatuses(List.of(VIBRENT_ID2, 3000L));
+
+        assertEquals(2, syncedStatuses.size());
+        assertNotNull(syncedStatuses.get(VIBRENT_ID2));
+        assertTrue(syncedStatuses.containsKey(3000L));
+        assertNull(syncedStatuses.get(3000L));
+    }
+
     DrcSyncedStatus getFirstEntry() {
         DrcSyncedStatus drcSyncedStatus = new DrcSyncedStatus();
         drcSyncedStatus.setData("{\"lastName\": \"Ram\", \"firstName\": \"Jay\", \"vibrentId\": 2000, \"dateOfBirth\": \"2000-02-05\", \"emailAddress\": \"t3@gmail.com\", \"middleInitial\": \"M\", \"accountAddress\": {\"city\": \"Portland\", \"line1\": \"2585 Se 14th Ave\", \"state\": \"OR\", \"country\": \"US\", \"postalCode\": \"97202\"}, \"secondaryContacts\": {\"CONTACT_ONE\": {\"address\": {\"city\": \"Portland\", \"line1\": \"2585 Se 14th Ave\", \"state\": \"PIIState_AR\", \"postalCode\": \"97202\"}, \"lastName\": \"Ram\", \"firstName\": \"R\", \"preference\": \"CONTACT_ONE\", \"phoneNumber\": \"9797979685\", \"middleInitial\": \"G\"}}}");
@@ -14,6 +14,7 @@ import com.vibrent.drc.constants.ProfileAccountConstants;
 import com.vibrent.drc.converter.FormEntryConverter;
 import com.vibrent.drc.converter.FormFieldEntryConverter;
 import com.vibrent.drc.domain.DRCUpdateInfoSyncRetry;
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.drc.dto.Participant;
 import com.vibrent.drc.enumeration.ConsentWithdrawStatus;
 import com.vibrent.drc.enumeration.DataTypeEnum;
@@ -46,6 +47,7 @@ import java.util.stream.Stream;
 import static com.vibrent.drc.constants.DrcConstant.ROLE_CATI;
 import static com.vibrent.drc.constants.ProfileAccountConstants.FORM_NAME_CONSENT;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -93,6 +95,10 @@ class AccountInfoUpdateEventServiceImplTest {
 
     private AccountInfoUpdateEventService accountInfoUpdateEventService;
 
+    private final FhirEncodingService fhirEncodingService = new FhirEncodingServiceImpl();
+
+    private final FormIndexService formIndexService = new FormIndexServiceImpl();
+
     private boolean drcImpersonation = false;
 
     private AccountInfoUpdateEventDto accountInfoUpdateEventDto;
@@ -112,7 +118,7 @@ class AccountInfoUpdateEventServiceImplTest {
         formEntryConverter = new FormEntryConverter(apiService, drcProperties, formFieldEntryConverter);
         retryService = new DRCRetryServiceImpl(drcConfigService);
         drcBackendProcessorWrapper = new DRCBackendProcessorWrapperImpl(externalApiRequestLogsService, drcBackendProcessorService);
-        accountInfoUpdateEventService = new AccountInfoUpdateEventServiceImpl(apiService, drcBackendProcessorWrapper, drcProperties, accountInfoUpdateEventHelperService, formEntryConverter, participantService, retryService, syncRetryHelperService);
+        accountInfoUpdateEventService = new AccountInfoUpdateEventServiceImpl(apiService, drcBackendProcessorWrapper, drcProperties, accountInfoUpdateEventHelperService, formEntryConverter, participantService, retryService, syncRetryHelperService, fhirEncodingService, formIndexService);
 
         initializeAccountInfoUpdateDto();
         initializeUserDTO();
@@ -164,11 +170,13 @@ class AccountInfoUpdateEventServiceImplTest {
         when(drcConfigService.getRetryNum()).thenReturn(1L);
         when(participantService.getParticipantById(anyLong(), anyString())).thenReturn(getDrcParticipant(ConsentWithdrawStatus.NO_USE));
         accountInfoUpdateEventService.processAccountInfoUpdates(accountInfoUpdateEventDto);
-        verify(accountInfoUpdateEventHelperService, times(0)).processIfUserAccountUpdated(any(AccountInfoUpdateEventDto.class), any(BooleanSupplier.class));
+        verify(accountInfoUpdateEventHelperService, times(0)).processIfUserAccountUpdated(any(AccountInfoUpdateEventDto.class), any(), any(BooleanSupplier.class));
 
         when(participantService.getParticipantById(anyLong(), anyString())).thenReturn(getDrcParticipant(ConsentWithdrawStatus.EARLY_OUT));
-        accountInfoUpdateEventService.processAccountInfoUpdates(accountInfoUpdateEventDto);
-        verify(accountInfoUpdateEventHelperService, times(0)).processIfUserAccountUpdated(any(AccountInfoUpdateEventDto.class), any(BooleanSupplier.class));
+        DrcSyncedStatus drcSyncedStatus = new DrcSyncedStatus();
+        assertSame(drcSyncedStatus, accountInfoUpdateEventService.processAccountInfoUpdates(accountInfoUpdateEventDto, drcSyncedStatus));
+        verify(accountInfoUpdateEventHelperService, times(0)).processIfUserAccountUpdated(any(AccountInfoUpdateEventDto.class), any(), any(BooleanSupplier.class));
+        verify(accountInfoUpdateEventHelperService, times(0)).findAccountUpdateSyncedStatus(anyLong());
     }
 
 
@@ -7,6 +7,7 @@ import com.vibrent.acadia.web.rest.dto.form.FormEntryDTO;
 import com.vibrent.acadia.web.rest.dto.form.FormVersionDTO;
 import com.vibrent.drc.constants.ProfileAccountConstants;
 import com.vibrent.drc.exception.BusinessProcessingException;
+import com.vibrent.drc.service.AccessTokenService;
 import com.vibrent.drc.service.ApiService;
 import com.vibrent.drc.util.JacksonUtil;
 import com.vibrent.drc.util.RestClientUtil;
@@ -17,8 +18,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 
 import java.util.List;
 
@@ -42,24 +41,21 @@ class ApiServiceImplTest {
     public static final String ACTIVE_FORM_VERSION_ID_RESPONSE = "{\"formId\":284,\"activeFormVersionId\":25097}";
 
     @Mock
-    private OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
+    private AccessTokenService accessTokenService;
 
     @Mock
     private RestClientUtil restClientUtil;
 
-    @Mock
-    private OAuth2AccessToken oAuth2AccessToken;
-
     private ApiService apiService;
 
     @BeforeEach
     void setUp() {
-        apiService = new ApiServiceImpl(apiUrl, keycloakDrcInternalCredentialsRestTemplate, restClientUtil);
+        apiService = new ApiServiceImpl(apiUrl, accessTokenService, restClientUtil);
     }
 
     @Test
     void getBioBankAddress() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.getRequest(any(), (HttpHeaders) any())).thenReturn(BIOBANK_ADDRESS_API_RESPONSE);
 
         String bioBankAddress = apiService.getBioBankAddress();
@@ -69,7 +65,7 @@ class ApiServiceImplTest {
 
     @Test
     void getUserDetails() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.getRequest(any(), (HttpHeaders) any())).thenReturn(USER_DETAILS_API_RESPONSE);
 
         UserDTO userDetails = apiService.getUserDTO(79871410L);
@@ -79,7 +75,7 @@ class ApiServiceImplTest {
 
     @Test
     void getUserFormEntryDTO() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.getRequest(any(), (HttpHeaders) any())).thenReturn(FORM_ENTRY_LIST_RESPONSE);
 
         List<FormEntryDTO> userFormEntryDTOList = apiService.getUserFormEntryDTO(87125411L, ProfileAccountConstants.FORM_NAME_CONSENT);
@@ -88,7 +84,7 @@ class ApiServiceImplTest {
 
     @Test
     void getUserFormEntryDTOByFormName() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.getRequest(any(), (HttpHeaders) any())).thenReturn(FORM_ENTRY_LIST_RESPONSE);
 
         FormEntryDTO formEntryDTO = apiService.getFormEntryDtoByFormName(87125411L, ProfileAccountConstants.FORM_NAME_CONSENT);
@@ -98,7 +94,7 @@ class ApiServiceImplTest {
 
     @Test
     void getUserFormEntryDTOOnException() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenThrow(RuntimeException.class);
+        when(accessTokenService.getAccessToken()).thenThrow(RuntimeException.class);
 
         Assert.assertThrows("Failed to fetch User FormEntryDTO for user:",
                 BusinessProcessingException.class,
@@ -107,7 +103,7 @@ class ApiServiceImplTest {
 
     @Test
     void getFormVersionById() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.getRequest(any(), (HttpHeaders) any())).thenReturn(FORM_VERSION_ID_RESPONSE);
 
         FormVersionDTO formVersionById = apiService.getFormVersionById(295L);
@@ -118,7 +114,7 @@ class ApiServiceImplTest {
 
     @Test
     void getFormVersionByIdException() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenThrow(RuntimeException.class);
+        when(accessTokenService.getAccessToken()).thenThrow(RuntimeException.class);
         Assert.assertThrows("Failed to fetch User FormVersion for id:",
                 BusinessProcessingException.class,
                 () -> apiService.getFormVersionById(295L));
@@ -126,7 +122,7 @@ class ApiServiceImplTest {
 
     @Test
     void getActiveFormVersionByFormId() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.getRequest(any(), (HttpHeaders) any())).thenReturn(ACTIVE_FORM_VERSION_ID_RESPONSE);
 
         ActiveFormVersionDTO activeFormVersionByFormId = apiService.getActiveFormVersionByFormId(284L);
@@ -137,7 +133,7 @@ class ApiServiceImplTest {
 
     @Test
     void getActiveFormVersionByFormIdException() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenThrow(RuntimeException.class);
+        when(accessTokenService.getAccessToken()).thenThrow(RuntimeException.class);
         Assert.assertThrows("Failed to fetch active form version for formId:",
                 BusinessProcessingException.class,
                 () -> apiService.getActiveFormVersionByFormId(295L));
@@ -146,7 +142,7 @@ class ApiServiceImplTest {
 
     @Test
     void getUserSsnByUserId() throws Exception {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.getRequest(any(), (HttpHeaders) any())).thenReturn(SSN_RESPONSE);
 
         UserSSNDTO userSsnByUserId = apiService.getUserSsnByUserId(87125409L);
@@ -157,7 +153,7 @@ class ApiServiceImplTest {
 
     @Test
     void getUserSsnByUserIdException() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenThrow(RuntimeException.class);
+        when(accessTokenService.getAccessToken()).thenThrow(RuntimeException.class);
         Assert.assertThrows("Failed to fetch SSN for user id:",
                 BusinessProcessingException.class,
                 () -> apiService.getUserSsnByUserId(87125409L));
@@ -7,6 +7,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
 import com.vibrent.drc.constants.DrcConstant;
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.domain.SystemProperties;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
 import com.vibrent.drc.enumeration.ExternalEventSource;
 import com.vibrent.drc.enumeration.ExternalEventType;
@@ -34,6 +36,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -70,9 +74,6 @@ public class DRCParticipantGenomicsStatusServiceImplTest {
     @Mock
     private ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository;
 
-    @Mock
-    private ParticipantGenomicsStatusPayloadMapper participantGenomicsStatusPayloadMapper;
-
     @Mock
     private  Counter realTimeApiInitiatedCounter;
 
@@ -109,8 +110,9 @@ public class DRCParticipantGenomicsStatusServiceImplTest {
         dataSharingMetricsService = new DataSharingMetricsServiceImpl(realTimeApiInitiatedCounter, realTimeApiInvokedSuccessfullyCounter, participantLookupApiInitiatedCounter, participantLookupApiInvokedSuccessfullyCounter, genomicsStatusFetchInitiatedCounter, genomicsStatusMessagesSentCounter, genomicsStatusProcessingFailureCounter);
         drcBackendProcessorWrapper = new DRCBackendProcessorWrapperImpl(externalApiRequestLogsService, drcBackendProcessorService);
 
-        drcParticipantGenomicsStatusService = new DRCParticipantGenomicsStatusServiceImpl(systemPropertiesRepository, drcConfigService, participantGenomicStatusPayloadRepository, participantGenomicStatusBatchRepository, participantGenomicsStatusPayloadMapper, dataSharingMetricsService, drcBackendProcessorWrapper);
+        drcParticipantGenomicsStatusService = new DRCParticipantGenomicsStatusServiceImpl(systemPropertiesRepository, drcConfigService, participantGenomicStatusPayloadRepository, participantGenomicStatusBatchRepository, dataSharingMetricsService, drcBackendProcessorWrapper);
         ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "batchProcessingSize", 10);
+        ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "insertBatchSize", 50);
     }
 
     @DisplayName("When DRC is not initialised, Then verify DRC call is not triggered.")
@@ -139,6 +141,73 @@ public class DRCParticipantGenomicsStatusServiceImplTest {
     }
 
 
+    @DisplayName("When DRC returns data, Then verify entries are saved in batches of configured size.")
+    @Test
+    public void test_whenDrcReturnsData_Then_verifyBatchesSaved() throws DrcConnectorException, JsonProcessingException {
+        String uriString = getUriString(URL_GENOMICS_REPORT_READY_STATUS);
+        ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "batchProcessingSize", 4);
+
+        Mockito.when(drcConfigService.getDrcApiBaseUrl()).thenReturn(BASE_URL);
+        Mockito.when(drcBackendProcessorService.isInitialized()).thenReturn(true);
+        Mockito.when(drcBackendProcessorService.sendRequest(uriString, null, RequestMethod.GET, null)).thenReturn(getDrcResponse(VALID_RESPONSE));
+
+        drcParticipantGenomicsStatusService.retrieveParticipantGenomicsStatusFromDrc(DrcConstant.URL_GENOMICS_PARTICIPANT_STATUS, ExternalEventType.DRC_GENOMICS_RESULT_STATUS, SystemPropertiesEnum.DRC_GENOMICS_REPORT_READY_STATUS);
+
+        ArgumentCaptor<List<ParticipantGenomicStatusBatch>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(participantGenomicStatusBatchRepository, Mockito.times(1)).insertAll(batchCaptor.capture());
+        Mockito.verify(participantGenomicStatusBatchRepository, Mockito.never()).save(Mockito.any(ParticipantGenomicStatusBatch.class));
+        List<ParticipantGenomicStatusBatch> batches = batchCaptor.getValue();
+        assertEquals(2, batches.size());
+        assertTrue(batches.get(0).getBatchPayload().startsWith("[{\"module\":\"gem\""));
+        assertTrue(batches.get(1).getBatchPayload().endsWith("\"participant_id\":\"P12354\"}]"));
+        Mockito.verify(genomicsStatusFetchInitiatedCounter).increment(6);
+
+        ArgumentCaptor<SystemProperties> propertiesCaptor = ArgumentCaptor.forClass(SystemProperties.class);
+        Mockito.verify(systemPropertiesRepository).save(propertiesCaptor.capture());
+        assertEquals("2020-03-18T08:02:25-05:00", propertiesCaptor.getValue().getValue());
+    }
+
+    @DisplayName("When DRC returns more batches than the insert batch size, Then verify they are inserted in groups of that size.")
+    @Test
+    public void test_whenDrcReturnsManyBatches_Then_verifyBatchesInsertedInGroups() throws DrcConnectorException, JsonProcessingException {
+        String uriString = getUriString(URL_GENOMICS_REPORT_READY_STATUS);
+        ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "batchProcessingSize", 1);
+        ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "insertBatchSize", 4);
+
+        Mockito.when(drcConfigService.getDrcApiBaseUrl()).thenReturn(BASE_URL);
+        Mockito.when(drcBackendProcessorService.isInitialized()).thenReturn(true);
+        Mockito.when(drcBackendProcessorService.sendRequest(uriString, null, RequestMethod.GET, null)).thenReturn(getDrcResponse(VALID_RESPONSE));
+        List<Integer> insertedSizes = new ArrayList<>();
+        Mockito.doAnswer(invocation -> insertedSizes.add(invocation.<List<?>>getArgument(0).size()))
+                .when(participantGenomicStatusBatchRepository).insertAll(Mockito.anyCollection());
+
+        drcParticipantGenomicsStatusService.retrieveParticipantGenomicsStatusFromDrc(DrcConstant.URL_GENOMICS_PARTICIPANT_STATUS, ExternalEventType.DRC_GENOMICS_RESULT_STATUS, SystemPropertiesEnum.DRC_GENOMICS_REPORT_READY_STATUS);
+
+        assertEquals(List.of(4, 2), insertedSizes);
+        Mockito.verify(genomicsStatusFetchInitiatedCounter).increment(6);
+    }
+
+    @DisplayName("When the data array of the DRC response is malformed after some batches were saved, " +
+            "Then verify the failure propagates so they are rolled back and the timestamp is not advanced.")
+    @Test
+    public void test_whenDataArrayMalformedMidStream_Then_verifyFailurePropagates() throws DrcConnectorException {
+        String uriString = getUriString(URL_GENOMICS_REPORT_READY_STATUS);
+        ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "batchProcessingSize", 1);
+        ReflectionTestUtils.setField(drcParticipantGenomicsStatusService, "insertBatchSize", 1);
+        String malformedResponse = "{\"timestamp\":\"2020-03-18T08:02:25-05:00\",\"data\":[{\"participant_id\":\"P12345\"},{\"participant_id\":\"P12348\"},{\"participant_id\":";
+
+        Mockito.when(drcConfigService.getDrcApiBaseUrl()).thenReturn(BASE_URL);
+        Mockito.when(drcBackendProcessorService.isInitialized()).thenReturn(true);
+        Mockito.when(drcBackendProcessorService.sendRequest(uriString, null, RequestMethod.GET, null)).thenReturn(getDrcResponse(malformedResponse));
+
+        assertThrows(UncheckedIOException.class, () -> drcParticipantGenomicsStatusService.retrieveParticipantGenomicsStatusFromDrc(
+                DrcConstant.URL_GENOMICS_PARTICIPANT_STATUS, ExternalEventType.DRC_GENOMICS_RESULT_STATUS, SystemPropertiesEnum.DRC_GENOMICS_REPORT_READY_STATUS));
+
+        Mockito.verify(participantGenomicStatusBatchRepository, Mockito.times(2)).insertAll(Mockito.anyCollection());
+        Mockito.verify(systemPropertiesRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(genomicsStatusFetchInitiatedCounter, Mockito.never()).increment(Mockito.anyDouble());
+    }
+
     @DisplayName("When Success response is not received from DRC , Then verify warning is logged.")
     @Test
     public void test_whenDrcIsInitialised_AndSuccessResponseIsNotReceived() throws DrcConnectorException, JsonProcessingException {
@@ -5,6 +5,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.vibrent.drc.configuration.DrcProperties;
+import com.vibrent.drc.domain.DrcSyncedStatus;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
 import com.vibrent.drc.dto.Participant;
 import com.vibrent.drc.exception.BusinessProcessingException;
@@ -111,6 +112,10 @@ class DRCParticipantServiceImplTest {
         drcParticipantService.patchTestParticipant(accountInfoUpdateEventDto);
         verify(accountInfoUpdateEventHelperService, times(1)).processIfTestParticipantUpdated(any(AccountInfoUpdateEventDto.class), any(BooleanSupplier.class));
 
+        DrcSyncedStatus drcSyncedStatus = new DrcSyncedStatus();
+        drcParticipantService.patchTestParticipant(accountInfoUpdateEventDto, drcSyncedStatus);
+        verify(accountInfoUpdateEventHelperService, times(1)).processIfTestParticipantUpdated(any(AccountInfoUpdateEventDto.class), eq(drcSyncedStatus), any(BooleanSupplier.class));
+
         when(retryService.executeWithRetry(any())).thenReturn(true);
         assertTrue(drcParticipantService.validateAndCallDrcEndpoint(accountInfoUpdateEventDto));
     }
@@ -1,6 +1,5 @@
 package com.vibrent.drc.service.impl;
 
-import ca.uhn.fhir.context.FhirContext;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
@@ -62,10 +61,10 @@ public class DRCSalivaryOrderServiceImplTest {
     private String testParticipantId = "P12345676534";
     private Long testUserId = 132434L;
 
-    private FhirContext fhirContext;
-
     private DRCSalivaryOrderServiceImpl drcSalivaryOrderService;
 
+    private final FhirEncodingService fhirEncodingService = new FhirEncodingServiceImpl();
+
     private FHIRSalivaryConverterUtility fhirSalivaryConverterUtility;
 
     @Mock
@@ -103,20 +102,13 @@ public class DRCSalivaryOrderServiceImplTest {
         drcBackendProcessorWrapper = new DRCBackendProcessorWrapperImpl(externalApiRequestLogsService, drcBackendProcessorService);
         drcConfigService = new DRCConfigServiceImpl(false, "https://pmi-drc-api-test.appspot.com");
         fhirSalivaryConverterUtility = new FHIRSalivaryConverterUtility("http://joinallofus.org/fhir/", apiService, genotekService);
-        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, drcSupplyStatusService, drcProperties, orderTrackingDetailsService);
+        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, drcSupplyStatusService, drcProperties, orderTrackingDetailsService, fhirEncodingService);
 
         //Set Value attributes
         ReflectionTestUtils.setField(drcConfigService, "runPostProcessing", false);
-        initializeContext();
-        ReflectionTestUtils.setField(drcSalivaryOrderService, "fhirContext", fhirContext);
         TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
     }
 
-    private void initializeContext() {
-        //set context initialization
-        fhirContext = FhirContext.forR4();
-    }
-
     @Test
     public void testVerifyAndSendSalivaryRequestMissingRequestCreateTrackOrderMessage() throws Exception {
         //EXPECT Business validation on missing vxp requests
@@ -335,7 +327,7 @@ public class DRCSalivaryOrderServiceImplTest {
     public void testVerifyAndSendSalivaryRequestCreateTrackOrderSendExternalEventLogFailedLog() throws Exception {
 
         DRCSupplyStatusServiceImpl supplyStatusService = new DRCSupplyStatusServiceImpl(new DRCRetryServiceImpl(drcConfigService), drcBackendProcessorWrapper);
-        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService);
+        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService, fhirEncodingService);
 
         doThrow(new DrcConnectorException("400 bad request")).when(this.drcBackendProcessorService).sendRequestReturnDetails(anyString(), anyString(), any(RequestMethod.class), nullable(Map.class));
         when(drcBackendProcessorWrapper.isInitialized()).thenReturn(true);
@@ -375,7 +367,7 @@ public class DRCSalivaryOrderServiceImplTest {
     public void testVerifyAndSendSalivaryRequestCreateTrackOrderSendExternalEventLog() throws Exception {
 
         DRCSupplyStatusServiceImpl supplyStatusService = new DRCSupplyStatusServiceImpl(new DRCRetryServiceImpl(drcConfigService), drcBackendProcessorWrapper);
-        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService);
+        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService, fhirEncodingService);
 
         when(this.drcBackendProcessorService.sendRequestReturnDetails(anyString(), anyString(), any(RequestMethod.class), nullable(Map.class))).thenReturn(new HttpResponseWrapper(200, "response"));
         when(drcBackendProcessorWrapper.isInitialized()).thenReturn(true);
@@ -415,7 +407,7 @@ public class DRCSalivaryOrderServiceImplTest {
     @Test
     public void testVerifyAndSendSalivaryRequestTrackDeliverySendExternalEventLogWithSuccessResponse() throws Exception {
         DRCSupplyStatusServiceImpl supplyStatusService = new DRCSupplyStatusServiceImpl(new DRCRetryServiceImpl(drcConfigService), drcBackendProcessorWrapper);
-        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService);
+        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService, fhirEncodingService);
 
         when(drcProperties.getDrcApiBaseUrl()).thenReturn("https://pmi-drc-api-test.appspot.com");
         when(this.drcBackendProcessorService.sendRequestReturnDetails(anyString(), anyString(), any(RequestMethod.class), nullable(Map.class))).thenReturn(new HttpResponseWrapper(200, "response"));
@@ -462,7 +454,7 @@ public class DRCSalivaryOrderServiceImplTest {
     void testVerifyAndSendSalivaryRequestCreateFulfillmentTrackOrderSendExternalEventLogFailedLog() throws Exception {
 
         DRCSupplyStatusServiceImpl supplyStatusService = new DRCSupplyStatusServiceImpl(new DRCRetryServiceImpl(drcConfigService), drcBackendProcessorWrapper);
-        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService);
+        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService, fhirEncodingService);
         doThrow(new DrcConnectorException("400 bad request")).when(this.drcBackendProcessorService).sendRequestReturnDetails(anyString(), anyString(), any(RequestMethod.class), nullable(Map.class));
         when(drcBackendProcessorWrapper.isInitialized()).thenReturn(true);
         when(this.genotekService.getDeviceDetails(anyLong())).thenReturn(buildOrderInfoDTO());
@@ -496,7 +488,7 @@ public class DRCSalivaryOrderServiceImplTest {
             "when received Fulfillment order response ")
     void testVerifyAndSendSalivaryRequestFulfillmentTrackDeliverySendExternalEventLogWithSuccessResponse() throws Exception {
         DRCSupplyStatusServiceImpl supplyStatusService = new DRCSupplyStatusServiceImpl(new DRCRetryServiceImpl(drcConfigService), drcBackendProcessorWrapper);
-        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService);
+        drcSalivaryOrderService = new DRCSalivaryOrderServiceImpl(fhirSalivaryConverterUtility, drcConfigService, supplyStatusService, drcProperties, orderTrackingDetailsService, fhirEncodingService);
 
         when(drcProperties.getDrcApiBaseUrl()).thenReturn("https://pmi-drc-api-test.appspot.com");
         when(this.drcBackendProcessorService.sendRequestReturnDetails(anyString(), anyString(), any(RequestMethod.class), nullable(Map.class))).thenReturn(new HttpResponseWrapper(200, "response"));
@@ -0,0 +1,153 @@
+package com.vibrent.drc.service.impl;
+
+import com.vibrent.drc.domain.DrcExternalEventOutbox;
+import com.vibrent.drc.messaging.producer.DrcExternalEventProducer;
+import com.vibrent.drc.repository.DrcExternalEventOutboxRepository;
+import com.vibrent.drc.service.DrcExternalEventOutboxService;
+import com.vibrent.drc.util.JacksonUtil;
+import com.vibrent.vxp.push.DRCExternalEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DrcExternalEventOutboxServiceImplTest {
+
+    @Mock
+    private DrcExternalEventOutboxRepository drcExternalEventOutboxRepository;
+
+    @Mock
+    private DrcExternalEventProducer drcExternalEventProducer;
+
+    private DrcExternalEventOutboxServiceImpl drcExternalEventOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        drcExternalEventOutboxService = new DrcExternalEventOutboxServiceImpl(drcExternalEventOutboxRepository, drcExternalEventProducer, 1, 3, 60, 3600);
+    }
+
+    @Test
+    @DisplayName("When events are enqueued then one outbox row with the serialized event is saved per event")
+    void whenEventsEnqueuedThenOutboxRowsAreSaved() throws Exception {
+        when(drcExternalEventProducer.isKafkaEnabled()).thenReturn(true);
+        drcExternalEventOutboxService.enqueue(Arrays.asList(buildEvent(1000L), buildEvent(2000L)));
+
+        ArgumentCaptor<List<DrcExternalEventOutbox>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(drcExternalEventOutboxRepository).saveAll(rowsCaptor.capture());
+        List<DrcExternalEventOutbox> rows = rowsCaptor.getValue();
+        assertEquals(2, rows.size());
+        assertEquals(1000L, rows.get(0).getVibrentId());
+        DRCExternalEventDto payload = JacksonUtil.getMapper().readValue(rows.get(1).getPayload(), DRCExternalEventDto.class);
+        assertEquals(2000L, payload.getVibrentID());
+        assertEquals("P2000", payload.getExternalID());
+    }
+
+    @Test
+    @DisplayName("When a send is not acknowledged then only the acknowledged and unreadable rows are deleted and the failed row is backed off")
+    void whenSendFailsThenOnlyAckedRowsAreDeleted() throws Exception {
+        long startTime = System.currentTimeMillis();
+        when(drcExternalEventProducer.isKafkaEnabled()).thenReturn(true);
+        when(drcExternalEventOutboxRepository.findByNextAttemptAtLessThanEqualAndRetryCountLessThanOrderByNextAttemptAtAscIdAsc(anyLong(), eq(3), any(Pageable.class)))
+                .thenReturn(Arrays.asList(buildRow(1L, buildEvent(1000L)), buildRow(2L, buildEvent(2000L)), buildUnreadableRow(3L)));
+        SettableListenableFuture<SendResult<String, DRCExternalEventDto>> acked = new SettableListenableFuture<>();
+        acked.set(null);
+        SettableListenableFuture<SendResult<String, DRCExternalEventDto>> failed = new SettableListenableFuture<>();
+        failed.setException(new RuntimeException("broker unavailable"));
+        when(drcExternalEventProducer.publish(any(DRCExternalEventDto.class))).thenReturn(acked, failed);
+
+        DrcExternalEventOutboxService.RelayResult relayResult = drcExternalEventOutboxService.relayNextPage(3);
+
+        assertEquals(1, relayResult.getPublished());
+        assertEquals(2, relayResult.getRemoved());
+        verify(drcExternalEventProducer, times(2)).publish(any(DRCExternalEventDto.class));
+        verify(drcExternalEventOutboxRepository).deleteByIds(Collections.singletonList(1L));
+        verify(drcExternalEventOutboxRepository).deleteByIds(Collections.singletonList(3L));
+        verify(drcExternalEventOutboxRepository, never()).deleteByIds(argThat(ids -> ids.contains(2L)));
+        verify(drcExternalEventOutboxRepository).updateRetryCountAndNextAttemptAt(eq(Collections.singletonList(2L)), eq(1),
+                longThat(nextAttemptAt -> nextAttemptAt >= startTime + 60000L));
+    }
+
+    @Test
+    @DisplayName("When rows with different retry counts fail then each is backed off by the delay of its new retry count")
+    void whenRowsFailThenTheyAreBackedOffByTheirRetryCount() throws Exception {
+        long startTime = System.currentTimeMillis();
+        when(drcExternalEventProducer.isKafkaEnabled()).thenReturn(true);
+        DrcExternalEventOutbox firstAttempt = buildRow(1L, buildEvent(1000L));
+        DrcExternalEventOutbox lastAttempt = buildRow(2L, buildEvent(2000L));
+        lastAttempt.setRetryCount(2);
+        when(drcExternalEventOutboxRepository.findByNextAttemptAtLessThanEqualAndRetryCountLessThanOrderByNextAttemptAtAscIdAsc(anyLong(), eq(3), any(Pageable.class)))
+                .thenReturn(Arrays.asList(firstAttempt, lastAttempt));
+        when(drcExternalEventProducer.publish(any(DRCExternalEventDto.class))).thenThrow(new RuntimeException("record too large"));
+
+        DrcExternalEventOutboxService.RelayResult relayResult = drcExternalEventOutboxService.relayNextPage(2);
+
+        assertEquals(0, relayResult.getRemoved());
+        verify(drcExternalEventOutboxRepository, never()).deleteByIds(any());
+        verify(drcExternalEventOutboxRepository).updateRetryCountAndNextAttemptAt(eq(Collections.singletonList(1L)), eq(1),
+                longThat(nextAttemptAt -> nextAttemptAt >= startTime + 60000L && nextAttemptAt < startTime + 120000L));
+        verify(drcExternalEventOutboxRepository).updateRetryCountAndNextAttemptAt(eq(Collections.singletonList(2L)), eq(3),
+                longThat(nextAttemptAt -> nextAttemptAt >= startTime + 240000L));
+    }
+
+    @Test
+    @DisplayName("When kafka is disabled then no outbox rows are written")
+    void whenKafkaDisabledThenEventsAreNotEnqueued() {
+        when(drcExternalEventProducer.isKafkaEnabled()).thenReturn(false);
+
+        drcExternalEventOutboxService.enqueue(Collections.singletonList(buildEvent(1000L)));
+
+        verifyNoInteractions(drcExternalEventOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("When kafka is disabled then the outbox is not read")
+    void whenKafkaDisabledThenOutboxIsNotRelayed() {
+        when(drcExternalEventProducer.isKafkaEnabled()).thenReturn(false);
+
+        assertEquals(0, drcExternalEventOutboxService.relayNextPage(10).getRemoved());
+
+        verifyNoInteractions(drcExternalEventOutboxRepository);
+        verify(drcExternalEventProducer, never()).publish(any(DRCExternalEventDto.class));
+    }
+
+    private static DRCExternalEventDto buildEvent(long vibrentId) {
+        DRCExternalEventDto drcExternalEventDto = new DRCExternalEventDto();
+        drcExternalEventDto.setVibrentID(vibrentId);
+        drcExternalEventDto.setExternalID("P" + vibrentId);
+        return drcExternalEventDto;
+    }
+
+    private static DrcExternalEventOutbox buildRow(long id, DRCExternalEventDto drcExternalEventDto) throws Exception {
+        DrcExternalEventOutbox outboxRow = new DrcExternalEventOutbox();
+        outboxRow.setId(id);
+        outboxRow.setVibrentId(drcExternalEventDto.getVibrentID());
+        outboxRow.setPayload(JacksonUtil.getMapper().writeValueAsString(drcExternalEventDto));
+        return outboxRow;
+    }
+
+    private static DrcExternalEventOutbox buildUnreadableRow(long id) {
+        DrcExternalEventOutbox outboxRow = new DrcExternalEventOutbox();
+        outboxRow.setId(id);
+        outboxRow.setPayload("{invalid");
+        return outboxRow;
+    }
+}
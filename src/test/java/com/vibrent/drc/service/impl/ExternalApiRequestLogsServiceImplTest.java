@@ -6,7 +6,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.vibrent.drc.dto.ExternalApiRequestLog;
 import com.vibrent.drc.messaging.producer.DrcExternalEventProducer;
-import com.vibrent.drc.messaging.producer.ExternalApiRequestLogsProducer;
+import com.vibrent.drc.messaging.producer.ExternalApiRequestLogsDispatcher;
 import com.vibrent.drc.scheduling.DRCParticipantGenomicsStatusFetchJob;
 import com.vibrent.vxp.drc.dto.DrcNotificationRequestDTO;
 import com.vibrent.vxp.drc.dto.EventTypes;
@@ -29,14 +29,14 @@ import static org.mockito.Mockito.doThrow;
 class ExternalApiRequestLogsServiceImplTest {
 
     @Mock
-    private ExternalApiRequestLogsProducer externalApiRequestLogsProducer;
+    private ExternalApiRequestLogsDispatcher externalApiRequestLogsDispatcher;
 
     private ExternalApiRequestLogsServiceImpl externalApiRequestLogsServiceImpl;
 
 
     @BeforeEach
     void setUp() {
-        externalApiRequestLogsServiceImpl = new ExternalApiRequestLogsServiceImpl(externalApiRequestLogsProducer);
+        externalApiRequestLogsServiceImpl = new ExternalApiRequestLogsServiceImpl(externalApiRequestLogsDispatcher);
 
     }
 
@@ -48,7 +48,7 @@ class ExternalApiRequestLogsServiceImplTest {
         Logger logger = (Logger) LoggerFactory.getLogger(ExternalApiRequestLogsServiceImpl.class);
         ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
         logger.addAppender(listAppender);
-        doThrow(KafkaException.class).when(externalApiRequestLogsProducer).send(any(ExternalApiRequestLog.class));
+        doThrow(KafkaException.class).when(externalApiRequestLogsDispatcher).dispatch(any(ExternalApiRequestLog.class));
         listAppender.start();
         externalApiRequestLogsServiceImpl.send(new ExternalApiRequestLog());
         List<ILoggingEvent> logsList = listAppender.list;
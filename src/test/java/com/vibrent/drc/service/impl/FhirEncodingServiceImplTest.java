@@ -0,0 +1,73 @@
+package com.vibrent.drc.service.impl;
+
+import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.model.dstu2.resource.QuestionnaireResponse;
+import org.hl7.fhir.r4.model.Reference;
+import org.hl7.fhir.r4.model.SupplyRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FhirEncodingServiceImplTest {
+
+    private FhirEncodingServiceImpl fhirEncodingService;
+
+    @BeforeEach
+    void setUp() {
+        fhirEncodingService = new FhirEncodingServiceImpl();
+        fhirEncodingService.warmUp();
+    }
+
+    @Test
+    void whenR4ResourceEncodedThenOutputMatchesNewParser() {
+        SupplyRequest supplyRequest = supplyRequest("P123");
+
+        String expected = FhirContext.forR4().newJsonParser().setPrettyPrint(false).setSuppressNarratives(false)
+                .setSummaryMode(false).encodeResourceToString(supplyRequest);
+
+        assertEquals(expected, fhirEncodingService.encodeR4(supplyRequest));
+        assertEquals(expected, fhirEncodingService.encodeR4(supplyRequest));
+    }
+
+    @Test
+    void whenDstu2ResourceEncodedThenOutputMatchesNewParser() {
+        QuestionnaireResponse questionnaireResponse = new QuestionnaireResponse();
+        questionnaireResponse.getSubject().setReference("Patient/P123");
+
+        String expected = FhirContext.forDstu2().newJsonParser().encodeResourceToString(questionnaireResponse);
+
+        assertEquals(expected, fhirEncodingService.encodeDstu2(questionnaireResponse));
+    }
+
+    @Test
+    void whenEncodedConcurrentlyThenEveryThreadGetsItsOwnOutput() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String participantId = "P" + i;
+                tasks.add(() -> fhirEncodingService.encodeR4(supplyRequest(participantId)).contains("Patient/" + participantId + "\""));
+            }
+            for (Future<Boolean> future : executorService.invokeAll(tasks)) {
+                assertEquals(Boolean.TRUE, future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static SupplyRequest supplyRequest(String participantId) {
+        SupplyRequest supplyRequest = new SupplyRequest();
+        supplyRequest.setStatus(SupplyRequest.SupplyRequestStatus.ACTIVE);
+        supplyRequest.setRequester(new Reference("Patient/" + participantId));
+        return supplyRequest;
+    }
+}
@@ -18,10 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.BeanFactory;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -32,14 +29,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class FulfillmentServiceImplTest {
 
-    public static final String fulfillmentUrl = "http://fulfillment:8080";
-
-    @Mock
-    OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
-    @Mock
-    OAuth2AccessToken oAuth2AccessToken;
-    @Mock
-    BeanFactory beanFactory;
     @Mock
     OrdersApi ordersApi;
     @Mock
@@ -55,15 +44,13 @@ class FulfillmentServiceImplTest {
     @BeforeEach
     void setUp() {
         retryService = new DRCRetryServiceImpl(drcConfigService);
-        fulfillmentService = new FulfillmentServiceImpl(fulfillmentUrl, beanFactory, retryService, retryForHttpStatusCodes, keycloakDrcInternalCredentialsRestTemplate);
+        fulfillmentService = new FulfillmentServiceImpl(ordersApi, retryService, retryForHttpStatusCodes);
     }
 
     @Test
     @SneakyThrows
     @DisplayName("check order details from fulfillment service based on order Id")
     void getOrderDetails() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
-        when(beanFactory.getBean(eq(OrdersApi.class), any(), anyString())).thenReturn(ordersApi);
         when(ordersApi.getOrderById(anyLong())).thenReturn(orderDetailsDTOCall);
         when(orderDetailsDTOCall.execute()).thenReturn(buildOrderDetailsDTO());
         when(drcConfigService.getRetryNum()).thenReturn(1L);
@@ -85,8 +72,6 @@ class FulfillmentServiceImplTest {
     @SneakyThrows
     @DisplayName("Received exception when Http status is not OKHttpStatus ")
     void getExceptionWhenOtherThanOkHttpStatus() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
-        when(beanFactory.getBean(eq(OrdersApi.class), any(), anyString())).thenReturn(ordersApi);
         when(ordersApi.getOrderById(anyLong())).thenReturn(orderDetailsDTOCall);
         when(drcConfigService.getRetryNum()).thenReturn(1L);
         when(orderDetailsDTOCall.execute()).thenReturn(Response.error(HttpStatus.BAD_REQUEST.value(), ResponseBody.create(MediaType.parse("error"), "BAD REQUEST")));
@@ -99,8 +84,6 @@ class FulfillmentServiceImplTest {
     @SneakyThrows
     @DisplayName("Received retry exception when retry limit exceeded")
     void getExceptionWhenRetryApiCallFailed() {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
-        when(beanFactory.getBean(eq(OrdersApi.class), any(), anyString())).thenReturn(ordersApi);
         when(ordersApi.getOrderById(anyLong())).thenReturn(orderDetailsDTOCall);
         when(orderDetailsDTOCall.execute()).thenReturn(Response.error(HttpStatus.GATEWAY_TIMEOUT.value(), ResponseBody.create(MediaType.parse("error"), "GATEWAY TIMEOUT")));
         when(drcConfigService.getRetryNum()).thenReturn(1L);
@@ -0,0 +1,118 @@
+package com.vibrent.drc.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.domain.ParticipantGenomicStatusPayload;
+import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.drc.repository.ParticipantGenomicStatusBatchRepository;
+import com.vibrent.drc.repository.ParticipantGenomicStatusPayloadRepository;
+import com.vibrent.drc.util.JacksonUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenomicStatusRetentionServiceImplTest {
+
+    @Mock
+    private ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository;
+
+    @Mock
+    private ParticipantGenomicStatusPayloadRepository participantGenomicStatusPayloadRepository;
+
+    @DisplayName("When expired rows exist then they are deleted in chunks until a chunk is not full, batches before payloads")
+    @Test
+    void purgeExpiredInChunks() throws Exception {
+        GenomicStatusRetentionServiceImpl retentionService = new GenomicStatusRetentionServiceImpl(participantGenomicStatusBatchRepository,
+                participantGenomicStatusPayloadRepository, 30, 2, 0, "");
+        when(participantGenomicStatusBatchRepository.findIdsByStatusInAndUpdatedOnBefore(eq(GenomicStatusRetentionServiceImpl.PROCESSED_STATUSES), anyLong(), any()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(participantGenomicStatusBatchRepository.deleteByIds(anyCollection())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        when(participantGenomicStatusPayloadRepository.findIdsWithoutBatchesByUpdatedOnBefore(anyLong(), any())).thenReturn(List.of(10L));
+        when(participantGenomicStatusPayloadRepository.deleteByIds(anyCollection())).thenReturn(1);
+
+        long before = System.currentTimeMillis();
+        assertEquals(4, retentionService.purgeExpired());
+
+        verify(participantGenomicStatusBatchRepository, times(2)).findIdsByStatusInAndUpdatedOnBefore(any(),
+                longThat(cutoff -> cutoff <= before - 30L * 24 * 60 * 60 * 1000 + 1000), argThat(page -> page.getPageSize() == 2));
+        verify(participantGenomicStatusBatchRepository).deleteByIds(List.of(1L, 2L));
+        verify(participantGenomicStatusBatchRepository).deleteByIds(List.of(3L));
+        verify(participantGenomicStatusPayloadRepository).deleteByIds(List.of(10L));
+        verify(participantGenomicStatusBatchRepository, never()).findAllById(any());
+    }
+
+    @DisplayName("When an archive directory is configured then the rows are written to a gzip NDJSON file before they are deleted")
+    @Test
+    void purgeExpiredWithArchive(@TempDir Path archiveDirectory) throws Exception {
+        GenomicStatusRetentionServiceImpl retentionService = new GenomicStatusRetentionServiceImpl(participantGenomicStatusBatchRepository,
+                participantGenomicStatusPayloadRepository, 30, 10, 0, archiveDirectory.toString());
+        ParticipantGenomicStatusPayload payload = new ParticipantGenomicStatusPayload();
+        payload.setId(10L);
+        payload.setRawPayload("{\"data\":[]}");
+        ParticipantGenomicStatusBatch batch = new ParticipantGenomicStatusBatch();
+        batch.setId(1L);
+        batch.setStatus(ExternalGenomicPayloadProcessingStatus.PROCESSING);
+        batch.setBatchPayload("[{\"module\":\"gem\"}]");
+        batch.setParticipantGenomicStatusPayload(payload);
+        when(participantGenomicStatusBatchRepository.findIdsByStatusInAndUpdatedOnBefore(any(), anyLong(), any())).thenReturn(List.of(1L));
+        when(participantGenomicStatusBatchRepository.findAllById(List.of(1L))).thenReturn(List.of(batch));
+        when(participantGenomicStatusBatchRepository.deleteByIds(List.of(1L))).thenReturn(1);
+        when(participantGenomicStatusPayloadRepository.findIdsWithoutBatchesByUpdatedOnBefore(anyLong(), any())).thenReturn(Collections.emptyList());
+
+        assertEquals(1, retentionService.purgeExpired());
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(archiveDirectory)) {
+            files = paths.collect(Collectors.toList());
+        }
+        assertEquals(1, files.size());
+        List<String> lines = readLines(files.get(0));
+        assertEquals(1, lines.size());
+        JsonNode row = JacksonUtil.getMapper().readTree(lines.get(0));
+        assertEquals(1L, row.get("id").asLong());
+        assertEquals(10L, row.get("participantGenomicStatusPayloadId").asLong());
+        assertEquals("PROCESSING", row.get("status").asText());
+        assertEquals("[{\"module\":\"gem\"}]", row.get("batchPayload").asText());
+    }
+
+    @DisplayName("When the archive cannot be written then the rows are not deleted")
+    @Test
+    void purgeExpiredWithFailingArchive(@TempDir Path archiveDirectory) throws Exception {
+        Path notADirectory = Files.createFile(archiveDirectory.resolve("file"));
+        GenomicStatusRetentionServiceImpl retentionService = new GenomicStatusRetentionServiceImpl(participantGenomicStatusBatchRepository,
+                participantGenomicStatusPayloadRepository, 30, 10, 0, notADirectory.toString());
+        when(participantGenomicStatusBatchRepository.findIdsByStatusInAndUpdatedOnBefore(any(), anyLong(), any())).thenReturn(List.of(1L));
+
+        assertThrows(IOException.class, retentionService::purgeExpired);
+
+        verify(participantGenomicStatusBatchRepository, never()).deleteByIds(anyCollection());
+        verifyNoInteractions(participantGenomicStatusPayloadRepository);
+    }
+
+    private static List<String> readLines(Path file) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            return content.lines().collect(Collectors.toList());
+        }
+    }
+}
@@ -10,9 +10,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.BeanFactory;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -25,14 +22,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class GenotekServiceImplTest {
 
-    public static final String genotekUrl = "http://vxp-genotek:8080";
-
-    @Mock
-    private OAuth2RestTemplate keycloakDrcInternalCredentialsRestTemplate;
-    @Mock
-    private OAuth2AccessToken oAuth2AccessToken;
-    @Mock
-    BeanFactory beanFactory;
     @Mock
     OrderInfoApi orderInfoApi;
     @Mock
@@ -42,14 +31,12 @@ class GenotekServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        genotekService = new GenotekServiceImpl(genotekUrl, beanFactory, keycloakDrcInternalCredentialsRestTemplate);
+        genotekService = new GenotekServiceImpl(orderInfoApi);
     }
 
     @Test
     @SneakyThrows
     void getSalivaryKitDetails() throws IOException {
-        when(keycloakDrcInternalCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
-        when(beanFactory.getBean(eq(OrderInfoApi.class), any(), anyString())).thenReturn(orderInfoApi);
         when(orderInfoApi.getOrderInformationByOrderId(anyLong())).thenReturn(orderInfoDTOCall);
         when(orderInfoDTOCall.execute()).thenReturn(buildOrderInfoDTO());
 
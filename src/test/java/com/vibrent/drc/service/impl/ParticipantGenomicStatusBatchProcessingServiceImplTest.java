@@ -0,0 +1,79 @@
+package com.vibrent.drc.service.impl;
+
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.enumeration.ExternalGenomicPayloadProcessingStatus;
+import com.vibrent.drc.repository.ParticipantGenomicStatusBatchRepository;
+import com.vibrent.drc.service.DrcExternalEventOutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantGenomicStatusBatchProcessingServiceImplTest {
+
+    private static final int MAX_RETRIES = 3;
+
+    @Mock
+    private ParticipantGenomicStatusBatchRepository participantGenomicStatusBatchRepository;
+
+    @Mock
+    private DrcExternalEventOutboxService drcExternalEventOutboxService;
+
+    private ParticipantGenomicStatusBatchProcessingServiceImpl participantGenomicStatusBatchProcessingService;
+
+    @BeforeEach
+    void setUp() {
+        participantGenomicStatusBatchProcessingService = new ParticipantGenomicStatusBatchProcessingServiceImpl(participantGenomicStatusBatchRepository,
+                drcExternalEventOutboxService, "org.hibernate.dialect.MySQL8Dialect", MAX_RETRIES);
+    }
+
+    @DisplayName("When the dialect is checked then only dialects with SKIP LOCKED are supported")
+    @Test
+    void supportsSkipLocked() {
+        assertTrue(ParticipantGenomicStatusBatchProcessingServiceImpl.supportsSkipLocked("org.hibernate.dialect.MySQL8Dialect"));
+        assertFalse(ParticipantGenomicStatusBatchProcessingServiceImpl.supportsSkipLocked("org.hibernate.dialect.MySQL5InnoDBDialect"));
+        assertFalse(ParticipantGenomicStatusBatchProcessingServiceImpl.supportsSkipLocked(""));
+        assertFalse(ParticipantGenomicStatusBatchProcessingServiceImpl.supportsSkipLocked("java.lang.String"));
+    }
+
+    @DisplayName("When batches are claimed then batches that reached the max retry count are excluded")
+    @Test
+    void claimExcludesBatchesPastMaxRetries() {
+        ParticipantGenomicStatusBatch batch = new ParticipantGenomicStatusBatch();
+        when(participantGenomicStatusBatchRepository.findClaimableBatches(anyList(), anyLong(), eq(100L), eq(MAX_RETRIES), any()))
+                .thenReturn(Collections.singletonList(batch));
+        when(participantGenomicStatusBatchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(1, participantGenomicStatusBatchProcessingService.claimEligibleGenomicStatusBatches("node-1", 10, 1000L, 100L).size());
+        assertEquals("node-1", batch.getClaimedBy());
+        assertNotNull(batch.getClaimedUntil());
+    }
+
+    @DisplayName("When a failed batch is released then its retry count is incremented and its claim is cleared")
+    @Test
+    void releaseFailedBatchIncrementsRetryCount() {
+        ParticipantGenomicStatusBatch batch = new ParticipantGenomicStatusBatch();
+        batch.setRetryCount(2);
+        batch.setClaimedBy("node-1");
+        batch.setClaimedUntil(1000L);
+        when(participantGenomicStatusBatchRepository.save(batch)).thenReturn(batch);
+
+        participantGenomicStatusBatchProcessingService.releaseFailedBatch(batch);
+
+        verify(participantGenomicStatusBatchRepository).save(batch);
+        assertEquals(3, batch.getRetryCount());
+        assertEquals(ExternalGenomicPayloadProcessingStatus.ERROR, batch.getStatus());
+        assertNull(batch.getClaimedBy());
+        assertNull(batch.getClaimedUntil());
+    }
+}
@@ -1,6 +1,7 @@
 package com.vibrent.drc.service.impl;
 
 import com.vibrent.drc.cache.VibrentIdCacheManager;
+import com.vibrent.drc.service.AccessTokenService;
 import com.vibrent.drc.service.ParticipantService;
 import com.vibrent.drc.util.RestClientUtil;
 import com.vibrenthealth.drcutils.service.DRCRetryService;
@@ -13,8 +14,6 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -44,10 +43,7 @@ public class ParticipantServiceImplIT {
         RestClientUtil restClientUtil;
 
         @MockBean
-        private OAuth2RestTemplate keycloakApiClientCredentialsRestTemplate;
-
-        @MockBean
-        private OAuth2AccessToken oAuth2AccessToken;
+        private AccessTokenService accessTokenService;
 
         @Mock
         private VibrentIdCacheManager vibrentIdCacheManager;
@@ -59,11 +55,10 @@ public class ParticipantServiceImplIT {
 
         @Bean
         ParticipantService participantService() {
-            when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
-            when(oAuth2AccessToken.getExpiresIn()).thenReturn(300);
+            when(accessTokenService.getAccessToken()).thenReturn("access token");
             when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"requestedIdType\":\"VIBRENT_ID\",\"responseList\":{\"P324234\":{\"VIBRENT_ID\":\"1\",\"EXTERNAL_ID\": \"P324234\"}}}");
 
-            return new ParticipantServiceImpl(apiUrl, keycloakApiClientCredentialsRestTemplate, restClientUtil, vibrentIdCacheManager, retryService, null);
+            return new ParticipantServiceImpl(apiUrl, accessTokenService, restClientUtil, vibrentIdCacheManager, retryService, null, 100, 0);
         }
     }
 
@@ -6,14 +6,13 @@ import com.vibrent.drc.enumeration.UserInfoType;
 import com.vibrent.drc.exception.BusinessProcessingException;
 import com.vibrent.drc.exception.BusinessValidationException;
 import com.vibrent.drc.exception.HttpClientValidationException;
+import com.vibrent.drc.service.AccessTokenService;
 import com.vibrent.drc.service.ParticipantService;
 import com.vibrent.drc.util.RestClientUtil;
 import com.vibrenthealth.drcutils.service.DRCConfigService;
 import com.vibrenthealth.drcutils.service.DRCRetryService;
 import com.vibrenthealth.drcutils.service.impl.DRCRetryServiceImpl;
 import lombok.SneakyThrows;
-import org.joda.time.Duration;
-import org.joda.time.Instant;
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,9 +21,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.oauth2.client.OAuth2ClientContext;
-import org.springframework.security.oauth2.client.OAuth2RestTemplate;
-import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
@@ -47,32 +43,25 @@ class ParticipantServiceImplTest {
     private final String API_URL = "http://api:8080";
 
     @Mock
-    private OAuth2RestTemplate keycloakApiClientCredentialsRestTemplate;
+    private AccessTokenService accessTokenService;
 
     @Mock
     private RestClientUtil restClientUtil;
 
-    private DefaultOAuth2AccessToken oAuth2AccessToken;
-
     @Mock
     private VibrentIdCacheManager vibrentIdCacheManager;
 
-    @Mock
-    OAuth2ClientContext oAuth2ClientContext;
-
     @BeforeEach
     void setUp() {
-        oAuth2AccessToken = new DefaultOAuth2AccessToken("access token");
-        oAuth2AccessToken.setExpiration(Instant.now().plus(Duration.standardSeconds(300)).toDate());
         DRCRetryService retryService = new DRCRetryServiceImpl(getDrcConfigService());
-        participantService = new ParticipantServiceImpl(API_URL, keycloakApiClientCredentialsRestTemplate, restClientUtil, vibrentIdCacheManager, retryService, "401,403,500,503");
+        participantService = new ParticipantServiceImpl(API_URL, accessTokenService, restClientUtil, vibrentIdCacheManager, retryService, "401,403,500,503", 100, 0);
     }
 
 
     @SneakyThrows
     @Test
     void getParticipantsByVibrentIds() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":\"v1\",\"EXTERNAL_ID\": \"p1\"}]}");
 
         UserSearchResponseDTO userSearchResponseDTO = participantService.getParticipantsByVibrentIds(Collections.singletonList("v1"));
@@ -91,7 +80,7 @@ class ParticipantServiceImplTest {
     @SneakyThrows
     @Test
     void getParticipantsByVibrentIdsWithException() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenThrow(new RuntimeException());
 
         Assert.assertThrows(
@@ -103,7 +92,7 @@ class ParticipantServiceImplTest {
     @SneakyThrows
     @Test
     void getParticipantsByVibrentIdsWithExceptionForRetry() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenThrow(new HttpStatusCodeException(HttpStatus.INTERNAL_SERVER_ERROR) {
         });
 
@@ -117,7 +106,7 @@ class ParticipantServiceImplTest {
             "Then Verify Exception thrown")
     @Test
     void getParticipants_throwsException() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn(null);
 
         assertThrows(BusinessProcessingException.class, () -> participantService.getParticipants(Collections.singletonList("v1"), Collections.singletonList("d1"),
@@ -128,7 +117,7 @@ class ParticipantServiceImplTest {
             "Then Verify HTTP Client Validation Exception is thrown")
     @Test
     void getParticipants_throwsValidationException() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         doThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST, "Bad Request")).when(restClientUtil).postRequest(anyString(), any());
 
         assertThrows(HttpClientValidationException.class, () -> participantService.getParticipants(Collections.singletonList("v1"), Collections.singletonList("d1"),
@@ -139,7 +128,7 @@ class ParticipantServiceImplTest {
             "Then Verify BusinessProcessingException is thrown")
     @Test
     void getParticipants_throwsBusinessProcessingException() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         doThrow(new HttpClientErrorException(HttpStatus.UNPROCESSABLE_ENTITY, "Bad Request")).when(restClientUtil).postRequest(anyString(), any());
 
         assertThrows(BusinessProcessingException.class, () -> participantService.getParticipants(Collections.singletonList("v1"), Collections.singletonList("d1"),
@@ -150,7 +139,7 @@ class ParticipantServiceImplTest {
             "Then Verify Retry execute")
     @Test
     void getParticipants_throwsHttpStatusCodeException() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenThrow(new HttpStatusCodeException(HttpStatus.INTERNAL_SERVER_ERROR) {
         });
 
@@ -160,7 +149,7 @@ class ParticipantServiceImplTest {
 
     @Test
     void getParticipantsByDrcIds() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":\"v1\",\"EXTERNAL_ID\": \"p1\"}]}");
 
         UserSearchResponseDTO userSearchResponseDTO = participantService.getParticipantsByDrcIds(Collections.singletonList("p1"));
@@ -178,7 +167,7 @@ class ParticipantServiceImplTest {
 
     @Test
     void getParticipantsByDrcIdsWithException() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenThrow(new RuntimeException());
 
         Assert.assertThrows(
@@ -188,7 +177,7 @@ class ParticipantServiceImplTest {
 
     @Test
     void getParticipantsByDrcIdsWithExceptionRetry() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenThrow(new HttpStatusCodeException(HttpStatus.INTERNAL_SERVER_ERROR) {
         });
 
@@ -199,7 +188,7 @@ class ParticipantServiceImplTest {
 
     @Test
     void getParticipantsByDrcIdsWithAuthorizationException() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenThrow(new ResourceAccessException("401"));
 
         Assert.assertThrows(
@@ -210,7 +199,7 @@ class ParticipantServiceImplTest {
 
     @Test
     void testGetVibrentIdByDrcId() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":\"1\",\"EXTERNAL_ID\": \"p1\"}]}");
 
         Long vibrentId = participantService.getVibrentId("p1");
@@ -220,7 +209,7 @@ class ParticipantServiceImplTest {
 
     @Test
     void whenResponseListDoesNotContainDataThenVerifyVibrentId() {
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[]}");
 
         assertThrows(BusinessValidationException.class, ()->participantService.getVibrentId("p1"));
@@ -231,28 +220,12 @@ class ParticipantServiceImplTest {
     @Test
     void TestFetchAndCacheVibrentIdsWhenEmptyResponseReceivedFromApi() {
         Set<String> externalId = Collections.singleton("p1");
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(oAuth2AccessToken);
+        when(accessTokenService.getAccessToken()).thenReturn("access token");
         when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[]}");
         participantService.fetchAndCacheVibrentIds(externalId);
         verify(vibrentIdCacheManager, times(0)).addVibrentIdToCache(anyString(), anyLong());
     }
 
-    @SneakyThrows
-    @Test
-    void whenAccessTokenExpiryTimeIsLessThan30SecThenVerifyLatestAccessTokenFetched() {
-        DefaultOAuth2AccessToken tempOAuth2AccessToken = new DefaultOAuth2AccessToken("access token");
-        tempOAuth2AccessToken.setExpiration(Instant.now().plus(Duration.standardSeconds(5)).toDate());
-        when(keycloakApiClientCredentialsRestTemplate.getAccessToken()).thenReturn(tempOAuth2AccessToken).thenReturn(oAuth2AccessToken);
-        when(keycloakApiClientCredentialsRestTemplate.getOAuth2ClientContext()).thenReturn(oAuth2ClientContext);
-        when(restClientUtil.postRequest(anyString(), any())).thenReturn("{\"results\":[{\"VIBRENT_ID\":\"v1\",\"EXTERNAL_ID\": \"p1\"}]}");
-
-        UserSearchResponseDTO userSearchResponseDTO = participantService.getParticipantsByVibrentIds(Collections.singletonList("v1"));
-        assertNotNull(userSearchResponseDTO);
-        verify(keycloakApiClientCredentialsRestTemplate, times(2)).getAccessToken();
-    }
-
-
-
     private DRCConfigService  getDrcConfigService() {
         return new DRCConfigService() {
             @Override
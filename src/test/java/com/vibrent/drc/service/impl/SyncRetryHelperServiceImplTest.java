@@ -9,16 +9,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,7 +42,7 @@ class SyncRetryHelperServiceImplTest {
 
     @BeforeEach
     public void setUp() {
-        syncRetryHelperService = new SyncRetryHelperServiceImpl(drcUpdateInfoSyncRetryRepository);
+        syncRetryHelperService = new SyncRetryHelperServiceImpl(drcUpdateInfoSyncRetryRepository, 300, 3600);
         initializeAccountInfoUpdateDto();
     }
 
@@ -50,10 +54,10 @@ class SyncRetryHelperServiceImplTest {
 
         syncRetryHelperService.addToRetryQueue(accountInfoUpdateEventDto, true, "Reason for Exception");
 
-        ArgumentCaptor<DRCUpdateInfoSyncRetry> captor = ArgumentCaptor.forClass(DRCUpdateInfoSyncRetry.class);
-        verify(drcUpdateInfoSyncRetryRepository, times(1)).save(captor.capture());
-        DRCUpdateInfoSyncRetry entry = captor.getValue();
-        assertEquals(1, entry.getRetryCount());
+        long now = System.currentTimeMillis();
+        verify(drcUpdateInfoSyncRetryRepository, times(1)).upsert(eq(VIBRENT_ID), eq(DataTypeEnum.ACCOUNT_UPDATE_DATA.name()), anyString(),
+                eq(1L), eq("Reason for Exception"), longThat(nextAttemptAt -> nextAttemptAt > now), anyLong(),
+                eq(300_000L), eq(3_600_000L), doubleThat(jitter -> jitter >= 0.5 && jitter < 1));
     }
 
     @DisplayName("When addToRetryQueue is called Without IncrementRetryCounter  " +
@@ -63,10 +67,8 @@ class SyncRetryHelperServiceImplTest {
 
         syncRetryHelperService.addToRetryQueue(accountInfoUpdateEventDto, false, "Reason for Exception");
 
-        ArgumentCaptor<DRCUpdateInfoSyncRetry> captor = ArgumentCaptor.forClass(DRCUpdateInfoSyncRetry.class);
-        verify(drcUpdateInfoSyncRetryRepository, times(1)).save(captor.capture());
-        DRCUpdateInfoSyncRetry entry = captor.getValue();
-        assertEquals(0, entry.getRetryCount());
+        verify(drcUpdateInfoSyncRetryRepository, times(1)).upsert(eq(VIBRENT_ID), eq(DataTypeEnum.ACCOUNT_UPDATE_DATA.name()), anyString(),
+                eq(0L), eq("Reason for Exception"), anyLong(), anyLong(), eq(300_000L), eq(3_600_000L), anyDouble());
     }
 
     @DisplayName("When deleteByVibrentIdAndType is called  " +
@@ -79,6 +81,29 @@ class SyncRetryHelperServiceImplTest {
     }
 
 
+    @DisplayName("When next attempt is scheduled " +
+            "Then the delay doubles with the retry count within the jitter and is capped at the maximum delay")
+    @Test
+    void testScheduleNextAttempt() {
+        assertDelayBetween(0L, 150_000, 300_000);
+        assertDelayBetween(1L, 300_000, 600_000);
+        assertDelayBetween(3L, 1_200_000, 2_400_000);
+        assertDelayBetween(10L, 1_800_000, 3_600_000);
+        assertDelayBetween(Long.MAX_VALUE, 1_800_000, 3_600_000);
+    }
+
+    private void assertDelayBetween(Long retryCount, long minDelayMillis, long maxDelayMillis) {
+        DRCUpdateInfoSyncRetry entry = new DRCUpdateInfoSyncRetry();
+        entry.setRetryCount(retryCount);
+
+        long before = System.currentTimeMillis();
+        syncRetryHelperService.scheduleNextAttempt(entry);
+        long after = System.currentTimeMillis();
+
+        assertTrue(entry.getNextAttemptAt() >= before + minDelayMillis);
+        assertTrue(entry.getNextAttemptAt() <= after + maxDelayMillis);
+    }
+
     //private functions
     private void initializeAccountInfoUpdateDto() {
         accountInfoUpdateEventDto = new AccountInfoUpdateEventDto();
@@ -0,0 +1,37 @@
+package com.vibrent.drc.util;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BearerTokenInterceptorTest {
+
+    @Mock
+    private Interceptor.Chain chain;
+
+    @Test
+    void whenRequestInterceptedThenCurrentTokenIsAdded() throws Exception {
+        AtomicReference<String> token = new AtomicReference<>("token-1");
+        BearerTokenInterceptor interceptor = new BearerTokenInterceptor(token::get);
+        when(chain.request()).thenReturn(new Request.Builder().url("http://localhost/api/v1/orders/1").build());
+
+        interceptor.intercept(chain);
+        token.set("token-2");
+        interceptor.intercept(chain);
+
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(chain, times(2)).proceed(requestCaptor.capture());
+        assertEquals("Bearer token-1", requestCaptor.getAllValues().get(0).header(RestClientUtil.AUTHORIZATION_HEADER_KEY));
+        assertEquals("Bearer token-2", requestCaptor.getAllValues().get(1).header(RestClientUtil.AUTHORIZATION_HEADER_KEY));
+    }
+}
@@ -35,7 +35,7 @@ class FHIRQuestionnaireResponseConverterTest {
     @Test
     void testCreateAnswerValue() throws Exception {
         FormComponentFieldDTO formComponentFieldDTO1 = getFormComponentFieldDTO();
-        IDatatype iDatatype = FHIRQuestionnaireResponseConverter.createAnswerValue(formComponentFieldDTO1, getFormFieldEntryValueDTO("5241", 5241d));
+        IDatatype iDatatype = FHIRQuestionnaireResponseConverter.createAnswerValue(formComponentFieldDTO1, null, getFormFieldEntryValueDTO("5241", 5241d));
         assertNotNull(iDatatype);
     }
 
@@ -0,0 +1,113 @@
+package com.vibrent.drc.util;
+
+import ca.uhn.fhir.model.dstu2.composite.CodingDt;
+import ca.uhn.fhir.model.dstu2.resource.QuestionnaireResponse;
+import com.vibrent.acadia.domain.enumeration.FormComponentFieldType;
+import com.vibrent.acadia.web.rest.dto.form.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormIndexTest {
+
+    private FormVersionDTO formVersionDTO;
+
+    @BeforeEach
+    void setUp() {
+        formVersionDTO = new FormVersionDTO();
+        formVersionDTO.setId(10L);
+        FormModeDTO editMode = new FormModeDTO();
+        editMode.setPages(Arrays.asList(page(100L, 1L, 2L), page(200L, 3L), page(100L, 4L)));
+        editMode.setNavigationNodes(Arrays.asList(node(1000L, 100L), node(2000L, 200L), node(3000L, null)));
+        formVersionDTO.setEditMode(editMode);
+    }
+
+    @Test
+    void whenIndexBuiltThenFieldsPagesAndNodesAreLookedUp() {
+        FormIndex formIndex = FormIndex.of(formVersionDTO);
+
+        assertSame(formVersionDTO, formIndex.getFormVersion());
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), formIndex.getInputFields().stream()
+                .map(f -> f.getFormField().getId()).collect(Collectors.toList()));
+        assertEquals(3L, formIndex.getInputField(3L).getFormField().getId());
+        assertNull(formIndex.getInputField(99L));
+        assertSame(formVersionDTO.getEditMode().getPages().get(0), formIndex.getPage(100L));
+        assertEquals(200L, formIndex.getNavigationNode(2000L).getPageLocalId());
+        assertEquals(Arrays.asList(1L, 2L), formIndex.getInputFieldIds(100L));
+        assertEquals(Collections.emptyList(), formIndex.getInputFieldIds(999L));
+        assertThrows(UnsupportedOperationException.class, () -> formIndex.getInputFields().clear());
+    }
+
+    @Test
+    void whenIndexBuiltThenFieldComponentsAreLookedUpWithoutChangingTheFields() {
+        FormIndex formIndex = FormIndex.of(formVersionDTO);
+
+        FormComponentDTO firstPageComponent = formVersionDTO.getEditMode().getPages().get(0).getSections().get(0).getFormComponents().get(0);
+        assertSame(firstPageComponent, formIndex.getFormComponent(1L));
+        assertSame(firstPageComponent, formIndex.getFormComponent(2L));
+        assertNull(formIndex.getFormComponent(99L));
+        formIndex.getInputFields().forEach(f -> assertNull(f.getFormComponentDto()));
+    }
+
+    @Test
+    void whenEntryConvertedThenVisibleUnansweredFieldsOfVisitedPagesAreSkipped() throws Exception {
+        FormEntryDTO formEntryDTO = new FormEntryDTO();
+        formEntryDTO.setId(1L);
+        formEntryDTO.setFormFieldEntries(Collections.singletonList(fieldEntry(1L, "answer")));
+        FormStateMetaDataDTO formStateMetaData = new FormStateMetaDataDTO();
+        formStateMetaData.setPageNavigationSequence(Arrays.asList(1000L, 3000L, 4000L, 2000L));
+        formStateMetaData.setVisibleFieldIds(Arrays.asList(1L, 2L, 3L, 4L));
+        formEntryDTO.setFormStateMetaData(formStateMetaData);
+
+        QuestionnaireResponse questionnaireResponse = FHIRConverterUtility.convertFormEntryToQuestionnaireResponse(formEntryDTO,
+                FormIndex.of(formVersionDTO), "P1000", "en", false);
+
+        List<QuestionnaireResponse.GroupQuestion> questions = questionnaireResponse.getGroup().getQuestion();
+        assertEquals(Arrays.asList("1", "2", "3"), questions.stream().map(QuestionnaireResponse.GroupQuestion::getLinkId).collect(Collectors.toList()));
+        assertEquals("PMI_Skip", ((CodingDt) questions.get(1).getAnswerFirstRep().getValue()).getCode());
+        assertEquals("PMI_Skip", ((CodingDt) questions.get(2).getAnswerFirstRep().getValue()).getCode());
+    }
+
+    private static FormPageDTO page(Long localId, Long... fieldIds) {
+        List<FormComponentFieldDTO> fields = new ArrayList<>();
+        for (Long fieldId : fieldIds) {
+            FormFieldDTO formFieldDTO = new FormFieldDTO();
+            formFieldDTO.setId(fieldId);
+            FormComponentFieldDTO formComponentFieldDTO = new FormComponentFieldDTO();
+            formComponentFieldDTO.setType(FormComponentFieldType.TEXT_INPUT);
+            formComponentFieldDTO.setName("field" + fieldId);
+            formComponentFieldDTO.setDisplayOrder(fields.size());
+            formComponentFieldDTO.setFormField(formFieldDTO);
+            fields.add(formComponentFieldDTO);
+        }
+        FormComponentDTO formComponentDTO = new FormComponentDTO();
+        formComponentDTO.setFormComponentFields(fields);
+        FormSectionDTO formSectionDTO = new FormSectionDTO();
+        formSectionDTO.setFormComponents(Collections.singletonList(formComponentDTO));
+
+        FormPageDTO formPageDTO = new FormPageDTO();
+        formPageDTO.setLocalId(localId);
+        formPageDTO.setSections(Collections.singletonList(formSectionDTO));
+        return formPageDTO;
+    }
+
+    private static FormNavigationNodeDTO node(Long localId, Long pageLocalId) {
+        FormNavigationNodeDTO formNavigationNodeDTO = new FormNavigationNodeDTO();
+        formNavigationNodeDTO.setLocalId(localId);
+        formNavigationNodeDTO.setPageLocalId(pageLocalId);
+        return formNavigationNodeDTO;
+    }
+
+    private static FormFieldEntryDTO fieldEntry(Long fieldId, String value) {
+        FormFieldEntryValueDTO formFieldEntryValueDTO = new FormFieldEntryValueDTO();
+        formFieldEntryValueDTO.setValueAsString(value);
+        FormFieldEntryDTO formFieldEntryDTO = new FormFieldEntryDTO();
+        formFieldEntryDTO.setFormFieldId(fieldId);
+        formFieldEntryDTO.setFormFieldEntryValues(Collections.singletonList(formFieldEntryValueDTO));
+        return formFieldEntryDTO;
+    }
+}
@@ -0,0 +1,64 @@
+package com.vibrent.drc.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenomicGemResponseReaderTest {
+
+    private static final String RESPONSE = "{\"data\":[{\"module\":\"gem\",\"type\":\"informingLoop\",\"status\":\"ready\",\"participant_id\":\"P1\"}," +
+            "{\"module\":\"hdr\",\"type\":\"appointment\",\"status\":\"scheduled\",\"appointment_id\":32,\"note_available\":false,\"participant_id\":\"P2\",\"location\":null}," +
+            "{\"module\":\"pgx\",\"type\":\"result\",\"status\":\"ready\",\"participant_id\":\"P3\",\"details\":{\"codes\":[1,2]}}]," +
+            "\"timestamp\":\"2020-03-18T08:02:25-05:00\"}";
+
+    @Test
+    void readTimestamp() throws IOException {
+        assertEquals("2020-03-18T08:02:25-05:00", GenomicGemResponseReader.readTimestamp(RESPONSE));
+        assertEquals("2020-03-18T08:02:25-05:00", GenomicGemResponseReader.readTimestamp("{\"timestamp\":\"2020-03-18T08:02:25-05:00\",\"data\":[]}"));
+        assertNull(GenomicGemResponseReader.readTimestamp("{\"data\":[{\"participant_id\":\"P1\"}]}"));
+        assertNull(GenomicGemResponseReader.readTimestamp("{\"data\":[],\"timestamp\":null}"));
+        assertNull(GenomicGemResponseReader.readTimestamp("[]"));
+    }
+
+    @Test
+    void readDataInBatches() throws IOException {
+        List<String> batches = new ArrayList<>();
+
+        int total = GenomicGemResponseReader.readDataInBatches(RESPONSE, 2, batches::add);
+
+        assertEquals(3, total);
+        assertEquals(2, batches.size());
+        assertEquals("[{\"module\":\"gem\",\"type\":\"informingLoop\",\"status\":\"ready\",\"participant_id\":\"P1\"}," +
+                "{\"module\":\"hdr\",\"type\":\"appointment\",\"status\":\"scheduled\",\"appointment_id\":32,\"note_available\":false,\"participant_id\":\"P2\",\"location\":null}]", batches.get(0));
+        assertEquals("[{\"module\":\"pgx\",\"type\":\"result\",\"status\":\"ready\",\"participant_id\":\"P3\",\"details\":{\"codes\":[1,2]}}]", batches.get(1));
+    }
+
+    @Test
+    void readDataInBatchesWhenBatchSizeMatchesData() throws IOException {
+        List<String> batches = new ArrayList<>();
+
+        int total = GenomicGemResponseReader.readDataInBatches(RESPONSE, 3, batches::add);
+
+        assertEquals(3, total);
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void readDataInBatchesWhenDataIsEmpty() throws IOException {
+        List<String> batches = new ArrayList<>();
+
+        assertEquals(0, GenomicGemResponseReader.readDataInBatches("{\"data\":[],\"timestamp\":\"t\"}", 2, batches::add));
+        assertEquals(0, GenomicGemResponseReader.readDataInBatches("{\"timestamp\":\"t\"}", 2, batches::add));
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void readDataInBatchesWhenResponseIsTruncated() {
+        assertThrows(IOException.class, () -> GenomicGemResponseReader.readDataInBatches("{\"data\":[{\"participant_id\":\"P1\"},", 2, batch -> {
+        }));
+    }
+}
@@ -0,0 +1,125 @@
+package com.vibrent.drc.util;
+
+import com.vibrent.drc.converter.ParticipantConverter;
+import com.vibrent.drc.converter.ParticipantConverterImpl;
+import com.vibrent.drc.domain.DrcSyncedStatus;
+import com.vibrent.drc.vo.ParticipantVo;
+import com.vibrent.vxp.push.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantSectionHashUtilTest {
+
+    private final ParticipantConverter participantConverter = new ParticipantConverterImpl();
+
+    @Test
+    void whenParticipantSyncedThenSectionHashesOfDtoAndVoMatch() {
+        ParticipantDto participantDto = buildParticipantDto();
+        ParticipantVo participantVo = syncedParticipantVo(participantDto, "123456789");
+
+        assertEquals(ParticipantSectionHashUtil.accountHash(participantVo), ParticipantSectionHashUtil.accountHash(participantDto));
+        assertEquals(ParticipantSectionHashUtil.secondaryContactsHash(participantVo), ParticipantSectionHashUtil.secondaryContactsHash(participantDto));
+        assertEquals(ParticipantSectionHashUtil.ssnHash(participantVo.getSsn()), ParticipantSectionHashUtil.ssnHash("123456789"));
+        assertEquals(ParticipantSectionHashUtil.testUserHash(participantVo.getTestUser()), ParticipantSectionHashUtil.testUserHash(participantDto.getTestUser()));
+        assertEquals(64, ParticipantSectionHashUtil.accountHash(participantDto).length());
+    }
+
+    @Test
+    void whenSectionChangesThenOnlyItsHashChanges() {
+        ParticipantDto participantDto = buildParticipantDto();
+        ParticipantVo participantVo = syncedParticipantVo(participantDto, null);
+
+        participantDto.getAddresses().get(0).setValidated(true);
+        assertNotEquals(ParticipantSectionHashUtil.accountHash(participantVo), ParticipantSectionHashUtil.accountHash(participantDto));
+        assertEquals(ParticipantSectionHashUtil.secondaryContactsHash(participantVo), ParticipantSectionHashUtil.secondaryContactsHash(participantDto));
+
+        participantDto.getSecondaryContacts().get(1).setRelationship("friend");
+        assertNotEquals(ParticipantSectionHashUtil.secondaryContactsHash(participantVo), ParticipantSectionHashUtil.secondaryContactsHash(participantDto));
+
+        assertNotEquals(ParticipantSectionHashUtil.ssnHash(null), ParticipantSectionHashUtil.ssnHash(""));
+        assertNotEquals(ParticipantSectionHashUtil.testUserHash(null), ParticipantSectionHashUtil.testUserHash(false));
+    }
+
+    @Test
+    void whenValuesMoveBetweenFieldsThenAccountHashChanges() {
+        ParticipantDto participantDto = buildParticipantDto();
+        String accountHash = ParticipantSectionHashUtil.accountHash(participantDto);
+
+        participantDto.setFirstName("FNM");
+        participantDto.setMiddleInitial(null);
+
+        assertNotEquals(accountHash, ParticipantSectionHashUtil.accountHash(participantDto));
+    }
+
+    @Test
+    void whenSectionHashesUpdatedThenAllAreSet() {
+        ParticipantVo participantVo = syncedParticipantVo(buildParticipantDto(), "123456789");
+        DrcSyncedStatus drcSyncedStatus = new DrcSyncedStatus();
+
+        ParticipantSectionHashUtil.updateSectionHashes(drcSyncedStatus, participantVo);
+
+        assertEquals(ParticipantSectionHashUtil.accountHash(participantVo), drcSyncedStatus.getAccountHash());
+        assertEquals(ParticipantSectionHashUtil.secondaryContactsHash(participantVo), drcSyncedStatus.getSecondaryContactsHash());
+        assertEquals(ParticipantSectionHashUtil.ssnHash("123456789"), drcSyncedStatus.getSsnHash());
+        assertEquals(ParticipantSectionHashUtil.testUserHash(true), drcSyncedStatus.getTestUserHash());
+    }
+
+    private ParticipantVo syncedParticipantVo(ParticipantDto participantDto, String ssn) {
+        ParticipantVo participantVo = new ParticipantVo();
+        participantConverter.updateUserAccountFields(participantDto, participantVo);
+        participantConverter.updateSecondaryContactsAndSSNFields(participantDto, participantVo, ssn);
+        participantVo.setTestUser(participantDto.getTestUser());
+        return participantVo;
+    }
+
+    private static ParticipantDto buildParticipantDto() {
+        ParticipantDto participantDto = new ParticipantDto();
+        participantDto.setVibrentID(1000L);
+        participantDto.setFirstName("FN");
+        participantDto.setMiddleInitial("M");
+        participantDto.setLastName("LN");
+        participantDto.setDateOfBirth("1989-01-02");
+        participantDto.setTestUser(true);
+        participantDto.setContacts(Arrays.asList(contact(TypeEnum.EMAIL, "a@b.com", true), contact(TypeEnum.PHONE, "9123456789", false)));
+        participantDto.setAddresses(new ArrayList<>(Collections.singletonList(address(AddressTypeEnum.ACCOUNT_ADDRESS, "Mesa"))));
+        participantDto.setSecondaryContacts(Arrays.asList(secondaryContact("CONTACT_ONE", "One"), secondaryContact("CONTACT_TWO", "Two")));
+        return participantDto;
+    }
+
+    private static SecondaryContactDto secondaryContact(String preference, String firstName) {
+        SecondaryContactDto secondaryContactDto = new SecondaryContactDto();
+        secondaryContactDto.setPreference(preference);
+        secondaryContactDto.setFirstName(firstName);
+        secondaryContactDto.setLastName("Contact");
+        secondaryContactDto.setRelationship("partner");
+        secondaryContactDto.setContacts(Collections.singletonList(contact(TypeEnum.PHONE, "9876543210", null)));
+        List<AddressElementDto> addresses = new ArrayList<>();
+        addresses.add(address(null, "Portland"));
+        secondaryContactDto.setAddresses(addresses);
+        return secondaryContactDto;
+    }
+
+    private static ContactElementDto contact(TypeEnum type, String value, Boolean verified) {
+        ContactElementDto contactElementDto = new ContactElementDto();
+        contactElementDto.setContactType(type);
+        contactElementDto.setContact(value);
+        contactElementDto.setVerified(verified);
+        return contactElementDto;
+    }
+
+    private static AddressElementDto address(AddressTypeEnum type, String city) {
+        AddressElementDto addressElementDto = new AddressElementDto();
+        addressElementDto.setAddressType(type);
+        addressElementDto.setCity(city);
+        addressElementDto.setLine1("2585 Se 14th Ave");
+        addressElementDto.setState("OR");
+        addressElementDto.setPostalCode("97202");
+        return addressElementDto;
+    }
+}
@@ -0,0 +1,43 @@
+package com.vibrent.drc.util;
+
+import com.vibrent.drc.domain.ParticipantGenomicStatusBatch;
+import com.vibrent.drc.enumeration.PayloadCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadCompressionUtilTest {
+
+    private static final String PAYLOAD = "[{\"module\":\"gem\",\"type\":\"informingLoop\",\"status\":\"ready\",\"participant_id\":\"P12345\"}," +
+            "{\"module\":\"gem\",\"type\":\"informingLoop\",\"status\":\"ready\",\"participant_id\":\"P12346\"}]";
+
+    @DisplayName("When a payload is compressed then it is smaller and decompresses to the same payload")
+    @Test
+    void compressAndDecompress() {
+        byte[] compressed = PayloadCompressionUtil.compress(PAYLOAD, PayloadCodec.GZIP);
+
+        assertTrue(compressed.length < PAYLOAD.length());
+        assertEquals(PAYLOAD, PayloadCompressionUtil.decompress(compressed, PayloadCodec.GZIP));
+        assertNull(PayloadCompressionUtil.compress(null, PayloadCodec.GZIP));
+        assertNull(PayloadCompressionUtil.decompress(null, PayloadCodec.GZIP));
+    }
+
+    @DisplayName("When a batch payload is set then it is stored compressed, and a row without codec is read uncompressed")
+    @Test
+    void batchPayloadStorage() {
+        ParticipantGenomicStatusBatch batch = new ParticipantGenomicStatusBatch();
+        batch.setBatchPayload(PAYLOAD);
+
+        assertEquals(PayloadCodec.GZIP, batch.getPayloadCodec());
+        assertNotNull(batch.getCompressedBatchPayload());
+        assertNull(ReflectionTestUtils.getField(batch, "batchPayload"));
+        assertEquals(PAYLOAD, batch.getBatchPayload());
+        assertEquals(PAYLOAD, ParticipantGenomicStatusBatch.newInstance(batch).getBatchPayload());
+
+        ParticipantGenomicStatusBatch legacyBatch = new ParticipantGenomicStatusBatch();
+        ReflectionTestUtils.setField(legacyBatch, "batchPayload", PAYLOAD);
+        assertEquals(PAYLOAD, legacyBatch.getBatchPayload());
+    }
+}